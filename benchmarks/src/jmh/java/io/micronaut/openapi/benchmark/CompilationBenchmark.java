@@ -0,0 +1,87 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.openapi.benchmark;
+
+import io.micronaut.annotation.processing.test.JavaParser;
+import io.micronaut.openapi.visitor.OpenApiConfigProperty;
+import io.micronaut.openapi.visitor.Utils;
+import io.swagger.v3.oas.models.OpenAPI;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * End-to-end benchmark: in-memory compilation of the synthetic corpus with OpenAPI visitors.
+ * Generated documents are kept in memory (test mode), so file system doesn't affect results.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class CompilationBenchmark {
+
+    @Param({"5", "20"})
+    int controllers;
+    @Param({"5"})
+    int operations;
+    @Param({"10"})
+    int dtos;
+
+    private String sources;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        System.setProperty(Utils.ATTR_TEST_MODE, "true");
+        System.setProperty(OpenApiConfigProperty.MICRONAUT_OPENAPI_ADOC_ENABLED, "false");
+        System.setProperty(OpenApiConfigProperty.MICRONAUT_JACKSON_JSON_VIEW_ENABLED, "true");
+        sources = OpenApiCorpus.sources(controllers, operations, dtos);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        Utils.clean();
+        System.clearProperty(Utils.ATTR_TEST_MODE);
+        System.clearProperty(OpenApiConfigProperty.MICRONAUT_OPENAPI_ADOC_ENABLED);
+        System.clearProperty(OpenApiConfigProperty.MICRONAUT_JACKSON_JSON_VIEW_ENABLED);
+    }
+
+    @Benchmark
+    public OpenAPI compile() throws Exception {
+        Utils.clean();
+        try (var parser = new JavaParser()) {
+            parser.generate("test.MyBean", sources);
+        }
+        OpenAPI openApi = Utils.getTestReference();
+        if (openApi == null) {
+            throw new IllegalStateException("OpenAPI document was not generated");
+        }
+        return openApi;
+    }
+}
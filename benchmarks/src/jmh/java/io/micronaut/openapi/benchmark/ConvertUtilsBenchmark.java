@@ -0,0 +1,161 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.openapi.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import io.micronaut.inject.visitor.VisitorContext;
+import io.micronaut.openapi.visitor.ConvertUtils;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.parameters.Parameter;
+import io.swagger.v3.oas.models.responses.ApiResponse;
+import io.swagger.v3.oas.models.security.SecurityRequirement;
+import io.swagger.v3.oas.models.security.SecurityScheme;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static io.micronaut.openapi.OpenApiUtils.JSON_MAPPER;
+
+/**
+ * Binding of annotation values to model objects: direct binding ({@link ConvertUtils#bindValue}) against
+ * the previous path through a JSON tree. Run with {@code -PjmhProfilers=gc} to compare allocation rates
+ * ({@code gc.alloc.rate.norm}, bytes per operation).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class ConvertUtilsBenchmark {
+
+    @Param({"Operation", "Parameter", "Schema", "ApiResponse", "SecurityScheme"})
+    public String type;
+
+    private VisitorContext context;
+    private Class<?> clazz;
+    private Map<CharSequence, Object> values;
+
+    @Setup
+    public void setup() {
+        context = StubVisitorContext.create();
+        switch (type) {
+            case "Operation" -> {
+                clazz = Operation.class;
+                values = operationValues();
+            }
+            case "Parameter" -> {
+                clazz = Parameter.class;
+                values = parameterValues();
+            }
+            case "Schema" -> {
+                clazz = Schema.class;
+                values = schemaValues();
+            }
+            case "ApiResponse" -> {
+                clazz = ApiResponse.class;
+                values = apiResponseValues();
+            }
+            case "SecurityScheme" -> {
+                clazz = SecurityScheme.class;
+                values = securitySchemeValues();
+            }
+            default -> throw new IllegalArgumentException("Unknown type: " + type);
+        }
+    }
+
+    @Benchmark
+    public Object bindValue() throws JsonProcessingException {
+        return ConvertUtils.bindValue(values, JSON_MAPPER, clazz, context);
+    }
+
+    @Benchmark
+    public Object jsonTree() throws JsonProcessingException {
+        return ConvertUtils.treeToValue(JSON_MAPPER.valueToTree(values), clazz, context);
+    }
+
+    private static Map<CharSequence, Object> operationValues() {
+        var security = new SecurityRequirement();
+        security.addList("petstore_auth", Arrays.asList("read:pets", "write:pets"));
+        var responses = new LinkedHashMap<String, Object>();
+        responses.put("200", apiResponseValues());
+        responses.put("404", Map.of("description", "Not Found"));
+        var values = new HashMap<CharSequence, Object>();
+        values.put("operationId", "listPets");
+        values.put("summary", "List all pets");
+        values.put("description", "Returns all pets from the system that the user has access to");
+        values.put("tags", new String[] {"pets", "store"});
+        values.put("deprecated", false);
+        values.put("parameters", List.of(parameterValues()));
+        values.put("responses", responses);
+        values.put("security", List.of(security));
+        values.put("extensions", Map.of("x-rate-limit", Map.of("limit", 100, "period", "1m")));
+        return values;
+    }
+
+    private static Map<CharSequence, Object> parameterValues() {
+        var values = new HashMap<CharSequence, Object>();
+        values.put("name", "limit");
+        values.put("in", "query");
+        values.put("description", "How many items to return at one time");
+        values.put("required", false);
+        values.put("schema", schemaValues());
+        return values;
+    }
+
+    private static Map<CharSequence, Object> schemaValues() {
+        var values = new HashMap<CharSequence, Object>();
+        values.put("type", "integer");
+        values.put("format", "int32");
+        values.put("description", "Page size");
+        values.put("default", "20");
+        values.put("nullable", true);
+        return values;
+    }
+
+    private static Map<CharSequence, Object> apiResponseValues() {
+        var values = new HashMap<CharSequence, Object>();
+        values.put("responseCode", "200");
+        values.put("description", "A paged array of pets");
+        values.put("content", Map.of("application/json", Map.of("schema", Map.of("$ref", "Pets"))));
+        return values;
+    }
+
+    private static Map<CharSequence, Object> securitySchemeValues() {
+        var values = new HashMap<CharSequence, Object>();
+        values.put("type", "apiKey");
+        values.put("name", "api_key");
+        values.put("in", "header");
+        values.put("description", "API key");
+        return values;
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.openapi.benchmark;
+
+import io.micronaut.openapi.adoc.md.MdToAdocEngine;
+import io.micronaut.openapi.adoc.md.ToAsciiDocSerializer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.pegdown.Extensions;
+import org.pegdown.PegDownProcessor;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Markdown to AsciiDoc conversion: pooled processors of {@link MdToAdocEngine} (with and without cache)
+ * against a new {@link PegDownProcessor} per call.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class MdToAdocBenchmark {
+
+    private static final String MARKDOWN = """
+        # Pets
+
+        Returns **all pets** from the system, see [docs](https://example.com/docs).
+
+        * first item
+        * second item with `code`
+
+        ```json
+        {"name": "cat"}
+        ```
+        """;
+
+    private MdToAdocEngine cachedEngine;
+    private MdToAdocEngine uncachedEngine;
+
+    @Setup
+    public void setup() {
+        cachedEngine = new MdToAdocEngine();
+        uncachedEngine = new MdToAdocEngine(0, MdToAdocEngine.DEFAULT_MAX_PARSING_TIME_MILLIS);
+    }
+
+    @Benchmark
+    public String engineCached() {
+        return cachedEngine.convert(MARKDOWN);
+    }
+
+    @Benchmark
+    public String enginePooledProcessor() {
+        return uncachedEngine.convert(MARKDOWN);
+    }
+
+    @Benchmark
+    public String processorPerCall() {
+        var processor = new PegDownProcessor(Extensions.ALL, MdToAdocEngine.DEFAULT_MAX_PARSING_TIME_MILLIS);
+        return new ToAsciiDocSerializer(processor.parseMarkdown(MARKDOWN.toCharArray()), MARKDOWN).toAsciiDoc();
+    }
+}
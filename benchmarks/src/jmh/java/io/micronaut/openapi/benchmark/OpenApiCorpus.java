@@ -0,0 +1,208 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.openapi.benchmark;
+
+import io.swagger.v3.oas.models.Components;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.Paths;
+import io.swagger.v3.oas.models.info.Info;
+import io.swagger.v3.oas.models.media.ArraySchema;
+import io.swagger.v3.oas.models.media.Content;
+import io.swagger.v3.oas.models.media.IntegerSchema;
+import io.swagger.v3.oas.models.media.MediaType;
+import io.swagger.v3.oas.models.media.ObjectSchema;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.media.StringSchema;
+import io.swagger.v3.oas.models.parameters.HeaderParameter;
+import io.swagger.v3.oas.models.parameters.PathParameter;
+import io.swagger.v3.oas.models.parameters.RequestBody;
+import io.swagger.v3.oas.models.responses.ApiResponse;
+import io.swagger.v3.oas.models.responses.ApiResponses;
+
+/**
+ * Synthetic corpora: N controllers x M operations x K DTOs with generics, JSON views, groups and versions.
+ * The same shape is produced as a prebuilt {@link OpenAPI} model for post-processing benchmarks
+ * and as Java sources for end-to-end compilation benchmarks.
+ */
+final class OpenApiCorpus {
+
+    private static final String REF_PREFIX = "#/components/schemas/";
+    private static final String APPLICATION_JSON = "application/json";
+
+    private OpenApiCorpus() {
+    }
+
+    /**
+     * Build OpenAPI model, like it looks before post-processing: with unused schemas,
+     * duplicated parameters and placeholders.
+     *
+     * @param controllers number of controllers
+     * @param operations number of operations per controller
+     * @param dtos number of DTOs
+     *
+     * @return OpenAPI model
+     */
+    static OpenAPI model(int controllers, int operations, int dtos) {
+        var components = new Components();
+        for (int k = 0; k < dtos; k++) {
+            var dto = new ObjectSchema()
+                .addProperty("id", new IntegerSchema().format("int64"))
+                .addProperty("name", new StringSchema().description("${prop.description} " + k))
+                .addProperty("tags", new ArraySchema().items(new StringSchema()))
+                .addProperty("next", new Schema<>().$ref(REF_PREFIX + dtoName((k + 1) % dtos)));
+            dto.setName(dtoName(k));
+            components.addSchemas(dtoName(k), dto);
+
+            var page = new ObjectSchema()
+                .addProperty("content", new ArraySchema().items(new Schema<>().$ref(REF_PREFIX + dtoName(k))))
+                .addProperty("totalSize", new IntegerSchema());
+            page.setName(pageName(k));
+            components.addSchemas(pageName(k), page);
+
+            var view = new ObjectSchema()
+                .addProperty("name", new StringSchema());
+            view.setName(viewName(k));
+            components.addSchemas(viewName(k), view);
+
+            var unused = new ObjectSchema()
+                .addProperty("value", new StringSchema());
+            components.addSchemas("Unused" + k, unused);
+        }
+
+        var paths = new Paths();
+        for (int c = 0; c < controllers; c++) {
+            for (int o = 0; o < operations; o++) {
+                int k = (c * operations + o) % dtos;
+                var get = new Operation()
+                    .operationId("get" + c + '_' + o)
+                    .description("${api.description} operation " + o)
+                    .addTagsItem("controller" + c)
+                    .addParametersItem(new PathParameter().name("id").schema(new IntegerSchema()))
+                    .addParametersItem(new HeaderParameter().name("X-Version").schema(new StringSchema()))
+                    // duplicate, like parameters added by several annotations
+                    .addParametersItem(new HeaderParameter().name("X-Version").schema(new StringSchema()))
+                    .responses(new ApiResponses().addApiResponse("200", jsonResponse(REF_PREFIX + pageName(k))));
+                get.addExtension("x-group", "group" + (c % 3));
+                var post = new Operation()
+                    .operationId("create" + c + '_' + o)
+                    .addTagsItem("controller" + c)
+                    .requestBody(new RequestBody().content(jsonContent(REF_PREFIX + viewName(k))))
+                    .responses(new ApiResponses().addApiResponse("200", jsonResponse(REF_PREFIX + dtoName(k))));
+                paths.addPathItem("/v" + (o % 2 + 1) + "/controller" + c + "/op" + o + "/{id}", new PathItem().get(get).post(post));
+            }
+        }
+
+        return new OpenAPI()
+            .info(new Info().title("${api.title}").version("1.0"))
+            .paths(paths)
+            .components(components);
+    }
+
+    /**
+     * Build Java sources of the same corpus as one compilation unit.
+     *
+     * @param controllers number of controllers
+     * @param operations number of operations per controller
+     * @param dtos number of DTOs
+     *
+     * @return Java sources
+     */
+    static String sources(int controllers, int operations, int dtos) {
+        var sb = new StringBuilder(controllers * operations * 300 + dtos * 400);
+        sb.append("""
+            package test;
+
+            import com.fasterxml.jackson.annotation.JsonView;
+            import io.micronaut.core.version.annotation.Version;
+            import io.micronaut.http.annotation.Body;
+            import io.micronaut.http.annotation.Controller;
+            import io.micronaut.http.annotation.Get;
+            import io.micronaut.http.annotation.Header;
+            import io.micronaut.http.annotation.Post;
+            import io.micronaut.openapi.annotation.OpenAPIGroup;
+            import io.swagger.v3.oas.annotations.OpenAPIDefinition;
+            import io.swagger.v3.oas.annotations.info.Info;
+
+            import java.util.List;
+
+            @OpenAPIDefinition(info = @Info(title = "Benchmark", version = "1.0"))
+            class Application {
+            }
+
+            class Views {
+                interface Public {
+                }
+            }
+
+            class Page<T> {
+                public List<T> content;
+                public long totalSize;
+            }
+
+            """);
+        for (int k = 0; k < dtos; k++) {
+            sb.append("class ").append(dtoName(k)).append(" {\n")
+                .append("    @JsonView(Views.Public.class)\n")
+                .append("    public String name;\n")
+                .append("    public long id;\n")
+                .append("    public List<String> tags;\n")
+                .append("    public ").append(dtoName((k + 1) % dtos)).append(" next;\n")
+                .append("}\n\n");
+        }
+        for (int c = 0; c < controllers; c++) {
+            sb.append("@OpenAPIGroup(\"group").append(c % 3).append("\")\n")
+                .append("@Controller(\"/controller").append(c).append("\")\n")
+                .append("class Controller").append(c).append(" {\n");
+            for (int o = 0; o < operations; o++) {
+                String dto = dtoName((c * operations + o) % dtos);
+                String version = String.valueOf(o % 2 + 1);
+                sb.append("    @Version(\"").append(version).append("\")\n")
+                    .append("    @Get(\"/op").append(o).append("/{id}\")\n")
+                    .append("    Page<").append(dto).append("> get").append(o)
+                    .append("(long id, @Header(\"X-Version\") String version) {\n        return null;\n    }\n\n")
+                    .append("    @JsonView(Views.Public.class)\n")
+                    .append("    @Post(\"/op").append(o).append("/{id}\")\n")
+                    .append("    ").append(dto).append(" create").append(o)
+                    .append("(long id, @Body ").append(dto).append(" body) {\n        return body;\n    }\n\n");
+            }
+            sb.append("}\n\n");
+        }
+        sb.append("@jakarta.inject.Singleton\nclass MyBean {}\n");
+        return sb.toString();
+    }
+
+    private static String dtoName(int k) {
+        return "Dto" + k;
+    }
+
+    private static String pageName(int k) {
+        return "Page_Dto" + k + '_';
+    }
+
+    private static String viewName(int k) {
+        return "Dto" + k + "_Public";
+    }
+
+    private static ApiResponse jsonResponse(String ref) {
+        return new ApiResponse().description("OK").content(jsonContent(ref));
+    }
+
+    private static Content jsonContent(String ref) {
+        return new Content().addMediaType(APPLICATION_JSON, new MediaType().schema(new Schema<>().$ref(ref)));
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.openapi.benchmark;
+
+import io.micronaut.inject.visitor.VisitorContext;
+import io.micronaut.openapi.OpenApiUtils;
+import io.micronaut.openapi.visitor.ModelPlaceholderExpander;
+import io.micronaut.openapi.visitor.OpenApiNormalizeUtils;
+import io.micronaut.openapi.visitor.PlaceholderResolver;
+import io.micronaut.openapi.visitor.SchemaRefCollector;
+import io.swagger.v3.oas.models.OpenAPI;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of the post-processing pipeline of {@code OpenApiApplicationVisitor.finish} on prebuilt models.
+ * Each invocation gets a fresh copy of the model, because post-processing mutates it.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class PostProcessingBenchmark {
+
+    @Param({"10", "50"})
+    int controllers;
+    @Param({"10"})
+    int operations;
+    @Param({"20", "200"})
+    int dtos;
+
+    private VisitorContext context;
+    private PlaceholderResolver placeholderResolver;
+    private String json;
+    private OpenAPI openApi;
+
+    @Setup(Level.Trial)
+    public void setupCorpus() throws IOException {
+        context = StubVisitorContext.create();
+        placeholderResolver = new PlaceholderResolver(
+            Map.of("api.description", "Benchmark API"),
+            Map.of("api.title", "Benchmark", "prop.description", "Property"),
+            null);
+        json = OpenApiUtils.getJsonMapper().writeValueAsString(OpenApiCorpus.model(controllers, operations, dtos));
+    }
+
+    @Setup(Level.Invocation)
+    public void copyModel() throws IOException {
+        openApi = OpenApiUtils.getJsonMapper().readValue(json, OpenAPI.class);
+    }
+
+    @Benchmark
+    public OpenAPI normalize() {
+        OpenApiNormalizeUtils.normalizeOpenApi(openApi, context);
+        return openApi;
+    }
+
+    @Benchmark
+    public OpenAPI pruneUnusedSchemas() {
+        Set<String> referencedSchemas = SchemaRefCollector.collectSchemaRefs(openApi, false);
+        openApi.getComponents().getSchemas().keySet().removeIf(schemaName -> !referencedSchemas.contains(schemaName));
+        return openApi;
+    }
+
+    @Benchmark
+    public OpenAPI findAndRemoveDuplicates() {
+        OpenApiNormalizeUtils.findAndRemoveDuplicates(openApi);
+        return openApi;
+    }
+
+    @Benchmark
+    public OpenAPI expandPlaceholders() {
+        ModelPlaceholderExpander.expand(openApi, placeholderResolver::expand);
+        return openApi;
+    }
+
+    @Benchmark
+    public String writeYaml() throws IOException {
+        return OpenApiUtils.getYamlMapper().writeValueAsString(openApi);
+    }
+
+    @Benchmark
+    public String writeJson() throws IOException {
+        return OpenApiUtils.getJsonMapper().writeValueAsString(openApi);
+    }
+}
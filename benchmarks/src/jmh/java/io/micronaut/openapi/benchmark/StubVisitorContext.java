@@ -0,0 +1,75 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.openapi.benchmark;
+
+import io.micronaut.inject.visitor.VisitorContext;
+
+import java.lang.reflect.Proxy;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Minimal visitor context for benchmarks of code, which runs outside of the compiler: it stores attributes
+ * and reports java language, all other methods return empty values.
+ */
+final class StubVisitorContext {
+
+    private StubVisitorContext() {
+    }
+
+    static VisitorContext create() {
+        Map<CharSequence, Object> attributes = new HashMap<>();
+        return (VisitorContext) Proxy.newProxyInstance(StubVisitorContext.class.getClassLoader(), new Class<?>[] {VisitorContext.class},
+            (proxy, method, args) -> switch (method.getName()) {
+                case "getLanguage" -> VisitorContext.Language.JAVA;
+                case "put" -> attributes.put((CharSequence) args[0], args[1]);
+                case "get" -> args != null && args.length >= 2 && args[1] instanceof Class<?> type
+                    ? Optional.ofNullable(attributes.get((CharSequence) args[0])).filter(type::isInstance)
+                    : Optional.empty();
+                case "remove" -> Optional.ofNullable(attributes.remove((CharSequence) args[0]));
+                case "hashCode" -> System.identityHashCode(proxy);
+                case "equals" -> proxy == args[0];
+                case "toString" -> "StubVisitorContext";
+                default -> emptyValue(method.getReturnType());
+            });
+    }
+
+    private static Object emptyValue(Class<?> type) {
+        if (type == Optional.class) {
+            return Optional.empty();
+        }
+        if (type == boolean.class) {
+            return false;
+        }
+        if (type == int.class) {
+            return 0;
+        }
+        if (type == long.class) {
+            return 0L;
+        }
+        if (List.class.isAssignableFrom(type) || type == Collection.class || type == Iterable.class) {
+            return Collections.emptyList();
+        }
+        if (Map.class.isAssignableFrom(type)) {
+            return Collections.emptyMap();
+        }
+        return null;
+    }
+}
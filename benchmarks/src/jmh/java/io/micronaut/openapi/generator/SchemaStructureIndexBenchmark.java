@@ -0,0 +1,108 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.openapi.generator;
+
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import io.swagger.v3.oas.models.media.ArraySchema;
+import io.swagger.v3.oas.models.media.IntegerSchema;
+import io.swagger.v3.oas.models.media.ObjectSchema;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.media.StringSchema;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Lookup of already generated inline schemas: {@link SchemaStructureIndex} against the previous
+ * map with the sorted JSON form of the schemas as keys. Every lookup finds a schema, which is equal
+ * to the looked up one, but isn't the same object.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class SchemaStructureIndexBenchmark {
+
+    private static final ObjectMapper STRUCTURE_MAPPER = JsonMapper.builder()
+        .configure(MapperFeature.SORT_PROPERTIES_ALPHABETICALLY, true)
+        .build();
+
+    @Param({"1000"})
+    public int schemaCount;
+
+    private SchemaStructureIndex index;
+    private Map<String, String> signatures;
+    private Schema<?>[] lookups;
+
+    @Setup
+    public void setup() throws IOException {
+        index = new SchemaStructureIndex();
+        signatures = new HashMap<>();
+        lookups = new Schema<?>[schemaCount];
+        for (int i = 0; i < schemaCount; i++) {
+            String name = "Inline" + i;
+            index.add(name, schema(i));
+            signatures.put(STRUCTURE_MAPPER.writeValueAsString(schema(i)), name);
+            lookups[i] = schema(i);
+        }
+    }
+
+    @Benchmark
+    public void structureIndexHit(Blackhole blackhole) throws IOException {
+        for (Schema<?> schema : lookups) {
+            blackhole.consume(index.find(schema));
+        }
+    }
+
+    @Benchmark
+    public void jsonKeyHit(Blackhole blackhole) throws IOException {
+        for (Schema<?> schema : lookups) {
+            blackhole.consume(signatures.get(STRUCTURE_MAPPER.writeValueAsString(schema)));
+        }
+    }
+
+    private static Schema<?> schema(int i) {
+        return new ObjectSchema()
+            .addProperty("id", new IntegerSchema().format("int64"))
+            .addProperty("name" + i, new StringSchema().maxLength(i % 100 + 1))
+            .addProperty("tags", new ArraySchema().items(new StringSchema()))
+            .addProperty("address", new ObjectSchema()
+                .addProperty("street", new StringSchema())
+                .addProperty("zip" + i % 10, new StringSchema().pattern("[0-9]{5}"))
+                .required(List.of("street")))
+            .required(List.of("id", "name" + i))
+            .description("Inline schema " + i);
+    }
+}
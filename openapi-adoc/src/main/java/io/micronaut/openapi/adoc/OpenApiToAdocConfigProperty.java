@@ -50,4 +50,8 @@ public interface OpenApiToAdocConfigProperty {
      * OpenAPI file path.
      */
     String MICRONAUT_OPENAPI_ADOC_OPENAPI_PATH = "micronaut.openapi.adoc.openapi.path";
+    /**
+     * Is rendering of independent sections (overview, paths, definitions) of the default template in parallel enabled.
+     */
+    String MICRONAUT_OPENAPI_ADOC_PARALLEL_ENABLED = "micronaut.openapi.adoc.parallel.enabled";
 }
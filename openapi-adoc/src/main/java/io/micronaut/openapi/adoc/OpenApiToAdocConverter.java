@@ -17,13 +17,23 @@ package io.micronaut.openapi.adoc;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.StringWriter;
 import java.io.Writer;
 import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import io.micronaut.openapi.OpenApiUtils;
 import io.micronaut.openapi.adoc.md.MdToAdocConverter;
@@ -67,6 +77,41 @@ public final class OpenApiToAdocConverter {
 
     private static final String TEMPLATE_PREFIX = "template_";
     private static final String TEMPLATES_DIR = "/template";
+    private static final String DEFAULT_TEMPLATE_FILENAME = "openApiDoc.ftl";
+    private static final String TEMPLATE_EXT = ".ftl";
+    private static final List<String> TEMPLATE_NAMES = List.of(
+        DEFINITIONS,
+        OVERVIEW,
+        PATHS,
+        CONTENT,
+        EXAMPLES,
+        EXTERNAL_DOCS,
+        HEADERS,
+        LINKS,
+        PARAMETERS,
+        PROPERTIES,
+        PROPERTY_DESCRIPTION,
+        REQUEST_BODY,
+        RESPONSES,
+        SCHEMA_TYPE,
+        SECURITY_REQUIREMENTS,
+        SERVERS
+    );
+    /**
+     * Sections of the default main template in the same order as in the template.
+     */
+    private static final List<String> SECTIONS = List.of(OVERVIEW, PATHS, DEFINITIONS);
+
+    /**
+     * Freemarker configurations by custom template directories. Configurations are reused, so templates are
+     * parsed only once.
+     */
+    private static final Map<List<String>, Templates> TEMPLATES_BY_DIRS = new ConcurrentHashMap<>();
+
+    /**
+     * Idle time, after which threads of the sections executor are stopped.
+     */
+    private static final long SECTION_THREADS_KEEP_ALIVE_SECONDS = 30;
 
     private OpenApiToAdocConverter() {
     }
@@ -125,22 +170,9 @@ public final class OpenApiToAdocConverter {
         model.put("paths", openApi.getPaths());
         model.put("components", openApi.getComponents());
 
-        model.put(template(DEFINITIONS), "definitions.ftl");
-        model.put(template(OVERVIEW), "overview.ftl");
-        model.put(template(PATHS), "paths.ftl");
-        model.put(template(CONTENT), "content.ftl");
-        model.put(template(EXAMPLES), "examples.ftl");
-        model.put(template(EXTERNAL_DOCS), "externalDocs.ftl");
-        model.put(template(HEADERS), "headers.ftl");
-        model.put(template(LINKS), "links.ftl");
-        model.put(template(PARAMETERS), "parameters.ftl");
-        model.put(template(PROPERTIES), "properties.ftl");
-        model.put(template(PROPERTY_DESCRIPTION), "propertyDescription.ftl");
-        model.put(template(REQUEST_BODY), "requestBody.ftl");
-        model.put(template(RESPONSES), "responses.ftl");
-        model.put(template(SCHEMA_TYPE), "schemaType.ftl");
-        model.put(template(SECURITY_REQUIREMENTS), "securityRequirements.ftl");
-        model.put(template(SERVERS), "servers.ftl");
+        for (var templateName : TEMPLATE_NAMES) {
+            model.put(template(templateName), templateName + TEMPLATE_EXT);
+        }
 
         for (var entry : System.getProperties().entrySet()) {
             var key = entry.getKey().toString();
@@ -149,28 +181,98 @@ public final class OpenApiToAdocConverter {
             }
         }
 
-        var templateFilename = System.getProperty(OpenApiToAdocConfigProperty.MICRONAUT_OPENAPI_ADOC_TEMPLATE_FILENAME, "openApiDoc.ftl");
-        var customTemplatesDirsStr = System.getProperty(OpenApiToAdocConfigProperty.MICRONAUT_OPENAPI_ADOC_TEMPLATES_DIR_PATH);
-        String[] customTemplatesDirs = null;
+        var templateFilename = getProperty(props, OpenApiToAdocConfigProperty.MICRONAUT_OPENAPI_ADOC_TEMPLATE_FILENAME, DEFAULT_TEMPLATE_FILENAME);
+        var customTemplatesDirsStr = getProperty(props, OpenApiToAdocConfigProperty.MICRONAUT_OPENAPI_ADOC_TEMPLATES_DIR_PATH, null);
+        var customTemplatesDirs = new ArrayList<String>();
         if (customTemplatesDirsStr != null && !customTemplatesDirsStr.isBlank()) {
-            customTemplatesDirs = customTemplatesDirsStr.split(",");
+            for (var templateDir : customTemplatesDirsStr.split(",")) {
+                customTemplatesDirs.add(templateDir.strip()
+                    .replace("\\", "/"));
+            }
         }
 
-        var cfg = getFreemarkerConfig(customTemplatesDirs);
-        var template = cfg.getTemplate(templateFilename);
+        var templates = getTemplates(customTemplatesDirs);
+        var isParallel = Boolean.parseBoolean(getProperty(props, OpenApiToAdocConfigProperty.MICRONAUT_OPENAPI_ADOC_PARALLEL_ENABLED, "false"));
+        if (templates.isDefaultTemplate(templateFilename)) {
+            renderSections(templates.configuration, model, writer, isParallel);
+        } else {
+            templates.configuration.getTemplate(templateFilename)
+                .process(model, writer);
+        }
+    }
 
-        template.process(model, writer);
+    /**
+     * Render sections of the default main template and write them to the writer in the template order. Each section
+     * is processed with its own namespace, so variables, assigned by one section, don't leak into the next one, and
+     * the result doesn't depend on whether sections are rendered one by one or in parallel.
+     */
+    private static void renderSections(Configuration cfg, Map<String, Object> model, Writer writer, boolean isParallel) throws TemplateException, IOException {
+        if (!isParallel) {
+            for (var section : SECTIONS) {
+                cfg.getTemplate(model.get(template(section)).toString())
+                    .process(model, writer);
+            }
+            return;
+        }
+        var futures = new ArrayList<Future<String>>(SECTIONS.size());
+        try {
+            for (var section : SECTIONS) {
+                var sectionTemplate = cfg.getTemplate(model.get(template(section)).toString());
+                futures.add(SectionExecutorHolder.EXECUTOR.submit(() -> {
+                    var sectionWriter = new StringWriter();
+                    sectionTemplate.process(model, sectionWriter);
+                    return sectionWriter.toString();
+                }));
+            }
+            for (var future : futures) {
+                writer.write(future.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while rendering AsciiDoc sections", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof TemplateException templateException) {
+                throw templateException;
+            }
+            if (e.getCause() instanceof IOException ioException) {
+                throw ioException;
+            }
+            throw new IllegalStateException(e.getCause());
+        } finally {
+            // nothing to do for completed sections, the rest are not needed after a failure
+            for (var future : futures) {
+                future.cancel(true);
+            }
+        }
+    }
+
+    private static String getProperty(Map props, String key, String defaultValue) {
+        var value = props != null ? props.get(key) : null;
+        if (value == null) {
+            value = System.getProperty(key);
+        }
+        return value != null ? value.toString() : defaultValue;
     }
 
-    private static Configuration getFreemarkerConfig(String[] customTemplatesDirs) throws IOException, TemplateModelException {
+    private static Templates getTemplates(List<String> customTemplatesDirs) throws IOException, TemplateModelException {
+        var templates = TEMPLATES_BY_DIRS.get(customTemplatesDirs);
+        if (templates == null) {
+            templates = createTemplates(customTemplatesDirs);
+            var prevTemplates = TEMPLATES_BY_DIRS.putIfAbsent(List.copyOf(customTemplatesDirs), templates);
+            if (prevTemplates != null) {
+                templates = prevTemplates;
+            }
+        }
+        return templates;
+    }
+
+    private static Templates createTemplates(List<String> customTemplatesDirs) throws IOException, TemplateModelException {
         TemplateLoader templateLoader = new ClassTemplateLoader(OpenApiToAdocConverter.class, TEMPLATES_DIR);
-        if (customTemplatesDirs != null && customTemplatesDirs.length > 0) {
-            var templateLoaders = new ArrayList<TemplateLoader>();
+        var customTemplateLoaders = new ArrayList<TemplateLoader>();
+        if (!customTemplatesDirs.isEmpty()) {
             for (var templateDir : customTemplatesDirs) {
-                templateDir = templateDir.strip()
-                    .replace("\\", "/");
                 if (templateDir.startsWith(CLASSPATH_SCHEME)) {
-                    templateLoaders.add(new ClassTemplateLoader(OpenApiToAdocConverter.class, templateDir.substring(CLASSPATH_SCHEME.length())));
+                    customTemplateLoaders.add(new ClassTemplateLoader(OpenApiToAdocConverter.class, templateDir.substring(CLASSPATH_SCHEME.length())));
                 } else {
                     if (templateDir.startsWith(FILE_SCHEME)) {
                         templateDir = templateDir.substring(FILE_SCHEME.length());
@@ -178,9 +280,10 @@ public final class OpenApiToAdocConverter {
                             templateDir = templateDir.substring(2);
                         }
                     }
-                    templateLoaders.add(new FileTemplateLoader(new File(templateDir)));
+                    customTemplateLoaders.add(new FileTemplateLoader(new File(templateDir)));
                 }
             }
+            var templateLoaders = new ArrayList<>(customTemplateLoaders);
             templateLoaders.add(templateLoader);
             templateLoader = new MultiTemplateLoader(templateLoaders.toArray(new TemplateLoader[0]));
         }
@@ -189,10 +292,72 @@ public final class OpenApiToAdocConverter {
         cfg.setTemplateLoader(templateLoader);
         cfg.setDefaultEncoding(UTF_8.displayName());
         cfg.setSharedVariable("JSON", OpenApiUtils.getJsonMapper());
-        return cfg;
+
+        // parse all templates once, parsed templates are kept in the configuration template cache
+        cfg.getTemplate(DEFAULT_TEMPLATE_FILENAME);
+        for (var templateName : TEMPLATE_NAMES) {
+            cfg.getTemplate(templateName + TEMPLATE_EXT);
+        }
+
+        return new Templates(cfg, customTemplateLoaders);
     }
 
     private static String template(String templateName) {
         return TEMPLATE_PREFIX + templateName;
     }
+
+    /**
+     * Executor for sections, shared by all conversions like cached templates. It's created on first parallel
+     * conversion, is bounded by the number of sections and its daemon threads are stopped, when they are idle.
+     */
+    private static final class SectionExecutorHolder {
+
+        private static final ExecutorService EXECUTOR = createExecutor();
+
+        private static ExecutorService createExecutor() {
+            var threadNumber = new AtomicInteger();
+            var executor = new ThreadPoolExecutor(SECTIONS.size(), SECTIONS.size(),
+                SECTION_THREADS_KEEP_ALIVE_SECONDS, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+                runnable -> {
+                    var thread = new Thread(runnable, "openapi-adoc-section-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+            executor.allowCoreThreadTimeOut(true);
+            return executor;
+        }
+    }
+
+    /**
+     * Freemarker configuration with custom template loaders.
+     *
+     * @param configuration freemarker configuration
+     * @param customTemplateLoaders template loaders for custom template directories
+     */
+    private record Templates(
+        Configuration configuration,
+        List<TemplateLoader> customTemplateLoaders
+    ) {
+
+        /**
+         * Check that the main template is the built-in default template.
+         *
+         * @param templateFilename main template filename
+         *
+         * @return true, if the template is not overridden by custom templates
+         */
+        boolean isDefaultTemplate(String templateFilename) throws IOException {
+            if (!DEFAULT_TEMPLATE_FILENAME.equals(templateFilename)) {
+                return false;
+            }
+            for (var templateLoader : customTemplateLoaders) {
+                var templateSource = templateLoader.findTemplateSource(templateFilename);
+                if (templateSource != null) {
+                    templateLoader.closeTemplateSource(templateSource);
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
 }
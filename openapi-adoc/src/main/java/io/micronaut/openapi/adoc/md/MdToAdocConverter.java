@@ -31,10 +31,6 @@ import io.swagger.v3.oas.models.parameters.RequestBody;
 import io.swagger.v3.oas.models.responses.ApiResponse;
 import io.swagger.v3.oas.models.security.SecurityScheme;
 
-import org.pegdown.Extensions;
-import org.pegdown.PegDownProcessor;
-import org.pegdown.ast.RootNode;
-
 /**
  * Convert-methods from MD format to AsciiDoc.
  *
@@ -42,9 +38,22 @@ import org.pegdown.ast.RootNode;
  */
 public final class MdToAdocConverter {
 
+    private static final MdToAdocEngine ENGINE = new MdToAdocEngine();
+
     private MdToAdocConverter() {
     }
 
+    /**
+     * Shared conversion engine, which is used by convert-methods.
+     *
+     * @return conversion engine
+     *
+     * @since 6.13.0
+     */
+    public static MdToAdocEngine getEngine() {
+        return ENGINE;
+    }
+
     /**
      * Convert Markdown text to Asciidoc.
      *
@@ -53,17 +62,7 @@ public final class MdToAdocConverter {
      * @return Asciidoc text
      */
     public static String convert(String markdown) {
-        if (markdown == null || markdown.isBlank()) {
-            return markdown;
-        }
-        var processor = new PegDownProcessor(Extensions.ALL);
-        // insert blank line before fenced code block if necessary
-        if (markdown.contains("```")) {
-            markdown = markdown.replaceAll("(?m)(?<!\n\n)(\\s*)```(\\w*\n)((?:\\1[^\n]*\n)+)\\1```", "\n$1```$2$3$1```");
-        }
-        RootNode rootNode = processor.parseMarkdown(markdown.toCharArray());
-        return new ToAsciiDocSerializer(rootNode, markdown)
-            .toAsciiDoc();
+        return ENGINE.convert(markdown);
     }
 
     /**
@@ -0,0 +1,162 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.openapi.adoc.md;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.pegdown.Extensions;
+import org.pegdown.PegDownProcessor;
+import org.pegdown.ast.RootNode;
+
+/**
+ * Reusable Markdown to AsciiDoc conversion engine.
+ * <p>
+ * Creating {@link PegDownProcessor} is expensive, so processors are pooled and reused:
+ * one processor can't be used by several threads at the same time, but it can parse any number
+ * of documents sequentially. Conversion results are cached, because the same descriptions
+ * are usually repeated many times in one OpenAPI document.
+ *
+ * @since 6.13.0
+ */
+public final class MdToAdocEngine {
+
+    /**
+     * Default max number of cached conversion results.
+     */
+    public static final int DEFAULT_CACHE_SIZE = 4096;
+    /**
+     * Default max parsing time of one Markdown text in milliseconds (the same as pegdown default).
+     */
+    public static final long DEFAULT_MAX_PARSING_TIME_MILLIS = 2000;
+
+    private final Queue<PegDownProcessor> processors = new ConcurrentLinkedQueue<>();
+    private final Map<String, String> cache;
+    private final long maxParsingTimeMillis;
+
+    private final LongAdder cacheHits = new LongAdder();
+    private final LongAdder cacheMisses = new LongAdder();
+    private final LongAdder parsingTimeouts = new LongAdder();
+
+    /**
+     * Create engine with default cache size and parsing time.
+     */
+    public MdToAdocEngine() {
+        this(DEFAULT_CACHE_SIZE, DEFAULT_MAX_PARSING_TIME_MILLIS);
+    }
+
+    /**
+     * Create engine.
+     *
+     * @param maxCacheSize max number of cached conversion results, 0 disables cache
+     * @param maxParsingTimeMillis max parsing time of one Markdown text in milliseconds. If parsing takes more time,
+     * text is returned as is.
+     */
+    public MdToAdocEngine(int maxCacheSize, long maxParsingTimeMillis) {
+        this.maxParsingTimeMillis = maxParsingTimeMillis;
+        cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+                return size() > maxCacheSize;
+            }
+        };
+    }
+
+    /**
+     * Convert Markdown text to Asciidoc.
+     *
+     * @param markdown Markdown text
+     *
+     * @return Asciidoc text
+     */
+    public String convert(String markdown) {
+        if (markdown == null || markdown.isBlank()) {
+            return markdown;
+        }
+        String result;
+        synchronized (cache) {
+            result = cache.get(markdown);
+        }
+        if (result != null) {
+            cacheHits.increment();
+            return result;
+        }
+        cacheMisses.increment();
+        result = doConvert(markdown);
+        synchronized (cache) {
+            cache.put(markdown, result);
+        }
+        return result;
+    }
+
+    private String doConvert(String markdown) {
+        String preparedMarkdown = markdown;
+        // insert blank line before fenced code block if necessary
+        if (preparedMarkdown.contains("```")) {
+            preparedMarkdown = preparedMarkdown.replaceAll("(?m)(?<!\n\n)(\\s*)```(\\w*\n)((?:\\1[^\n]*\n)+)\\1```", "\n$1```$2$3$1```");
+        }
+        PegDownProcessor processor = processors.poll();
+        if (processor == null) {
+            processor = new PegDownProcessor(Extensions.ALL, maxParsingTimeMillis);
+        }
+        RootNode rootNode;
+        try {
+            rootNode = processor.parseMarkdown(preparedMarkdown.toCharArray());
+        } finally {
+            processors.offer(processor);
+        }
+        if (rootNode == null) {
+            // parsing timed out
+            parsingTimeouts.increment();
+            return markdown;
+        }
+        return new ToAsciiDocSerializer(rootNode, preparedMarkdown)
+            .toAsciiDoc();
+    }
+
+    /**
+     * Remove all cached conversion results.
+     */
+    public void clearCache() {
+        synchronized (cache) {
+            cache.clear();
+        }
+    }
+
+    /**
+     * @return number of conversions returned from cache
+     */
+    public long getCacheHits() {
+        return cacheHits.sum();
+    }
+
+    /**
+     * @return number of conversions, which were not found in cache
+     */
+    public long getCacheMisses() {
+        return cacheMisses.sum();
+    }
+
+    /**
+     * @return number of texts, which were not converted, because parsing took too much time
+     */
+    public long getParsingTimeouts() {
+        return parsingTimeouts.sum();
+    }
+}
@@ -1,7 +1,7 @@
 <#if content??>
 .Content
   <#list content as mediaTypeName, mediaType>
-      <#if mediaType.getExample()?has_content><#assign example = mediaType.getExample() /><#include template_examples /></#if>
+      <#if mediaType.getExample()?has_content><#assign example = mediaType.getExample() examples = {} /><#include template_examples /></#if>
       <#assign schemaType = mediaType.getSchema() />
 ${mediaTypeName}:: <#include template_schemaType />
 
@@ -27,7 +27,7 @@ __explode__
       <#if header.getDescription()?has_content>${header.getDescription()}</#if>
       <#if header.getExample()?has_content || header.getExamples()?has_content>
         <#if header.getExample()?has_content>
-            <#assign example = header.getExample() />
+            <#assign example = header.getExample() examples = {} />
         <#else>
             <#assign examples = header.getExamples() />
         </#if>
@@ -40,7 +40,7 @@ Style: ${parameter.getStyle()} +
     </#if>
     <#if parameter.getExample()?has_content || parameter.getExamples()?has_content>
         <#if parameter.getExample()?has_content>
-          <#assign example = parameter.getExample() />
+          <#assign example = parameter.getExample() examples = {} />
         <#else>
           <#assign examples = parameter.getExamples() />
         </#if>
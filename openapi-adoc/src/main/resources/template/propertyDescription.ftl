@@ -61,7 +61,7 @@ ${propSchema.getDescription()}
 </#if>
 <#if propSchema.getExample()?has_content || propSchema.getExamples()?has_content>
   <#if propSchema.getExample()?has_content>
-    <#assign example = propSchema.getExample() />
+    <#assign example = propSchema.getExample() examples = {} />
   <#else>
     <#assign examples = propSchema.getExamples() />
   </#if>
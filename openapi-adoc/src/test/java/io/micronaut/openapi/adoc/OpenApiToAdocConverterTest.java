@@ -2,16 +2,22 @@ package io.micronaut.openapi.adoc;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.StringWriter;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Comparator;
+import java.util.Map;
+
+import io.micronaut.openapi.adoc.utils.SwaggerUtils;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import freemarker.template.TemplateException;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class OpenApiToAdocConverterTest {
@@ -45,4 +51,45 @@ class OpenApiToAdocConverterTest {
         var adoc = Files.readString(resultFile);
         assertTrue(adoc.contains("!!!!!!test custom template"));
     }
+
+    @Test
+    void testParallelSections() throws IOException, TemplateException {
+
+        var serialWriter = new StringWriter();
+        OpenApiToAdocConverter.convert(SwaggerUtils.readOpenApiFromLocation("/yaml/swagger_petstore.yaml"),
+            Map.of(OpenApiToAdocConfigProperty.MICRONAUT_OPENAPI_ADOC_PARALLEL_ENABLED, "false"), serialWriter);
+        var parallelWriter = new StringWriter();
+        OpenApiToAdocConverter.convert(SwaggerUtils.readOpenApiFromLocation("/yaml/swagger_petstore.yaml"),
+            Map.of(OpenApiToAdocConfigProperty.MICRONAUT_OPENAPI_ADOC_PARALLEL_ENABLED, "true"), parallelWriter);
+
+        assertFalse(serialWriter.toString().isBlank());
+        assertEquals(serialWriter.toString(), parallelWriter.toString());
+    }
+
+    @Test
+    void testExamplesDontLeakBetweenSections() throws IOException, TemplateException {
+
+        var serialWriter = new StringWriter();
+        OpenApiToAdocConverter.convert(SwaggerUtils.readOpenApiFromLocation("/yaml/swagger_examples.yaml"),
+            Map.of(OpenApiToAdocConfigProperty.MICRONAUT_OPENAPI_ADOC_PARALLEL_ENABLED, "false"), serialWriter);
+        var parallelWriter = new StringWriter();
+        OpenApiToAdocConverter.convert(SwaggerUtils.readOpenApiFromLocation("/yaml/swagger_examples.yaml"),
+            Map.of(OpenApiToAdocConfigProperty.MICRONAUT_OPENAPI_ADOC_PARALLEL_ENABLED, "true"), parallelWriter);
+
+        var adoc = serialWriter.toString();
+        assertEquals(adoc, parallelWriter.toString());
+
+        // parameter examples of the first operation are rendered once, not for the parameter example and the property example
+        assertEquals(1, countOccurrences(adoc, ".availableStatus"));
+        assertTrue(adoc.contains("42"));
+        assertTrue(adoc.contains("Fluffy"));
+    }
+
+    private static int countOccurrences(String str, String substr) {
+        var count = 0;
+        for (var i = str.indexOf(substr); i >= 0; i = str.indexOf(substr, i + substr.length())) {
+            count++;
+        }
+        return count;
+    }
 }
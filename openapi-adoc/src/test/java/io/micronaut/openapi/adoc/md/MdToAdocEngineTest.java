@@ -0,0 +1,65 @@
+package io.micronaut.openapi.adoc.md;
+
+import java.util.ArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MdToAdocEngineTest {
+
+    private static final String MARKDOWN = """
+        # Pets
+
+        List of **pets**, see [docs](https://example.com/docs).
+        ```json
+        {"name": "cat"}
+        ```
+        """;
+
+    @Test
+    void testCachedConversion() {
+        var engine = new MdToAdocEngine();
+        var uncachedEngine = new MdToAdocEngine(0, MdToAdocEngine.DEFAULT_MAX_PARSING_TIME_MILLIS);
+
+        var adoc = engine.convert(MARKDOWN);
+
+        assertTrue(adoc.contains("*pets*"));
+        assertTrue(adoc.contains("https://example.com/docs[docs]"));
+        assertEquals(adoc, engine.convert(MARKDOWN));
+        assertEquals(adoc, uncachedEngine.convert(MARKDOWN));
+        assertEquals(adoc, uncachedEngine.convert(MARKDOWN));
+        assertEquals(1, engine.getCacheHits());
+        assertEquals(1, engine.getCacheMisses());
+        assertEquals(0, uncachedEngine.getCacheHits());
+        assertEquals(2, uncachedEngine.getCacheMisses());
+        assertNull(engine.convert(null));
+        assertEquals(" ", engine.convert(" "));
+    }
+
+    @Test
+    void testConcurrentConversion() throws Exception {
+        var engine = new MdToAdocEngine(0, MdToAdocEngine.DEFAULT_MAX_PARSING_TIME_MILLIS);
+        var expected = engine.convert(MARKDOWN);
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            var futures = new ArrayList<Future<String>>();
+            for (int i = 0; i < 32; i++) {
+                futures.add(executor.submit(() -> engine.convert(MARKDOWN)));
+            }
+            for (var future : futures) {
+                assertEquals(expected, future.get());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(0, engine.getParsingTimeouts());
+        assertEquals(expected, MdToAdocConverter.convert(MARKDOWN));
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.openapi.generator;
+
+import com.samskivert.mustache.Template;
+import org.openapitools.codegen.api.TemplatingExecutor;
+import org.openapitools.codegen.templating.MustacheEngineAdapter;
+
+import java.io.StringWriter;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Mustache engine adapter, which compiles every template only once per generation.
+ * Compiled templates are immutable and shared between threads, so models and APIs
+ * can be rendered in parallel.
+ *
+ * @since 6.13.0
+ */
+final class CachingMustacheEngineAdapter extends MustacheEngineAdapter {
+
+    private final Map<String, Template> templates = new ConcurrentHashMap<>();
+
+    @Override
+    public String compileTemplate(TemplatingExecutor executor, Map<String, Object> bundle, String templateFile) {
+        Template template = templates.computeIfAbsent(templateFile, name -> getCompiler()
+            .withLoader(partialName -> findTemplate(executor, partialName))
+            .defaultValue("")
+            .compile(executor.getFullTemplateContents(name)));
+        var out = new StringWriter();
+        template.execute(bundle, out);
+        return out.toString();
+    }
+
+    /**
+     * Returns number of compiled templates.
+     *
+     * @return number of compiled templates
+     */
+    int size() {
+        return templates.size();
+    }
+}
@@ -22,10 +22,12 @@ import java.io.IOException;
 import java.io.Writer;
 import java.util.Arrays;
 import java.util.function.Predicate;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 /**
  * A class with lambdas to format mustache-generated code and formatting utility functions.
+ * Lambdas are stateless, so one instance can be shared by templates rendered in parallel.
  */
 public enum Formatting {
     /* This class is not supposed to be initialized */;
@@ -132,12 +134,13 @@ public enum Formatting {
      */
     public static class SingleLineFormatter implements Mustache.Lambda {
 
+        private static final Pattern WHITESPACES = Pattern.compile("\\s+");
+        private static final Pattern WHITESPACES_IN_GENERICS = Pattern.compile("(?<=<)\\s+|\\s+(?=>)");
+
         @Override
         public void execute(Template.Fragment fragment, Writer writer) throws IOException {
-            String text =
-                fragment.execute()
-                    .replaceAll("\\s+", " ")
-                    .replaceAll("(?<=<)\\s+|\\s+(?=>)", "");
+            String text = WHITESPACES.matcher(fragment.execute()).replaceAll(" ");
+            text = WHITESPACES_IN_GENERICS.matcher(text).replaceAll("");
             writer.write(Formatting.trim(text));
         }
 
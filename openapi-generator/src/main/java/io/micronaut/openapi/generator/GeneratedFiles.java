@@ -0,0 +1,261 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.openapi.generator;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+
+/**
+ * Tracks files of the output directory between code generation runs.
+ * <p>
+ * Before generation, the state (size, modification time and file key) of every file of the output directory
+ * is recorded. Generator doesn't rewrite files with the same content, so after generation a file is counted
+ * as written only if its state was changed. Files of models, APIs and their docs are rewritten on every run,
+ * their SHA-256 hashes are stored in {@link #MANIFEST}. Files from the previous manifest, which aren't generated
+ * anymore (e.g. for removed models and operations), are deleted, but only if they weren't modified after generation.
+ * Supporting files and tests are never deleted, because generator doesn't overwrite them, once they exist.
+ *
+ * @since 6.13.0
+ */
+final class GeneratedFiles {
+
+    static final String MANIFEST = ".openapi-generator/MICRONAUT_FILES";
+
+    private static final String HASH_ALGORITHM = "SHA-256";
+    private static final HexFormat HEX_FORMAT = HexFormat.of();
+
+    private final Path outputDirectory;
+    private final Map<Path, FileState> states;
+    private final Map<String, String> previousHashes;
+
+    private GeneratedFiles(Path outputDirectory, Map<Path, FileState> states, Map<String, String> previousHashes) {
+        this.outputDirectory = outputDirectory;
+        this.states = states;
+        this.previousHashes = previousHashes;
+    }
+
+    /**
+     * Record current state of the output directory.
+     *
+     * @param outputDirectory output directory
+     *
+     * @return tracker of generated files
+     */
+    static GeneratedFiles snapshot(File outputDirectory) {
+        Path dir;
+        var states = new HashMap<Path, FileState>();
+        try {
+            dir = realPath(outputDirectory.toPath());
+            if (Files.isDirectory(dir)) {
+                try (Stream<Path> paths = Files.walk(dir)) {
+                    paths.forEach(path -> {
+                        FileState state = FileState.of(path);
+                        if (state != null) {
+                            states.put(realPath(path), state);
+                        }
+                    });
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read output directory " + outputDirectory, e);
+        }
+        return new GeneratedFiles(dir, states, readManifest(dir.resolve(MANIFEST)));
+    }
+
+    /**
+     * Count written and unchanged files, delete stale files of the previous run and update manifest.
+     *
+     * @param files files returned by generator
+     * @param regeneratedFiles files of models, APIs and their docs
+     *
+     * @return generation summary
+     */
+    GenerationSummary complete(List<File> files, List<File> regeneratedFiles) {
+        int written = 0;
+        int unchanged = 0;
+        var counted = new HashSet<Path>();
+        for (File file : files) {
+            Path path = realPath(file.toPath());
+            FileState state = FileState.of(path);
+            if (state == null || !counted.add(path)) {
+                continue;
+            }
+            if (state.equals(states.get(path))) {
+                unchanged++;
+            } else {
+                written++;
+            }
+        }
+
+        var hashes = new TreeMap<String, String>();
+        for (File file : regeneratedFiles) {
+            Path path = realPath(file.toPath());
+            if (path.startsWith(outputDirectory) && Files.isRegularFile(path)) {
+                hashes.putIfAbsent(relativePath(path), hash(path));
+            }
+        }
+
+        int deleted = 0;
+        for (Map.Entry<String, String> entry : previousHashes.entrySet()) {
+            if (hashes.containsKey(entry.getKey())) {
+                continue;
+            }
+            Path path = outputDirectory.resolve(entry.getKey()).normalize();
+            // keep files outside the output directory and files modified by user
+            if (!path.startsWith(outputDirectory) || !Files.isRegularFile(path) || !entry.getValue().equals(hash(path))) {
+                continue;
+            }
+            try {
+                Files.delete(path);
+                deleted++;
+                deleteEmptyDirectories(path.getParent());
+            } catch (IOException e) {
+                throw new UncheckedIOException("Could not delete stale file " + path, e);
+            }
+        }
+
+        writeManifest(hashes);
+        return new GenerationSummary(written, unchanged, deleted);
+    }
+
+    /**
+     * Real path of the file, so files are compared by the same paths before and after generation, even if
+     * the output directory or its parents are symbolic links. Path of a file, which doesn't exist, is resolved
+     * against the real path of its closest existing parent.
+     *
+     * @param path path
+     *
+     * @return real path
+     */
+    private static Path realPath(Path path) {
+        Path absolutePath = path.toAbsolutePath().normalize();
+        try {
+            return absolutePath.toRealPath();
+        } catch (IOException e) {
+            Path parent = absolutePath.getParent();
+            return parent != null ? realPath(parent).resolve(absolutePath.getFileName()) : absolutePath;
+        }
+    }
+
+    private String relativePath(Path path) {
+        return outputDirectory.relativize(path).toString().replace(File.separatorChar, '/');
+    }
+
+    private void deleteEmptyDirectories(Path dir) throws IOException {
+        while (dir != null && !dir.equals(outputDirectory) && dir.startsWith(outputDirectory)) {
+            try (Stream<Path> children = Files.list(dir)) {
+                if (children.findAny().isPresent()) {
+                    return;
+                }
+            }
+            Files.delete(dir);
+            dir = dir.getParent();
+        }
+    }
+
+    private void writeManifest(Map<String, String> hashes) {
+        var content = new StringBuilder();
+        for (Map.Entry<String, String> entry : hashes.entrySet()) {
+            content.append(entry.getValue()).append(' ').append(entry.getKey()).append('\n');
+        }
+        Path manifest = outputDirectory.resolve(MANIFEST);
+        try {
+            if (Files.isRegularFile(manifest) && Files.readString(manifest, StandardCharsets.UTF_8).contentEquals(content)) {
+                return;
+            }
+            Files.createDirectories(manifest.getParent());
+            Files.writeString(manifest, content, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not write " + manifest, e);
+        }
+    }
+
+    private static Map<String, String> readManifest(Path manifest) {
+        if (!Files.isRegularFile(manifest)) {
+            return Map.of();
+        }
+        var hashes = new HashMap<String, String>();
+        try {
+            for (String line : Files.readAllLines(manifest, StandardCharsets.UTF_8)) {
+                int separator = line.indexOf(' ');
+                if (separator > 0) {
+                    hashes.put(line.substring(separator + 1), line.substring(0, separator));
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read " + manifest, e);
+        }
+        return hashes;
+    }
+
+    private static String hash(Path path) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance(HASH_ALGORITHM);
+            try (InputStream in = new DigestInputStream(Files.newInputStream(path), digest)) {
+                in.transferTo(OutputStream.nullOutputStream());
+            }
+            return HEX_FORMAT.formatHex(digest.digest());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read " + path, e);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * File state, which changes when the file is rewritten.
+     *
+     * @param size file size
+     * @param lastModified last modification time
+     * @param fileKey file key (e.g. inode), may be null
+     */
+    private record FileState(
+        long size,
+        FileTime lastModified,
+        Object fileKey
+    ) {
+
+        static FileState of(Path path) {
+            try {
+                BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+                if (!attributes.isRegularFile()) {
+                    return null;
+                }
+                return new FileState(attributes.size(), attributes.lastModifiedTime(), attributes.fileKey());
+            } catch (IOException e) {
+                return null;
+            }
+        }
+    }
+}
@@ -0,0 +1,32 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.openapi.generator;
+
+/**
+ * Summary of one code generation run.
+ *
+ * @param written number of files, which were created or whose content was changed
+ * @param unchanged number of generated files, whose content was the same as on disk and which were not rewritten
+ * @param deleted number of files, which were generated by a previous run, but aren't generated anymore
+ *
+ * @since 6.13.0
+ */
+public record GenerationSummary(
+    int written,
+    int unchanged,
+    int deleted
+) {
+}
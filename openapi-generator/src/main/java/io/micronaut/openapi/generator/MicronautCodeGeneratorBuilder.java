@@ -142,6 +142,28 @@ public interface MicronautCodeGeneratorBuilder {
      */
     MicronautCodeGeneratorBuilder withOptions(Consumer<? super MicronautCodeGeneratorOptionsBuilder> optionsConfigurer);
 
+    /**
+     * Sets the maximal number of threads used to render models and APIs.
+     * The generated files are the same as with serial generation.
+     *
+     * @param parallelism the number of threads, {@code 1} (default) means serial generation
+     * @return this builder
+     * @since 6.13.0
+     */
+    MicronautCodeGeneratorBuilder withParallelism(int parallelism);
+
+    /**
+     * Sets whether generated files should be written only when their content changes.
+     * Unchanged files keep their timestamps, so incremental compilation doesn't recompile them.
+     * Files generated by a previous run which aren't generated anymore are deleted, unless they
+     * were modified after generation.
+     *
+     * @param writeIfChanged whether to write only changed files, {@code false} by default
+     * @return this builder
+     * @since 6.13.0
+     */
+    MicronautCodeGeneratorBuilder withWriteIfChanged(boolean writeIfChanged);
+
     /**
      * Returns a configured code generator.
      *
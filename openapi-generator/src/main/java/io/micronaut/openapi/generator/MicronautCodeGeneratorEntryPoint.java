@@ -17,11 +17,13 @@ package io.micronaut.openapi.generator;
 
 import io.micronaut.openapi.generator.MicronautCodeGeneratorOptionsBuilder.GeneratorLanguage;
 import io.swagger.parser.OpenAPIParser;
+import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.parser.core.models.ParseOptions;
 import org.openapitools.codegen.ClientOptInput;
 import org.openapitools.codegen.CodegenConstants;
 import org.openapitools.codegen.DefaultCodegen;
-import org.openapitools.codegen.DefaultGenerator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import java.io.File;
 import java.io.IOException;
@@ -38,6 +40,8 @@ import java.util.function.Consumer;
  */
 public final class MicronautCodeGeneratorEntryPoint {
 
+    private static final Logger LOG = LoggerFactory.getLogger(MicronautCodeGeneratorEntryPoint.class);
+
     private final URI definitionFile;
     private final File outputDirectory;
     private final DefaultCodegen codeGenerator;
@@ -47,6 +51,8 @@ public final class MicronautCodeGeneratorEntryPoint {
     private final JavaMicronautClientCodegen.ClientOptions javaClientOptions;
     private final KotlinMicronautServerCodegen.ServerOptions kotlinServerOptions;
     private final KotlinMicronautClientCodegen.ClientOptions kotlinClientOptions;
+    private final int parallelism;
+    private final boolean writeIfChanged;
 
     private MicronautCodeGeneratorEntryPoint(URI definitionFile,
                                              File outputDirectory,
@@ -56,7 +62,9 @@ public final class MicronautCodeGeneratorEntryPoint {
                                              JavaMicronautServerCodegen.ServerOptions javaServerOptions,
                                              JavaMicronautClientCodegen.ClientOptions javaClientOptions,
                                              KotlinMicronautServerCodegen.ServerOptions kotlinServerOptions,
-                                             KotlinMicronautClientCodegen.ClientOptions kotlinClientOptions
+                                             KotlinMicronautClientCodegen.ClientOptions kotlinClientOptions,
+                                             int parallelism,
+                                             boolean writeIfChanged
     ) {
         this.definitionFile = definitionFile;
         this.outputDirectory = outputDirectory;
@@ -67,6 +75,8 @@ public final class MicronautCodeGeneratorEntryPoint {
         this.javaClientOptions = javaClientOptions;
         this.kotlinServerOptions = kotlinServerOptions;
         this.kotlinClientOptions = kotlinClientOptions;
+        this.parallelism = parallelism;
+        this.writeIfChanged = writeIfChanged;
     }
 
     private static void withPath(File file, Consumer<? super String> action) {
@@ -85,9 +95,38 @@ public final class MicronautCodeGeneratorEntryPoint {
      * Performs code generation.
      */
     public void generate() {
-        var openAPI = new OpenAPIParser()
+        generate(summary -> {
+        });
+    }
+
+    /**
+     * Performs code generation.
+     *
+     * @param summaryConsumer the consumer of the generation summary
+     * @since 6.13.0
+     */
+    public void generate(Consumer<? super GenerationSummary> summaryConsumer) {
+        summaryConsumer.accept(generate(parse(definitionFile)));
+    }
+
+    /**
+     * Parses the OpenAPI definition file.
+     *
+     * @param definitionFile the definition file
+     * @return the OpenAPI model
+     */
+    static OpenAPI parse(URI definitionFile) {
+        return new OpenAPIParser()
             .readLocation(definitionFile.toString(), null, new ParseOptions()).getOpenAPI();
+    }
 
+    /**
+     * Performs code generation from the parsed OpenAPI model. Model is modified by generator.
+     *
+     * @param openAPI the OpenAPI model
+     * @return the generation summary
+     */
+    GenerationSummary generate(OpenAPI openAPI) {
         // Configure codegen
         withPath(outputDirectory, codeGenerator::setOutputDir);
 
@@ -100,13 +139,23 @@ public final class MicronautCodeGeneratorEntryPoint {
 
         configureOptions();
 
+        // Compile every template once, compiled templates are shared between threads
+        codeGenerator.setTemplatingEngine(new CachingMustacheEngineAdapter());
+
+        // Keep files with unchanged content untouched, so incremental compilation can skip them
+        GeneratedFiles generatedFiles = null;
+        if (writeIfChanged && outputDirectory != null) {
+            codeGenerator.setEnableMinimalUpdate(true);
+            generatedFiles = GeneratedFiles.snapshot(outputDirectory);
+        }
+
         // Create input
         var input = new ClientOptInput();
         input.openAPI(openAPI);
         input.config(codeGenerator);
 
         // Generate
-        var generator = new DefaultGenerator();
+        var generator = new MicronautGenerator(parallelism);
         for (OutputKind outputKind : OutputKind.values()) {
             generator.setGeneratorPropertyDefault(outputKind.generatorProperty, "false");
         }
@@ -114,7 +163,11 @@ public final class MicronautCodeGeneratorEntryPoint {
             generator.setGeneratorPropertyDefault(outputKind.generatorProperty, "true");
         }
 
-        generator.opts(input).generate();
+        List<File> files = generator.opts(input).generate();
+
+        var summary = generatedFiles != null ? generatedFiles.complete(files, generator.getRegeneratedFiles()) : new GenerationSummary(files.size(), 0, 0);
+        LOG.info("Code generation finished: {} files written, {} unchanged, {} deleted", summary.written(), summary.unchanged(), summary.deleted());
+        return summary;
     }
 
     private void configureOptions() {
@@ -393,6 +446,8 @@ public final class MicronautCodeGeneratorEntryPoint {
         private JavaMicronautClientCodegen.ClientOptions javaClientOptions;
         private KotlinMicronautServerCodegen.ServerOptions kotlinServerOptions;
         private KotlinMicronautClientCodegen.ClientOptions kotlinClientOptions;
+        private int parallelism = 1;
+        private boolean writeIfChanged;
 
         @Override
         public <B extends GeneratorOptionsBuilder, G extends MicronautCodeGenerator<B>> MicronautCodeGeneratorBuilder forCodeGenerator(G generator, Consumer<? super B> configuration) {
@@ -464,6 +519,21 @@ public final class MicronautCodeGeneratorEntryPoint {
             return this;
         }
 
+        @Override
+        public MicronautCodeGeneratorBuilder withParallelism(int parallelism) {
+            if (parallelism < 1) {
+                throw new IllegalArgumentException("Parallelism must be greater than 0");
+            }
+            this.parallelism = parallelism;
+            return this;
+        }
+
+        @Override
+        public MicronautCodeGeneratorBuilder withWriteIfChanged(boolean writeIfChanged) {
+            this.writeIfChanged = writeIfChanged;
+            return this;
+        }
+
         private void validate() {
             Objects.requireNonNull(definitionFile, "OpenAPI definition file must not be null");
             Objects.requireNonNull(codeGenerator, "You must select either server or client generation");
@@ -483,7 +553,9 @@ public final class MicronautCodeGeneratorEntryPoint {
                 javaServerOptions,
                 javaClientOptions,
                 kotlinServerOptions,
-                kotlinClientOptions
+                kotlinClientOptions,
+                parallelism,
+                writeIfChanged
             );
         }
 
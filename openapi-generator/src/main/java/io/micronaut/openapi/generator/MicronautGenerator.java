@@ -0,0 +1,156 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.openapi.generator;
+
+import org.openapitools.codegen.CodegenConfig;
+import org.openapitools.codegen.DefaultGenerator;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * Generator, which renders models and APIs (with their tests and docs) on a bounded
+ * fork-join pool.
+ * <p>
+ * Models and operations are still processed sequentially by {@link DefaultGenerator}, only
+ * rendering and writing of their files is moved to the pool. Generated files have the same content
+ * and are returned in the same order as in serial mode. All pending files are written before
+ * the first supporting file and before {@link #generate()} returns.
+ * <p>
+ * Generator also collects files of models, APIs and their docs. These files are rewritten
+ * on every run, so when they aren't generated anymore, they are stale.
+ *
+ * @since 6.13.0
+ */
+final class MicronautGenerator extends DefaultGenerator {
+
+    private final int parallelism;
+    private final List<PendingFile> pendingFiles = new ArrayList<>();
+    private final List<File> regeneratedFiles = new ArrayList<>();
+    private ForkJoinPool pool;
+    private Set<String> parallelTemplates;
+    private Set<String> regeneratedTemplates;
+
+    /**
+     * Create generator.
+     *
+     * @param parallelism max number of threads to render files, {@code 1} means serial generation
+     */
+    MicronautGenerator(int parallelism) {
+        this.parallelism = parallelism;
+    }
+
+    @Override
+    public List<File> generate() {
+        regeneratedFiles.clear();
+        regeneratedTemplates = regeneratedTemplates(config);
+        if (parallelism <= 1 || config.isEnablePostProcessFile()) {
+            // post-processing of files expects them to be written
+            return super.generate();
+        }
+        parallelTemplates = parallelTemplates(config);
+        pool = new ForkJoinPool(parallelism);
+        try {
+            List<File> files = super.generate();
+            awaitPendingFiles();
+            return files;
+        } finally {
+            pool.shutdownNow();
+            pool = null;
+            pendingFiles.clear();
+        }
+    }
+
+    @Override
+    protected File processTemplateToFile(Map<String, Object> templateData, String templateName, String outputFilename,
+                                         boolean shouldGenerate, String skippedByOption) throws IOException {
+        if (shouldGenerate && regeneratedTemplates.contains(templateName)) {
+            regeneratedFiles.add(new File(outputFilename));
+        }
+        if (pool == null || !shouldGenerate || !parallelTemplates.contains(templateName)) {
+            awaitPendingFiles();
+            return super.processTemplateToFile(templateData, templateName, outputFilename, shouldGenerate, skippedByOption);
+        }
+        ForkJoinTask<File> task = pool.submit(() -> super.processTemplateToFile(templateData, templateName, outputFilename, true, skippedByOption));
+        pendingFiles.add(new PendingFile(outputFilename, task));
+        return new File(outputFilename.replace("//", "/").replace('/', File.separatorChar));
+    }
+
+    /**
+     * Returns files of models, APIs and their docs, generated by the last run.
+     *
+     * @return generated files
+     */
+    List<File> getRegeneratedFiles() {
+        return regeneratedFiles;
+    }
+
+    private void awaitPendingFiles() {
+        if (pendingFiles.isEmpty()) {
+            return;
+        }
+        try {
+            for (PendingFile pendingFile : pendingFiles) {
+                try {
+                    pendingFile.task.join();
+                } catch (RuntimeException e) {
+                    throw new RuntimeException("Could not generate file '" + pendingFile.outputFilename + "'", e);
+                }
+            }
+        } finally {
+            for (PendingFile pendingFile : pendingFiles) {
+                pendingFile.task.cancel(false);
+            }
+            pendingFiles.clear();
+        }
+    }
+
+    private static Set<String> parallelTemplates(CodegenConfig config) {
+        var templates = regeneratedTemplates(config);
+        templates.addAll(config.modelTestTemplateFiles().keySet());
+        templates.addAll(config.apiTestTemplateFiles().keySet());
+        return templates;
+    }
+
+    /**
+     * Templates, which are rendered on every run. Tests aren't overwritten, once they are generated.
+     *
+     * @param config codegen config
+     *
+     * @return template names
+     */
+    private static Set<String> regeneratedTemplates(CodegenConfig config) {
+        var templates = new HashSet<String>();
+        templates.addAll(config.modelTemplateFiles().keySet());
+        templates.addAll(config.modelDocTemplateFiles().keySet());
+        templates.addAll(config.apiTemplateFiles().keySet());
+        templates.addAll(config.apiDocTemplateFiles().keySet());
+        return templates;
+    }
+
+    private record PendingFile(
+        String outputFilename,
+        ForkJoinTask<File> task
+    ) {
+    }
+}
@@ -15,11 +15,6 @@
  */
 package io.micronaut.openapi.generator;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.core.util.DefaultPrettyPrinter;
-import com.fasterxml.jackson.databind.MapperFeature;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.json.JsonMapper;
 import io.swagger.v3.oas.models.Components;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.Operation;
@@ -41,6 +36,7 @@ import org.openapitools.codegen.utils.ModelUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -59,20 +55,9 @@ public final class MicronautInlineModelResolver {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(MicronautInlineModelResolver.class);
 
-    // structure mapper sorts properties alphabetically on write to ensure models are
-    // serialized consistently for lookup of existing models
-    private static final ObjectMapper STRUCTURE_MAPPER;
-
-    static {
-        STRUCTURE_MAPPER = JsonMapper.builder()
-                .configure(MapperFeature.SORT_PROPERTIES_ALPHABETICALLY, true)
-                .build();
-        STRUCTURE_MAPPER.writer(new DefaultPrettyPrinter());
-    }
-
     private OpenAPI openAPI;
     private Map<String, Schema> addedModels = new HashMap<>();
-    private Map<String, String> generatedSignature = new HashMap<>();
+    private final SchemaStructureIndex generatedSignature = new SchemaStructureIndex();
     private Map<String, String> inlineSchemaNameMapping = new HashMap<>();
     private Map<String, String> inlineSchemaOptions = new HashMap<>();
     private Set<String> inlineSchemaNameMappingValues = new HashSet<>();
@@ -625,11 +610,8 @@ public final class MicronautInlineModelResolver {
             return null;
         }
         try {
-            String json = STRUCTURE_MAPPER.writeValueAsString(model);
-            if (generatedSignature.containsKey(json)) {
-                return generatedSignature.get(json);
-            }
-        } catch (JsonProcessingException e) {
+            return generatedSignature.find(model);
+        } catch (IOException e) {
             LOGGER.warn("Error: {}", e.getMessage());
         }
 
@@ -741,10 +723,12 @@ public final class MicronautInlineModelResolver {
     }
 
     private void addGenerated(String name, Schema model) {
+        if (skipSchemaReuse) { // generated schemas are never looked up
+            return;
+        }
         try {
-            String json = STRUCTURE_MAPPER.writeValueAsString(model);
-            generatedSignature.put(json, name);
-        } catch (JsonProcessingException e) {
+            generatedSignature.add(name, model);
+        } catch (IOException e) {
             LOGGER.error("Error: {}", e.getMessage());
         }
     }
@@ -0,0 +1,63 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.openapi.generator;
+
+import java.net.URI;
+import java.util.function.Consumer;
+
+/**
+ * A builder of code generation for several targets (e.g. java client and kotlin server)
+ * from the same OpenAPI definition file, which is parsed only once.
+ *
+ * @since 6.13.0
+ */
+@SuppressWarnings("UnusedReturnValue")
+public interface MicronautMultiTargetCodeGeneratorBuilder {
+
+    /**
+     * Sets the URI to the OpenAPI definition file, shared by all targets.
+     * It is recommended to use a local path instead of using
+     * a remote URI.
+     *
+     * @param definitionFile the definition file
+     * @return this builder
+     */
+    MicronautMultiTargetCodeGeneratorBuilder withDefinitionFile(URI definitionFile);
+
+    /**
+     * Sets the maximal number of targets, which are generated at the same time.
+     *
+     * @param parallelism the number of threads, {@code 1} (default) means targets are generated one by one
+     * @return this builder
+     */
+    MicronautMultiTargetCodeGeneratorBuilder withParallelism(int parallelism);
+
+    /**
+     * Adds a generation target. The definition file is already set on the target builder,
+     * the configuration must select the code generator and the output directory.
+     *
+     * @param targetSpec the target configuration
+     * @return this builder
+     */
+    MicronautMultiTargetCodeGeneratorBuilder addTarget(Consumer<? super MicronautCodeGeneratorBuilder> targetSpec);
+
+    /**
+     * Returns a configured multi-target code generator.
+     *
+     * @return the configured code generator
+     */
+    MicronautMultiTargetCodeGeneratorEntryPoint build();
+}
@@ -0,0 +1,168 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.openapi.generator;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.swagger.v3.core.util.Json;
+import io.swagger.v3.core.util.Json31;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.SpecVersion;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+
+/**
+ * Entry point for code generation of several targets from the same OpenAPI definition.
+ * <p>
+ * The definition file is read and parsed only once. Every target gets its own copy of the parsed model,
+ * because code generators modify it (e.g. flatten inline schemas with their own name mappings).
+ *
+ * @since 6.13.0
+ */
+public final class MicronautMultiTargetCodeGeneratorEntryPoint {
+
+    private final URI definitionFile;
+    private final List<MicronautCodeGeneratorEntryPoint> targets;
+    private final int parallelism;
+
+    private MicronautMultiTargetCodeGeneratorEntryPoint(URI definitionFile, List<MicronautCodeGeneratorEntryPoint> targets, int parallelism) {
+        this.definitionFile = definitionFile;
+        this.targets = targets;
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Returns a multi-target code generator builder.
+     *
+     * @return the builder
+     */
+    public static MicronautMultiTargetCodeGeneratorBuilder builder() {
+        return new DefaultBuilder();
+    }
+
+    /**
+     * Performs code generation of all targets.
+     *
+     * @return generation summaries of targets, in the order they were added
+     */
+    public List<GenerationSummary> generate() {
+        OpenAPI openAPI = MicronautCodeGeneratorEntryPoint.parse(definitionFile);
+        if (targets.size() == 1) {
+            return List.of(targets.get(0).generate(openAPI));
+        }
+
+        // serialize parsed model once, every target deserializes its own copy
+        ObjectMapper mapper = openAPI.getSpecVersion() == SpecVersion.V31 ? Json31.mapper() : Json.mapper();
+        byte[] serializedOpenApi;
+        try {
+            serializedOpenApi = mapper.writeValueAsBytes(openAPI);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not copy OpenAPI definition " + definitionFile, e);
+        }
+
+        var results = new ArrayList<GenerationSummary>(targets.size());
+        if (parallelism <= 1) {
+            for (MicronautCodeGeneratorEntryPoint target : targets) {
+                results.add(target.generate(copy(mapper, serializedOpenApi, openAPI.getSpecVersion())));
+            }
+            return results;
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(parallelism, targets.size()));
+        try {
+            var futures = new ArrayList<Future<GenerationSummary>>(targets.size());
+            for (MicronautCodeGeneratorEntryPoint target : targets) {
+                futures.add(executor.submit(() -> target.generate(copy(mapper, serializedOpenApi, openAPI.getSpecVersion()))));
+            }
+            for (Future<GenerationSummary> future : futures) {
+                results.add(future.get());
+            }
+            return results;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private OpenAPI copy(ObjectMapper mapper, byte[] serializedOpenApi, SpecVersion specVersion) {
+        try {
+            OpenAPI copy = mapper.readValue(serializedOpenApi, OpenAPI.class);
+            copy.setSpecVersion(specVersion);
+            return copy;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not copy OpenAPI definition " + definitionFile, e);
+        }
+    }
+
+    private static class DefaultBuilder implements MicronautMultiTargetCodeGeneratorBuilder {
+
+        private URI definitionFile;
+        private int parallelism = 1;
+        private final List<Consumer<? super MicronautCodeGeneratorBuilder>> targetSpecs = new ArrayList<>();
+
+        @Override
+        public MicronautMultiTargetCodeGeneratorBuilder withDefinitionFile(URI definitionFile) {
+            this.definitionFile = definitionFile;
+            return this;
+        }
+
+        @Override
+        public MicronautMultiTargetCodeGeneratorBuilder withParallelism(int parallelism) {
+            if (parallelism < 1) {
+                throw new IllegalArgumentException("Parallelism must be greater than 0");
+            }
+            this.parallelism = parallelism;
+            return this;
+        }
+
+        @Override
+        public MicronautMultiTargetCodeGeneratorBuilder addTarget(Consumer<? super MicronautCodeGeneratorBuilder> targetSpec) {
+            targetSpecs.add(Objects.requireNonNull(targetSpec, "Target configuration must not be null"));
+            return this;
+        }
+
+        @Override
+        public MicronautMultiTargetCodeGeneratorEntryPoint build() {
+            Objects.requireNonNull(definitionFile, "OpenAPI definition file must not be null");
+            if (targetSpecs.isEmpty()) {
+                throw new IllegalStateException("At least one target must be added");
+            }
+            var targets = new ArrayList<MicronautCodeGeneratorEntryPoint>(targetSpecs.size());
+            for (Consumer<? super MicronautCodeGeneratorBuilder> targetSpec : targetSpecs) {
+                var builder = MicronautCodeGeneratorEntryPoint.builder()
+                    .withDefinitionFile(definitionFile);
+                targetSpec.accept(builder);
+                targets.add(builder.build());
+            }
+            return new MicronautMultiTargetCodeGeneratorEntryPoint(definitionFile, List.copyOf(targets), parallelism);
+        }
+    }
+}
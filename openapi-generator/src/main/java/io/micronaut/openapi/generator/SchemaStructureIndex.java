@@ -0,0 +1,213 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.openapi.generator;
+
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import io.swagger.v3.oas.models.media.Schema;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Index of generated inline schemas by their structure, used to reuse already generated models.
+ * <p>
+ * Schemas are compared by their canonical JSON form, but the form is not kept: the index stores
+ * a 128-bit fingerprint of it, computed while the schema is serialized into the digest. When fingerprints
+ * are equal, the schemas are compared with {@link Schema#equals(Object)}, which walks the schema tree
+ * without serialization. Only if the stored schema isn't equal, but it wasn't changed after it was added,
+ * the structures are compared byte by byte to make sure it's not a hash collision.
+ *
+ * @since 6.13.0
+ */
+final class SchemaStructureIndex {
+
+    // structure mapper sorts properties alphabetically on write to ensure models are
+    // serialized consistently for lookup of existing models
+    private static final ObjectMapper STRUCTURE_MAPPER = JsonMapper.builder()
+        .configure(MapperFeature.SORT_PROPERTIES_ALPHABETICALLY, true)
+        .build();
+
+    private final Map<Fingerprint, List<Entry>> entries = new HashMap<>();
+    /**
+     * Schema from the last lookup and its fingerprint. Schemas are usually added right after
+     * an unsuccessful lookup, so the fingerprint is not computed twice.
+     */
+    private Schema<?> lastSchema;
+    private Fingerprint lastFingerprint;
+
+    /**
+     * Find the name of already added schema with the same structure.
+     *
+     * @param schema schema
+     *
+     * @return the name or {@code null}, if there is no such schema
+     */
+    String find(Schema<?> schema) throws IOException {
+        Fingerprint fingerprint = fingerprint(schema);
+        List<Entry> candidates = entries.get(fingerprint);
+        if (candidates != null) {
+            for (Entry candidate : candidates) {
+                if (candidate.matches(schema)) {
+                    return candidate.name;
+                }
+            }
+        }
+        lastSchema = schema;
+        lastFingerprint = fingerprint;
+        return null;
+    }
+
+    /**
+     * Add schema. If a schema with the same structure was already added, it's replaced.
+     *
+     * @param name schema name
+     * @param schema schema
+     */
+    void add(String name, Schema<?> schema) throws IOException {
+        Fingerprint fingerprint = schema == lastSchema ? lastFingerprint : fingerprint(schema);
+        lastSchema = null;
+        lastFingerprint = null;
+        var entry = new Entry(name, schema, fingerprint, schema.hashCode());
+        List<Entry> candidates = entries.computeIfAbsent(fingerprint, f -> new ArrayList<>(1));
+        for (int i = 0; i < candidates.size(); i++) {
+            if (candidates.get(i).matches(schema)) {
+                candidates.set(i, entry);
+                return;
+            }
+        }
+        candidates.add(entry);
+    }
+
+    private static Fingerprint fingerprint(Schema<?> schema) throws IOException {
+        MessageDigest digest = newDigest();
+        STRUCTURE_MAPPER.writeValue(new DigestOutputStream(OutputStream.nullOutputStream(), digest), schema);
+        return Fingerprint.of(digest.digest());
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("MD5");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 128-bit fingerprint of a schema structure.
+     *
+     * @param high high bits
+     * @param low low bits
+     */
+    private record Fingerprint(
+        long high,
+        long low
+    ) {
+
+        private static Fingerprint of(byte[] digest) {
+            var buffer = ByteBuffer.wrap(digest);
+            return new Fingerprint(buffer.getLong(), buffer.getLong());
+        }
+    }
+
+    /**
+     * Added schema.
+     *
+     * @param name schema name
+     * @param schema schema
+     * @param fingerprint fingerprint of the schema structure at the moment, when it was added
+     * @param schemaHashCode hash code of the schema at the moment, when it was added
+     */
+    private record Entry(
+        String name,
+        Schema<?> schema,
+        Fingerprint fingerprint,
+        int schemaHashCode
+    ) {
+
+        /**
+         * Check, that the schema with the same fingerprint has the same structure.
+         * <p>
+         * Added schemas can be changed later (e.g. their properties are flattened), then their current
+         * structure is not the same as at the moment, when they were added. In this case the fingerprint,
+         * computed at that moment, is the only information about the structure, and it's trusted.
+         */
+        boolean matches(Schema<?> other) throws IOException {
+            if (schema.equals(other) || schema.hashCode() != schemaHashCode) {
+                return true;
+            }
+            // not equal objects can still have the same JSON form
+            var form = new ByteArrayOutputStream(256);
+            STRUCTURE_MAPPER.writeValue(form, other);
+            var out = new CompareOutputStream(form.toByteArray());
+            STRUCTURE_MAPPER.writeValue(out, schema);
+            return out.isEqual() || !out.fingerprint().equals(fingerprint);
+        }
+    }
+
+    /**
+     * Stream, which computes fingerprint of written bytes and compares them with the expected bytes.
+     */
+    private static final class CompareOutputStream extends OutputStream {
+
+        private final byte[] expected;
+        private final MessageDigest digest = newDigest();
+        private int position;
+        private boolean equal = true;
+
+        private CompareOutputStream(byte[] expected) {
+            this.expected = expected;
+        }
+
+        @Override
+        public void write(int b) {
+            digest.update((byte) b);
+            if (equal) {
+                equal = position < expected.length && expected[position] == (byte) b;
+            }
+            position++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            digest.update(b, off, len);
+            if (equal) {
+                equal = position + len <= expected.length
+                    && Arrays.equals(b, off, off + len, expected, position, position + len);
+            }
+            position += len;
+        }
+
+        boolean isEqual() {
+            return equal && position == expected.length;
+        }
+
+        Fingerprint fingerprint() {
+            return Fingerprint.of(digest.digest());
+        }
+    }
+}
@@ -234,6 +234,17 @@ class JavaMicronautClientCodegenTest extends AbstractMicronautCodegenTest {
         assertFileContains(outputPath + "/src/main/java/org/openapitools/auth/AuthorizationFilter.java", "@Filter(Filter.MATCH_ALL_PATTERN)");
     }
 
+    @Test
+    void testAuthorizationFilterCachesTokens() {
+        var codegen = new JavaMicronautClientCodegen();
+        codegen.additionalProperties().put(JavaMicronautClientCodegen.OPT_CONFIGURE_AUTH, "true");
+        String outputPath = generateFiles(codegen, PETSTORE_PATH, CodegenConstants.SUPPORTING_FILES, CodegenConstants.APIS);
+
+        String path = outputPath + "/src/main/java/org/openapitools/auth/AuthorizationFilter.java";
+        assertFileContains(path, "tokenByName.computeIfAbsent(name", "getTokenTimeToLive", "tokenByName = new ConcurrentHashMap<>();");
+        assertFileNotContains(path, "new HashMap");
+    }
+
     @Test
     void testAuthorizationFilterPattern() {
         var codegen = new JavaMicronautClientCodegen();
@@ -242,6 +242,17 @@ class KotlinMicronautClientCodegenTest extends AbstractMicronautCodegenTest {
         assertFileContains(outputPath + "/src/main/kotlin/org/openapitools/auth/AuthorizationFilter.kt", "@Filter(Filter.MATCH_ALL_PATTERN)");
     }
 
+    @Test
+    void testAuthorizationFilterCachesTokens() {
+        var codegen = new KotlinMicronautClientCodegen();
+        codegen.additionalProperties().put(KotlinMicronautClientCodegen.OPT_CONFIGURE_AUTH, "true");
+        String outputPath = generateFiles(codegen, PETSTORE_PATH, CodegenConstants.SUPPORTING_FILES, CodegenConstants.APIS);
+
+        String path = outputPath + "/src/main/kotlin/org/openapitools/auth/AuthorizationFilter.kt";
+        assertFileContains(path, "tokenByName.computeIfAbsent(name", "getTokenTimeToLive", "tokenByName = ConcurrentHashMap()");
+        assertFileNotContains(path, "= HashMap()");
+    }
+
     @Test
     void testAuthorizationFilterPattern() {
         var codegen = new KotlinMicronautClientCodegen();
@@ -1,12 +1,33 @@
 package io.micronaut.openapi.generator;
 
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.micronaut.openapi.generator.MicronautCodeGeneratorOptionsBuilder.GeneratorLanguage;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
 
 class MicronautCodeGeneratorEntryPointTest {
 
@@ -21,6 +42,165 @@ class MicronautCodeGeneratorEntryPointTest {
         assertEquals("Hello", generator.value);
     }
 
+    @Test
+    @DisplayName("Parallel java generation produces same files as serial generation")
+    void testParallelJavaGeneration(@TempDir Path tempDir) {
+        Consumer<MicronautCodeGeneratorBuilder> java = builder -> builder.forJavaServer(options -> options.withGenerateImplementationFiles(true));
+        var serialFiles = generate(tempDir.resolve("serial"), 1, java);
+        var parallelFiles = generate(tempDir.resolve("parallel"), 4, java);
+
+        assertFalse(serialFiles.isEmpty());
+        assertEquals(serialFiles, parallelFiles);
+    }
+
+    @Test
+    @DisplayName("Parallel kotlin generation produces same files as serial generation")
+    void testParallelKotlinGeneration(@TempDir Path tempDir) {
+        Consumer<MicronautCodeGeneratorBuilder> kotlin = builder -> builder.forKotlinClient()
+            .withOptions(options -> options.withLang(GeneratorLanguage.KOTLIN));
+        var serialFiles = generate(tempDir.resolve("serial"), 1, kotlin);
+        var parallelFiles = generate(tempDir.resolve("parallel"), 4, kotlin);
+
+        assertFalse(serialFiles.isEmpty());
+        assertEquals(serialFiles, parallelFiles);
+    }
+
+    @Test
+    @DisplayName("Writes only changed files and deletes stale files")
+    void testWriteIfChanged(@TempDir Path tempDir) throws IOException {
+        assertWritesIfChanged(tempDir, tempDir.resolve("output"));
+    }
+
+    @Test
+    @DisplayName("Writes only changed files and deletes stale files, when output directory is a symbolic link")
+    void testWriteIfChangedToSymbolicLink(@TempDir Path tempDir) throws IOException {
+        Path realOutputDirectory = Files.createDirectory(tempDir.resolve("real-output"));
+        Path outputDirectory = tempDir.resolve("output");
+        try {
+            Files.createSymbolicLink(outputDirectory, realOutputDirectory);
+        } catch (UnsupportedOperationException | IOException e) {
+            assumeTrue(false, "Symbolic links are not supported: " + e.getMessage());
+        }
+        assertWritesIfChanged(tempDir, outputDirectory);
+        assertTrue(Files.isRegularFile(realOutputDirectory.resolve(GeneratedFiles.MANIFEST)));
+    }
+
+    private static void assertWritesIfChanged(Path tempDir, Path outputDirectory) throws IOException {
+        Path definitionFile = tempDir.resolve("petstore.json");
+        Files.copy(Path.of("src/test/resources/petstore.json"), definitionFile);
+
+        var first = generateIfChanged(definitionFile, outputDirectory);
+        assertTrue(first.written() > 0);
+        assertEquals(0, first.unchanged());
+        assertEquals(0, first.deleted());
+        Path userModel = findFile(outputDirectory, "User.java");
+        Path petModel = findFile(outputDirectory, "Pet.java");
+        assertNotNull(userModel);
+        assertNotNull(petModel);
+        var petModelModified = Files.getLastModifiedTime(petModel);
+
+        var second = generateIfChanged(definitionFile, outputDirectory);
+        assertEquals(0, second.written());
+        assertTrue(second.unchanged() > 0);
+        assertEquals(0, second.deleted());
+        assertEquals(petModelModified, Files.getLastModifiedTime(petModel));
+
+        // remove user operations and model
+        var mapper = new ObjectMapper();
+        var definition = (ObjectNode) mapper.readTree(definitionFile.toFile());
+        ((ObjectNode) definition.get("paths")).remove(List.of("/user", "/user/createWithArray", "/user/createWithList",
+            "/user/login", "/user/logout", "/user/{username}"));
+        ((ObjectNode) definition.get("definitions")).remove("User");
+        mapper.writeValue(definitionFile.toFile(), definition);
+
+        var third = generateIfChanged(definitionFile, outputDirectory);
+        assertTrue(third.deleted() >= 2);
+        assertFalse(Files.exists(userModel));
+        assertNull(findFile(outputDirectory, "UserApi.java"));
+        assertEquals(petModelModified, Files.getLastModifiedTime(petModel));
+    }
+
+    @Test
+    @DisplayName("Multi-target generation produces same files as separate generation")
+    void testMultiTargetGeneration(@TempDir Path tempDir) {
+        Consumer<MicronautCodeGeneratorBuilder> javaClient = builder -> builder.forJavaClient();
+        Consumer<MicronautCodeGeneratorBuilder> kotlinServer = builder -> builder.forKotlinServer()
+            .withOptions(options -> options.withLang(GeneratorLanguage.KOTLIN));
+        var javaClientFiles = generate(tempDir.resolve("java-client"), 1, javaClient);
+        var kotlinServerFiles = generate(tempDir.resolve("kotlin-server"), 1, kotlinServer);
+
+        Path multiJavaClient = tempDir.resolve("multi/java-client");
+        Path multiKotlinServer = tempDir.resolve("multi/kotlin-server");
+        List<GenerationSummary> summaries = MicronautMultiTargetCodeGeneratorEntryPoint.builder()
+            .withDefinitionFile(new File("src/test/resources/petstore.json").toURI())
+            .withParallelism(2)
+            .addTarget(builder -> javaClient.accept(builder
+                .withOutputDirectory(multiJavaClient.toFile())
+                .withOutputs(MicronautCodeGeneratorEntryPoint.OutputKind.values())))
+            .addTarget(builder -> kotlinServer.accept(builder
+                .withOutputDirectory(multiKotlinServer.toFile())
+                .withOutputs(MicronautCodeGeneratorEntryPoint.OutputKind.values())))
+            .build()
+            .generate();
+
+        assertEquals(2, summaries.size());
+        assertEquals(javaClientFiles, readFiles(multiJavaClient));
+        assertEquals(kotlinServerFiles, readFiles(multiKotlinServer));
+    }
+
+    @Test
+    @DisplayName("Parallelism must be positive")
+    void testInvalidParallelism() {
+        var builder = MicronautCodeGeneratorEntryPoint.builder();
+        assertThrows(IllegalArgumentException.class, () -> builder.withParallelism(0));
+    }
+
+    private static GenerationSummary generateIfChanged(Path definitionFile, Path outputDirectory) {
+        var summary = new AtomicReference<GenerationSummary>();
+        MicronautCodeGeneratorEntryPoint.builder()
+            .forJavaClient()
+            .withDefinitionFile(definitionFile.toUri())
+            .withOutputDirectory(outputDirectory.toFile())
+            .withOutputs(MicronautCodeGeneratorEntryPoint.OutputKind.values())
+            .withWriteIfChanged(true)
+            .build()
+            .generate(summary::set);
+        return summary.get();
+    }
+
+    private static Path findFile(Path directory, String fileName) throws IOException {
+        try (Stream<Path> paths = Files.walk(directory)) {
+            return paths.filter(path -> path.getFileName().toString().equals(fileName)).findFirst().orElse(null);
+        }
+    }
+
+    private static Map<String, String> generate(Path outputDirectory, int parallelism, Consumer<MicronautCodeGeneratorBuilder> configuration) {
+        var builder = MicronautCodeGeneratorEntryPoint.builder()
+            .withDefinitionFile(new File("src/test/resources/petstore.json").toURI())
+            .withOutputDirectory(outputDirectory.toFile())
+            .withOutputs(MicronautCodeGeneratorEntryPoint.OutputKind.values())
+            .withParallelism(parallelism);
+        configuration.accept(builder);
+        builder.build().generate();
+        return readFiles(outputDirectory);
+    }
+
+    private static Map<String, String> readFiles(Path outputDirectory) {
+        var files = new TreeMap<String, String>();
+        try (Stream<Path> paths = Files.walk(outputDirectory)) {
+            paths.filter(Files::isRegularFile).forEach(path -> {
+                try {
+                    files.put(outputDirectory.relativize(path).toString(), Files.readString(path));
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return files;
+    }
+
     private static class TestGenerator extends AbstractMicronautJavaCodegen<TestBuilder> {
 
         private String value;
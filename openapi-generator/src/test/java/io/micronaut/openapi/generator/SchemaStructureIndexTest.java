@@ -0,0 +1,53 @@
+package io.micronaut.openapi.generator;
+
+import java.io.IOException;
+
+import io.swagger.v3.oas.models.media.IntegerSchema;
+import io.swagger.v3.oas.models.media.ObjectSchema;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.media.StringSchema;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class SchemaStructureIndexTest {
+
+    @Test
+    void testFindSchemaWithSameStructure() throws IOException {
+        var index = new SchemaStructureIndex();
+        index.add("Pet", pet("name"));
+
+        assertEquals("Pet", index.find(pet("name")));
+        assertNull(index.find(pet("nickname")));
+        assertNull(index.find(new ObjectSchema().addProperty("name", new IntegerSchema())));
+    }
+
+    @Test
+    void testLastAddedSchemaWins() throws IOException {
+        var index = new SchemaStructureIndex();
+        index.add("Pet", pet("name"));
+        index.add("Animal", pet("name"));
+        index.add("Other", pet("nickname"));
+
+        assertEquals("Animal", index.find(pet("name")));
+        assertEquals("Other", index.find(pet("nickname")));
+    }
+
+    @Test
+    void testSchemaChangedAfterAdding() throws IOException {
+        var index = new SchemaStructureIndex();
+        Schema<?> pet = pet("name");
+        index.add("Pet", pet);
+        pet.addProperty("owner", new Schema<>().$ref("#/components/schemas/Owner"));
+
+        // schema is matched by its structure at the moment, when it was added
+        assertEquals("Pet", index.find(pet("name")));
+    }
+
+    private static Schema<?> pet(String propertyName) {
+        return new ObjectSchema()
+            .addProperty(propertyName, new StringSchema())
+            .addProperty("age", new IntegerSchema());
+    }
+}
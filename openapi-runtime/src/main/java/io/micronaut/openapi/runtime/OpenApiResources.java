@@ -0,0 +1,215 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.openapi.runtime;
+
+import io.micronaut.context.annotation.Context;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.io.scan.ClassPathResourceLoader;
+import io.micronaut.core.util.StringUtils;
+import io.micronaut.http.MediaType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * In-memory copy of the OpenAPI specification files and views, generated at build time.
+ * <p>
+ * Files are found by the manifests, which are written next to them at build time: {@code spec-manifest.txt}
+ * in {@code META-INF/swagger} and {@code views-manifest.txt} in {@code META-INF/swagger/views}. Manifests contain
+ * content hashes of the files, they are used as ETags. All files are read once at startup, so serving them doesn't
+ * touch the disk.
+ * <p>
+ * Only these default locations are read: specification files and views, generated to custom directories,
+ * are not served. Missing manifests are reported at startup.
+ *
+ * @since 6.13.0
+ */
+@Internal
+@Context
+@Requires(property = OpenApiResourcesConfiguration.PREFIX + ".enabled", notEquals = StringUtils.FALSE, defaultValue = StringUtils.TRUE)
+public final class OpenApiResources {
+
+    static final String SPEC_DIR = "META-INF/swagger";
+    static final String SPEC_MANIFEST_FILE_NAME = "spec-manifest.txt";
+    static final String VIEWS_DIR = SPEC_DIR + "/views";
+    static final String VIEWS_MANIFEST_FILE_NAME = "views-manifest.txt";
+    static final String EXT_GZ = ".gz";
+    static final String INDEX_FILE_NAME = "index.html";
+
+    private static final Logger LOG = LoggerFactory.getLogger(OpenApiResources.class);
+    private static final char SLASH = '/';
+
+    private final ClassPathResourceLoader resourceLoader;
+    private final OpenApiResourcesConfiguration configuration;
+    private final Map<String, Resource> resources = new HashMap<>();
+
+    /**
+     * Load the resources.
+     *
+     * @param configuration configuration
+     */
+    OpenApiResources(OpenApiResourcesConfiguration configuration) {
+        this.resourceLoader = ClassPathResourceLoader.defaultLoader(OpenApiResources.class.getClassLoader());
+        this.configuration = configuration;
+        load(SPEC_DIR, SPEC_MANIFEST_FILE_NAME, configuration.getSpecMapping());
+        load(VIEWS_DIR, VIEWS_MANIFEST_FILE_NAME, configuration.getViewsMapping());
+        LOG.debug("Loaded {} OpenAPI resources", resources.size());
+    }
+
+    /**
+     * Find resource by the request path.
+     *
+     * @param path request path without the server context path
+     *
+     * @return the resource or {@code null}, if there is no resource with this path
+     */
+    @Nullable
+    public Resource find(String path) {
+        return resources.get(path);
+    }
+
+    private void load(String dir, String manifestFileName, String mapping) {
+        Map<String, String> manifest = readManifest(dir + SLASH + manifestFileName);
+        if (manifest == null) {
+            if (SPEC_MANIFEST_FILE_NAME.equals(manifestFileName)) {
+                LOG.warn("OpenAPI manifest {}/{} not found, specification files are not served. Enable it with micronaut.openapi.resources.manifest.enabled=true "
+                    + "and generate the specification to the default directory", dir, manifestFileName);
+            } else {
+                // views are optional
+                LOG.info("OpenAPI views manifest {}/{} not found, views are not served", dir, manifestFileName);
+            }
+            return;
+        }
+        String prefix = normalizeMapping(mapping);
+        for (var entry : manifest.entrySet()) {
+            String path = entry.getKey();
+            if (path.endsWith(EXT_GZ) && manifest.containsKey(path.substring(0, path.length() - EXT_GZ.length()))) {
+                // compressed variant, it's loaded together with the original file
+                continue;
+            }
+            byte[] content = read(dir + SLASH + path);
+            if (content == null) {
+                continue;
+            }
+            String hash = entry.getValue();
+            String gzHash = manifest.get(path + EXT_GZ);
+            byte[] gzContent = gzHash != null ? read(dir + SLASH + path + EXT_GZ) : null;
+            var resource = new Resource(
+                content,
+                MediaType.forFilename(path).toString(),
+                etag(hash),
+                gzContent,
+                gzContent != null ? etag(gzHash) : null,
+                isHashed(path, hash) ? configuration.getHashedCacheControl() : configuration.getCacheControl()
+            );
+            String url = prefix + SLASH + path;
+            resources.put(url, resource);
+            if (url.endsWith(SLASH + INDEX_FILE_NAME)) {
+                // view index is also served by the directory path, but never from the root path
+                String dirUrl = url.substring(0, url.length() - INDEX_FILE_NAME.length() - 1);
+                if (!dirUrl.isEmpty()) {
+                    resources.put(dirUrl, resource);
+                    resources.put(dirUrl + SLASH, resource);
+                }
+            }
+        }
+    }
+
+    @Nullable
+    private Map<String, String> readManifest(String manifestPath) {
+        byte[] content = read(manifestPath);
+        if (content == null) {
+            return null;
+        }
+        var manifest = new LinkedHashMap<String, String>();
+        for (String line : new String(content, StandardCharsets.UTF_8).split("\n")) {
+            int index = line.lastIndexOf('=');
+            if (index > 0) {
+                manifest.put(line.substring(0, index), line.substring(index + 1).trim());
+            }
+        }
+        return manifest;
+    }
+
+    @Nullable
+    private byte[] read(String path) {
+        Optional<InputStream> in = resourceLoader.getResourceAsStream(path);
+        if (in.isEmpty()) {
+            return null;
+        }
+        try (InputStream inputStream = in.get()) {
+            return inputStream.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to read OpenAPI resource " + path, e);
+        }
+    }
+
+    /**
+     * Mapping without trailing slash: {@code "/" -> ""}, {@code "swagger/" -> "/swagger"}.
+     */
+    private static String normalizeMapping(String mapping) {
+        String result = mapping == null ? StringUtils.EMPTY_STRING : mapping.trim();
+        if (!result.isEmpty() && result.charAt(0) != SLASH) {
+            result = SLASH + result;
+        }
+        while (!result.isEmpty() && result.charAt(result.length() - 1) == SLASH) {
+            result = result.substring(0, result.length() - 1);
+        }
+        return result;
+    }
+
+    /**
+     * Hashed files contain their content hash in the name: {@code swagger.0123456789abcdef.yml}.
+     */
+    private static boolean isHashed(String path, String hash) {
+        String fileName = path.substring(path.lastIndexOf(SLASH) + 1);
+        return fileName.contains("." + hash + ".") || fileName.endsWith("." + hash);
+    }
+
+    private static String etag(String hash) {
+        return '"' + hash + '"';
+    }
+
+    /**
+     * Loaded resource.
+     *
+     * @param content file content
+     * @param contentType content type
+     * @param etag strong ETag of the content
+     * @param gzContent gzip-compressed content, if it was generated
+     * @param gzEtag strong ETag of the compressed content
+     * @param cacheControl Cache-Control header value
+     */
+    public record Resource(
+        byte[] content,
+        String contentType,
+        String etag,
+        @Nullable byte[] gzContent,
+        @Nullable String gzEtag,
+        String cacheControl
+    ) {
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.openapi.runtime;
+
+import io.micronaut.context.annotation.ConfigurationProperties;
+import io.micronaut.core.util.Toggleable;
+
+/**
+ * Configuration of serving the generated OpenAPI specification files and views.
+ *
+ * @since 6.13.0
+ */
+@ConfigurationProperties(OpenApiResourcesConfiguration.PREFIX)
+public class OpenApiResourcesConfiguration implements Toggleable {
+
+    /**
+     * The prefix of the configuration properties.
+     */
+    public static final String PREFIX = "micronaut.openapi.runtime";
+    /**
+     * Default value of {@link #isEnabled()}.
+     */
+    public static final boolean DEFAULT_ENABLED = true;
+    /**
+     * Default value of {@link #getSpecMapping()}.
+     */
+    public static final String DEFAULT_SPEC_MAPPING = "/swagger";
+    /**
+     * Default value of {@link #getViewsMapping()}.
+     */
+    public static final String DEFAULT_VIEWS_MAPPING = "/";
+    /**
+     * Default value of {@link #getCacheControl()}.
+     */
+    public static final String DEFAULT_CACHE_CONTROL = "no-cache";
+    /**
+     * Default value of {@link #getHashedCacheControl()}.
+     */
+    public static final String DEFAULT_HASHED_CACHE_CONTROL = "public, max-age=31536000, immutable";
+
+    private boolean enabled = DEFAULT_ENABLED;
+    private String specMapping = DEFAULT_SPEC_MAPPING;
+    private String viewsMapping = DEFAULT_VIEWS_MAPPING;
+    private String cacheControl = DEFAULT_CACHE_CONTROL;
+    private String hashedCacheControl = DEFAULT_HASHED_CACHE_CONTROL;
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Whether the specification files and views are served. Default value ({@value #DEFAULT_ENABLED}).
+     *
+     * @param enabled enabled flag
+     */
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * @return the path, the specification files are served from
+     */
+    public String getSpecMapping() {
+        return specMapping;
+    }
+
+    /**
+     * The path, the specification files from {@code META-INF/swagger} are served from. It must be the same
+     * as {@code mapping.path} of the views. Default value ({@value #DEFAULT_SPEC_MAPPING}).
+     *
+     * @param specMapping the path
+     */
+    public void setSpecMapping(String specMapping) {
+        this.specMapping = specMapping;
+    }
+
+    /**
+     * @return the path, the views are served from
+     */
+    public String getViewsMapping() {
+        return viewsMapping;
+    }
+
+    /**
+     * The path, the views from {@code META-INF/swagger/views} are served from, e.g. Swagger UI is served
+     * from {@code /swagger-ui} by default. Default value ({@value #DEFAULT_VIEWS_MAPPING}).
+     *
+     * @param viewsMapping the path
+     */
+    public void setViewsMapping(String viewsMapping) {
+        this.viewsMapping = viewsMapping;
+    }
+
+    /**
+     * @return the Cache-Control header value of the files without content hash in the name
+     */
+    public String getCacheControl() {
+        return cacheControl;
+    }
+
+    /**
+     * The Cache-Control header value of the files without content hash in the name. These files are revalidated
+     * with their ETags. Default value ({@value #DEFAULT_CACHE_CONTROL}).
+     *
+     * @param cacheControl the header value
+     */
+    public void setCacheControl(String cacheControl) {
+        this.cacheControl = cacheControl;
+    }
+
+    /**
+     * @return the Cache-Control header value of the files with content hash in the name
+     */
+    public String getHashedCacheControl() {
+        return hashedCacheControl;
+    }
+
+    /**
+     * The Cache-Control header value of the files with content hash in the name (see
+     * {@code micronaut.openapi.resources.hash.enabled}). Their content never changes, so they can be cached
+     * for a long time. Default value ({@value #DEFAULT_HASHED_CACHE_CONTROL}).
+     *
+     * @param hashedCacheControl the header value
+     */
+    public void setHashedCacheControl(String hashedCacheControl) {
+        this.hashedCacheControl = hashedCacheControl;
+    }
+}
@@ -0,0 +1,169 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.openapi.runtime;
+
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.context.annotation.Value;
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.order.Ordered;
+import io.micronaut.http.HttpHeaders;
+import io.micronaut.http.HttpMethod;
+import io.micronaut.http.HttpRequest;
+import io.micronaut.http.HttpResponse;
+import io.micronaut.http.MutableHttpResponse;
+import io.micronaut.http.annotation.RequestFilter;
+import io.micronaut.http.annotation.ServerFilter;
+import io.micronaut.http.filter.ServerFilterPhase;
+import io.micronaut.openapi.runtime.OpenApiResources.Resource;
+
+import java.util.Locale;
+
+/**
+ * Serves the OpenAPI specification files and views from memory.
+ * <p>
+ * Responses have strong ETags, computed at build time, and {@code If-None-Match} requests are answered with
+ * {@code 304 Not Modified}. Precompressed gzip variants are sent to the clients, which accept them. Everything
+ * is served on the event loop without blocking. The filter runs after security filters, so the resources can be
+ * secured the same way as other endpoints.
+ *
+ * @since 6.13.0
+ */
+@Internal
+@ServerFilter(ServerFilter.MATCH_ALL_PATTERN)
+@Requires(beans = OpenApiResources.class)
+public final class OpenApiResourcesFilter implements Ordered {
+
+    private static final String GZIP = "gzip";
+    private static final String WEAK_ETAG_PREFIX = "W/";
+
+    private final OpenApiResources resources;
+    private final String contextPath;
+
+    /**
+     * Create filter.
+     *
+     * @param resources loaded resources
+     * @param contextPath server context path
+     */
+    OpenApiResourcesFilter(OpenApiResources resources, @Value("${micronaut.server.context-path:}") String contextPath) {
+        this.resources = resources;
+        this.contextPath = contextPath.endsWith("/") ? contextPath.substring(0, contextPath.length() - 1) : contextPath;
+    }
+
+    /**
+     * Respond with the resource, if request path is a path of OpenAPI resource.
+     *
+     * @param request request
+     *
+     * @return response or {@code null}, if it's not a request of OpenAPI resource
+     */
+    @RequestFilter
+    @Nullable
+    public HttpResponse<?> serveResource(HttpRequest<?> request) {
+        HttpMethod method = request.getMethod();
+        if (method != HttpMethod.GET && method != HttpMethod.HEAD) {
+            return null;
+        }
+        String path = request.getPath();
+        if (!contextPath.isEmpty()) {
+            if (!path.startsWith(contextPath)) {
+                return null;
+            }
+            path = path.substring(contextPath.length());
+        }
+        Resource resource = resources.find(path);
+        if (resource == null) {
+            return null;
+        }
+
+        HttpHeaders headers = request.getHeaders();
+        boolean gzip = resource.gzContent() != null && acceptsGzip(headers.get(HttpHeaders.ACCEPT_ENCODING));
+        String etag = gzip ? resource.gzEtag() : resource.etag();
+        MutableHttpResponse<?> response;
+        if (matchesEtag(headers.get(HttpHeaders.IF_NONE_MATCH), etag)) {
+            response = HttpResponse.notModified();
+        } else {
+            // body of HEAD response is dropped by the server codec, headers are the same as for GET
+            response = HttpResponse.ok(gzip ? resource.gzContent() : resource.content())
+                .contentType(resource.contentType());
+            if (gzip) {
+                response.header(HttpHeaders.CONTENT_ENCODING, GZIP);
+            }
+        }
+        response.header(HttpHeaders.ETAG, etag)
+            .header(HttpHeaders.CACHE_CONTROL, resource.cacheControl());
+        if (resource.gzContent() != null) {
+            response.header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        }
+        return response;
+    }
+
+    @Override
+    public int getOrder() {
+        return ServerFilterPhase.RENDERING.order();
+    }
+
+    /**
+     * Check, that {@code Accept-Encoding} header allows gzip: {@code gzip} or {@code *} without {@code q=0}.
+     */
+    static boolean acceptsGzip(@Nullable String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.split(";");
+            String name = parts[0].trim().toLowerCase(Locale.US);
+            if (!name.equals(GZIP) && !name.equals("*")) {
+                continue;
+            }
+            boolean rejected = false;
+            for (int i = 1; i < parts.length; i++) {
+                String param = parts[i].trim();
+                if (param.startsWith("q=")) {
+                    try {
+                        rejected = Double.parseDouble(param.substring(2)) <= 0;
+                    } catch (NumberFormatException e) {
+                        rejected = true;
+                    }
+                }
+            }
+            if (!rejected) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Check {@code If-None-Match} header with weak comparison, as required for this header.
+     */
+    static boolean matchesEtag(@Nullable String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            candidate = candidate.trim();
+            if (candidate.startsWith(WEAK_ETAG_PREFIX)) {
+                candidate = candidate.substring(WEAK_ETAG_PREFIX.length());
+            }
+            if (candidate.equals("*") || candidate.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,118 @@
+package io.micronaut.openapi.runtime;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+
+import io.micronaut.runtime.server.EmbeddedServer;
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@MicronautTest
+class OpenApiResourcesFilterTest {
+
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    @Inject
+    EmbeddedServer server;
+
+    @Test
+    void testSpecFileWithEtag() throws Exception {
+        HttpResponse<String> response = get("/swagger/demo-1.0.yml", null, null);
+
+        assertEquals(200, response.statusCode());
+        assertTrue(response.body().contains("title: demo"));
+        assertEquals("\"bea138d80a770cdb\"", response.headers().firstValue("ETag").orElse(null));
+        assertEquals("no-cache", response.headers().firstValue("Cache-Control").orElse(null));
+        assertEquals("Accept-Encoding", response.headers().firstValue("Vary").orElse(null));
+        assertFalse(response.headers().firstValue("Content-Encoding").isPresent());
+    }
+
+    @Test
+    void testNotModified() throws Exception {
+        HttpResponse<String> response = get("/swagger/demo-1.0.yml", "\"bea138d80a770cdb\"", null);
+
+        assertEquals(304, response.statusCode());
+        assertEquals("\"bea138d80a770cdb\"", response.headers().firstValue("ETag").orElse(null));
+    }
+
+    @Test
+    void testPrecompressedVariant() throws Exception {
+        HttpResponse<byte[]> response = client.send(request("/swagger/demo-1.0.yml", null, "br;q=1.0, gzip;q=0.8"),
+            HttpResponse.BodyHandlers.ofByteArray());
+
+        assertEquals(200, response.statusCode());
+        assertEquals("gzip", response.headers().firstValue("Content-Encoding").orElse(null));
+        assertEquals("\"bbfd76ab82b053ec\"", response.headers().firstValue("ETag").orElse(null));
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(response.body()))) {
+            assertTrue(new String(in.readAllBytes(), StandardCharsets.UTF_8).contains("title: demo"));
+        }
+
+        assertEquals(304, get("/swagger/demo-1.0.yml", "\"bbfd76ab82b053ec\"", "gzip").statusCode());
+        assertEquals(200, get("/swagger/demo-1.0.yml", "\"bea138d80a770cdb\"", "gzip").statusCode());
+    }
+
+    @Test
+    void testHashedResourcesAreImmutable() throws Exception {
+        HttpResponse<String> response = get("/swagger/demo-1.0.bea138d80a770cdb.yml", null, null);
+        assertEquals(200, response.statusCode());
+        assertEquals(OpenApiResourcesConfiguration.DEFAULT_HASHED_CACHE_CONTROL, response.headers().firstValue("Cache-Control").orElse(null));
+
+        response = get("/swagger-ui/res/swagger-ui.535edfaf1983951a.css", null, null);
+        assertEquals(200, response.statusCode());
+        assertTrue(response.headers().firstValue("Content-Type").orElse("").startsWith("text/css"));
+        assertEquals(OpenApiResourcesConfiguration.DEFAULT_HASHED_CACHE_CONTROL, response.headers().firstValue("Cache-Control").orElse(null));
+    }
+
+    @Test
+    void testViewIndex() throws Exception {
+        for (String path : new String[] {"/swagger-ui", "/swagger-ui/", "/swagger-ui/index.html"}) {
+            HttpResponse<String> response = get(path, null, null);
+            assertEquals(200, response.statusCode(), path);
+            assertTrue(response.body().contains("res/swagger-ui.535edfaf1983951a.css"), path);
+            assertEquals("\"5651a100d746266d\"", response.headers().firstValue("ETag").orElse(null), path);
+        }
+    }
+
+    @Test
+    void testOtherPathsAreNotServed() throws Exception {
+        assertEquals(404, get("/swagger/spec-manifest.txt", null, null).statusCode());
+        assertEquals(404, get("/swagger/unknown.yml", null, null).statusCode());
+        assertEquals(404, get("/", null, null).statusCode());
+    }
+
+    @Test
+    void testAcceptsGzip() {
+        assertTrue(OpenApiResourcesFilter.acceptsGzip("gzip, deflate, br"));
+        assertTrue(OpenApiResourcesFilter.acceptsGzip("*"));
+        assertFalse(OpenApiResourcesFilter.acceptsGzip("gzip;q=0"));
+        assertFalse(OpenApiResourcesFilter.acceptsGzip("br, deflate"));
+        assertFalse(OpenApiResourcesFilter.acceptsGzip(null));
+    }
+
+    private HttpResponse<String> get(String path, String ifNoneMatch, String acceptEncoding) throws IOException, InterruptedException {
+        return client.send(request(path, ifNoneMatch, acceptEncoding), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private HttpRequest request(String path, String ifNoneMatch, String acceptEncoding) {
+        var builder = HttpRequest.newBuilder(URI.create(server.getURL() + path));
+        if (ifNoneMatch != null) {
+            builder.header("If-None-Match", ifNoneMatch);
+        }
+        if (acceptEncoding != null) {
+            builder.header("Accept-Encoding", acceptEncoding);
+        }
+        return builder.build();
+    }
+}
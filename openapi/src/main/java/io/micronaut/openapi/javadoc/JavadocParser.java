@@ -15,11 +15,17 @@
  */
 package io.micronaut.openapi.javadoc;
 
+import java.util.Map;
+import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
 
 import io.micronaut.core.util.CollectionUtils;
 
 import com.github.chhorz.javadoc.JavaDoc;
+import com.github.chhorz.javadoc.JavaDocParser;
 import com.github.chhorz.javadoc.JavaDocParserBuilder;
 import com.github.chhorz.javadoc.OutputType;
 import com.github.chhorz.javadoc.tags.ParamTag;
@@ -30,16 +36,48 @@ import com.vladsch.flexmark.html2md.converter.FlexmarkHtmlConverter;
 /**
  * Very simple javadoc parser that can used to parse out the first paragraph description and parameter / return descriptions.
  * Most other tags are simply stripped and ignored.
+ * <p>
+ * Parser is thread-safe and can be reused. Parsing doesn't take locks: every thread borrows its own
+ * javadoc parser and html converter from a pool. Parsed descriptions are cached by javadoc text,
+ * so the same documentation, for example of the type referenced many times, is parsed only once.
  *
  * @author graemerocher
  * @since 1.0
  */
 public class JavadocParser {
 
+    /**
+     * Default maximum number of cached parsed javadocs.
+     */
+    public static final int DEFAULT_CACHE_SIZE = 2048;
+
     private static final Set<String> IGNORED = CollectionUtils.setOf("see", "since", "author", "version", "deprecated", "throws", "exception", "category");
 
-    private final FlexmarkHtmlConverter htmlToMarkdownConverter = FlexmarkHtmlConverter.builder()
-        .build();
+    private final Queue<Parsers> parsersPool = new ConcurrentLinkedQueue<>();
+
+    private final int maxCacheSize;
+    private final Map<String, JavadocDescription> cache = new ConcurrentHashMap<>();
+    private final LongAdder cacheHits = new LongAdder();
+    private final LongAdder cacheMisses = new LongAdder();
+
+    /**
+     * Default constructor.
+     */
+    public JavadocParser() {
+        this(DEFAULT_CACHE_SIZE);
+    }
+
+    /**
+     * Constructor with custom cache size.
+     *
+     * @param maxCacheSize maximum number of cached parsed javadocs, {@code 0} disables cache.
+     * When the cache is full, it's cleared.
+     *
+     * @since 6.13.0
+     */
+    public JavadocParser(int maxCacheSize) {
+        this.maxCacheSize = maxCacheSize;
+    }
 
     /**
      * Parse the javadoc in a {@link JavadocDescription}.
@@ -54,10 +92,75 @@ public class JavadocParser {
             return null;
         }
 
-        var javaDocParser = JavaDocParserBuilder
-            .withAllKnownTags()
-            .withOutputType(OutputType.HTML)
-            .build();
+        JavadocDescription javadocDescription = cache.get(text);
+        if (javadocDescription != null) {
+            cacheHits.increment();
+        } else {
+            cacheMisses.increment();
+            javadocDescription = doParse(text);
+            if (maxCacheSize > 0) {
+                if (cache.size() >= maxCacheSize) {
+                    cache.clear();
+                }
+                cache.put(text, javadocDescription);
+            }
+        }
+
+        // return copy, because description is mutable
+        return copy(javadocDescription);
+    }
+
+    /**
+     * @return number of parse calls served from the cache
+     *
+     * @since 6.13.0
+     */
+    public long getCacheHits() {
+        return cacheHits.sum();
+    }
+
+    /**
+     * @return number of parse calls, which required parsing of the javadoc text
+     *
+     * @since 6.13.0
+     */
+    public long getCacheMisses() {
+        return cacheMisses.sum();
+    }
+
+    /**
+     * Clear cache of parsed javadocs and reset counters.
+     *
+     * @since 6.13.0
+     */
+    public void clearCache() {
+        cache.clear();
+        cacheHits.reset();
+        cacheMisses.reset();
+    }
+
+    private static JavadocDescription copy(JavadocDescription source) {
+        var javadocDescription = new JavadocDescription();
+        javadocDescription.setMethodSummary(source.getMethodSummary());
+        javadocDescription.setMethodDescription(source.getMethodDescription());
+        javadocDescription.setReturnDescription(source.getReturnDescription());
+        javadocDescription.getParameters().putAll(source.getParameters());
+        return javadocDescription;
+    }
+
+    private JavadocDescription doParse(String text) {
+        Parsers parsers = parsersPool.poll();
+        if (parsers == null) {
+            parsers = new Parsers();
+        }
+        try {
+            return doParse(text, parsers.javaDocParser, parsers.htmlToMarkdownConverter);
+        } finally {
+            parsersPool.offer(parsers);
+        }
+    }
+
+    private static JavadocDescription doParse(String text, JavaDocParser javaDocParser, FlexmarkHtmlConverter htmlToMarkdownConverter) {
 
         JavaDoc javaDoc = javaDocParser.parse(text.strip());
 
@@ -84,4 +187,18 @@ public class JavadocParser {
 
         return javadocDescription;
     }
+
+    /**
+     * Javadoc parser and html converter, which are used by one thread at a time.
+     */
+    private static final class Parsers {
+
+        private final JavaDocParser javaDocParser = JavaDocParserBuilder
+            .withAllKnownTags()
+            .withOutputType(OutputType.HTML)
+            .build();
+
+        private final FlexmarkHtmlConverter htmlToMarkdownConverter = FlexmarkHtmlConverter.builder()
+            .build();
+    }
 }
@@ -24,7 +24,6 @@ import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.media.Schema;
 import io.swagger.v3.oas.models.media.StringSchema;
 
-import static io.micronaut.openapi.visitor.SchemaUtils.setSpecVersion;
 import static io.swagger.v3.oas.models.Components.COMPONENTS_SCHEMAS_REF;
 
 /**
@@ -59,7 +58,8 @@ public class JacksonDiscriminatorPostProcessor {
         for (String s : schemasToUpdate) {
             Schema<?> schema = openAPI.getComponents().getSchemas().get(extractComponentSchemaName(s));
             if (schema.getProperties() != null && !schema.getProperties().containsKey(discriminatorProperty)) {
-                schema.addProperty(discriminatorProperty, setSpecVersion(new StringSchema()));
+                // property gets the spec version of the schema, it's added to
+                schema.addProperty(discriminatorProperty, new StringSchema().specVersion(schema.getSpecVersion()));
             }
         }
     }
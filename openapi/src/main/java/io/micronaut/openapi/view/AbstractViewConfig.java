@@ -207,7 +207,8 @@ abstract class AbstractViewConfig implements Toggleable {
                 }
 
                 cfg.getFinalUrlPrefix(OpenApiViewConfig.RendererType.SWAGGER_UI, context);
-                String groupUrl = cfg.urlPrefix + (!cfg.urlPrefix.endsWith(SLASH) ? "/swagger/" : "swagger/") + openApiInfo.getFilename();
+                String filename = openApiInfo.getHashedFilename() != null ? openApiInfo.getHashedFilename() : openApiInfo.getFilename();
+                String groupUrl = cfg.urlPrefix + (!cfg.urlPrefix.endsWith(SLASH) ? "/swagger/" : "swagger/") + filename;
                 urls.add(new OpenApiUrl(groupUrl, groupName));
             }
             cfg.urls = urls;
@@ -22,11 +22,11 @@ import io.micronaut.core.util.CollectionUtils;
 import io.micronaut.core.util.StringUtils;
 import io.micronaut.inject.visitor.VisitorContext;
 import io.micronaut.openapi.visitor.ContextUtils;
+import io.micronaut.openapi.visitor.FileUtils;
 import io.micronaut.openapi.visitor.Pair;
 import io.micronaut.openapi.visitor.group.OpenApiInfo;
 
 import java.io.BufferedReader;
-import java.io.BufferedWriter;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
@@ -34,15 +34,22 @@ import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.nio.file.StandardCopyOption;
-import java.nio.file.StandardOpenOption;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Properties;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 
+import static io.micronaut.openapi.visitor.ConfigUtils.getBooleanProperty;
 import static io.micronaut.openapi.visitor.ConfigUtils.getConfigProperty;
 import static io.micronaut.openapi.visitor.ConfigUtils.getProjectPath;
 import static io.micronaut.openapi.visitor.ContextUtils.addGeneratedResource;
@@ -50,6 +57,8 @@ import static io.micronaut.openapi.visitor.ContextUtils.info;
 import static io.micronaut.openapi.visitor.ContextUtils.warn;
 import static io.micronaut.openapi.visitor.FileUtils.readFile;
 import static io.micronaut.openapi.visitor.FileUtils.resolve;
+import static io.micronaut.openapi.visitor.OpenApiConfigProperty.MICRONAUT_OPENAPI_RESOURCES_GZIP_ENABLED;
+import static io.micronaut.openapi.visitor.OpenApiConfigProperty.MICRONAUT_OPENAPI_RESOURCES_HASH_ENABLED;
 import static io.micronaut.openapi.visitor.OpenApiConfigProperty.MICRONAUT_SERVER_CONTEXT_PATH;
 import static io.micronaut.openapi.visitor.StringUtil.COMMA;
 import static io.micronaut.openapi.visitor.StringUtil.DOLLAR;
@@ -84,6 +93,8 @@ public final class OpenApiViewConfig {
     private static final String SWAGGER_UI = "swagger-ui";
     private static final String OPENAPI_EXPLORER = "openapi-explorer";
     private static final String TEMPLATE_OAUTH_2_REDIRECT_HTML = "oauth2-redirect.html";
+    private static final String MANIFEST_FILE_NAME = "views-manifest.txt";
+    private static final Set<String> COMPRESSIBLE_EXTENSIONS = Set.of("html", "js", "css", "json", "yml", "yaml", "map", "svg", "txt");
 
     private String mappingPath;
     private String title;
@@ -94,6 +105,10 @@ public final class OpenApiViewConfig {
     private RapidocConfig rapidocConfig;
     private OpenApiExplorerConfig openApiExplorerConfig;
     private final Map<Pair<String, String>, OpenApiInfo> openApiInfos;
+    /**
+     * Content of the views and resources of the current render by file path.
+     */
+    private final Map<Path, byte[]> files = new LinkedHashMap<>();
 
     /**
      * The Renderer types.
@@ -199,6 +214,7 @@ public final class OpenApiViewConfig {
      * @throws IOException When the generation fails.
      */
     public void render(Path outputDir, VisitorContext context) throws IOException {
+        files.clear();
         if (redocConfig != null) {
             copyResources(outputDir, context, REDOC, TEMPLATES_REDOC, redocConfig, redocConfig.rapiPDFConfig);
         }
@@ -220,6 +236,121 @@ public final class OpenApiViewConfig {
             }
             copySwaggerUiTheme(swaggerUIConfig, swaggerUiDir, TEMPLATES_SWAGGER_UI, context);
         }
+        if (getBooleanProperty(MICRONAUT_OPENAPI_RESOURCES_HASH_ENABLED, false, context)) {
+            addHashedResources();
+        }
+        if (getBooleanProperty(MICRONAUT_OPENAPI_RESOURCES_GZIP_ENABLED, false, context)) {
+            addGzippedResources();
+        }
+        writeFiles(outputDir, context);
+    }
+
+    /**
+     * Add copies of the view resources with content hash in the file names and replace
+     * references to the resources in the rendered views by the hashed names.
+     */
+    private void addHashedResources() {
+        // resource file names by view directory
+        var hashedNamesByDir = new HashMap<Path, Map<String, String>>();
+        var hashedFiles = new LinkedHashMap<Path, byte[]>();
+        for (var entry : files.entrySet()) {
+            Path resDir = entry.getKey().getParent();
+            if (resDir == null || !RESOURCE_DIR.equals(String.valueOf(resDir.getFileName()))) {
+                continue;
+            }
+            String fileName = entry.getKey().getFileName().toString();
+            String hashedFileName = FileUtils.addContentHash(fileName, FileUtils.contentHash(entry.getValue()));
+            hashedFiles.put(resDir.resolve(hashedFileName), entry.getValue());
+            hashedNamesByDir.computeIfAbsent(resDir.getParent(), k -> new HashMap<>()).put(fileName, hashedFileName);
+        }
+        for (var entry : files.entrySet()) {
+            Map<String, String> hashedNames = hashedNamesByDir.get(entry.getKey().getParent());
+            if (hashedNames == null || !entry.getKey().getFileName().toString().endsWith(".html")) {
+                continue;
+            }
+            // only references like ".../res/name.js" are replaced, so urls with custom js url prefix are kept as is
+            var pattern = Pattern.compile("(?<=" + RESOURCE_DIR + SLASH + ")(" + hashedNames.keySet().stream()
+                .sorted(Comparator.comparingInt(String::length).reversed())
+                .map(Pattern::quote)
+                .collect(Collectors.joining("|")) + ")(?=[\"'?#])");
+            String html = new String(entry.getValue(), StandardCharsets.UTF_8);
+            String replaced = pattern.matcher(html).replaceAll(m -> Matcher.quoteReplacement(hashedNames.get(m.group(1))));
+            entry.setValue(replaced.getBytes(StandardCharsets.UTF_8));
+        }
+        files.putAll(hashedFiles);
+    }
+
+    /**
+     * Add gzip-compressed copies of the rendered views and text view resources.
+     */
+    private void addGzippedResources() throws IOException {
+        var gzFiles = new LinkedHashMap<Path, byte[]>();
+        for (var entry : files.entrySet()) {
+            String fileName = entry.getKey().getFileName().toString();
+            String ext = fileName.substring(fileName.lastIndexOf('.') + 1).toLowerCase(Locale.US);
+            if (COMPRESSIBLE_EXTENSIONS.contains(ext)) {
+                gzFiles.put(entry.getKey().resolveSibling(fileName + FileUtils.EXT_GZ), FileUtils.gzip(entry.getValue()));
+            }
+        }
+        files.putAll(gzFiles);
+    }
+
+    /**
+     * Write views and resources to the output directory. Files are written only if their content was changed
+     * since the previous render, files from the previous render, which aren't generated anymore, are removed.
+     * Content hashes of the written files are saved to the manifest file in the output directory.
+     *
+     * @param outputDir views output directory
+     * @param context visitor context
+     */
+    private void writeFiles(Path outputDir, @Nullable VisitorContext context) throws IOException {
+        Path manifestFile = outputDir.resolve(MANIFEST_FILE_NAME);
+        Map<String, String> prevManifest = readManifest(manifestFile);
+        var manifest = new TreeMap<String, String>();
+        var classesOutputPath = ContextUtils.getClassesOutputPath(context);
+        for (var entry : files.entrySet()) {
+            Path file = entry.getKey();
+            byte[] content = entry.getValue();
+            String relativePath = outputDir.relativize(file).toString().replace('\\', '/');
+            String hash = FileUtils.contentHash(content);
+            manifest.put(relativePath, hash);
+            if (!hash.equals(prevManifest.get(relativePath)) || !Files.exists(file) || Files.size(file) != content.length) {
+                info((relativePath.endsWith(".html") ? "Writing OpenAPI View to destination: " : "Writing OpenAPI View Resources to destination: ") + file, context);
+                Files.createDirectories(file.getParent());
+                Files.write(file, content);
+            }
+            if (classesOutputPath != null) {
+                // add relative path for the file, so that the micronaut-graal visitor knows about it
+                addGeneratedResource(classesOutputPath.relativize(file).toString(), context);
+            }
+        }
+        for (String relativePath : prevManifest.keySet()) {
+            if (!manifest.containsKey(relativePath)) {
+                Files.deleteIfExists(outputDir.resolve(relativePath));
+            }
+        }
+        if (!manifest.equals(prevManifest)) {
+            var manifestContent = new StringBuilder();
+            for (var entry : manifest.entrySet()) {
+                manifestContent.append(entry.getKey()).append('=').append(entry.getValue()).append('\n');
+            }
+            Files.createDirectories(outputDir);
+            Files.writeString(manifestFile, manifestContent);
+        }
+    }
+
+    private static Map<String, String> readManifest(Path manifestFile) throws IOException {
+        var manifest = new HashMap<String, String>();
+        if (!Files.exists(manifestFile)) {
+            return manifest;
+        }
+        for (String line : Files.readAllLines(manifestFile)) {
+            int index = line.lastIndexOf('=');
+            if (index > 0) {
+                manifest.put(line.substring(0, index), line.substring(index + 1));
+            }
+        }
+        return manifest;
     }
 
     private Path copyResources(@NonNull Path outputDir,
@@ -237,7 +368,7 @@ public final class OpenApiViewConfig {
         return dir;
     }
 
-    private void copySwaggerUiTheme(SwaggerUIConfig cfg, Path outputDir, String templatesDir, VisitorContext context) throws IOException {
+    private void copySwaggerUiTheme(SwaggerUIConfig cfg, Path outputDir, String templatesDir, VisitorContext context) {
 
         if (!cfg.copyTheme) {
             return;
@@ -245,62 +376,28 @@ public final class OpenApiViewConfig {
 
         String themeFileName = cfg.theme.getCss() + ".css";
 
-        Path resDir = outputDir.resolve(RESOURCE_DIR);
-        if (!Files.exists(resDir)) {
-            Files.createDirectories(resDir);
-        }
-
         ClassLoader classLoader = getClass().getClassLoader();
-        try {
-            InputStream is = classLoader.getResourceAsStream(TEMPLATES + SLASH + templatesDir + SLASH + THEMES_DIR + SLASH + themeFileName);
-
-            Files.copy(is, Paths.get(resDir.toString(), themeFileName), StandardCopyOption.REPLACE_EXISTING);
-            Path file = resDir.resolve(themeFileName);
-            if (context != null) {
-                info("Writing OpenAPI View Resources to destination: " + file, context);
-                var classesOutputPath = ContextUtils.getClassesOutputPath(context);
-                if (classesOutputPath != null) {
-                    // add relative path for the file, so that the micronaut-graal visitor knows about it
-                    addGeneratedResource(classesOutputPath.relativize(file).toString(), context);
-                }
-            }
+        try (InputStream is = classLoader.getResourceAsStream(TEMPLATES + SLASH + templatesDir + SLASH + THEMES_DIR + SLASH + themeFileName)) {
+            files.put(outputDir.resolve(RESOURCE_DIR).resolve(themeFileName), is.readAllBytes());
         } catch (Exception e) {
             warn("Can't copy resource: " + themeFileName, context);
             throw new RuntimeException(e);
         }
     }
 
-    private void copyResources(AbstractViewConfig cfg, Path outputDir, String templateDir, List<String> resources, VisitorContext context) throws IOException {
-        if (!cfg.copyResources) {
+    private void copyResources(AbstractViewConfig cfg, Path outputDir, String templateDir, List<String> resources, VisitorContext context) {
+        if (!cfg.copyResources || CollectionUtils.isEmpty(resources)) {
             return;
         }
 
         ClassLoader classLoader = getClass().getClassLoader();
 
-        Path outputResDir = outputDir.resolve(RESOURCE_DIR);
-        if (!Files.exists(outputResDir)) {
-            Files.createDirectories(outputResDir);
-        }
-
-        if (CollectionUtils.isNotEmpty(resources)) {
-            for (String resource : resources) {
-                try {
-                    InputStream is = classLoader.getResourceAsStream(TEMPLATES + SLASH + templateDir + SLASH + resource);
-                    Files.copy(is, Paths.get(outputDir.toString(), resource), StandardCopyOption.REPLACE_EXISTING);
-                    Path file = outputResDir.resolve(resource);
-
-                    if (context != null) {
-                        info("Writing OpenAPI View Resources to destination: " + file, context);
-                        var classesOutputPath = ContextUtils.getClassesOutputPath(context);
-                        if (classesOutputPath != null) {
-                            // add relative path for the file, so that the micronaut-graal visitor knows about it
-                            addGeneratedResource(classesOutputPath.relativize(file).toString(), context);
-                        }
-                    }
-                } catch (Exception e) {
-                    warn("Can't copy resource: " + resource, context);
-                    throw new RuntimeException(e);
-                }
+        for (String resource : resources) {
+            try (InputStream is = classLoader.getResourceAsStream(TEMPLATES + SLASH + templateDir + SLASH + resource)) {
+                files.put(outputDir.resolve(resource), is.readAllBytes());
+            } catch (Exception e) {
+                warn("Can't copy resource: " + resource, context);
+                throw new RuntimeException(e);
             }
         }
     }
@@ -372,22 +469,8 @@ public final class OpenApiViewConfig {
         template = cfg.render(template, context);
         template = replacePlaceHolder(template, "specURL", getSpecURL(cfg, context), StringUtils.EMPTY_STRING);
         template = replacePlaceHolder(template, "title", title, StringUtils.EMPTY_STRING);
-        if (!Files.exists(outputDir)) {
-            Files.createDirectories(outputDir);
-        }
         String fileName = templateName.substring(templateName.lastIndexOf(SLASH) + 1);
-        Path file = outputDir.resolve(fileName);
-        info("Writing OpenAPI View to destination: " + file, context);
-        var classesOutputPath = ContextUtils.getClassesOutputPath(context);
-        if (classesOutputPath != null) {
-            // add relative path for the file, so that the micronaut-graal visitor knows about it
-            addGeneratedResource(classesOutputPath.relativize(file).toString(), context);
-        }
-        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8,
-            StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)
-        ) {
-            writer.write(template);
-        }
+        files.put(outputDir.resolve(fileName), template.getBytes(StandardCharsets.UTF_8));
     }
 
     /**
@@ -26,7 +26,6 @@ import io.micronaut.core.reflect.ClassUtils;
 import io.micronaut.core.type.Argument;
 import io.micronaut.core.util.ArrayUtils;
 import io.micronaut.core.util.CollectionUtils;
-import io.micronaut.core.util.PathMatcher;
 import io.micronaut.core.util.StringUtils;
 import io.micronaut.core.version.annotation.Version;
 import io.micronaut.http.HttpMethod;
@@ -62,7 +61,8 @@ import io.micronaut.openapi.swagger.core.util.PrimitiveType;
 import io.micronaut.openapi.visitor.group.EndpointGroupInfo;
 import io.micronaut.openapi.visitor.group.EndpointInfo;
 import io.micronaut.openapi.visitor.group.GroupProperties;
-import io.micronaut.openapi.visitor.group.GroupProperties.PackageProperties;
+import io.micronaut.openapi.visitor.group.PackageGroupsIndex;
+import io.micronaut.openapi.visitor.group.PackageGroupsIndex.PackageGroups;
 import io.micronaut.openapi.visitor.group.RouterVersioningProperties;
 import io.micronaut.openapi.visitor.security.InterceptUrlMapPattern;
 import io.micronaut.openapi.visitor.security.SecurityProperties;
@@ -193,6 +193,7 @@ import static io.micronaut.openapi.visitor.Utils.resolveWebhooks;
 public abstract class AbstractOpenApiEndpointVisitor extends AbstractOpenApiVisitor {
 
     private static final int MAX_SUMMARY_LENGTH = 200;
+    private static final String DEFAULT_MEDIA_TYPES_KEY = CollectionUtils.toString(DEFAULT_MEDIA_TYPES);
 
     protected List<Tag> classTags;
     protected ExternalDocumentation classExternalDocs;
@@ -204,6 +205,12 @@ public abstract class AbstractOpenApiEndpointVisitor extends AbstractOpenApiVisi
      * @param context The visitor context
      */
     public void visitClass(ClassElement element, VisitorContext context) {
+        try (var ignored = OpenApiProfiler.get(context).phase("visitClass", element.getName())) {
+            doVisitClass(element, context);
+        }
+    }
+
+    private void doVisitClass(ClassElement element, VisitorContext context) {
         if (!isOpenApiEnabled(context) || !isSpecGenerationEnabled(context)) {
             return;
         }
@@ -396,6 +403,12 @@ public abstract class AbstractOpenApiEndpointVisitor extends AbstractOpenApiVisi
      * @param context The visitor context
      */
     public void visitMethod(MethodElement element, VisitorContext context) {
+        try (var ignored = OpenApiProfiler.get(context).phase("visitMethod", element.getDeclaringType().getName())) {
+            doVisitMethod(element, context);
+        }
+    }
+
+    private void doVisitMethod(MethodElement element, VisitorContext context) {
         if (!isOpenApiEnabled(context) || !isSpecGenerationEnabled(context)) {
             return;
         }
@@ -464,7 +477,7 @@ public abstract class AbstractOpenApiEndpointVisitor extends AbstractOpenApiVisi
 
                 readCallbacks(element, context, swaggerOperation, jsonViewClass);
 
-                javadocDescription = getMethodDescription(element, swaggerOperation);
+                javadocDescription = getMethodDescription(element, swaggerOperation, context);
 
                 if (element.isAnnotationPresent(Deprecated.class)) {
                     swaggerOperation.setDeprecated(true);
@@ -591,7 +604,7 @@ public abstract class AbstractOpenApiEndpointVisitor extends AbstractOpenApiVisi
                 consumesMediaTypes = CollectionUtils.isEmpty(consumesMediaTypes) ? DEFAULT_MEDIA_TYPES : consumesMediaTypes;
                 consumesMediaTypes.forEach(mediaType -> {
                     var mt = new io.swagger.v3.oas.models.media.MediaType();
-                    var schema = setSpecVersion(new Schema<>());
+                    var schema = setSpecVersion(new Schema<>(), context);
                     schema.setType(TYPE_OBJECT);
                     mt.setSchema(schema);
                     content.addMediaType(mediaType.toString(), mt);
@@ -602,15 +615,15 @@ public abstract class AbstractOpenApiEndpointVisitor extends AbstractOpenApiVisi
             requestBody.getContent().forEach((mediaTypeName, mediaType) -> {
                 var schema = mediaType.getSchema();
                 if (schema == null) {
-                    schema = setSpecVersion(new Schema<>());
+                    schema = setSpecVersion(new Schema<>(), context);
                     mediaType.setSchema(schema);
                 }
                 if (schema.get$ref() != null) {
                     if (isRequestBodySchemaSet) {
                         schema = SchemaUtils.getSchemaByRef(schema, openAPI);
                     } else {
-                        var composedSchema = setSpecVersion(new ComposedSchema());
-                        var extraBodyParametersSchema = setSpecVersion(new Schema<>());
+                        var composedSchema = setSpecVersion(new ComposedSchema(), context);
+                        var extraBodyParametersSchema = setSpecVersion(new Schema<>(), context);
                         // Composition of existing + a new schema where extra body parameters are going to be added
                         composedSchema.addAllOfItem(schema);
                         composedSchema.addAllOfItem(extraBodyParametersSchema);
@@ -697,7 +710,7 @@ public abstract class AbstractOpenApiEndpointVisitor extends AbstractOpenApiVisi
         for (var exampleAnn : exampleAnns) {
             try {
                 var exampleMap = toValueMap(exampleAnn.getValues(), context, null);
-                result.put((String) exampleMap.get(PROP_NAME), Utils.getJsonMapper().convertValue(exampleMap, Example.class));
+                result.put((String) exampleMap.get(PROP_NAME), Utils.getJsonMapper(context).convertValue(exampleMap, Example.class));
             } catch (Exception e) {
                 warn("Error reading Parameter example " + exampleAnn + " for element [" + element + "]: " + e.getMessage(), context, element);
             }
@@ -722,7 +735,7 @@ public abstract class AbstractOpenApiEndpointVisitor extends AbstractOpenApiVisi
             }
 
             var parameter = new Parameter();
-            parameter.schema(setSpecVersion(new Schema<>()));
+            parameter.schema(setSpecVersion(new Schema<>(), context));
 
             paramAnn.stringValue(PROP_NAME).ifPresent(parameter::name);
             paramAnn.enumValue(PROP_IN, ParameterIn.class).ifPresent(in -> parameter.in(in.toString()));
@@ -843,7 +856,7 @@ public abstract class AbstractOpenApiEndpointVisitor extends AbstractOpenApiVisi
 
                         String bodyAnnValue = bodyAnn != null ? bodyAnn.getValue(String.class).orElse(null) : null;
                         if (StringUtils.isNotEmpty(bodyAnnValue)) {
-                            var wrapperSchema = setSpecVersion(new Schema<>());
+                            var wrapperSchema = setSpecVersion(new Schema<>(), context);
                             wrapperSchema.setType(TYPE_OBJECT);
                             if (isNotNullable(parameter)) {
                                 wrapperSchema.addRequiredItem(bodyAnnValue);
@@ -949,7 +962,7 @@ public abstract class AbstractOpenApiEndpointVisitor extends AbstractOpenApiVisi
             processSchemaProperty(context, parameter, parameter.getType(), null, schema, propertySchema);
             if (isNullable(parameter) && !isNotNullable(parameter)) {
                 // Keep null if not
-                SchemaUtils.setNullable(propertySchema);
+                SchemaUtils.setNullable(propertySchema, context);
             }
             if (javadocDescription != null && StringUtils.isEmpty(propertySchema.getDescription())) {
                 String doc = javadocDescription.getParameters().get(parameter.getName());
@@ -1097,7 +1110,7 @@ public abstract class AbstractOpenApiEndpointVisitor extends AbstractOpenApiVisi
             }
             processExplode(paramAnn, paramValues);
 
-            JsonNode jsonNode = Utils.getJsonMapper().valueToTree(paramValues);
+            JsonNode jsonNode = Utils.getJsonMapper(context).valueToTree(paramValues);
 
             if (newParameter == null) {
                 try {
@@ -1108,7 +1121,7 @@ public abstract class AbstractOpenApiEndpointVisitor extends AbstractOpenApiVisi
                             if (newParameter == null) {
                                 newParameter = new Parameter();
                             }
-                            newParameter.schema(setSpecVersion(new Schema<>().$ref(schemaNode.get(PROP_REF_DOLLAR).asText())));
+                            newParameter.schema(setSpecVersion(new Schema<>().$ref(schemaNode.get(PROP_REF_DOLLAR).asText()), context));
                         }
                     }
                 } catch (Exception e) {
@@ -1331,7 +1344,8 @@ public abstract class AbstractOpenApiEndpointVisitor extends AbstractOpenApiVisi
     }
 
     private JavadocDescription getMethodDescription(MethodElement element,
-                                                    Operation swaggerOperation) {
+                                                    Operation swaggerOperation,
+                                                    VisitorContext context) {
         String descr = description(element);
         if (StringUtils.isNotEmpty(descr) && StringUtils.isEmpty(swaggerOperation.getDescription())) {
             swaggerOperation.setDescription(descr);
@@ -1342,7 +1356,7 @@ public abstract class AbstractOpenApiEndpointVisitor extends AbstractOpenApiVisi
             swaggerOperation.setSummary(summary);
         }
         JavadocDescription javadocDescription = element.getDocumentation()
-            .map(Utils.getJavadocParser()::parse)
+            .map(OpenApiVisitorState.get(context).getJavadocParser()::parse)
             .orElse(null);
 
         if (javadocDescription != null) {
@@ -1631,15 +1645,10 @@ public abstract class AbstractOpenApiEndpointVisitor extends AbstractOpenApiVisi
         }
         processSecurityAccess(securitySchemeName, access, operation);
 
-        List<InterceptUrlMapPattern> securityRules = securityProperties.getInterceptUrlMapPatterns();
-        if (CollectionUtils.isNotEmpty(securityRules)) {
+        if (CollectionUtils.isNotEmpty(securityProperties.getInterceptUrlMapPatterns())) {
             HttpMethod httpMethod = httpMethod(element);
-            for (InterceptUrlMapPattern securityRule : securityRules) {
-                if (PathMatcher.ANT.matches(securityRule.getPattern(), path)
-                    && (httpMethod == null || securityRule.getHttpMethod() == null || httpMethod == securityRule.getHttpMethod())) {
-
-                    processSecurityAccess(securitySchemeName, securityRule.getAccess(), operation);
-                }
+            for (InterceptUrlMapPattern securityRule : securityProperties.getInterceptUrlMapMatcher().match(path, httpMethod)) {
+                processSecurityAccess(securitySchemeName, securityRule.getAccess(), operation);
             }
         }
     }
@@ -1903,8 +1912,8 @@ public abstract class AbstractOpenApiEndpointVisitor extends AbstractOpenApiVisi
 
         String methodKey = httpMethod.name()
             + '#' + url
-            + '#' + CollectionUtils.toString(CollectionUtils.isEmpty(consumesMediaTypes) ? DEFAULT_MEDIA_TYPES : consumesMediaTypes)
-            + '#' + CollectionUtils.toString(CollectionUtils.isEmpty(producesMediaTypes) ? DEFAULT_MEDIA_TYPES : producesMediaTypes);
+            + '#' + (CollectionUtils.isEmpty(consumesMediaTypes) ? DEFAULT_MEDIA_TYPES_KEY : CollectionUtils.toString(consumesMediaTypes))
+            + '#' + (CollectionUtils.isEmpty(producesMediaTypes) ? DEFAULT_MEDIA_TYPES_KEY : CollectionUtils.toString(producesMediaTypes));
 
         Map<String, GroupProperties> groupPropertiesMap = getGroupsPropertiesMap(context);
         var groups = new HashMap<String, EndpointGroupInfo>();
@@ -1914,29 +1923,26 @@ public abstract class AbstractOpenApiEndpointVisitor extends AbstractOpenApiVisi
         PackageElement packageEl = classEl.getPackage();
         String packageName = packageEl.getName();
 
-        processGroups(groups, excludedGroups, methodEl.getAnnotationValuesByType(OpenAPIGroup.class), groupPropertiesMap);
-        processGroups(groups, excludedGroups, packageEl.getAnnotationValuesByType(OpenAPIGroup.class), groupPropertiesMap);
+        var state = OpenApiVisitorState.get(context);
+        processGroups(groups, excludedGroups, methodEl.getAnnotationValuesByType(OpenAPIGroup.class), groupPropertiesMap, state);
+        List<AnnotationValue<OpenAPIGroup>> packageGroupAnns = state.getPackageGroupAnnotations()
+            .computeIfAbsent(packageName, name -> packageEl.getAnnotationValuesByType(OpenAPIGroup.class));
+        processGroups(groups, excludedGroups, packageGroupAnns, groupPropertiesMap, state);
 
-        processGroupsFromIncludedEndpoints(groups, excludedGroups, classEl.getName());
+        processGroupsFromIncludedEndpoints(groups, excludedGroups, classEl.getName(), state);
 
         // properties from system properties or from environment more priority than annotations
-        for (GroupProperties groupProperties : groupPropertiesMap.values()) {
-            if (CollectionUtils.isNotEmpty(groupProperties.getPackages())) {
-                for (PackageProperties groupPackage : groupProperties.getPackages()) {
-                    boolean isInclude = groupPackage.isIncludeSubpackages() ? packageName.startsWith(groupPackage.getName()) : packageName.equals(groupPackage.getName());
-                    if (isInclude) {
-                        groups.put(groupProperties.getName(), new EndpointGroupInfo(groupProperties.getName()));
-                    }
-                }
+        if (!groupPropertiesMap.isEmpty()) {
+            PackageGroupsIndex packageGroupsIndex = state.getPackageGroupsIndex();
+            if (packageGroupsIndex == null) {
+                packageGroupsIndex = new PackageGroupsIndex(groupPropertiesMap.values());
+                state.setPackageGroupsIndex(packageGroupsIndex);
             }
-            if (CollectionUtils.isNotEmpty(groupProperties.getPackagesExclude())) {
-                for (PackageProperties excludePackage : groupProperties.getPackagesExclude()) {
-                    boolean isExclude = excludePackage.isIncludeSubpackages() ? packageName.startsWith(excludePackage.getName()) : packageName.equals(excludePackage.getName());
-                    if (isExclude) {
-                        excludedGroups.add(groupProperties.getName());
-                    }
-                }
+            PackageGroups packageGroups = packageGroupsIndex.get(packageName);
+            for (String groupName : packageGroups.includedGroups()) {
+                groups.put(groupName, new EndpointGroupInfo(groupName));
             }
+            excludedGroups.addAll(packageGroups.excludedGroups());
         }
 
         RouterVersioningProperties versioningProperties = getRouterVersioningProperties(context);
@@ -1952,22 +1958,17 @@ public abstract class AbstractOpenApiEndpointVisitor extends AbstractOpenApiVisi
                 version = versionAnns.get(0).stringValue().orElse(null);
             }
             if (version != null) {
-                Utils.getAllKnownVersions().add(version);
+                state.getAllKnownVersions().add(version);
             }
             if (versioningProperties.isParameterEnabled()) {
-                addVersionParameters(swaggerOperation, versioningProperties.getParameterNames(), false);
+                addVersionParameters(swaggerOperation, versioningProperties.getParameterNames(), false, context);
             }
             if (versioningProperties.isHeaderEnabled()) {
-                addVersionParameters(swaggerOperation, versioningProperties.getHeaderNames(), true);
+                addVersionParameters(swaggerOperation, versioningProperties.getHeaderNames(), true, context);
             }
         }
 
-        Map<String, List<EndpointInfo>> endpointInfosMap = Utils.getEndpointInfos();
-        if (endpointInfosMap == null) {
-            endpointInfosMap = new HashMap<>();
-            Utils.setEndpointInfos(endpointInfosMap);
-        }
-        List<EndpointInfo> endpointInfos = endpointInfosMap.computeIfAbsent(methodKey, (k) -> new ArrayList<>());
+        List<EndpointInfo> endpointInfos = state.getEndpointInfos().computeIfAbsent(methodKey, (k) -> new ArrayList<>());
         endpointInfos.add(new EndpointInfo(
             url,
             httpMethod,
@@ -1982,7 +1983,8 @@ public abstract class AbstractOpenApiEndpointVisitor extends AbstractOpenApiVisi
     private void processGroups(Map<String, EndpointGroupInfo> groups,
                                List<String> excludedGroups,
                                List<AnnotationValue<OpenAPIGroup>> annotationValues,
-                               Map<String, GroupProperties> groupPropertiesMap) {
+                               Map<String, GroupProperties> groupPropertiesMap,
+                               OpenApiVisitorState state) {
         if (CollectionUtils.isEmpty(annotationValues)) {
             return;
         }
@@ -2006,18 +2008,19 @@ public abstract class AbstractOpenApiEndpointVisitor extends AbstractOpenApiVisi
                 groupInfo.getExtensions().putAll(extensions);
             }
         }
-        Set<String> allKnownGroups = Utils.getAllKnownGroups();
+        Set<String> allKnownGroups = state.getAllKnownGroups();
         allKnownGroups.addAll(groups.keySet());
         allKnownGroups.addAll(excludedGroups);
     }
 
-    private void processGroupsFromIncludedEndpoints(Map<String, EndpointGroupInfo> groups, List<String> excludedGroups, String className) {
-        if (CollectionUtils.isEmpty(Utils.getIncludedClassesGroups()) && CollectionUtils.isEmpty(Utils.getIncludedClassesGroupsExcluded())) {
+    private void processGroupsFromIncludedEndpoints(Map<String, EndpointGroupInfo> groups, List<String> excludedGroups, String className,
+                                                    OpenApiVisitorState state) {
+        if (state.getIncludedClassesGroups().isEmpty() && state.getIncludedClassesGroupsExcluded().isEmpty()) {
             return;
         }
 
-        List<String> classGroups = Utils.getIncludedClassesGroups() != null ? Utils.getIncludedClassesGroups().get(className) : Collections.emptyList();
-        List<String> classExcludedGroups = Utils.getIncludedClassesGroupsExcluded() != null ? Utils.getIncludedClassesGroupsExcluded().get(className) : Collections.emptyList();
+        List<String> classGroups = state.getIncludedClassesGroups().getOrDefault(className, Collections.emptyList());
+        List<String> classExcludedGroups = state.getIncludedClassesGroupsExcluded().getOrDefault(className, Collections.emptyList());
 
         for (var classGroup : classGroups) {
             if (groups.containsKey(classGroup)) {
@@ -2027,12 +2030,12 @@ public abstract class AbstractOpenApiEndpointVisitor extends AbstractOpenApiVisi
         }
         excludedGroups.addAll(classExcludedGroups);
 
-        Set<String> allKnownGroups = Utils.getAllKnownGroups();
+        Set<String> allKnownGroups = state.getAllKnownGroups();
         allKnownGroups.addAll(classGroups);
         allKnownGroups.addAll(classExcludedGroups);
     }
 
-    private void addVersionParameters(Operation swaggerOperation, List<String> names, boolean isHeader) {
+    private void addVersionParameters(Operation swaggerOperation, List<String> names, boolean isHeader, VisitorContext context) {
 
         String in = isHeader ? ParameterIn.HEADER.toString() : ParameterIn.QUERY.toString();
 
@@ -2041,7 +2044,7 @@ public abstract class AbstractOpenApiEndpointVisitor extends AbstractOpenApiVisi
                 .in(in)
                 .description("API version")
                 .name(parameterName)
-                .schema(setSpecVersion(PrimitiveType.STRING.createProperty()));
+                .schema(setSpecVersion(PrimitiveType.STRING.createProperty(), context));
 
             swaggerOperation.addParametersItem(parameter);
         }
@@ -65,6 +65,7 @@ import static io.micronaut.openapi.visitor.ContextProperty.MICRONAUT_INTERNAL_OP
 import static io.micronaut.openapi.visitor.ContextProperty.MICRONAUT_INTERNAL_OPENAPI_ENDPOINTS;
 import static io.micronaut.openapi.visitor.ContextProperty.MICRONAUT_INTERNAL_OPENAPI_PROJECT_DIR;
 import static io.micronaut.openapi.visitor.ContextProperty.MICRONAUT_INTERNAL_OPENAPI_PROPERTIES;
+import static io.micronaut.openapi.visitor.ContextProperty.MICRONAUT_INTERNAL_PLACEHOLDER_RESOLVER;
 import static io.micronaut.openapi.visitor.ContextProperty.MICRONAUT_INTERNAL_ROUTER_VERSIONING_PROPERTIES;
 import static io.micronaut.openapi.visitor.ContextProperty.MICRONAUT_INTERNAL_SCHEMA_DECORATORS;
 import static io.micronaut.openapi.visitor.ContextProperty.MICRONAUT_INTERNAL_SCHEMA_NAME_SEPARATOR_EMPTY;
@@ -73,6 +74,7 @@ import static io.micronaut.openapi.visitor.ContextUtils.ARGUMENT_CUSTOM_SCHEMA_M
 import static io.micronaut.openapi.visitor.ContextUtils.ARGUMENT_GROUP_PROPERTIES_MAP;
 import static io.micronaut.openapi.visitor.ContextUtils.ARGUMENT_SCHEMA_DECORATORS_MAP;
 import static io.micronaut.openapi.visitor.ContextUtils.EXPANDABLE_PROPERTIES_ARGUMENT;
+import static io.micronaut.openapi.visitor.ContextUtils.info;
 import static io.micronaut.openapi.visitor.ContextUtils.warn;
 import static io.micronaut.openapi.visitor.FileUtils.calcFinalFilename;
 import static io.micronaut.openapi.visitor.FileUtils.resolve;
@@ -81,6 +83,7 @@ import static io.micronaut.openapi.visitor.OpenApiConfigProperty.MICRONAUT_ENVIR
 import static io.micronaut.openapi.visitor.OpenApiConfigProperty.MICRONAUT_JACKSON_JSON_VIEW_ENABLED;
 import static io.micronaut.openapi.visitor.OpenApiConfigProperty.MICRONAUT_OPENAPI_31_JSON_SCHEMA_DIALECT;
 import static io.micronaut.openapi.visitor.OpenApiConfigProperty.MICRONAUT_OPENAPI_ADOC_OPENAPI_PATH;
+import static io.micronaut.openapi.visitor.OpenApiConfigProperty.MICRONAUT_OPENAPI_ADOC_PARALLEL_ENABLED;
 import static io.micronaut.openapi.visitor.OpenApiConfigProperty.MICRONAUT_OPENAPI_ADOC_OUTPUT_DIR_PATH;
 import static io.micronaut.openapi.visitor.OpenApiConfigProperty.MICRONAUT_OPENAPI_ADOC_OUTPUT_FILENAME;
 import static io.micronaut.openapi.visitor.OpenApiConfigProperty.MICRONAUT_OPENAPI_ADOC_TEMPLATES_DIR_PATH;
@@ -92,6 +95,7 @@ import static io.micronaut.openapi.visitor.OpenApiConfigProperty.MICRONAUT_OPENA
 import static io.micronaut.openapi.visitor.OpenApiConfigProperty.MICRONAUT_OPENAPI_EXPAND_PREFIX;
 import static io.micronaut.openapi.visitor.OpenApiConfigProperty.MICRONAUT_OPENAPI_GROUPS;
 import static io.micronaut.openapi.visitor.OpenApiConfigProperty.MICRONAUT_OPENAPI_JSON_VIEW_DEFAULT_INCLUSION;
+import static io.micronaut.openapi.visitor.OpenApiConfigProperty.MICRONAUT_OPENAPI_PARALLELISM;
 import static io.micronaut.openapi.visitor.OpenApiConfigProperty.MICRONAUT_OPENAPI_PROJECT_DIR;
 import static io.micronaut.openapi.visitor.OpenApiConfigProperty.MICRONAUT_OPENAPI_SCHEMA;
 import static io.micronaut.openapi.visitor.OpenApiConfigProperty.MICRONAUT_OPENAPI_SCHEMA_DECORATOR_POSTFIX;
@@ -321,6 +325,26 @@ public final class ConfigUtils {
         return value;
     }
 
+    /**
+     * Get number of threads to post-process and write group documents.
+     *
+     * @param context visitor context
+     *
+     * @return parallelism, {@code 1} means serial processing
+     */
+    public static int getParallelism(VisitorContext context) {
+        String value = getConfigProperty(MICRONAUT_OPENAPI_PARALLELISM, context);
+        if (StringUtils.isEmpty(value)) {
+            return 1;
+        }
+        try {
+            return Math.max(1, Integer.parseInt(value.strip()));
+        } catch (NumberFormatException e) {
+            warn("Incorrect value for property " + MICRONAUT_OPENAPI_PARALLELISM + ": " + value + ". Documents will be processed serially", context);
+            return 1;
+        }
+    }
+
     public static boolean isExtraSchemasEnabled(VisitorContext context) {
         Boolean loadedValue = ContextUtils.get(MICRONAUT_INTERNAL_EXTRA_SCHEMA_ENABLED, Boolean.class, context);
         if (loadedValue != null) {
@@ -396,6 +420,43 @@ public final class ConfigUtils {
         return expandableProperties;
     }
 
+    /**
+     * Get placeholder resolver for current context. All properties are collected only once.
+     *
+     * @param context visitor context
+     *
+     * @return placeholder resolver
+     */
+    public static PlaceholderResolver getPlaceholderResolver(VisitorContext context) {
+        PlaceholderResolver resolver = ContextUtils.get(MICRONAUT_INTERNAL_PLACEHOLDER_RESOLVER, PlaceholderResolver.class, context);
+        if (resolver != null) {
+            return resolver;
+        }
+
+        var expandableProperties = new HashMap<String, String>();
+        for (Pair<String, String> prop : getExpandableProperties(context)) {
+            // expandable property pattern has format: \$\{key}
+            String pattern = prop.getFirst();
+            expandableProperties.put(pattern.substring(4, pattern.length() - 1), prop.getSecond());
+        }
+        if (!expandableProperties.isEmpty()) {
+            info("Expanding properties: " + expandableProperties, context);
+        }
+
+        // system properties have priority over properties from openapi file
+        var properties = new HashMap<String, String>();
+        for (Map.Entry<Object, Object> fileProp : readOpenApiConfigFile(context).entrySet()) {
+            properties.put(fileProp.getKey().toString(), fileProp.getValue().toString());
+        }
+        for (Map.Entry<Object, Object> sysProp : System.getProperties().entrySet()) {
+            properties.put(sysProp.getKey().toString(), sysProp.getValue().toString());
+        }
+
+        resolver = new PlaceholderResolver(expandableProperties, properties, getEnv(context));
+        ContextUtils.put(MICRONAUT_INTERNAL_PLACEHOLDER_RESOLVER, resolver, context);
+        return resolver;
+    }
+
     public static Map<String, String> getAdocProperties(OpenApiInfo openApiInfo, boolean isSingleGroup, VisitorContext context) {
 
         var adocProperties = new HashMap<String, String>();
@@ -404,6 +465,7 @@ public final class ConfigUtils {
         adocProperties.put(MICRONAUT_OPENAPI_ADOC_OUTPUT_DIR_PATH, getConfigProperty(MICRONAUT_OPENAPI_ADOC_OUTPUT_DIR_PATH, context));
         adocProperties.put(MICRONAUT_OPENAPI_ADOC_OUTPUT_FILENAME, getConfigProperty(MICRONAUT_OPENAPI_ADOC_OUTPUT_FILENAME, context));
         adocProperties.put(MICRONAUT_OPENAPI_ADOC_OPENAPI_PATH, getConfigProperty(MICRONAUT_OPENAPI_ADOC_OPENAPI_PATH, context));
+        adocProperties.put(MICRONAUT_OPENAPI_ADOC_PARALLEL_ENABLED, getConfigProperty(MICRONAUT_OPENAPI_ADOC_PARALLEL_ENABLED, context));
 
         // first, check system properties and environments config files
         var env = (AnnProcessorEnvironment) getEnv(context);
@@ -597,7 +659,7 @@ public final class ConfigUtils {
             }
         }
 
-        Utils.getAllKnownGroups().addAll(groupPropertiesMap.keySet());
+        OpenApiVisitorState.get(context).getAllKnownGroups().addAll(groupPropertiesMap.keySet());
 
         ContextUtils.put(MICRONAUT_INTERNAL_GROUPS, groupPropertiesMap, context);
 
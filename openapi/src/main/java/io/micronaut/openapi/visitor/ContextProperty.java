@@ -85,6 +85,14 @@ public interface ContextProperty {
      * Flag that shows that the expandable properties are already loaded into the context.
      */
     String MICRONAUT_INTERNAL_EXPANDABLE_PROPERTIES_LOADED = "micronaut.internal.expandable.props.loaded";
+    /**
+     * Placeholder resolver with all properties, which can be used in placeholders.
+     */
+    String MICRONAUT_INTERNAL_PLACEHOLDER_RESOLVER = "micronaut.internal.placeholder.resolver";
+    /**
+     * State, which is collected by visitors during one compilation.
+     */
+    String MICRONAUT_INTERNAL_VISITOR_STATE = "micronaut.internal.visitor.state";
     /**
      * Loaded micronaut-security and micronaut-openapi security properties.
      */
@@ -28,9 +28,11 @@ import io.swagger.v3.oas.models.servers.Server;
 import io.swagger.v3.oas.models.tags.Tag;
 
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Supplier;
 
 import static io.micronaut.openapi.visitor.ContextProperty.MICRONAUT_INTERNAL_CLASSPATH_OUTPUT;
 import static io.micronaut.openapi.visitor.ContextProperty.MICRONAUT_INTERNAL_GENERATED_FILE;
@@ -51,6 +53,12 @@ public final class ContextUtils {
     public static final Argument<Map<String, ConfigUtils.CustomSchema>> ARGUMENT_CUSTOM_SCHEMA_MAP = new GenericArgument<>() { };
     public static final Argument<Map<String, GroupProperties>> ARGUMENT_GROUP_PROPERTIES_MAP = new GenericArgument<>() { };
 
+    /**
+     * Messages of the current worker thread. Visitor context must not be used from other threads,
+     * so messages of the workers are reported by the visitor thread, after the workers are finished.
+     */
+    private static final ThreadLocal<List<Message>> DEFERRED_MESSAGES = new ThreadLocal<>();
+
     private ContextUtils() {
     }
 
@@ -124,7 +132,10 @@ public final class ContextUtils {
     }
 
     public static void warn(String message, @Nullable VisitorContext context, @Nullable Element element) {
-        if (context != null) {
+        List<Message> deferredMessages = DEFERRED_MESSAGES.get();
+        if (deferredMessages != null) {
+            deferredMessages.add(new Message(message, true, element));
+        } else if (context != null) {
             context.warn(message, element);
         } else {
             System.err.println(message);
@@ -136,7 +147,10 @@ public final class ContextUtils {
     }
 
     public static void info(String message, @Nullable VisitorContext context, @Nullable Element element) {
-        if (context != null) {
+        List<Message> deferredMessages = DEFERRED_MESSAGES.get();
+        if (deferredMessages != null) {
+            deferredMessages.add(new Message(message, false, element));
+        } else if (context != null) {
             context.info(message, element);
         } else {
             System.out.println(message);
@@ -201,4 +215,100 @@ public final class ContextUtils {
     public static ClassElement[] getClassElements(String packageName, VisitorContext context) {
         return context != null ? context.getClassElements(packageName, WILDCARD) : null;
     }
+
+    /**
+     * Run action on a worker thread and collect its messages instead of reporting them to the visitor context.
+     * If the action fails, the exception is wrapped into {@link DeferredFailure} with messages, collected
+     * before the failure.
+     *
+     * @param action action
+     * @param <R> result type
+     *
+     * @return action result and collected messages
+     */
+    public static <R> DeferredResult<R> runWithDeferredMessages(Supplier<R> action) {
+        var messages = new ArrayList<Message>();
+        DEFERRED_MESSAGES.set(messages);
+        try {
+            return new DeferredResult<>(action.get(), messages);
+        } catch (RuntimeException e) {
+            throw new DeferredFailure(e, messages);
+        } finally {
+            DEFERRED_MESSAGES.remove();
+        }
+    }
+
+    private static void reportMessages(List<Message> messages, @Nullable VisitorContext context) {
+        for (Message message : messages) {
+            if (message.warning()) {
+                warn(message.text(), context, message.element());
+            } else {
+                info(message.text(), context, message.element());
+            }
+        }
+    }
+
+    /**
+     * Message, which is reported later.
+     *
+     * @param text message text
+     * @param warning is it a warning
+     * @param element element of the message
+     */
+    public record Message(
+        String text,
+        boolean warning,
+        @Nullable Element element
+    ) {
+    }
+
+    /**
+     * Result of a worker action with its messages.
+     *
+     * @param result action result
+     * @param messages collected messages
+     * @param <R> result type
+     */
+    public record DeferredResult<R>(
+        R result,
+        List<Message> messages
+    ) {
+
+        /**
+         * Report collected messages to the visitor context.
+         *
+         * @param context visitor context
+         *
+         * @return action result
+         */
+        public R report(@Nullable VisitorContext context) {
+            reportMessages(messages, context);
+            return result;
+        }
+    }
+
+    /**
+     * Failure of a worker action with messages, collected before the failure.
+     */
+    public static final class DeferredFailure extends RuntimeException {
+
+        private final transient List<Message> messages;
+
+        DeferredFailure(RuntimeException cause, List<Message> messages) {
+            super(cause.getMessage(), cause, false, false);
+            this.messages = messages;
+        }
+
+        /**
+         * Report collected messages to the visitor context.
+         *
+         * @param context visitor context
+         *
+         * @return original exception of the action
+         */
+        public RuntimeException report(@Nullable VisitorContext context) {
+            reportMessages(messages, context);
+            return (RuntimeException) getCause();
+        }
+    }
 }
@@ -17,6 +17,7 @@ package io.micronaut.openapi.visitor;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.net.URI;
@@ -30,6 +31,7 @@ import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Calendar;
+import java.util.Collection;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
@@ -77,10 +79,16 @@ import io.swagger.v3.oas.models.security.SecurityRequirement;
 import io.swagger.v3.oas.models.security.SecurityScheme;
 
 import com.fasterxml.jackson.annotation.JsonValue;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import static io.micronaut.openapi.OpenApiUtils.CONVERT_JSON_MAPPER;
 import static io.micronaut.openapi.OpenApiUtils.JSON_MAPPER;
@@ -131,11 +139,13 @@ public final class ConvertUtils {
     public static final TypeReference<Map<CharSequence, Object>> MAP_TYPE = new TypeReference<>() {
     };
 
+    private static final Logger LOG = LoggerFactory.getLogger(ConvertUtils.class);
+
     private ConvertUtils() {
     }
 
     /**
-     * Convert the given Map to a JSON node and then to the specified type.
+     * Convert the given Map to the specified type.
      *
      * @param <T> The output class type
      * @param values The values
@@ -145,11 +155,11 @@ public final class ConvertUtils {
      * @return The converted instance
      */
     public static <T> T toValue(Map<CharSequence, Object> values, VisitorContext context, Class<T> type) {
-        JsonNode node = toJson(values, context);
+        Map<CharSequence, Object> newValues = toValueMap(values, context);
         try {
-            return ConvertUtils.treeToValue(node, type, context);
+            return ConvertUtils.bindValue(newValues, JSON_MAPPER, type, context);
         } catch (JsonProcessingException e) {
-            warn("Error converting  [" + node + "]: to " + type + ":\n" + Utils.printStackTrace(e), context);
+            warn("Error converting  [" + JSON_MAPPER.valueToTree(newValues) + "]: to " + type + ":\n" + Utils.printStackTrace(e), context);
         }
         return null;
     }
@@ -281,6 +291,109 @@ public final class ConvertUtils {
         return null;
     }
 
+    /**
+     * Binds the values map, prepared by {@code toValueMap}, to a class' instance. Operations, parameters, schemas,
+     * responses and security schemes are bound directly by {@link ModelBinders}. Other classes, and values which
+     * binders don't support, are streamed from the map to the model object through a token buffer, without building
+     * an intermediate JSON tree. If the streaming fails, or for groovy sources, values are converted through the JSON tree
+     * with {@link #treeToValue(JsonNode, Class, VisitorContext)}.
+     *
+     * @param values The values map
+     * @param valuesMapper The mapper to serialize values
+     * @param clazz The output class instance
+     * @param <T> The output class type
+     * @param context visitor context
+     *
+     * @return The converted instance
+     *
+     * @throws JsonProcessingException if error
+     * @since 6.13.0
+     */
+    public static <T> T bindValue(Map<CharSequence, Object> values, ObjectMapper valuesMapper, Class<T> clazz, VisitorContext context) throws JsonProcessingException {
+        if (context.getLanguage() == VisitorContext.Language.GROOVY) {
+            return treeToValue(valuesMapper.valueToTree(values), clazz, context);
+        }
+        Map<String, Object> exts = null;
+        T value = ModelBinders.bind(values, clazz);
+        if (value == null) {
+            try {
+                var buffer = new TokenBuffer(valuesMapper, false)
+                    .forceUseOfBigDecimal(valuesMapper.isEnabled(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS));
+                valuesMapper.writeValue(buffer, values);
+                try (JsonParser parser = buffer.asParser(CONVERT_JSON_MAPPER)) {
+                    value = CONVERT_JSON_MAPPER.readValue(parser, clazz);
+                }
+            } catch (JsonProcessingException e) {
+                if (LOG.isDebugEnabled()) {
+                    LOG.debug("Can't bind values to {} directly, converting through JSON tree: {}", clazz.getName(), e.getOriginalMessage());
+                }
+                return treeToValue(valuesMapper.valueToTree(values), clazz, context);
+            } catch (IOException e) {
+                // token buffer doesn't do any I/O
+                throw new UncheckedIOException(e);
+            }
+            if (value == null) {
+                return null;
+            }
+            // binders set extensions themselves
+            Object extensions = values.get(PROP_EXTENSIONS);
+            if (extensions != null) {
+                try {
+                    exts = CONVERT_JSON_MAPPER.convertValue(extensions, MAP_TYPE_REFERENCE);
+                } catch (IllegalArgumentException e) {
+                    // Ignore
+                }
+            }
+        }
+
+        List<String> allowableValues = null;
+        Object allowableValuesObj = values.get(PROP_ALLOWABLE_VALUES);
+        if (allowableValuesObj instanceof Object[] array) {
+            allowableValuesObj = Arrays.asList(array);
+        }
+        if (allowableValuesObj instanceof Iterable<?> iterable) {
+            allowableValues = new ArrayList<>();
+            for (Object allowableValue : iterable) {
+                allowableValues.add(textValue(allowableValue, valuesMapper));
+            }
+        } else if (allowableValuesObj != null) {
+            allowableValues = textValues(valuesMapper.valueToTree(allowableValuesObj));
+        }
+        return setCommonValues(value, exts, textValue(values.get(PROP_TYPE), valuesMapper), textValue(values.get(PROP_ONE_FORMAT), valuesMapper),
+            textValue(values.get(PROP_DEFAULT_VALUE), valuesMapper), allowableValues, context);
+    }
+
+    /**
+     * The same value as {@link JsonNode#textValue()} of the serialized value: strings as is, enums, classes and
+     * other values, which are serialized as JSON strings, are converted by the mapper, numbers, booleans and
+     * containers are null.
+     */
+    @Nullable
+    private static String textValue(@Nullable Object value, ObjectMapper valuesMapper) {
+        if (value == null || value instanceof String) {
+            return (String) value;
+        }
+        if (value instanceof Number || value instanceof Boolean || value instanceof Map<?, ?> || value instanceof Collection<?> || value instanceof Object[]) {
+            return null;
+        }
+        return valuesMapper.valueToTree(value).textValue();
+    }
+
+    @Nullable
+    private static List<String> textValues(@Nullable JsonNode node) {
+        if (node == null || !node.isArray()) {
+            return null;
+        }
+        var values = new ArrayList<String>(node.size());
+        for (JsonNode item : node) {
+            if (item == null) {
+                continue;
+            }
+            values.add(item.textValue());
+        }
+        return values;
+    }
+
     /**
      * Converts Json node into a class' instance or throws 'com.fasterxml.jackson.core.JsonProcessingException', adds extensions if present.
      *
@@ -316,39 +429,40 @@ public final class ConvertUtils {
             return null;
         }
 
-        var finalValue = value;
-
-        var exts = resolveExtensions(jn);
-        if (exts != null) {
-            BeanMap.of(finalValue).put(PROP_EXTENSIONS, exts);
-        }
         String elType = jn.has(PROP_TYPE) ? jn.get(PROP_TYPE).textValue() : null;
         String elFormat = jn.has(PROP_ONE_FORMAT) ? jn.get(PROP_ONE_FORMAT).textValue() : null;
         JsonNode defaultValueNode = jn.get(PROP_DEFAULT_VALUE);
+
+        return setCommonValues(value, resolveExtensions(jn), elType, elFormat,
+            defaultValueNode != null ? defaultValueNode.textValue() : null, textValues(jn.get(PROP_ALLOWABLE_VALUES)), context);
+    }
+
+    private static <T> T setCommonValues(T value, @Nullable Map<String, Object> exts, @Nullable String elType, @Nullable String elFormat,
+                                         @Nullable String defaultValueStr, @Nullable List<String> allowableValueStrs, VisitorContext context) {
+
+        BeanMap<T> beanMap = BeanMap.of(value);
+        if (exts != null) {
+            beanMap.put(PROP_EXTENSIONS, exts);
+        }
         // fix for default value
         Object defaultValue;
         try {
-            defaultValue = ConvertUtils.normalizeValue(defaultValueNode != null ? defaultValueNode.textValue() : null, elType, elFormat, context);
+            defaultValue = ConvertUtils.normalizeValue(defaultValueStr, elType, elFormat, context);
         } catch (JsonProcessingException e) {
-            defaultValue = defaultValueNode != null ? defaultValueNode.textValue() : null;
+            defaultValue = defaultValueStr;
         }
 
-        BeanMap<T> beanMap = BeanMap.of(value);
         if (defaultValue != null) {
             beanMap.put(PROP_DEFAULT, defaultValue);
         }
 
-        JsonNode allowableValuesNode = jn.get(PROP_ALLOWABLE_VALUES);
-        if (allowableValuesNode != null && allowableValuesNode.isArray()) {
-            var allowableValues = new ArrayList<>(allowableValuesNode.size());
-            for (JsonNode allowableValueNode : allowableValuesNode) {
-                if (allowableValueNode == null) {
-                    continue;
-                }
+        if (allowableValueStrs != null) {
+            var allowableValues = new ArrayList<>(allowableValueStrs.size());
+            for (String allowableValueStr : allowableValueStrs) {
                 try {
-                    allowableValues.add(ConvertUtils.normalizeValue(allowableValueNode.textValue(), elType, elFormat, context));
+                    allowableValues.add(ConvertUtils.normalizeValue(allowableValueStr, elType, elFormat, context));
                 } catch (IOException e) {
-                    allowableValues.add(allowableValueNode.textValue());
+                    allowableValues.add(allowableValueStr);
                 }
             }
             beanMap.put(PROP_ALLOWABLE_VALUES, allowableValues);
@@ -548,13 +662,8 @@ public final class ConvertUtils {
             }
 
             try {
-                JsonNode node = toJson(map, context);
-                SecurityScheme securityScheme = ConvertUtils.treeToValue(node, SecurityScheme.class, context);
+                SecurityScheme securityScheme = bindValue(toValueMap(map, context), JSON_MAPPER, SecurityScheme.class, context);
                 if (securityScheme != null) {
-                    var exts = resolveExtensions(node);
-                    if (exts != null) {
-                        BeanMap.of(securityScheme).put(PROP_EXTENSIONS, exts);
-                    }
                     resolveComponents(openApi).addSecuritySchemes(name, securityScheme);
                 }
             } catch (JsonProcessingException e) {
@@ -254,14 +254,14 @@ public final class ElementUtils {
                 ;
     }
 
-    public static AnnotationMetadata getAnnotationMetadata(Element el) {
+    public static AnnotationMetadata getAnnotationMetadata(Element el, VisitorContext context) {
         if (el == null) {
             return AnnotationMetadata.EMPTY_METADATA;
         }
         if (el instanceof MemberElement memberEl) {
             var propMetadata = memberEl.getAnnotationMetadata();
             AnnotationMetadata constructorMetadata = null;
-            var constructor = getCreatorConstructor(memberEl.getOwningType());
+            var constructor = getCreatorConstructor(memberEl.getOwningType(), context);
             if (constructor != null) {
                 for (var constructorParam : constructor.getParameters()) {
                     if (constructorParam.getName().equals(memberEl.getName())) {
@@ -278,7 +278,7 @@ public final class ElementUtils {
         return el.getAnnotationMetadata();
     }
 
-    public static Optional<AnnotationValue<Annotation>> findAnnotation(Element el, String annName) {
+    public static Optional<AnnotationValue<Annotation>> findAnnotation(Element el, String annName, VisitorContext context) {
         if (el == null) {
             return Optional.empty();
         }
@@ -287,7 +287,7 @@ public final class ElementUtils {
             if (result.isPresent()) {
                 return result;
             }
-            var constructor = getCreatorConstructor(memberEl.getOwningType());
+            var constructor = getCreatorConstructor(memberEl.getOwningType(), context);
             if (constructor != null) {
                 for (var constructorParam : constructor.getParameters()) {
                     if (constructorParam.getName().equals(memberEl.getName())) {
@@ -300,11 +300,11 @@ public final class ElementUtils {
         return el.findAnnotation(annName);
     }
 
-    public static <T> boolean isAnnotationPresent(Element el, Class<T> annClass) {
-        return isAnnotationPresent(el, annClass.getName());
+    public static <T> boolean isAnnotationPresent(Element el, Class<T> annClass, VisitorContext context) {
+        return isAnnotationPresent(el, annClass.getName(), context);
     }
 
-    public static boolean isAnnotationPresent(Element el, String annName) {
+    public static boolean isAnnotationPresent(Element el, String annName, VisitorContext context) {
         if (el == null) {
             return false;
         }
@@ -313,7 +313,7 @@ public final class ElementUtils {
             if (result) {
                 return true;
             }
-            var constructor = getCreatorConstructor(memberEl.getOwningType());
+            var constructor = getCreatorConstructor(memberEl.getOwningType(), context);
             if (constructor != null) {
                 for (var constructorParam : constructor.getParameters()) {
                     if (constructorParam.getName().equals(memberEl.getName())) {
@@ -326,7 +326,7 @@ public final class ElementUtils {
         return el.isAnnotationPresent(annName);
     }
 
-    public static <T extends Annotation> Optional<String> stringValue(Element el, Class<T> annClass, String member) {
+    public static <T extends Annotation> Optional<String> stringValue(Element el, Class<T> annClass, String member, VisitorContext context) {
         if (el == null) {
             return Optional.empty();
         }
@@ -335,7 +335,7 @@ public final class ElementUtils {
             if (result.isPresent()) {
                 return result;
             }
-            var constructor = getCreatorConstructor(memberEl.getOwningType());
+            var constructor = getCreatorConstructor(memberEl.getOwningType(), context);
             if (constructor != null) {
                 for (var constructorParam : constructor.getParameters()) {
                     if (constructorParam.getName().equals(memberEl.getName())) {
@@ -348,11 +348,11 @@ public final class ElementUtils {
         return el.stringValue(annClass, member);
     }
 
-    public static <T extends Annotation> AnnotationValue<T> getAnnotation(Element el, Class<T> annClass) {
-        return getAnnotation(el, annClass.getName());
+    public static <T extends Annotation> AnnotationValue<T> getAnnotation(Element el, Class<T> annClass, VisitorContext context) {
+        return getAnnotation(el, annClass.getName(), context);
     }
 
-    public static AnnotationValue getAnnotation(Element el, String annName) {
+    public static AnnotationValue getAnnotation(Element el, String annName, VisitorContext context) {
         if (el == null) {
             return null;
         }
@@ -361,7 +361,7 @@ public final class ElementUtils {
             if (result != null) {
                 return result;
             }
-            var constructor = getCreatorConstructor(memberEl.getOwningType());
+            var constructor = getCreatorConstructor(memberEl.getOwningType(), context);
             if (constructor != null) {
                 for (var constructorParam : constructor.getParameters()) {
                     if (constructorParam.getName().equals(memberEl.getName())) {
@@ -374,11 +374,11 @@ public final class ElementUtils {
         return el.getAnnotation(annName);
     }
 
-    private static MethodElement getCreatorConstructor(ClassElement classEl) {
+    private static MethodElement getCreatorConstructor(ClassElement classEl, VisitorContext context) {
 
-        var cachedConstructor = Utils.getCreatorConstructorsCache().get(classEl.getName());
-        if (cachedConstructor != null) {
-            return cachedConstructor;
+        Map<String, MethodElement> creatorConstructors = OpenApiVisitorState.get(context).getCreatorConstructors();
+        if (creatorConstructors.containsKey(classEl.getName())) {
+            return creatorConstructors.get(classEl.getName());
         }
 
         var creatorConstructor = classEl.getPrimaryConstructor().orElse(null);
@@ -390,7 +390,7 @@ public final class ElementUtils {
                 }
             }
         }
-        Utils.getCreatorConstructorsCache().put(classEl.getName(), creatorConstructor);
+        creatorConstructors.put(classEl.getName(), creatorConstructor);
         return creatorConstructor;
     }
 
@@ -24,12 +24,23 @@ import io.micronaut.openapi.visitor.group.OpenApiInfo;
 import io.swagger.v3.oas.models.info.Info;
 
 import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.net.URI;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.List;
 import java.util.Locale;
+import java.util.regex.Pattern;
+import java.util.zip.GZIPOutputStream;
 
 import static io.micronaut.openapi.visitor.ConfigUtils.getConfigProperty;
 import static io.micronaut.openapi.visitor.ContextUtils.warn;
@@ -52,6 +63,18 @@ public final class FileUtils {
     public static final String EXT_YML = ".yml";
     public static final String EXT_YAML = ".yaml";
     public static final String EXT_JSON = ".json";
+    public static final String EXT_GZ = ".gz";
+    /**
+     * Name of the file with content hashes of the specification files, it's written next to them.
+     *
+     * @since 6.13.0
+     */
+    public static final String SPEC_MANIFEST_FILE_NAME = "spec-manifest.txt";
+
+    /**
+     * Number of bytes of SHA-256 digest used in content-hashed file names.
+     */
+    private static final int CONTENT_HASH_BYTES = 8;
 
     private FileUtils() {
     }
@@ -189,4 +212,118 @@ public final class FileUtils {
         }
         return buf.toString();
     }
+
+    /**
+     * Calculate hash of the file content, which can be used in file names.
+     *
+     * @param content file content
+     *
+     * @return first 16 hex chars of SHA-256 digest
+     *
+     * @since 6.13.0
+     */
+    public static String contentHash(byte[] content) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(content);
+            return HexFormat.of().formatHex(digest, 0, CONTENT_HASH_BYTES);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 algorithm is not available", e);
+        }
+    }
+
+    /**
+     * Insert content hash into the file name before the extension: {@code swagger.yml -> swagger.0123456789abcdef.yml}.
+     *
+     * @param fileName file name, can contain parent directories
+     * @param hash content hash, see {@link #contentHash(byte[])}
+     *
+     * @return file name with content hash
+     *
+     * @since 6.13.0
+     */
+    public static String addContentHash(String fileName, String hash) {
+        int slashIndex = fileName.lastIndexOf('/');
+        int dotIndex = fileName.lastIndexOf('.');
+        if (dotIndex <= slashIndex + 1) {
+            return fileName + '.' + hash;
+        }
+        return fileName.substring(0, dotIndex) + '.' + hash + fileName.substring(dotIndex);
+    }
+
+    /**
+     * Delete content-hashed copies of the file and their {@code .gz} files, which were written
+     * for the previous contents of the file (see {@link #addContentHash(String, String)}).
+     *
+     * @param file original file
+     * @param keptFiles files, which must not be deleted
+     *
+     * @return deleted files
+     *
+     * @throws IOException if files can't be listed or deleted
+     * @since 6.13.0
+     */
+    public static List<Path> deleteStaleHashedCopies(Path file, Collection<Path> keptFiles) throws IOException {
+        var deletedFiles = new ArrayList<Path>();
+        Path dir = file.toAbsolutePath().getParent();
+        if (dir == null || !Files.isDirectory(dir)) {
+            return deletedFiles;
+        }
+        String fileName = file.getFileName().toString();
+        int dotIndex = fileName.lastIndexOf('.');
+        String prefix = dotIndex <= 0 ? fileName + '.' : fileName.substring(0, dotIndex + 1);
+        String suffix = dotIndex <= 0 ? StringUtils.EMPTY_STRING : fileName.substring(dotIndex);
+        var hashedFileNamePattern = Pattern.compile(Pattern.quote(prefix) + "[0-9a-f]{" + CONTENT_HASH_BYTES * 2 + '}'
+            + Pattern.quote(suffix) + "(" + Pattern.quote(EXT_GZ) + ")?");
+        var keptFileNames = new HashSet<String>();
+        for (Path keptFile : keptFiles) {
+            keptFileNames.add(keptFile.getFileName().toString());
+        }
+        try (var dirStream = Files.newDirectoryStream(dir)) {
+            for (Path sibling : dirStream) {
+                String siblingName = sibling.getFileName().toString();
+                if (!keptFileNames.contains(siblingName) && hashedFileNamePattern.matcher(siblingName).matches()) {
+                    Files.deleteIfExists(sibling);
+                    deletedFiles.add(sibling);
+                }
+            }
+        }
+        return deletedFiles;
+    }
+
+    /**
+     * Write gzip-compressed content to the sibling file with {@code .gz} extension. Modification time
+     * is not written to the gzip header, so the same content always gives the same bytes.
+     *
+     * @param file original file
+     * @param content file content
+     *
+     * @return path to compressed file
+     *
+     * @throws IOException if file can't be written
+     * @since 6.13.0
+     */
+    public static Path writeGzipped(Path file, byte[] content) throws IOException {
+        Path gzFile = file.resolveSibling(file.getFileName() + EXT_GZ);
+        Files.write(gzFile, gzip(content));
+        return gzFile;
+    }
+
+    /**
+     * Compress content with gzip. Modification time is not written to the gzip header,
+     * so the same content always gives the same bytes.
+     *
+     * @param content content
+     *
+     * @return compressed content
+     *
+     * @throws IOException if content can't be compressed
+     * @since 6.13.0
+     */
+    public static byte[] gzip(byte[] content) throws IOException {
+        var out = new ByteArrayOutputStream(content.length / 4 + 64);
+        try (OutputStream gzipOut = new GZIPOutputStream(out)) {
+            gzipOut.write(content);
+        }
+        return out.toByteArray();
+    }
 }
@@ -0,0 +1,452 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.openapi.visitor;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.Nullable;
+import io.swagger.v3.oas.models.ExternalDocumentation;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.media.Content;
+import io.swagger.v3.oas.models.media.MediaType;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.parameters.Parameter;
+import io.swagger.v3.oas.models.responses.ApiResponse;
+import io.swagger.v3.oas.models.responses.ApiResponses;
+import io.swagger.v3.oas.models.security.SecurityRequirement;
+import io.swagger.v3.oas.models.security.SecurityScheme;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import static io.micronaut.openapi.OpenApiUtils.CONVERT_JSON_MAPPER;
+import static io.micronaut.openapi.visitor.ConvertUtils.MAP_TYPE_REFERENCE;
+import static io.micronaut.openapi.visitor.OpenApiModelProp.PROP_ALLOW_EMPTY_VALUE;
+import static io.micronaut.openapi.visitor.OpenApiModelProp.PROP_ALLOW_RESERVED;
+import static io.micronaut.openapi.visitor.OpenApiModelProp.PROP_BEARER_FORMAT;
+import static io.micronaut.openapi.visitor.OpenApiModelProp.PROP_CONTENT;
+import static io.micronaut.openapi.visitor.OpenApiModelProp.PROP_DEFAULT;
+import static io.micronaut.openapi.visitor.OpenApiModelProp.PROP_DEPRECATED;
+import static io.micronaut.openapi.visitor.OpenApiModelProp.PROP_DESCRIPTION;
+import static io.micronaut.openapi.visitor.OpenApiModelProp.PROP_EXAMPLE;
+import static io.micronaut.openapi.visitor.OpenApiModelProp.PROP_EXAMPLE_SET_FLAG;
+import static io.micronaut.openapi.visitor.OpenApiModelProp.PROP_EXTENSIONS;
+import static io.micronaut.openapi.visitor.OpenApiModelProp.PROP_EXTERNAL_DOCS;
+import static io.micronaut.openapi.visitor.OpenApiModelProp.PROP_HIDDEN;
+import static io.micronaut.openapi.visitor.OpenApiModelProp.PROP_IGNORE_JSON_VIEW;
+import static io.micronaut.openapi.visitor.OpenApiModelProp.PROP_IMPLEMENTATION;
+import static io.micronaut.openapi.visitor.OpenApiModelProp.PROP_IN;
+import static io.micronaut.openapi.visitor.OpenApiModelProp.PROP_MEDIA_TYPE;
+import static io.micronaut.openapi.visitor.OpenApiModelProp.PROP_METHOD;
+import static io.micronaut.openapi.visitor.OpenApiModelProp.PROP_NAME;
+import static io.micronaut.openapi.visitor.OpenApiModelProp.PROP_NULLABLE;
+import static io.micronaut.openapi.visitor.OpenApiModelProp.PROP_ONE_FORMAT;
+import static io.micronaut.openapi.visitor.OpenApiModelProp.PROP_OPEN_ID_CONNECT_URL;
+import static io.micronaut.openapi.visitor.OpenApiModelProp.PROP_OPERATION_ID;
+import static io.micronaut.openapi.visitor.OpenApiModelProp.PROP_PARAMETERS;
+import static io.micronaut.openapi.visitor.OpenApiModelProp.PROP_PATTERN;
+import static io.micronaut.openapi.visitor.OpenApiModelProp.PROP_READ_ONLY;
+import static io.micronaut.openapi.visitor.OpenApiModelProp.PROP_REF;
+import static io.micronaut.openapi.visitor.OpenApiModelProp.PROP_REF_DOLLAR;
+import static io.micronaut.openapi.visitor.OpenApiModelProp.PROP_REQUIRED;
+import static io.micronaut.openapi.visitor.OpenApiModelProp.PROP_RESPONSES;
+import static io.micronaut.openapi.visitor.OpenApiModelProp.PROP_RESPONSE_CODE;
+import static io.micronaut.openapi.visitor.OpenApiModelProp.PROP_SCHEMA;
+import static io.micronaut.openapi.visitor.OpenApiModelProp.PROP_SCHEME;
+import static io.micronaut.openapi.visitor.OpenApiModelProp.PROP_SECURITY;
+import static io.micronaut.openapi.visitor.OpenApiModelProp.PROP_SUMMARY;
+import static io.micronaut.openapi.visitor.OpenApiModelProp.PROP_TAGS;
+import static io.micronaut.openapi.visitor.OpenApiModelProp.PROP_TITLE;
+import static io.micronaut.openapi.visitor.OpenApiModelProp.PROP_TYPE;
+import static io.micronaut.openapi.visitor.OpenApiModelProp.PROP_URL;
+import static io.micronaut.openapi.visitor.OpenApiModelProp.PROP_USE_RETURN_TYPE_SCHEMA;
+import static io.micronaut.openapi.visitor.OpenApiModelProp.PROP_WRITE_ONLY;
+
+/**
+ * Binders of the values maps, prepared by {@code toValueMap}, to {@link Operation}, {@link Parameter},
+ * {@link Schema}, {@link ApiResponse} and {@link SecurityScheme} objects. Binders call the same setters,
+ * which {@link io.micronaut.openapi.OpenApiUtils#CONVERT_JSON_MAPPER} calls, but without serializing the values.
+ * <p>
+ * Each binder knows the keys it can bind and the keys, which the mapper ignores. For any other key, or for
+ * a value of unexpected type, binders return {@code null} and values must be bound by the mapper.
+ *
+ * @since 6.13.0
+ */
+@Internal
+final class ModelBinders {
+
+    private ModelBinders() {
+    }
+
+    /**
+     * Binds the values map to the model object.
+     *
+     * @param values The values map
+     * @param clazz The model class
+     * @param <T> The model type
+     *
+     * @return The model object or null, if there is no binder for the class or the values can't be bound directly
+     */
+    @Nullable
+    @SuppressWarnings("unchecked")
+    static <T> T bind(Map<CharSequence, Object> values, Class<T> clazz) {
+        Object value;
+        if (clazz == Operation.class) {
+            value = bindOperation(values);
+        } else if (clazz == ApiResponse.class) {
+            value = bindApiResponse(values);
+        } else if (clazz == Parameter.class) {
+            value = bindParameter(values);
+        } else if (clazz == Schema.class) {
+            value = bindSchema(values);
+        } else if (clazz == SecurityScheme.class) {
+            value = bindSecurityScheme(values);
+        } else {
+            value = null;
+        }
+        return (T) value;
+    }
+
+    @Nullable
+    private static Operation bindOperation(Object values) {
+        if (!(values instanceof Map<?, ?> map)) {
+            return null;
+        }
+        var operation = new Operation();
+        for (var entry : map.entrySet()) {
+            Object value = entry.getValue();
+            if (value == null) {
+                continue;
+            }
+            boolean bound = switch (entry.getKey().toString()) {
+                case PROP_TAGS -> set(list(value, ModelBinders::string), operation::setTags);
+                case PROP_SUMMARY -> set(string(value), operation::setSummary);
+                case PROP_DESCRIPTION -> set(string(value), operation::setDescription);
+                case PROP_OPERATION_ID -> set(string(value), operation::setOperationId);
+                case PROP_DEPRECATED -> set(bool(value), operation::setDeprecated);
+                case PROP_EXTERNAL_DOCS -> set(bindExternalDocs(value), operation::setExternalDocs);
+                case PROP_PARAMETERS -> set(list(value, ModelBinders::bindParameter), operation::setParameters);
+                case PROP_RESPONSES -> set(bindApiResponses(value), operation::setResponses);
+                case PROP_SECURITY -> set(list(value, ModelBinders::copySecurityRequirement), operation::setSecurity);
+                case PROP_EXTENSIONS -> set(extensions(value), operation::setExtensions);
+                case PROP_METHOD, PROP_HIDDEN, PROP_IGNORE_JSON_VIEW -> true;
+                default -> false;
+            };
+            if (!bound) {
+                return null;
+            }
+        }
+        return operation;
+    }
+
+    @Nullable
+    private static Parameter bindParameter(Object values) {
+        if (!(values instanceof Map<?, ?> map)) {
+            return null;
+        }
+        var parameter = new Parameter();
+        for (var entry : map.entrySet()) {
+            Object value = entry.getValue();
+            if (value == null) {
+                continue;
+            }
+            boolean bound = switch (entry.getKey().toString()) {
+                case PROP_NAME -> set(string(value), parameter::setName);
+                case PROP_IN -> set(string(value), parameter::setIn);
+                case PROP_DESCRIPTION -> set(string(value), parameter::setDescription);
+                case PROP_REF_DOLLAR -> set(string(value), parameter::set$ref);
+                case PROP_REQUIRED -> set(bool(value), parameter::setRequired);
+                case PROP_DEPRECATED -> set(bool(value), parameter::setDeprecated);
+                case PROP_ALLOW_EMPTY_VALUE -> set(bool(value), parameter::setAllowEmptyValue);
+                case PROP_ALLOW_RESERVED -> set(bool(value), parameter::setAllowReserved);
+                case PROP_EXAMPLE -> set(string(value), parameter::setExample);
+                case PROP_SCHEMA -> set(bindSchema(value), parameter::setSchema);
+                case PROP_CONTENT -> set(bindContent(value), parameter::setContent);
+                case PROP_EXTENSIONS -> set(extensions(value), parameter::setExtensions);
+                case PROP_REF, PROP_HIDDEN -> true;
+                default -> false;
+            };
+            if (!bound) {
+                return null;
+            }
+        }
+        return parameter;
+    }
+
+    @Nullable
+    private static ApiResponses bindApiResponses(Object values) {
+        if (!(values instanceof Map<?, ?> map)) {
+            return null;
+        }
+        var responses = new ApiResponses();
+        for (var entry : map.entrySet()) {
+            ApiResponse response = bindApiResponse(entry.getValue());
+            if (response == null) {
+                return null;
+            }
+            responses.put(entry.getKey().toString(), response);
+        }
+        return responses;
+    }
+
+    @Nullable
+    private static ApiResponse bindApiResponse(Object values) {
+        if (!(values instanceof Map<?, ?> map)) {
+            return null;
+        }
+        var response = new ApiResponse();
+        for (var entry : map.entrySet()) {
+            Object value = entry.getValue();
+            if (value == null) {
+                continue;
+            }
+            boolean bound = switch (entry.getKey().toString()) {
+                case PROP_DESCRIPTION -> set(string(value), response::setDescription);
+                case PROP_REF_DOLLAR -> set(string(value), response::set$ref);
+                case PROP_CONTENT -> set(bindContent(value), response::setContent);
+                case PROP_EXTENSIONS -> set(extensions(value), response::setExtensions);
+                case PROP_REF, PROP_RESPONSE_CODE, PROP_USE_RETURN_TYPE_SCHEMA -> true;
+                default -> false;
+            };
+            if (!bound) {
+                return null;
+            }
+        }
+        return response;
+    }
+
+    @Nullable
+    private static Content bindContent(Object values) {
+        if (!(values instanceof Map<?, ?> map)) {
+            return null;
+        }
+        var content = new Content();
+        for (var entry : map.entrySet()) {
+            MediaType mediaType = bindMediaType(entry.getValue());
+            if (mediaType == null) {
+                return null;
+            }
+            content.put(entry.getKey().toString(), mediaType);
+        }
+        return content;
+    }
+
+    @Nullable
+    private static MediaType bindMediaType(Object values) {
+        if (!(values instanceof Map<?, ?> map)) {
+            return null;
+        }
+        var mediaType = new MediaType();
+        for (var entry : map.entrySet()) {
+            Object value = entry.getValue();
+            if (value == null) {
+                continue;
+            }
+            boolean bound = switch (entry.getKey().toString()) {
+                case PROP_SCHEMA -> set(bindSchema(value), mediaType::setSchema);
+                case PROP_EXAMPLE -> set(string(value), mediaType::setExample);
+                case PROP_EXTENSIONS -> set(extensions(value), mediaType::setExtensions);
+                case PROP_MEDIA_TYPE -> true;
+                default -> false;
+            };
+            if (!bound) {
+                return null;
+            }
+        }
+        return mediaType;
+    }
+
+    @Nullable
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private static Schema bindSchema(Object values) {
+        if (!(values instanceof Map<?, ?> map)) {
+            return null;
+        }
+        Schema schema = new Schema();
+        for (var entry : map.entrySet()) {
+            Object value = entry.getValue();
+            if (value == null) {
+                continue;
+            }
+            boolean bound = switch (entry.getKey().toString()) {
+                case PROP_TYPE -> set(string(value), schema::setType);
+                case PROP_ONE_FORMAT -> set(string(value), schema::setFormat);
+                case PROP_TITLE -> set(string(value), schema::setTitle);
+                case PROP_DESCRIPTION -> set(string(value), schema::setDescription);
+                case PROP_PATTERN -> set(string(value), schema::setPattern);
+                case PROP_REF_DOLLAR -> set(string(value), schema::set$ref);
+                case PROP_DEFAULT -> set(string(value), schema::setDefault);
+                case PROP_EXAMPLE -> set(string(value), schema::setExample);
+                case PROP_EXAMPLE_SET_FLAG -> set(bool(value), schema::setExampleSetFlag);
+                case PROP_NULLABLE -> set(bool(value), schema::setNullable);
+                case PROP_DEPRECATED -> set(bool(value), schema::setDeprecated);
+                case PROP_READ_ONLY -> set(bool(value), schema::setReadOnly);
+                case PROP_WRITE_ONLY -> set(bool(value), schema::setWriteOnly);
+                case PROP_EXTENSIONS -> set(extensions(value), schema::setExtensions);
+                case PROP_IMPLEMENTATION, PROP_HIDDEN -> true;
+                default -> false;
+            };
+            if (!bound) {
+                return null;
+            }
+        }
+        return schema;
+    }
+
+    @Nullable
+    private static SecurityScheme bindSecurityScheme(Object values) {
+        if (!(values instanceof Map<?, ?> map)) {
+            return null;
+        }
+        var securityScheme = new SecurityScheme();
+        for (var entry : map.entrySet()) {
+            Object value = entry.getValue();
+            if (value == null) {
+                continue;
+            }
+            boolean bound = switch (entry.getKey().toString()) {
+                case PROP_TYPE -> set(enumValue(value, SecurityScheme.Type.values()), securityScheme::setType);
+                case PROP_IN -> set(enumValue(value, SecurityScheme.In.values()), securityScheme::setIn);
+                case PROP_NAME -> set(string(value), securityScheme::setName);
+                case PROP_DESCRIPTION -> set(string(value), securityScheme::setDescription);
+                case PROP_SCHEME -> set(string(value), securityScheme::setScheme);
+                case PROP_BEARER_FORMAT -> set(string(value), securityScheme::setBearerFormat);
+                case PROP_OPEN_ID_CONNECT_URL -> set(string(value), securityScheme::setOpenIdConnectUrl);
+                case PROP_REF_DOLLAR -> set(string(value), securityScheme::set$ref);
+                case PROP_EXTENSIONS -> set(extensions(value), securityScheme::setExtensions);
+                default -> false;
+            };
+            if (!bound) {
+                return null;
+            }
+        }
+        return securityScheme;
+    }
+
+    @Nullable
+    private static ExternalDocumentation bindExternalDocs(Object values) {
+        if (!(values instanceof Map<?, ?> map)) {
+            return null;
+        }
+        var externalDocs = new ExternalDocumentation();
+        for (var entry : map.entrySet()) {
+            Object value = entry.getValue();
+            if (value == null) {
+                continue;
+            }
+            boolean bound = switch (entry.getKey().toString()) {
+                case PROP_DESCRIPTION -> set(string(value), externalDocs::setDescription);
+                case PROP_URL -> set(string(value), externalDocs::setUrl);
+                case PROP_EXTENSIONS -> set(extensions(value), externalDocs::setExtensions);
+                default -> false;
+            };
+            if (!bound) {
+                return null;
+            }
+        }
+        return externalDocs;
+    }
+
+    /**
+     * Security requirements are already model objects, but the mapper creates new ones with mutable scope lists.
+     */
+    @Nullable
+    private static SecurityRequirement copySecurityRequirement(Object value) {
+        if (!(value instanceof SecurityRequirement securityRequirement)) {
+            return null;
+        }
+        var copy = new SecurityRequirement();
+        for (var entry : securityRequirement.entrySet()) {
+            if (entry.getValue() == null) {
+                continue;
+            }
+            List<String> scopes = list(entry.getValue(), ModelBinders::string);
+            if (scopes == null) {
+                return null;
+            }
+            copy.put(entry.getKey(), scopes);
+        }
+        return copy;
+    }
+
+    private static <V> boolean set(@Nullable V value, Consumer<V> setter) {
+        if (value == null) {
+            return false;
+        }
+        setter.accept(value);
+        return true;
+    }
+
+    @Nullable
+    private static String string(Object value) {
+        return value instanceof String str ? str : null;
+    }
+
+    @Nullable
+    private static Boolean bool(Object value) {
+        return value instanceof Boolean bool ? bool : null;
+    }
+
+    @Nullable
+    private static <E extends Enum<E>> E enumValue(Object value, E[] constants) {
+        if (value instanceof String str) {
+            // the same as READ_ENUMS_USING_TO_STRING
+            for (E constant : constants) {
+                if (constant.toString().equals(str)) {
+                    return constant;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Binds arrays, collections or a single value (ACCEPT_SINGLE_VALUE_AS_ARRAY) to a list.
+     */
+    @Nullable
+    private static <V> List<V> list(Object value, Function<Object, V> itemBinder) {
+        Collection<?> items;
+        if (value instanceof Object[] array) {
+            items = Arrays.asList(array);
+        } else if (value instanceof Collection<?> collection) {
+            items = collection;
+        } else {
+            items = List.of(value);
+        }
+        var list = new ArrayList<V>(items.size());
+        for (Object item : items) {
+            V boundItem = item != null ? itemBinder.apply(item) : null;
+            if (boundItem == null) {
+                return null;
+            }
+            list.add(boundItem);
+        }
+        return list;
+    }
+
+    @Nullable
+    private static Map<String, Object> extensions(Object value) {
+        try {
+            return CONVERT_JSON_MAPPER.convertValue(value, MAP_TYPE_REFERENCE);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
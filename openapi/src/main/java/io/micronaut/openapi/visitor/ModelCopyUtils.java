@@ -0,0 +1,235 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.openapi.visitor;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.micronaut.core.annotation.Internal;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Copy utilities for swagger model objects. Objects are copied property by property through their
+ * public getters and setters, without serialization and without access to private fields.
+ *
+ * @since 6.13.0
+ */
+@Internal
+public final class ModelCopyUtils {
+
+    /**
+     * Properties of swagger model classes. Spec version is copied first, because other setters can depend on it,
+     * and flags like {@code exampleSetFlag} are copied last, because setters of values change them.
+     */
+    private static final ClassValue<Property[]> MODEL_PROPERTIES = new ClassValue<>() {
+        @Override
+        protected Property[] computeValue(Class<?> type) {
+            var properties = new ArrayList<Property>();
+            for (Method getter : type.getMethods()) {
+                String name = propertyName(getter);
+                if (name == null) {
+                    continue;
+                }
+                Method setter = setter(type, name, getter.getReturnType());
+                if (setter != null) {
+                    properties.add(new Property(name, getter, setter));
+                }
+            }
+            properties.sort(Comparator.comparingInt(Property::order).thenComparing(Property::name));
+            return properties.toArray(new Property[0]);
+        }
+    };
+
+    private static final String MODELS_PACKAGE = "io.swagger.v3.oas.models.";
+    private static final String SPEC_VERSION = "specVersion";
+    private static final String SET_FLAG_SUFFIX = "SetFlag";
+
+    private ModelCopyUtils() {
+    }
+
+    /**
+     * Deep copy of swagger model object. Model objects, collections, maps and JSON nodes are copied,
+     * other values (strings, numbers, enums, etc.) are shared with the source object. Objects, which are
+     * referenced several times in the source object, are copied once, so the copy has the same structure.
+     *
+     * @param value swagger model object
+     * @param <T> object type
+     *
+     * @return copy of the object
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> T deepCopy(T value) {
+        return (T) deepCopy(value, new IdentityHashMap<>());
+    }
+
+    /**
+     * Check, if the class is a swagger model class.
+     *
+     * @param type class
+     *
+     * @return true, if it's a swagger model class
+     */
+    static boolean isModel(Class<?> type) {
+        return type.getName().startsWith(MODELS_PACKAGE);
+    }
+
+    /**
+     * Get properties of swagger model class, which have public getter and setter.
+     *
+     * @param type swagger model class
+     *
+     * @return model properties
+     */
+    static Property[] modelProperties(Class<?> type) {
+        return MODEL_PROPERTIES.get(type);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Object deepCopy(Object value, Map<Object, Object> copies) {
+        if (value == null || value instanceof Enum<?>) {
+            return value;
+        }
+        Object copy = copies.get(value);
+        if (copy != null) {
+            return copy;
+        }
+        Class<?> type = value.getClass();
+        if (isModel(type)) {
+            copy = newInstance(type);
+            copies.put(value, copy);
+            for (Property property : MODEL_PROPERTIES.get(type)) {
+                property.set(copy, deepCopy(property.get(value), copies));
+            }
+            // Paths, ApiResponses, Content, etc.
+            if (value instanceof Map<?, ?> map) {
+                copyEntries(map, (Map<Object, Object>) copy, copies);
+            }
+        } else if (value instanceof JsonNode node) {
+            copy = node.deepCopy();
+            copies.put(value, copy);
+        } else if (value instanceof Map<?, ?> map) {
+            var mapCopy = new LinkedHashMap<>(map.size());
+            copies.put(value, mapCopy);
+            copyEntries(map, mapCopy, copies);
+            copy = mapCopy;
+        } else if (value instanceof Collection<?> collection) {
+            Collection<Object> collectionCopy = value instanceof Set<?> ? new LinkedHashSet<>(collection.size()) : new ArrayList<>(collection.size());
+            copies.put(value, collectionCopy);
+            for (Object item : collection) {
+                collectionCopy.add(deepCopy(item, copies));
+            }
+            copy = collectionCopy;
+        } else {
+            copy = value;
+        }
+        return copy;
+    }
+
+    private static void copyEntries(Map<?, ?> source, Map<Object, Object> target, Map<Object, Object> copies) {
+        for (var entry : source.entrySet()) {
+            target.put(entry.getKey(), deepCopy(entry.getValue(), copies));
+        }
+    }
+
+    private static Object newInstance(Class<?> type) {
+        try {
+            return type.getConstructor().newInstance();
+        } catch (InstantiationException | IllegalAccessException | InvocationTargetException | NoSuchMethodException e) {
+            throw new IllegalStateException("Can't create instance of " + type.getName(), e);
+        }
+    }
+
+    private static String propertyName(Method method) {
+        if (Modifier.isStatic(method.getModifiers()) || method.isBridge() || method.getParameterCount() != 0
+            || method.getDeclaringClass() == Object.class) {
+            return null;
+        }
+        String name = method.getName();
+        int prefixLength;
+        if (name.startsWith("get") && method.getReturnType() != void.class) {
+            prefixLength = 3;
+        } else if (name.startsWith("is") && method.getReturnType() == boolean.class) {
+            prefixLength = 2;
+        } else {
+            return null;
+        }
+        if (name.length() == prefixLength) {
+            return null;
+        }
+        return Character.toLowerCase(name.charAt(prefixLength)) + name.substring(prefixLength + 1);
+    }
+
+    private static Method setter(Class<?> type, String propertyName, Class<?> propertyType) {
+        String setterName = "set" + Character.toUpperCase(propertyName.charAt(0)) + propertyName.substring(1);
+        Method found = null;
+        for (Method method : type.getMethods()) {
+            if (Modifier.isStatic(method.getModifiers()) || method.isBridge() || method.getParameterCount() != 1
+                || !method.getName().equals(setterName)) {
+                continue;
+            }
+            Class<?> parameterType = method.getParameterTypes()[0];
+            if (parameterType == propertyType) {
+                return method;
+            }
+            if (parameterType.isAssignableFrom(propertyType)) {
+                found = method;
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Model property with public accessors.
+     *
+     * @param name property name
+     * @param getter getter
+     * @param setter setter
+     */
+    record Property(String name, Method getter, Method setter) {
+
+        int order() {
+            if (name.equals(SPEC_VERSION)) {
+                return 0;
+            }
+            return name.endsWith(SET_FLAG_SUFFIX) ? 2 : 1;
+        }
+
+        Object get(Object object) {
+            try {
+                return getter.invoke(object);
+            } catch (IllegalAccessException | InvocationTargetException e) {
+                throw new IllegalStateException("Can't read property " + name + " of " + object.getClass().getName(), e);
+            }
+        }
+
+        void set(Object object, Object value) {
+            try {
+                setter.invoke(object, value);
+            } catch (IllegalAccessException | InvocationTargetException e) {
+                throw new IllegalStateException("Can't write property " + name + " of " + object.getClass().getName(), e);
+            }
+        }
+    }
+}
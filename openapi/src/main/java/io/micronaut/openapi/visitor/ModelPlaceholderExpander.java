@@ -0,0 +1,167 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.openapi.visitor;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.openapi.visitor.ModelCopyUtils.Property;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.UnaryOperator;
+
+/**
+ * Expands placeholders in swagger model objects in place: in string properties, map keys (paths, media types,
+ * property names, etc.), collections, extensions and JSON nodes. Model objects are updated through their setters,
+ * but only when a value is changed, so a document without placeholders is walked once and stays untouched.
+ *
+ * @since 6.13.0
+ */
+@Internal
+public final class ModelPlaceholderExpander {
+
+    private final UnaryOperator<String> expander;
+    private final Set<Object> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    private ModelPlaceholderExpander(UnaryOperator<String> expander) {
+        this.expander = expander;
+    }
+
+    /**
+     * Expand placeholders in all string values and map keys of the model object.
+     *
+     * @param model swagger model object
+     * @param expander function, which expands placeholders in a string. It must return the same string instance,
+     *     if the string has no placeholders
+     */
+    public static void expand(Object model, UnaryOperator<String> expander) {
+        new ModelPlaceholderExpander(expander).expandValue(model);
+    }
+
+    /**
+     * Expand placeholders in the value.
+     *
+     * @param value value
+     *
+     * @return the same value, if it has no placeholders, or it's a model object, which is updated in place,
+     *     otherwise new value
+     */
+    private Object expandValue(Object value) {
+        if (value == null || value instanceof Enum<?> || value instanceof Number || value instanceof Boolean) {
+            return value;
+        }
+        if (value instanceof String string) {
+            return string.isBlank() ? string : expander.apply(string);
+        }
+        if (ModelCopyUtils.isModel(value.getClass())) {
+            expandModel(value);
+            return value;
+        }
+        if (value instanceof JsonNode node) {
+            return PlaceholderResolver.expandTree(node, expander);
+        }
+        if (value instanceof Map<?, ?> map) {
+            return expandMap(map);
+        }
+        if (value instanceof Collection<?> collection) {
+            return expandCollection(collection);
+        }
+        return value;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void expandModel(Object model) {
+        if (!visited.add(model)) {
+            return;
+        }
+        for (Property property : ModelCopyUtils.modelProperties(model.getClass())) {
+            Object value = property.get(model);
+            Object expanded = expandValue(value);
+            if (expanded != value) {
+                property.set(model, expanded);
+            }
+        }
+        // Paths, ApiResponses, Content, etc. are maps themselves, they are updated in place
+        if (model instanceof Map<?, ?> map) {
+            var expanded = (Map<Object, Object>) expandMap(map);
+            if (expanded != map) {
+                var entries = (Map<Object, Object>) map;
+                entries.clear();
+                entries.putAll(expanded);
+            }
+        }
+    }
+
+    private Map<?, ?> expandMap(Map<?, ?> map) {
+        Map<Object, Object> result = null;
+        int i = 0;
+        for (var entry : map.entrySet()) {
+            Object key = entry.getKey();
+            Object expandedKey = key instanceof String string ? expandValue(string) : key;
+            Object value = entry.getValue();
+            Object expandedValue = expandValue(value);
+            if (result == null && (expandedKey != key || expandedValue != value)) {
+                // copy entries before the first changed one, keeping their order
+                result = new LinkedHashMap<>(map.size());
+                int j = 0;
+                for (var previous : map.entrySet()) {
+                    if (j++ == i) {
+                        break;
+                    }
+                    result.put(previous.getKey(), previous.getValue());
+                }
+            }
+            if (result != null) {
+                result.put(expandedKey, expandedValue);
+            }
+            i++;
+        }
+        return result != null ? result : map;
+    }
+
+    private Collection<?> expandCollection(Collection<?> collection) {
+        List<Object> result = null;
+        int i = 0;
+        for (Object item : collection) {
+            Object expanded = expandValue(item);
+            if (result == null && expanded != item) {
+                result = new ArrayList<>(collection.size());
+                int j = 0;
+                for (Object previous : collection) {
+                    if (j++ == i) {
+                        break;
+                    }
+                    result.add(previous);
+                }
+            }
+            if (result != null) {
+                result.add(expanded);
+            }
+            i++;
+        }
+        if (result == null) {
+            return collection;
+        }
+        return collection instanceof Set<?> ? new LinkedHashSet<>(result) : result;
+    }
+}
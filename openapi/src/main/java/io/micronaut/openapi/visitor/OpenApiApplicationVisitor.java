@@ -16,12 +16,14 @@
 package io.micronaut.openapi.visitor;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.PropertyNamingStrategies;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
-import com.fasterxml.jackson.databind.node.TextNode;
-import io.micronaut.context.env.Environment;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import io.micronaut.core.annotation.NonNull;
 import io.micronaut.core.annotation.Nullable;
 import io.micronaut.core.util.CollectionUtils;
 import io.micronaut.core.util.StringUtils;
@@ -37,11 +39,14 @@ import io.micronaut.openapi.annotation.OpenAPIGroupInfos;
 import io.micronaut.openapi.postprocessors.JacksonDiscriminatorPostProcessor;
 import io.micronaut.openapi.postprocessors.OpenApiOperationsPostProcessor;
 import io.micronaut.openapi.view.OpenApiViewConfig;
+import io.micronaut.openapi.visitor.ContextUtils.DeferredFailure;
+import io.micronaut.openapi.visitor.ContextUtils.DeferredResult;
 import io.micronaut.openapi.visitor.group.EndpointGroupInfo;
 import io.micronaut.openapi.visitor.group.EndpointInfo;
 import io.micronaut.openapi.visitor.group.GroupProperties;
 import io.micronaut.openapi.visitor.group.OpenApiInfo;
 import io.swagger.v3.oas.annotations.OpenAPIDefinition;
+import io.swagger.v3.oas.models.Components;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.Operation;
 import io.swagger.v3.oas.models.PathItem;
@@ -53,23 +58,32 @@ import io.swagger.v3.oas.models.servers.Server;
 import io.swagger.v3.oas.models.tags.Tag;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.io.Serial;
 import java.io.StringWriter;
 import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.DirectoryStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
 import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
 
@@ -77,9 +91,10 @@ import static io.micronaut.openapi.visitor.ConfigUtils.endpointsConfiguration;
 import static io.micronaut.openapi.visitor.ConfigUtils.getAdocProperties;
 import static io.micronaut.openapi.visitor.ConfigUtils.getBooleanProperty;
 import static io.micronaut.openapi.visitor.ConfigUtils.getConfigProperty;
-import static io.micronaut.openapi.visitor.ConfigUtils.getEnv;
-import static io.micronaut.openapi.visitor.ConfigUtils.getExpandableProperties;
 import static io.micronaut.openapi.visitor.ConfigUtils.getGroupProperties;
+import static io.micronaut.openapi.visitor.ConfigUtils.getParallelism;
+import static io.micronaut.openapi.visitor.ConfigUtils.getPlaceholderResolver;
+import static io.micronaut.openapi.visitor.ConfigUtils.getProjectPath;
 import static io.micronaut.openapi.visitor.ConfigUtils.isOpenApiEnabled;
 import static io.micronaut.openapi.visitor.ConfigUtils.isSpecGenerationEnabled;
 import static io.micronaut.openapi.visitor.ConfigUtils.readOpenApiConfigFile;
@@ -88,20 +103,26 @@ import static io.micronaut.openapi.visitor.ContextProperty.MICRONAUT_INTERNAL_OP
 import static io.micronaut.openapi.visitor.ContextProperty.MICRONAUT_INTERNAL_OPENAPI_ENDPOINT_SERVERS;
 import static io.micronaut.openapi.visitor.ContextUtils.addGeneratedResource;
 import static io.micronaut.openapi.visitor.ContextUtils.info;
+import static io.micronaut.openapi.visitor.ContextUtils.runWithDeferredMessages;
 import static io.micronaut.openapi.visitor.ContextUtils.warn;
 import static io.micronaut.openapi.visitor.FileUtils.EXT_JSON;
 import static io.micronaut.openapi.visitor.FileUtils.EXT_YML;
+import static io.micronaut.openapi.visitor.FileUtils.SPEC_MANIFEST_FILE_NAME;
 import static io.micronaut.openapi.visitor.FileUtils.calcFinalFilename;
 import static io.micronaut.openapi.visitor.FileUtils.getDefaultFilePath;
 import static io.micronaut.openapi.visitor.FileUtils.getViewsDestDir;
 import static io.micronaut.openapi.visitor.FileUtils.openApiSpecFile;
 import static io.micronaut.openapi.visitor.FileUtils.resolve;
+import static io.micronaut.openapi.visitor.FileUtils.userDefinedSpecFile;
 import static io.micronaut.openapi.visitor.OpenApiConfigProperty.ALL;
 import static io.micronaut.openapi.visitor.OpenApiConfigProperty.MICRONAUT_OPENAPI_ADDITIONAL_FILES;
 import static io.micronaut.openapi.visitor.OpenApiConfigProperty.MICRONAUT_OPENAPI_ADOC_ENABLED;
 import static io.micronaut.openapi.visitor.OpenApiConfigProperty.MICRONAUT_OPENAPI_CONTEXT_SERVER_PATH;
 import static io.micronaut.openapi.visitor.OpenApiConfigProperty.MICRONAUT_OPENAPI_JSON_FORMAT;
 import static io.micronaut.openapi.visitor.OpenApiConfigProperty.MICRONAUT_OPENAPI_PROPERTY_NAMING_STRATEGY;
+import static io.micronaut.openapi.visitor.OpenApiConfigProperty.MICRONAUT_OPENAPI_RESOURCES_GZIP_ENABLED;
+import static io.micronaut.openapi.visitor.OpenApiConfigProperty.MICRONAUT_OPENAPI_RESOURCES_HASH_ENABLED;
+import static io.micronaut.openapi.visitor.OpenApiConfigProperty.MICRONAUT_OPENAPI_RESOURCES_MANIFEST_ENABLED;
 import static io.micronaut.openapi.visitor.OpenApiConfigProperty.MICRONAUT_OPENAPI_VIEWS_SPEC;
 import static io.micronaut.openapi.visitor.OpenApiModelProp.PROP_SECURITY;
 import static io.micronaut.openapi.visitor.OpenApiNormalizeUtils.findAndRemoveDuplicates;
@@ -112,10 +133,8 @@ import static io.micronaut.openapi.visitor.SchemaUtils.copyOpenApi;
 import static io.micronaut.openapi.visitor.SchemaUtils.getOperationOnPathItem;
 import static io.micronaut.openapi.visitor.SchemaUtils.resolveSchemas;
 import static io.micronaut.openapi.visitor.SchemaUtils.setOperationOnPathItem;
-import static io.micronaut.openapi.visitor.StringUtil.PLACEHOLDER_POSTFIX;
 import static io.micronaut.openapi.visitor.StringUtil.PLACEHOLDER_PREFIX;
 import static io.micronaut.openapi.visitor.Utils.resolveComponents;
-import static io.swagger.v3.oas.models.Components.COMPONENTS_SCHEMAS_REF;
 
 /**
  * Visits the application class.
@@ -128,11 +147,6 @@ public class OpenApiApplicationVisitor extends AbstractOpenApiVisitor implements
     private ClassElement classElement;
     private int visitedElements = -1;
 
-    @Override
-    public void start(VisitorContext context) {
-        Utils.init(context);
-    }
-
     @Override
     public Set<String> getSupportedOptions() {
         return ALL;
@@ -235,7 +249,7 @@ public class OpenApiApplicationVisitor extends AbstractOpenApiVisitor implements
                 info("Reading Swagger OpenAPI " + (isYaml ? "YAML" : "JSON") + " file " + path.getFileName(), context);
                 OpenAPI parsedOpenApi = null;
                 try {
-                    parsedOpenApi = (isYaml ? Utils.getYamlMapper() : Utils.getJsonMapper()).readValue(path.toFile(), OpenAPI.class);
+                    parsedOpenApi = (isYaml ? Utils.getYamlMapper(context) : Utils.getJsonMapper(context)).readValue(path.toFile(), OpenAPI.class);
                 } catch (IOException e) {
                     warn("Unable to read file " + path.getFileName() + ": " + e.getMessage(), context, element);
                 }
@@ -250,7 +264,7 @@ public class OpenApiApplicationVisitor extends AbstractOpenApiVisitor implements
         return element.findAnnotation(OpenAPIDefinition.class).flatMap(o -> {
             Optional<OpenAPI> result = toValue(o.getValues(), context, OpenAPI.class, null);
             result.ifPresent(openApi -> {
-                if (Utils.isOpenapi31()) {
+                if (Utils.isOpenapi31(context)) {
                     openApi.openapi(OpenApiUtils.OPENAPI_31_VERSION)
                         .jsonSchemaDialect(ConfigUtils.getJsonSchemaDialect(context))
                         .specVersion(SpecVersion.V31);
@@ -300,11 +314,8 @@ public class OpenApiApplicationVisitor extends AbstractOpenApiVisitor implements
         };
     }
 
-    private void applyPropertyNamingStrategy(OpenAPI openAPI, VisitorContext context) {
-        final String namingStrategyName = getConfigProperty(MICRONAUT_OPENAPI_PROPERTY_NAMING_STRATEGY, context);
-        final PropertyNamingStrategies.NamingBase propertyNamingStrategy = fromName(namingStrategyName);
+    private void applyPropertyNamingStrategy(OpenAPI openAPI, @Nullable PropertyNamingStrategies.NamingBase propertyNamingStrategy) {
         if (propertyNamingStrategy != null) {
-            info("Using " + namingStrategyName + " property naming strategy.", context);
             if (openAPI.getComponents() != null && CollectionUtils.isNotEmpty(openAPI.getComponents().getSchemas())) {
                 openAPI.getComponents().getSchemas().values().forEach(model -> {
                     Map<String, Schema> properties = model.getProperties();
@@ -326,12 +337,10 @@ public class OpenApiApplicationVisitor extends AbstractOpenApiVisitor implements
         }
     }
 
-    private void applyPropertyServerContextPath(OpenAPI openAPI, VisitorContext context) {
-        final String serverContextPath = getConfigProperty(MICRONAUT_OPENAPI_CONTEXT_SERVER_PATH, context);
+    private void applyPropertyServerContextPath(OpenAPI openAPI, @Nullable String serverContextPath) {
         if (serverContextPath == null || serverContextPath.isEmpty()) {
             return;
         }
-        info("Applying server context path: " + serverContextPath + " to Paths.", context);
         Paths paths = openAPI.getPaths();
         if (paths == null || paths.isEmpty()) {
             return;
@@ -348,90 +357,124 @@ public class OpenApiApplicationVisitor extends AbstractOpenApiVisitor implements
         openAPI.setPaths(newPaths);
     }
 
-    public static JsonNode resolvePlaceholders(ArrayNode anode, UnaryOperator<String> propertyExpander) {
-        for (int i = 0; i < anode.size(); ++i) {
-            anode.set(i, resolvePlaceholders(anode.get(i), propertyExpander));
-        }
-        return anode;
-    }
-
-    public static JsonNode resolvePlaceholders(ObjectNode onode, UnaryOperator<String> propertyExpander) {
-        if (onode.isEmpty()) {
-            return onode;
-        }
-        final ObjectNode newNode = onode.objectNode();
-        var i = onode.fields();
-        while (i.hasNext()) {
-            var entry = i.next();
-            newNode.set(propertyExpander.apply(entry.getKey()), resolvePlaceholders(entry.getValue(), propertyExpander));
-        }
-        return newNode;
-    }
-
-    public static JsonNode resolvePlaceholders(JsonNode node, UnaryOperator<String> propertyExpander) {
-        if (node.isTextual()) {
-            final String text = node.textValue();
-            if (text == null || text.isBlank()) {
-                return node;
-            }
-            final String newText = propertyExpander.apply(text);
-            return text.equals(newText) ? node : TextNode.valueOf(newText);
-        } else if (node.isArray()) {
-            return resolvePlaceholders((ArrayNode) node, propertyExpander);
-        } else if (node.isObject()) {
-            return resolvePlaceholders((ObjectNode) node, propertyExpander);
-        } else {
-            return node;
-        }
+    /**
+     * Expand expandable properties and replace other placeholders in the string.
+     *
+     * @param s string value
+     * @param context visitor context
+     *
+     * @return string with expanded properties
+     */
+    public static String expandProperties(String s, VisitorContext context) {
+        return getPlaceholderResolver(context).expand(s);
     }
 
+    /**
+     * Expand properties by the patterns and replace other placeholders in the string.
+     *
+     * @param s string value
+     * @param properties expandable property patterns and their values
+     * @param context visitor context
+     *
+     * @return string with expanded properties
+     *
+     * @deprecated Use {@link #expandProperties(String, VisitorContext)} instead
+     */
+    @Deprecated(forRemoval = true)
     public static String expandProperties(String s, List<Pair<String, String>> properties, VisitorContext context) {
         if (StringUtils.isEmpty(s) || !s.contains(PLACEHOLDER_PREFIX)) {
             return s;
         }
-
-        // form openapi file (expandable properties)
         if (CollectionUtils.isNotEmpty(properties)) {
             for (Pair<String, String> entry : properties) {
                 s = s.replaceAll(entry.getFirst(), entry.getSecond());
             }
         }
-
         return replacePlaceholders(s, context);
     }
 
-    public static String replacePlaceholders(String value, VisitorContext context) {
-        if (StringUtils.isEmpty(value) || !value.contains(PLACEHOLDER_PREFIX)) {
-            return value;
-        }
-        // system properties
-        if (CollectionUtils.isNotEmpty(System.getProperties())) {
-            for (Map.Entry<Object, Object> sysProp : System.getProperties().entrySet()) {
-                value = value.replace(PLACEHOLDER_PREFIX + sysProp.getKey().toString() + PLACEHOLDER_POSTFIX, sysProp.getValue().toString());
-            }
-        }
+    /**
+     * Expand placeholders in all field names and string values of JSON array.
+     *
+     * @param anode JSON array
+     * @param propertyExpander function, which expands placeholders in a string
+     *
+     * @return array with expanded placeholders
+     *
+     * @deprecated Use {@link PlaceholderResolver#expandTree(JsonNode)} instead
+     */
+    @Deprecated(forRemoval = true)
+    public static JsonNode resolvePlaceholders(ArrayNode anode, UnaryOperator<String> propertyExpander) {
+        return PlaceholderResolver.expandTree(anode, propertyExpander);
+    }
 
-        // form openapi file
-        for (Map.Entry<Object, Object> fileProp : readOpenApiConfigFile(context).entrySet()) {
-            value = value.replace(PLACEHOLDER_PREFIX + fileProp.getKey().toString() + PLACEHOLDER_POSTFIX, fileProp.getValue().toString());
-        }
+    /**
+     * Expand placeholders in all field names and string values of JSON object.
+     *
+     * @param onode JSON object
+     * @param propertyExpander function, which expands placeholders in a string
+     *
+     * @return new object with expanded placeholders
+     *
+     * @deprecated Use {@link PlaceholderResolver#expandTree(JsonNode)} instead
+     */
+    @Deprecated(forRemoval = true)
+    public static JsonNode resolvePlaceholders(ObjectNode onode, UnaryOperator<String> propertyExpander) {
+        return PlaceholderResolver.expandTree(onode, propertyExpander);
+    }
 
-        // from environments
-        Environment environment = getEnv(context);
-        if (environment != null) {
-            value = environment.getPlaceholderResolver().resolvePlaceholders(value).orElse(value);
-        }
+    /**
+     * Expand placeholders in all field names and string values of JSON tree.
+     *
+     * @param node JSON node
+     * @param propertyExpander function, which expands placeholders in a string
+     *
+     * @return node with expanded placeholders
+     *
+     * @deprecated Use {@link PlaceholderResolver#expandTree(JsonNode)} instead
+     */
+    @Deprecated(forRemoval = true)
+    public static JsonNode resolvePlaceholders(JsonNode node, UnaryOperator<String> propertyExpander) {
+        return PlaceholderResolver.expandTree(node, propertyExpander);
+    }
 
-        return value;
+    public static String replacePlaceholders(String value, VisitorContext context) {
+        return getPlaceholderResolver(context).resolve(value);
     }
 
-    private static OpenAPI resolvePropertyPlaceHolders(OpenAPI openAPI, VisitorContext context) {
-        List<Pair<String, String>> expandableProperties = getExpandableProperties(context);
-        if (CollectionUtils.isNotEmpty(expandableProperties)) {
-            info("Expanding properties: " + expandableProperties, context);
+    /**
+     * Expand placeholders in all string values and map keys (paths, media types, property names, etc.)
+     * of openAPI object. The object is updated in place, only values with placeholders are replaced.
+     *
+     * @param openAPI openAPI object
+     * @param placeholderResolver placeholder resolver
+     *
+     * @return openAPI object with expanded placeholders
+     */
+    static OpenAPI resolvePropertyPlaceHolders(OpenAPI openAPI, PlaceholderResolver placeholderResolver) {
+        ModelPlaceholderExpander.expand(openAPI, placeholderResolver::expand);
+        return openAPI;
+    }
+
+    /**
+     * Read openAPI object back from its serialized form, as clients read the generated document. Swagger deserializers
+     * create specific schema types ({@code MapSchema}, {@code ArraySchema}, etc.), which are checked by tests.
+     *
+     * @param openAPI openAPI object
+     * @param openapi31 whether OpenAPI 3.1 is enabled
+     *
+     * @return deserialized copy of openAPI object
+     */
+    private static OpenAPI deserializedCopy(OpenAPI openAPI, boolean openapi31) {
+        ObjectMapper mapper = Utils.getYamlMapper(openapi31);
+        var buffer = new TokenBuffer(mapper, false)
+            .forceUseOfBigDecimal(mapper.isEnabled(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS));
+        try {
+            mapper.writeValue(buffer, openAPI);
+            return mapper.readValue(buffer.asParser(mapper), OpenAPI.class);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
         }
-        JsonNode root = resolvePlaceholders(Utils.getYamlMapper().convertValue(openAPI, ObjectNode.class), s -> expandProperties(s, expandableProperties, context));
-        return Utils.getYamlMapper().convertValue(root, OpenAPI.class);
     }
 
     @Override
@@ -447,16 +490,22 @@ public class OpenApiApplicationVisitor extends AbstractOpenApiVisitor implements
 
             Map<Pair<String, String>, OpenApiInfo> openApiInfos = null;
             String documentTitle = "OpenAPI";
+            var profiler = OpenApiProfiler.get(context);
 
             if (isSpecGenerationEnabled(context)) {
                 OpenAPI openApi = ContextUtils.get(Utils.ATTR_OPENAPI, OpenAPI.class, context);
                 if (openApi == null) {
                     return;
                 }
-                processEndpoints(context);
-
-                mergeMicronautEndpointInfos(openApi, context);
-                openApiInfos = divideOpenapiByGroupsAndVersions(openApi, context);
+                try (var ignored = profiler.phase("finish.processEndpoints")) {
+                    processEndpoints(context);
+                }
+                try (var ignored = profiler.phase("finish.merge")) {
+                    mergeMicronautEndpointInfos(openApi, context);
+                }
+                try (var ignored = profiler.phase("finish.divideByGroupsAndVersions")) {
+                    openApiInfos = divideOpenapiByGroupsAndVersions(openApi, context);
+                }
                 if (Utils.isTestMode()) {
                     Utils.setTestReferences(openApiInfos);
                 }
@@ -465,13 +514,23 @@ public class OpenApiApplicationVisitor extends AbstractOpenApiVisitor implements
                 boolean isYaml = !(StringUtils.isNotEmpty(isJson) && isJson.equalsIgnoreCase(StringUtils.TRUE));
                 String ext = isYaml ? EXT_YML : EXT_JSON;
 
-                for (Map.Entry<Pair<String, String>, OpenApiInfo> entry : openApiInfos.entrySet()) {
+                int parallelism = getParallelism(context);
+                var settings = PostProcessingSettings.of(context);
+                var openApiInfoList = new ArrayList<>(openApiInfos.values());
+                List<OpenAPI> processedOpenApis;
+                try (var ignored = profiler.phase("finish.postProcess")) {
+                    processedOpenApis = processInParallel(openApiInfoList, parallelism,
+                        openApiInfo -> postProcessOpenApi(openApiInfo.getOpenApi(), openApiInfo.getDroppedSchemasRefs(), settings, context), context);
+                }
 
-                    OpenApiInfo openApiInfo = entry.getValue();
+                for (int i = 0; i < openApiInfoList.size(); i++) {
 
-                    openApi = openApiInfo.getOpenApi();
+                    OpenApiInfo openApiInfo = openApiInfoList.get(i);
 
-                    openApi = postProcessOpenApi(openApi, context);
+                    openApi = processedOpenApis.get(i);
+                    if (Utils.isTestMode()) {
+                        openApi = deserializedCopy(openApi, settings.openapi31());
+                    }
                     openApiInfo.setOpenApi(openApi);
                     // need to set test reference to openApi after post-processing
                     if (Utils.isTestMode()) {
@@ -483,12 +542,19 @@ public class OpenApiApplicationVisitor extends AbstractOpenApiVisitor implements
                     openApiInfo.setFilename(titleAndFilename.getSecond());
                 }
 
-                writeYamlToFile(openApiInfos, documentTitle, context, isYaml);
+                try (var ignored = profiler.phase("finish.write")) {
+                    writeYamlToFile(openApiInfos, documentTitle, context, isYaml, parallelism);
+                }
             }
 
-            generateViews(documentTitle, openApiInfos, context);
+            try (var ignored = profiler.phase("finish.views")) {
+                generateViews(documentTitle, openApiInfos, context);
+            }
 
             visitedElements = visitedElements(context);
+            if (profiler.isEnabled()) {
+                writeProfileReport(profiler, context);
+            }
         } catch (Exception e) {
             warn("Error:\n" + Utils.printStackTrace(e), context);
             throw e;
@@ -496,9 +562,10 @@ public class OpenApiApplicationVisitor extends AbstractOpenApiVisitor implements
     }
 
     private Map<Pair<String, String>, OpenApiInfo> divideOpenapiByGroupsAndVersions(OpenAPI openApi, VisitorContext context) {
-        Map<String, List<EndpointInfo>> endpointInfosMap = Utils.getEndpointInfos();
-        Set<String> allVersions = Utils.getAllKnownVersions();
-        Set<String> allGroups = Utils.getAllKnownGroups();
+        var state = OpenApiVisitorState.get(context);
+        Map<String, List<EndpointInfo>> endpointInfosMap = state.getEndpointInfos();
+        Set<String> allVersions = state.getAllKnownVersions();
+        Set<String> allGroups = state.getAllKnownGroups();
         if (CollectionUtils.isEmpty(endpointInfosMap)
             || (CollectionUtils.isEmpty(allVersions) && CollectionUtils.isEmpty(allGroups))) {
             return Collections.singletonMap(Pair.NULL_STRING_PAIR, new OpenApiInfo(openApi));
@@ -521,13 +588,13 @@ public class OpenApiApplicationVisitor extends AbstractOpenApiVisitor implements
                         continue;
                     }
                     OpenAPI newOpenApi = addOpenApiInfo(endpointGroupInfo.getName(), endpointInfo.getVersion(), openApi, result, context);
-                    addOperation(endpointInfo, newOpenApi, endpointGroupInfo, context);
+                    addOperation(endpointInfo, newOpenApi, endpointGroupInfo);
                 }
 
                 // if we have only versions without groups
                 if (CollectionUtils.isEmpty(endpointInfo.getGroups())) {
                     OpenAPI newOpenApi = addOpenApiInfo(null, endpointInfo.getVersion(), openApi, result, context);
-                    addOperation(endpointInfo, newOpenApi, null, context);
+                    addOperation(endpointInfo, newOpenApi, null);
                 }
             }
         }
@@ -547,14 +614,95 @@ public class OpenApiApplicationVisitor extends AbstractOpenApiVisitor implements
                 if (CollectionUtils.isNotEmpty(commonEndpoint.getExcludedGroups()) && commonEndpoint.getExcludedGroups().contains(group)) {
                     continue;
                 }
-                addOperation(commonEndpoint, groupOpenApi, null, context);
+                addOperation(commonEndpoint, groupOpenApi, null);
             }
         }
 
+        for (OpenApiInfo openApiInfo : result.values()) {
+            materializeSchemas(openApiInfo, context);
+        }
+
         return result;
     }
 
-    private void addOperation(EndpointInfo endpointInfo, OpenAPI openApi, @Nullable EndpointGroupInfo endpointGroupInfo, VisitorContext context) {
+    /**
+     * Copy base openAPI object for group document. Paths are not copied, because group documents
+     * get only their own operations, and schemas are shared with base object until {@link #materializeSchemas(OpenApiInfo, VisitorContext)}.
+     *
+     * @param openApi base openAPI object
+     *
+     * @return copy of openAPI object
+     */
+    private static OpenAPI copyOpenApiWithSharedSchemas(OpenAPI openApi) {
+        var skeleton = new OpenAPI();
+        skeleton.setInfo(openApi.getInfo());
+        skeleton.setExternalDocs(openApi.getExternalDocs());
+        skeleton.setServers(openApi.getServers());
+        skeleton.setSecurity(openApi.getSecurity());
+        skeleton.setTags(openApi.getTags());
+        skeleton.setExtensions(openApi.getExtensions());
+        var components = openApi.getComponents();
+        if (components != null) {
+            skeleton.setComponents(new Components()
+                .responses(components.getResponses())
+                .parameters(components.getParameters())
+                .examples(components.getExamples())
+                .requestBodies(components.getRequestBodies())
+                .headers(components.getHeaders())
+                .securitySchemes(components.getSecuritySchemes())
+                .links(components.getLinks())
+                .callbacks(components.getCallbacks())
+                .pathItems(components.getPathItems())
+                .extensions(components.getExtensions()));
+        }
+        var openApiCopy = ModelCopyUtils.deepCopy(skeleton);
+        if (components != null && components.getSchemas() != null) {
+            resolveComponents(openApiCopy).setSchemas(new LinkedHashMap<>(components.getSchemas()));
+        }
+        return openApiCopy;
+    }
+
+    /**
+     * Replace schemas shared with base openAPI object by own copies. Only schemas reachable from the group document
+     * (its paths and other components), extra schemas and schemas with discriminator mapping, which are needed
+     * by discriminator post-processing, are copied. Other schemas are dropped from the group document.
+     * References from dropped schemas are kept, so {@link #removeUnusedSchemas(OpenAPI, Set, PostProcessingSettings)}
+     * counts them, when it collects references of the post-processed document.
+     *
+     * @param openApiInfo group openAPI info
+     * @param context visitor context
+     */
+    private static void materializeSchemas(OpenApiInfo openApiInfo, VisitorContext context) {
+        OpenAPI openApi = openApiInfo.getOpenApi();
+        if (openApi == null || openApi.getComponents() == null || CollectionUtils.isEmpty(openApi.getComponents().getSchemas())) {
+            return;
+        }
+        Map<String, Schema> schemas = openApi.getComponents().getSchemas();
+        var rootSchemas = new LinkedHashSet<>(OpenApiExtraSchemaVisitor.getExtraSchemas(context).keySet());
+        for (var entry : schemas.entrySet()) {
+            Schema<?> schema = entry.getValue();
+            // schemas with discriminator mapping are used by JacksonDiscriminatorPostProcessor even if they are unused
+            if (schema.getDiscriminator() != null && schema.getDiscriminator().getMapping() != null) {
+                rootSchemas.add(entry.getKey());
+            }
+        }
+        boolean openapi31 = Utils.isOpenapi31(context);
+        Set<String> reachableSchemas = SchemaRefCollector.collectReachableSchemaRefs(openApi, rootSchemas, openapi31);
+        var keptSchemas = new LinkedHashMap<String, Schema>();
+        var droppedSchemas = new ArrayList<Schema>();
+        for (var entry : schemas.entrySet()) {
+            if (reachableSchemas.contains(entry.getKey())) {
+                keptSchemas.put(entry.getKey(), entry.getValue());
+            } else {
+                droppedSchemas.add(entry.getValue());
+            }
+        }
+        // schemas are copied together, so schema objects shared by several schemas are copied once
+        openApi.getComponents().setSchemas(ModelCopyUtils.deepCopy(keptSchemas));
+        openApiInfo.setDroppedSchemasRefs(SchemaRefCollector.collectSchemaRefs(droppedSchemas, openapi31));
+    }
+
+    private void addOperation(EndpointInfo endpointInfo, OpenAPI openApi, @Nullable EndpointGroupInfo endpointGroupInfo) {
         if (openApi == null) {
             return;
         }
@@ -564,25 +712,18 @@ public class OpenApiApplicationVisitor extends AbstractOpenApiVisitor implements
             openApi.setPaths(paths);
         }
         PathItem pathItem = paths.computeIfAbsent(endpointInfo.getUrl(), (pathUrl) -> new PathItem());
+        // endpoint operation is shared by all documents, so each document gets its own copy of it:
+        // documents are post-processed independently, and merged operations reference parts of the copy.
+        // Structural copy is used instead of serialization
+        Operation endpointOperation = ModelCopyUtils.deepCopy(endpointInfo.getOperation());
         Operation operation = getOperationOnPathItem(pathItem, endpointInfo.getHttpMethod());
-        if (operation == null) {
-            Operation opCopy = null;
-            try {
-                opCopy = OpenApiUtils.getJsonMapper().treeToValue(OpenApiUtils.getJsonMapper().valueToTree(endpointInfo.getOperation()), Operation.class);
-                if (endpointGroupInfo != null) {
-                    addExtensions(opCopy, endpointGroupInfo.getExtensions());
-                }
-            } catch (JsonProcessingException e) {
-                warn("Error\n" + Utils.printStackTrace(e), context);
-            }
-            setOperationOnPathItem(pathItem, endpointInfo.getHttpMethod(), opCopy != null ? opCopy : endpointInfo.getOperation());
-            return;
+        if (operation != null) {
+            endpointOperation = SchemaUtils.mergeOperations(operation, endpointOperation);
         }
-        var mergedOp = SchemaUtils.mergeOperations(operation, endpointInfo.getOperation());
         if (endpointGroupInfo != null) {
-            addExtensions(mergedOp, endpointGroupInfo.getExtensions());
+            addExtensions(endpointOperation, endpointGroupInfo.getExtensions());
         }
-        setOperationOnPathItem(pathItem, endpointInfo.getHttpMethod(), mergedOp);
+        setOperationOnPathItem(pathItem, endpointInfo.getHttpMethod(), endpointOperation);
     }
 
     private void addExtensions(Operation operation, Map<CharSequence, Object> extensions) {
@@ -605,7 +746,7 @@ public class OpenApiApplicationVisitor extends AbstractOpenApiVisitor implements
         OpenAPI newOpenApi;
         if (openApiInfo == null) {
 
-            Map<String, OpenAPI> knownOpenApis = Utils.getOpenApis();
+            Map<String, OpenAPI> knownOpenApis = OpenApiVisitorState.get(context).getOpenApis();
             if (CollectionUtils.isNotEmpty(knownOpenApis) && knownOpenApis.containsKey(groupName)) {
                 newOpenApi = knownOpenApis.get(groupName);
             } else {
@@ -624,13 +765,7 @@ public class OpenApiApplicationVisitor extends AbstractOpenApiVisitor implements
 
             openApiInfoMap.put(key, openApiInfo);
 
-            OpenAPI openApiCopy;
-            try {
-                openApiCopy = Utils.getJsonMapper().treeToValue(Utils.getJsonMapper().valueToTree(openApi), OpenAPI.class);
-            } catch (JsonProcessingException e) {
-                warn("Error\n" + Utils.printStackTrace(e), context);
-                return null;
-            }
+            OpenAPI openApiCopy = copyOpenApiWithSharedSchemas(openApi);
 
             if (CollectionUtils.isEmpty(knownOpenApis) || !knownOpenApis.containsKey(groupName)) {
                 newOpenApi.setTags(openApiCopy.getTags());
@@ -667,7 +802,7 @@ public class OpenApiApplicationVisitor extends AbstractOpenApiVisitor implements
 
     private void mergeMicronautEndpointInfos(OpenAPI openApi, VisitorContext context) {
 
-        Map<String, List<EndpointInfo>> endpointInfosMap = Utils.getEndpointInfos();
+        Map<String, List<EndpointInfo>> endpointInfosMap = OpenApiVisitorState.get(context).getEndpointInfos();
         if (CollectionUtils.isEmpty(endpointInfosMap)) {
             return;
         }
@@ -692,54 +827,79 @@ public class OpenApiApplicationVisitor extends AbstractOpenApiVisitor implements
         return 100;
     }
 
-    private OpenAPI postProcessOpenApi(OpenAPI openApi, VisitorContext context) {
+    @NonNull
+    @Override
+    public VisitorKind getVisitorKind() {
+        return VisitorKind.AGGREGATING;
+    }
+
+    /**
+     * Post-process openAPI document. Documents can be post-processed in parallel, so the visitor context
+     * is used only to report messages, everything else is read before into the settings.
+     *
+     * @param openApi openAPI object
+     * @param droppedSchemasRefs names of schemas referenced from schemas dropped from group documents, or null
+     * @param settings post-processing settings
+     * @param context visitor context
+     *
+     * @return post-processed openAPI object
+     */
+    private OpenAPI postProcessOpenApi(OpenAPI openApi, @Nullable Set<String> droppedSchemasRefs, PostProcessingSettings settings, VisitorContext context) {
 
-        applyPropertyNamingStrategy(openApi, context);
-        applyPropertyServerContextPath(openApi, context);
+        var profiler = settings.profiler();
+        applyPropertyNamingStrategy(openApi, settings.propertyNamingStrategy());
+        applyPropertyServerContextPath(openApi, settings.serverContextPath());
 
-        normalizeOpenApi(openApi, context);
+        try (var ignored = profiler.phase("postProcess.normalize")) {
+            normalizeOpenApi(openApi, context);
+        }
         // Process after sorting so order is stable
         new JacksonDiscriminatorPostProcessor().addMissingDiscriminatorType(openApi);
         new OpenApiOperationsPostProcessor().processOperations(openApi);
 
         // remove unused schemas
-        try {
-            if (openApi.getComponents() != null) {
-                var extraSchemas = OpenApiExtraSchemaVisitor.getExtraSchemas();
-                Map<String, Schema> schemas = openApi.getComponents().getSchemas();
-                if (CollectionUtils.isNotEmpty(schemas)) {
-                    String openApiJson = Utils.getJsonMapper().writeValueAsString(openApi);
-                    // Create a copy of the keySet so that we can modify the map while in a foreach
-                    var keySet = new HashSet<>(schemas.keySet());
-                    for (String schemaName : keySet) {
-                        if (!openApiJson.contains("\"" + COMPONENTS_SCHEMAS_REF + schemaName + '"')
-                                && !extraSchemas.containsKey(schemaName)
-                        ) {
-                            schemas.remove(schemaName);
-                        }
-                    }
-                    // check excluded extra schemas also
-                    for (String schemaName : OpenApiExtraSchemaVisitor.getExcludedExtraSchemas()) {
-                        schemas.remove(schemaName);
-                    }
-                }
-            }
-        } catch (JsonProcessingException e) {
-            // do nothing
+        try (var ignored = profiler.phase("postProcess.pruneSchemas")) {
+            removeUnusedSchemas(openApi, droppedSchemasRefs, settings);
         }
 
         removeEmptyComponents(openApi);
         findAndRemoveDuplicates(openApi);
 
-        addExtraSchemas(openApi, context);
+        addExtraSchemas(openApi, settings.extraSchemas());
 
-        openApi = resolvePropertyPlaceHolders(openApi, context);
+        try (var ignored = profiler.phase("postProcess.placeholders")) {
+            openApi = resolvePropertyPlaceHolders(openApi, settings.placeholderResolver());
+        }
 
         return openApi;
     }
 
-    private void addExtraSchemas(OpenAPI openApi, VisitorContext context) {
-       var extraSchemas = OpenApiExtraSchemaVisitor.getExtraSchemas();
+    /**
+     * Remove unused schemas. References are collected from the post-processed document.
+     *
+     * @param openApi openAPI object
+     * @param droppedSchemasRefs names of schemas referenced from schemas dropped from group documents, or null
+     * @param settings post-processing settings
+     */
+    private void removeUnusedSchemas(OpenAPI openApi, @Nullable Set<String> droppedSchemasRefs, PostProcessingSettings settings) {
+        if (openApi.getComponents() != null) {
+            Map<String, Schema> schemas = openApi.getComponents().getSchemas();
+            if (CollectionUtils.isNotEmpty(schemas)) {
+                var extraSchemas = settings.extraSchemas();
+                Set<String> referencedSchemas = SchemaRefCollector.collectSchemaRefs(openApi, settings.openapi31());
+                if (droppedSchemasRefs != null) {
+                    referencedSchemas.addAll(droppedSchemasRefs);
+                }
+                schemas.keySet().removeIf(schemaName -> !referencedSchemas.contains(schemaName) && !extraSchemas.containsKey(schemaName));
+                // check excluded extra schemas also
+                for (String schemaName : settings.excludedExtraSchemas()) {
+                    schemas.remove(schemaName);
+                }
+            }
+        }
+    }
+
+    private void addExtraSchemas(OpenAPI openApi, Map<String, Schema> extraSchemas) {
        if (CollectionUtils.isEmpty(extraSchemas)) {
            return;
        }
@@ -785,7 +945,7 @@ public class OpenApiApplicationVisitor extends AbstractOpenApiVisitor implements
         }
     }
 
-    private void writeYamlToFile(Map<Pair<String, String>, OpenApiInfo> openApiInfos, String documentTitle, VisitorContext context, boolean isYaml) {
+    private void writeYamlToFile(Map<Pair<String, String>, OpenApiInfo> openApiInfos, String documentTitle, VisitorContext context, boolean isYaml, int parallelism) {
 
         var isAdocModuleInClassPath = false;
         var isGlobalAdocEnabled = getBooleanProperty(MICRONAUT_OPENAPI_ADOC_ENABLED, true, context);
@@ -797,12 +957,34 @@ public class OpenApiApplicationVisitor extends AbstractOpenApiVisitor implements
             // do nothing
         }
 
-        var objectMapper = isYaml ? Utils.getYamlMapper() : Utils.getJsonMapper();
+        var isGzipEnabled = getBooleanProperty(MICRONAUT_OPENAPI_RESOURCES_GZIP_ENABLED, false, context);
+        var isHashEnabled = getBooleanProperty(MICRONAUT_OPENAPI_RESOURCES_HASH_ENABLED, false, context);
+        var writeSpecCopies = !Utils.isTestMode() && (isGzipEnabled || isHashEnabled);
+
+        var objectMapper = isYaml ? Utils.getYamlMapper(context) : Utils.getJsonMapper(context);
+
+        var openApiInfoList = new ArrayList<>(openApiInfos.values());
+        var specFiles = new ArrayList<Path>(openApiInfoList.size());
+        // serialize documents in parallel, files are written in the same order as in serial mode
+        List<String> serializedOpenApis = parallelism > 1 ? processInParallel(openApiInfoList, parallelism, openApiInfo -> {
+            try {
+                return objectMapper.writeValueAsString(openApiInfo.getOpenApi());
+            } catch (JsonProcessingException e) {
+                // error will be reported, when document is serialized again below
+                return null;
+            }
+        }, context) : null;
 
-        for (OpenApiInfo openApiInfo : openApiInfos.values()) {
+        for (int i = 0; i < openApiInfoList.size(); i++) {
+            OpenApiInfo openApiInfo = openApiInfoList.get(i);
             Path specFile = openApiSpecFile(openApiInfo.getFilename(), context);
             try (Writer writer = getFileWriter(specFile)) {
-                objectMapper.writeValue(writer, openApiInfo.getOpenApi());
+                String serializedOpenApi = serializedOpenApis != null ? serializedOpenApis.get(i) : null;
+                if (serializedOpenApi != null) {
+                    writer.write(serializedOpenApi);
+                } else {
+                    objectMapper.writeValue(writer, openApiInfo.getOpenApi());
+                }
                 if (Utils.isTestMode()) {
                     Utils.setTestFileName(openApiInfo.getFilename());
                     if (isYaml) {
@@ -820,15 +1002,208 @@ public class OpenApiApplicationVisitor extends AbstractOpenApiVisitor implements
                         addGeneratedResource(classesOutputPath.relativize(specFile.getParent()).toString(), context);
                     }
                     openApiInfo.setSpecFilePath(specFile.getFileName().toString());
+                    specFiles.add(specFile);
+                    if (writeSpecCopies) {
+                        // streamed document is already written and closed by the mapper
+                        byte[] content = serializedOpenApi != null ? serializedOpenApi.getBytes(StandardCharsets.UTF_8) : Files.readAllBytes(specFile);
+                        specFiles.addAll(writeSpecFileCopies(openApiInfo, specFile, content, isGzipEnabled, isHashEnabled, context));
+                    }
+                    // hashed copies of the previous contents would stay in the output directory and in the jar otherwise
+                    for (Path staleFile : FileUtils.deleteStaleHashedCopies(specFile, specFiles)) {
+                        info("Deleting stale OpenAPI file: " + staleFile, context);
+                    }
                 }
                 if (isAdocModuleInClassPath && isGlobalAdocEnabled && openApiInfo.isAdocEnabled()) {
-                    var adocProperties = getAdocProperties(openApiInfo, openApiInfos.size() == 1, context);
-                    AdocModule.convert(openApiInfo, adocProperties, context);
+                    try (var ignored = OpenApiProfiler.get(context).phase("finish.adoc")) {
+                        var adocProperties = getAdocProperties(openApiInfo, openApiInfos.size() == 1, context);
+                        AdocModule.convert(openApiInfo, adocProperties, context);
+                    }
                 }
             } catch (Exception e) {
                 warn("Unable to generate swagger" + (isYaml ? EXT_YML : EXT_JSON) + ": " + specFile + " - " + e.getMessage() + ".\n" + Utils.printStackTrace(e), context, classElement);
             }
         }
+        if (!specFiles.isEmpty() && userDefinedSpecFile(context) == null
+            && getBooleanProperty(MICRONAUT_OPENAPI_RESOURCES_MANIFEST_ENABLED, false, context)) {
+            writeSpecManifest(specFiles, context);
+        }
+    }
+
+    /**
+     * Write content hashes of the specification files to the manifest next to them, so the files
+     * can be served at runtime with ETags, computed at build time. Manifest is rewritten only if it's changed.
+     *
+     * @param specFiles written specification files and their copies
+     * @param context visitor context
+     */
+    private static void writeSpecManifest(List<Path> specFiles, VisitorContext context) {
+        Path manifestFile = getDefaultFilePath(SPEC_MANIFEST_FILE_NAME, context);
+        if (manifestFile == null) {
+            return;
+        }
+        try {
+            Path specDir = manifestFile.getParent();
+            var manifest = new TreeMap<String, String>();
+            for (Path specFile : specFiles) {
+                if (specFile.startsWith(specDir)) {
+                    manifest.put(specDir.relativize(specFile).toString().replace('\\', '/'), FileUtils.contentHash(Files.readAllBytes(specFile)));
+                }
+            }
+            var manifestContent = new StringBuilder();
+            for (var entry : manifest.entrySet()) {
+                manifestContent.append(entry.getKey()).append('=').append(entry.getValue()).append('\n');
+            }
+            if (!Files.exists(manifestFile) || !manifestContent.toString().equals(Files.readString(manifestFile))) {
+                Files.writeString(manifestFile, manifestContent);
+            }
+            var classesOutputPath = ContextUtils.getClassesOutputPath(context);
+            if (classesOutputPath != null) {
+                addGeneratedResource(classesOutputPath.relativize(manifestFile).toString(), context);
+            }
+        } catch (IOException e) {
+            warn("Unable to write OpenAPI spec manifest: " + e.getMessage() + ".\n" + Utils.printStackTrace(e), context);
+        }
+    }
+
+    /**
+     * Write profiling report to the {@code reports/openapi} directory of the build directory, so it isn't packaged
+     * together with the classes.
+     *
+     * @param profiler profiler
+     * @param context visitor context
+     */
+    private void writeProfileReport(OpenApiProfiler profiler, VisitorContext context) {
+        Path reportDir = getProfileReportDir(context);
+        if (reportDir == null) {
+            return;
+        }
+        try {
+            for (Path file : profiler.writeReport(reportDir, OpenApiVisitorState.get(context).getSchemaRefCache())) {
+                info("Writing OpenAPI profile report to destination: " + file, context);
+            }
+        } catch (IOException e) {
+            warn("Unable to write OpenAPI profile report: " + e.getMessage() + ".\n" + Utils.printStackTrace(e), context);
+        }
+    }
+
+    /**
+     * Directory for the profiling report. The build directory is the closest {@code build} (Gradle)
+     * or {@code target} (Maven) parent of the classes output directory, otherwise {@code build} directory of the project.
+     *
+     * @param context visitor context
+     *
+     * @return report directory or null, if the build directory is unknown
+     */
+    @Nullable
+    private static Path getProfileReportDir(VisitorContext context) {
+        Path buildDir = null;
+        var classesOutputPath = ContextUtils.getClassesOutputPath(context);
+        for (Path dir = classesOutputPath; dir != null; dir = dir.getParent()) {
+            Path fileName = dir.getFileName();
+            if (fileName != null && (fileName.toString().equals("build") || fileName.toString().equals("target"))) {
+                buildDir = dir;
+                break;
+            }
+        }
+        if (buildDir == null) {
+            Path projectPath = getProjectPath(context);
+            if (projectPath == null) {
+                return null;
+            }
+            buildDir = projectPath.resolve("build");
+        }
+        return buildDir.resolve("reports").resolve("openapi");
+    }
+
+    /**
+     * Write gzip-compressed and content-hashed copies of the specification file. If hashed copy is written,
+     * views will reference it instead of the original file.
+     *
+     * @param openApiInfo openAPI info
+     * @param specFile specification file
+     * @param content specification file content
+     * @param isGzipEnabled is writing {@code .gz} files enabled
+     * @param isHashEnabled is writing hashed copy enabled
+     * @param context visitor context
+     *
+     * @return written files
+     *
+     * @throws IOException if files can't be written
+     */
+    private static List<Path> writeSpecFileCopies(OpenApiInfo openApiInfo, Path specFile, byte[] content,
+                                            boolean isGzipEnabled, boolean isHashEnabled, VisitorContext context) throws IOException {
+        var files = new ArrayList<Path>(3);
+        if (isGzipEnabled) {
+            files.add(FileUtils.writeGzipped(specFile, content));
+        }
+        if (isHashEnabled) {
+            String hash = FileUtils.contentHash(content);
+            Path hashedSpecFile = specFile.resolveSibling(FileUtils.addContentHash(specFile.getFileName().toString(), hash));
+            Files.write(hashedSpecFile, content);
+            files.add(hashedSpecFile);
+            if (isGzipEnabled) {
+                files.add(FileUtils.writeGzipped(hashedSpecFile, content));
+            }
+            openApiInfo.setHashedFilename(FileUtils.addContentHash(openApiInfo.getFilename(), hash));
+            openApiInfo.setSpecFilePath(hashedSpecFile.getFileName().toString());
+        }
+        var classesOutputPath = ContextUtils.getClassesOutputPath(context);
+        for (Path file : files) {
+            info("Writing OpenAPI file to destination: " + file, context);
+            if (classesOutputPath != null) {
+                addGeneratedResource(classesOutputPath.relativize(file).toString(), context);
+            }
+        }
+        return files;
+    }
+
+    /**
+     * Apply function to all items. If parallelism is more than 1, items are processed on a bounded thread pool.
+     * Function must not use the visitor context, except to report messages: messages are reported after
+     * all items are processed. Results and messages are returned in the same order as items.
+     *
+     * @param items items
+     * @param parallelism max number of threads
+     * @param function function
+     * @param context visitor context
+     * @param <T> item type
+     * @param <R> result type
+     *
+     * @return results
+     */
+    private static <T, R> List<R> processInParallel(List<T> items, int parallelism, Function<T, R> function, VisitorContext context) {
+        var results = new ArrayList<R>(items.size());
+        if (parallelism <= 1 || items.size() <= 1) {
+            for (T item : items) {
+                results.add(function.apply(item));
+            }
+            return results;
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(parallelism, items.size()));
+        try {
+            var futures = new ArrayList<Future<DeferredResult<R>>>(items.size());
+            for (T item : items) {
+                futures.add(executor.submit(() -> runWithDeferredMessages(() -> function.apply(item))));
+            }
+            for (Future<DeferredResult<R>> future : futures) {
+                results.add(future.get().report(context));
+            }
+            return results;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof DeferredFailure failure) {
+                // report warnings of the failed document, as they would be reported without parallelism
+                throw failure.report(context);
+            }
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
     }
 
     private Writer getFileWriter(Path specFile) throws IOException {
@@ -864,6 +1239,49 @@ public class OpenApiApplicationVisitor extends AbstractOpenApiVisitor implements
         }
     }
 
+    /**
+     * Settings of document post-processing, read from the visitor context before documents are post-processed.
+     *
+     * @param propertyNamingStrategy property naming strategy
+     * @param serverContextPath server context path
+     * @param extraSchemas extra schemas
+     * @param excludedExtraSchemas names of excluded extra schemas
+     * @param placeholderResolver placeholder resolver
+     * @param profiler profiler
+     * @param openapi31 whether OpenAPI 3.1 is enabled
+     */
+    private record PostProcessingSettings(
+        @Nullable PropertyNamingStrategies.NamingBase propertyNamingStrategy,
+        @Nullable String serverContextPath,
+        Map<String, Schema> extraSchemas,
+        Collection<String> excludedExtraSchemas,
+        PlaceholderResolver placeholderResolver,
+        OpenApiProfiler profiler,
+        boolean openapi31
+    ) {
+
+        private static PostProcessingSettings of(VisitorContext context) {
+            String namingStrategyName = getConfigProperty(MICRONAUT_OPENAPI_PROPERTY_NAMING_STRATEGY, context);
+            PropertyNamingStrategies.NamingBase propertyNamingStrategy = fromName(namingStrategyName);
+            if (propertyNamingStrategy != null) {
+                info("Using " + namingStrategyName + " property naming strategy.", context);
+            }
+            String serverContextPath = getConfigProperty(MICRONAUT_OPENAPI_CONTEXT_SERVER_PATH, context);
+            if (StringUtils.isNotEmpty(serverContextPath)) {
+                info("Applying server context path: " + serverContextPath + " to Paths.", context);
+            }
+            return new PostProcessingSettings(
+                propertyNamingStrategy,
+                serverContextPath,
+                OpenApiExtraSchemaVisitor.getExtraSchemas(context),
+                OpenApiExtraSchemaVisitor.getExcludedExtraSchemas(context),
+                getPlaceholderResolver(context),
+                OpenApiProfiler.get(context),
+                Utils.isOpenapi31(context)
+            );
+        }
+    }
+
     static class LowerCamelCasePropertyNamingStrategy extends PropertyNamingStrategies.NamingBase {
 
         @Serial
@@ -322,10 +322,49 @@ public interface OpenApiConfigProperty {
      * OpenAPI file path.
      */
     String MICRONAUT_OPENAPI_ADOC_OPENAPI_PATH = "micronaut.openapi.adoc.openapi.path";
+    /**
+     * Is rendering of independent sections (overview, paths, definitions) of the default template in parallel enabled.
+     */
+    String MICRONAUT_OPENAPI_ADOC_PARALLEL_ENABLED = "micronaut.openapi.adoc.parallel.enabled";
     /**
      * OpenAPI file path.
      */
     String MICRONAUT_OPENAPI_SWAGGER_FILE_GENERATION_ENABLED = "micronaut.openapi.swagger.file.generation.enabled";
+    /**
+     * Number of threads to post-process and serialize group and version documents. If value is more than 1,
+     * documents are processed in parallel.
+     * <br>
+     * Default: 1
+     */
+    String MICRONAUT_OPENAPI_PARALLELISM = "micronaut.openapi.parallelism";
+    /**
+     * Is writing gzip-compressed copies ({@code .gz} files) of the generated specification files and view resources enabled.
+     * <br>
+     * Default: false
+     */
+    String MICRONAUT_OPENAPI_RESOURCES_GZIP_ENABLED = "micronaut.openapi.resources.gzip.enabled";
+    /**
+     * Is writing copies of the generated specification files and view resources with content hash in the file name enabled.
+     * Generated views reference the hashed file names, so the files can be cached by the clients forever.
+     * <br>
+     * Default: false
+     */
+    String MICRONAUT_OPENAPI_RESOURCES_HASH_ENABLED = "micronaut.openapi.resources.hash.enabled";
+    /**
+     * Is writing of {@code spec-manifest.txt} with content hashes of the generated specification files enabled.
+     * The manifest is needed by {@code openapi-runtime} module to serve the specification files.
+     * <br>
+     * Default: false
+     */
+    String MICRONAUT_OPENAPI_RESOURCES_MANIFEST_ENABLED = "micronaut.openapi.resources.manifest.enabled";
+    /**
+     * Is profiling of OpenAPI annotation processing enabled. If true, wall time, invocation counts and allocated bytes
+     * of processing phases and controller classes are written to {@code openapi-profile.json} and {@code openapi-profile.txt}
+     * files in the {@code reports/openapi} directory of the build directory.
+     * <br>
+     * Default: false
+     */
+    String MICRONAUT_OPENAPI_PROFILE = "micronaut.openapi.profile";
     /**
      * Default openapi config file.
      */
@@ -359,9 +398,15 @@ public interface OpenApiConfigProperty {
         MICRONAUT_OPENAPI_ADOC_OUTPUT_DIR_PATH,
         MICRONAUT_OPENAPI_ADOC_OUTPUT_FILENAME,
         MICRONAUT_OPENAPI_ADOC_OPENAPI_PATH,
+        MICRONAUT_OPENAPI_ADOC_PARALLEL_ENABLED,
         MICRONAUT_OPENAPI_SWAGGER_FILE_GENERATION_ENABLED,
         MICRONAUT_OPENAPI_SCHEMA_EXTRA_ENABLED,
         MICRONAUT_OPENAPI_SCHEMA_NAME_SEPARATOR_EMPTY,
-        MICRONAUT_OPENAPI_SCHEMA_NAME_SEPARATOR_GENERIC
+        MICRONAUT_OPENAPI_SCHEMA_NAME_SEPARATOR_GENERIC,
+        MICRONAUT_OPENAPI_PARALLELISM,
+        MICRONAUT_OPENAPI_RESOURCES_GZIP_ENABLED,
+        MICRONAUT_OPENAPI_RESOURCES_HASH_ENABLED,
+        MICRONAUT_OPENAPI_RESOURCES_MANIFEST_ENABLED,
+        MICRONAUT_OPENAPI_PROFILE
     );
 }
@@ -20,6 +20,7 @@ import io.micronaut.context.RequiresCondition;
 import io.micronaut.context.annotation.Requires;
 import io.micronaut.context.env.Environment;
 import io.micronaut.core.annotation.AnnotationValue;
+import io.micronaut.core.annotation.NonNull;
 import io.micronaut.core.util.ArrayUtils;
 import io.micronaut.core.util.CollectionUtils;
 import io.micronaut.core.util.StringUtils;
@@ -88,11 +89,6 @@ public class OpenApiControllerVisitor extends AbstractOpenApiEndpointVisitor imp
         this.customUri = customUri;
     }
 
-    @Override
-    public void start(VisitorContext context) {
-        Utils.init(context);
-    }
-
     private boolean ignoreByRequires(Element element, VisitorContext context) {
         List<AnnotationValue<Requires>> requiresAnnotations = element.getDeclaredAnnotationValuesByType(Requires.class);
         if (CollectionUtils.isEmpty(requiresAnnotations)) {
@@ -184,6 +180,12 @@ public class OpenApiControllerVisitor extends AbstractOpenApiEndpointVisitor imp
         return 50;
     }
 
+    @NonNull
+    @Override
+    public VisitorKind getVisitorKind() {
+        return VisitorKind.AGGREGATING;
+    }
+
     private List<MediaType> mediaTypes(MethodElement element, Class<? extends Annotation> ann) {
         String[] values = element.stringValues(ann);
         if (ArrayUtils.isEmpty(values)) {
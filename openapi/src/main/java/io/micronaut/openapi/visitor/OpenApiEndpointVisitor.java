@@ -23,6 +23,7 @@ import java.util.List;
 import javax.annotation.processing.SupportedOptions;
 
 import io.micronaut.core.annotation.AnnotationValue;
+import io.micronaut.core.annotation.NonNull;
 import io.micronaut.core.naming.NameUtils;
 import io.micronaut.core.util.ArrayUtils;
 import io.micronaut.core.util.StringUtils;
@@ -93,11 +94,6 @@ public class OpenApiEndpointVisitor extends AbstractOpenApiEndpointVisitor imple
         this.additionalSecurityRequirements = additionalSecurityRequirements;
     }
 
-    @Override
-    public void start(VisitorContext context) {
-        Utils.init(context);
-    }
-
     @Override
     public void visitClass(ClassElement element, VisitorContext context) {
         if (!isOpenApiEnabled(context) || !isSpecGenerationEnabled(context)) {
@@ -246,6 +242,12 @@ public class OpenApiEndpointVisitor extends AbstractOpenApiEndpointVisitor imple
         return 40;
     }
 
+    @NonNull
+    @Override
+    public VisitorKind getVisitorKind() {
+        return VisitorKind.AGGREGATING;
+    }
+
     private static List<MediaType> mediaTypes(String... arr) {
         if (ArrayUtils.isEmpty(arr)) {
             return DEFAULT_MEDIA_TYPES;
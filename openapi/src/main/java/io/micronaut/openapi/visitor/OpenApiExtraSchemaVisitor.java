@@ -16,6 +16,7 @@
 package io.micronaut.openapi.visitor;
 
 import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
 import io.micronaut.core.order.Ordered;
 import io.micronaut.core.util.CollectionUtils;
 import io.micronaut.inject.ast.ClassElement;
@@ -26,11 +27,12 @@ import io.micronaut.openapi.annotation.OpenAPIExtraSchemas;
 import io.swagger.v3.oas.models.media.Schema;
 
 import javax.annotation.processing.SupportedOptions;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.LinkedHashMap;
-import java.util.LinkedHashSet;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -59,12 +61,6 @@ import static io.micronaut.openapi.visitor.Utils.resolveOpenApi;
 @SupportedOptions(MICRONAUT_OPENAPI_ENABLED)
 public class OpenApiExtraSchemaVisitor implements TypeElementVisitor<OpenAPIExtraSchemas, Object> {
 
-    private static Map<String, Schema> extraSchemas = new LinkedHashMap<>();
-    private static Map<String, String> extraSchemaClassnamesToNames = new LinkedHashMap<>();
-    private static Set<String> excludedExtraSchemaClassNames = new LinkedHashSet<>();
-    private static Set<String> excludedExtraSchemas = new LinkedHashSet<>();
-    private static Set<String> excludedExtraSchemaPackages = new LinkedHashSet<>();
-
     @Override
     public Set<String> getSupportedAnnotationNames() {
         return CollectionUtils.setOf(
@@ -73,11 +69,6 @@ public class OpenApiExtraSchemaVisitor implements TypeElementVisitor<OpenAPIExtr
         );
     }
 
-    @Override
-    public void start(VisitorContext context) {
-        Utils.init(context);
-    }
-
     @Override
     public void finish(VisitorContext context) {
 
@@ -85,37 +76,50 @@ public class OpenApiExtraSchemaVisitor implements TypeElementVisitor<OpenAPIExtr
             return;
         }
 
-        for (var excludedExtraSchemaPackage : excludedExtraSchemaPackages) {
-            for (var entry : extraSchemaClassnamesToNames.entrySet()) {
-                addToExcludeExtraSchema(entry.getKey(), excludedExtraSchemaPackage, context);
+        var state = OpenApiVisitorState.get(context);
+        var extraSchemaClassnamesToNames = state.getExtraSchemaClassnamesToNames();
+        if (!state.getExcludedExtraSchemaPackages().isEmpty()) {
+            // index classes by packages once, instead of checking every class for every excluded package
+            var packageClassNames = new HashMap<String, List<String>>();
+            for (var className : extraSchemaClassnamesToNames.keySet()) {
+                addToPackageClassNames(packageClassNames, className, context);
             }
-            for (var entry : SchemaDefinitionUtils.getSchemaNameToClassNameMap().entrySet()) {
-                addToExcludeExtraSchema(entry.getValue(), excludedExtraSchemaPackage, context);
+            for (var className : state.getSchemaNameToClassNameMap().values()) {
+                addToPackageClassNames(packageClassNames, className, context);
+            }
+            for (var excludedExtraSchemaPackage : state.getExcludedExtraSchemaPackages()) {
+                var classNames = packageClassNames.get(excludedExtraSchemaPackage);
+                if (classNames != null) {
+                    state.getExcludedExtraSchemaClassNames().addAll(classNames);
+                }
             }
         }
 
         // remove excluded extra schemas
-        for (var excludedExtraSchemaClassName : excludedExtraSchemaClassNames) {
+        for (var excludedExtraSchemaClassName : state.getExcludedExtraSchemaClassNames()) {
             var schemaName = extraSchemaClassnamesToNames.get(excludedExtraSchemaClassName);
             if (schemaName == null) {
-                for (var entry : SchemaDefinitionUtils.getSchemaNameToClassNameMap().entrySet()) {
-                    if (entry.getValue().equals(excludedExtraSchemaClassName)) {
-                        schemaName = entry.getKey();
-                        break;
-                    }
-                }
+                schemaName = state.getClassNameToSchemaNameMap().get(excludedExtraSchemaClassName);
             }
             if (schemaName != null) {
-                extraSchemas.remove(schemaName);
-                excludedExtraSchemas.add(schemaName);
+                state.getExtraSchemas().remove(schemaName);
+                state.getExcludedExtraSchemas().add(schemaName);
             }
         }
     }
 
-    private void addToExcludeExtraSchema(String className, String excludedExtraSchemaPackage, VisitorContext context) {
-        var classEl = ContextUtils.getClassElement(className, context);
-        if (classEl != null && classEl.getPackageName().equals(excludedExtraSchemaPackage)) {
-            excludedExtraSchemaClassNames.add(className);
+    private void addToPackageClassNames(Map<String, List<String>> packageClassNames, String className, VisitorContext context) {
+        var classPackageNames = OpenApiVisitorState.get(context).getExtraSchemaClassPackageNames();
+        String packageName;
+        if (classPackageNames.containsKey(className)) {
+            packageName = classPackageNames.get(className);
+        } else {
+            var classEl = ContextUtils.getClassElement(className, context);
+            packageName = classEl != null ? classEl.getPackageName() : null;
+            classPackageNames.put(className, packageName);
+        }
+        if (packageName != null) {
+            packageClassNames.computeIfAbsent(packageName, k -> new ArrayList<>()).add(className);
         }
     }
 
@@ -124,6 +128,12 @@ public class OpenApiExtraSchemaVisitor implements TypeElementVisitor<OpenAPIExtr
         return Ordered.LOWEST_PRECEDENCE;
     }
 
+    @NonNull
+    @Override
+    public VisitorKind getVisitorKind() {
+        return VisitorKind.AGGREGATING;
+    }
+
     @Override
     public void visitClass(ClassElement element, VisitorContext context) {
         if (!isOpenApiEnabled(context) || !isSpecGenerationEnabled(context) || !isExtraSchemasEnabled(context)) {
@@ -146,14 +156,15 @@ public class OpenApiExtraSchemaVisitor implements TypeElementVisitor<OpenAPIExtr
                 processExtraSchemaClass(element, context);
                 continue;
             }
+            var state = OpenApiVisitorState.get(context);
             if (isNotEmpty(excludeClasses)) {
-                excludedExtraSchemaClassNames.addAll(Arrays.asList(excludeClasses));
+                state.getExcludedExtraSchemaClassNames().addAll(Arrays.asList(excludeClasses));
             }
             if (isNotEmpty(excludeClassNames)) {
-                excludedExtraSchemaClassNames.addAll(Arrays.asList(excludeClassNames));
+                state.getExcludedExtraSchemaClassNames().addAll(Arrays.asList(excludeClassNames));
             }
             if (isNotEmpty(excludePackages)) {
-                excludedExtraSchemaPackages.addAll(Arrays.asList(excludePackages));
+                state.getExcludedExtraSchemaPackages().addAll(Arrays.asList(excludePackages));
             }
             if (isNotEmpty(packages)) {
                 for (var packageName : packages) {
@@ -181,7 +192,7 @@ public class OpenApiExtraSchemaVisitor implements TypeElementVisitor<OpenAPIExtr
         if (classEl == null) {
             return;
         }
-        String schemaName = computeDefaultSchemaName(stringValue(classEl, io.swagger.v3.oas.annotations.media.Schema.class, PROP_NAME).orElse(null),
+        String schemaName = computeDefaultSchemaName(stringValue(classEl, io.swagger.v3.oas.annotations.media.Schema.class, PROP_NAME, context).orElse(null),
             null, classEl, classEl.getTypeArguments(), context, null);
         var schema = getSchemaDefinition(resolveOpenApi(context), context, classEl, classEl.getTypeArguments(), null, Collections.emptyList(), null);
         if (schema == null) {
@@ -191,23 +202,31 @@ public class OpenApiExtraSchemaVisitor implements TypeElementVisitor<OpenAPIExtr
             var schemas = resolveSchemas(Utils.resolveOpenApi(context));
             schema = schemas.get(schemaName);
         }
-        extraSchemas.put(schemaName, schema);
-        extraSchemaClassnamesToNames.put(classEl.getName(), schemaName);
-    }
-
-    public static Map<String, Schema> getExtraSchemas() {
-        return extraSchemas;
+        var state = OpenApiVisitorState.get(context);
+        state.getExtraSchemas().put(schemaName, schema);
+        state.getExtraSchemaClassnamesToNames().put(classEl.getName(), schemaName);
+        state.getExtraSchemaClassPackageNames().put(classEl.getName(), classEl.getPackageName());
     }
 
-    public static Collection<String> getExcludedExtraSchemas() {
-        return excludedExtraSchemas;
+    /**
+     * Returns extra schemas collected in this visitor context.
+     *
+     * @param context visitor context
+     *
+     * @return extra schemas by schema names
+     */
+    public static Map<String, Schema> getExtraSchemas(VisitorContext context) {
+        return OpenApiVisitorState.get(context).getExtraSchemas();
     }
 
-    public static void clean() {
-        extraSchemas = new LinkedHashMap<>();
-        extraSchemaClassnamesToNames = new LinkedHashMap<>();
-        excludedExtraSchemaClassNames = new LinkedHashSet<>();
-        excludedExtraSchemas = new LinkedHashSet<>();
-        excludedExtraSchemaPackages = new LinkedHashSet<>();
+    /**
+     * Returns names of extra schemas excluded in this visitor context.
+     *
+     * @param context visitor context
+     *
+     * @return excluded schema names
+     */
+    public static Collection<String> getExcludedExtraSchemas(VisitorContext context) {
+        return OpenApiVisitorState.get(context).getExcludedExtraSchemas();
     }
 }
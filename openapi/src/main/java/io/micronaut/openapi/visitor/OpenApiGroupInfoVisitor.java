@@ -16,7 +16,6 @@
 package io.micronaut.openapi.visitor;
 
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -24,6 +23,7 @@ import javax.annotation.processing.SupportedOptions;
 
 import io.micronaut.core.annotation.AnnotationValue;
 import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
 import io.micronaut.core.order.Ordered;
 import io.micronaut.core.util.CollectionUtils;
 import io.micronaut.inject.ast.ClassElement;
@@ -64,13 +64,14 @@ public class OpenApiGroupInfoVisitor implements TypeElementVisitor<Object, Objec
     }
 
     @Override
-    public void start(VisitorContext context) {
-        Utils.init(context);
+    public int getOrder() {
+        return Ordered.LOWEST_PRECEDENCE;
     }
 
+    @NonNull
     @Override
-    public int getOrder() {
-        return Ordered.LOWEST_PRECEDENCE;
+    public VisitorKind getVisitorKind() {
+        return VisitorKind.AGGREGATING;
     }
 
     @Override
@@ -79,22 +80,13 @@ public class OpenApiGroupInfoVisitor implements TypeElementVisitor<Object, Objec
             return;
         }
 
+        var state = OpenApiVisitorState.get(context);
         if (CollectionUtils.isNotEmpty(groups)) {
-            Map<String, List<String>> includedClassesGroups = Utils.getIncludedClassesGroups();
-            if (includedClassesGroups == null) {
-                includedClassesGroups = new HashMap<>();
-                Utils.setIncludedClassesGroups(includedClassesGroups);
-            }
-            includedClassesGroups.put(classEl.getName(), groups);
+            state.getIncludedClassesGroups().put(classEl.getName(), groups);
         }
 
         if (CollectionUtils.isNotEmpty(groupsExcluded)) {
-            Map<String, List<String>> includedClassesGroupsExcluded = Utils.getIncludedClassesGroupsExcluded();
-            if (includedClassesGroupsExcluded == null) {
-                includedClassesGroupsExcluded = new HashMap<>();
-                Utils.setIncludedClassesGroupsExcluded(includedClassesGroupsExcluded);
-            }
-            includedClassesGroupsExcluded.put(classEl.getName(), groupsExcluded);
+            state.getIncludedClassesGroupsExcluded().put(classEl.getName(), groupsExcluded);
         }
 
         PackageElement packageEl = classEl.getPackage();
@@ -104,11 +96,7 @@ public class OpenApiGroupInfoVisitor implements TypeElementVisitor<Object, Objec
             return;
         }
 
-        Map<String, OpenAPI> openApis = Utils.getOpenApis();
-        if (openApis == null) {
-            openApis = new HashMap<>();
-            Utils.setOpenApis(openApis);
-        }
+        Map<String, OpenAPI> openApis = state.getOpenApis();
         addOpenApis(packageAnns, openApis, classEl, context);
         addOpenApis(classAnns, openApis, classEl, context);
     }
@@ -15,6 +15,7 @@
  */
 package io.micronaut.openapi.visitor;
 
+import io.micronaut.core.annotation.NonNull;
 import io.micronaut.core.util.ArrayUtils;
 import io.micronaut.http.annotation.Controller;
 import io.micronaut.inject.ast.ClassElement;
@@ -45,9 +46,10 @@ import static io.micronaut.openapi.visitor.OpenApiModelProp.PROP_TAGS;
 @SupportedOptions(MICRONAUT_OPENAPI_ENABLED)
 public class OpenApiIncludeVisitor implements TypeElementVisitor<OpenAPIIncludes, Object> {
 
+    @NonNull
     @Override
-    public void start(VisitorContext context) {
-        Utils.init(context);
+    public VisitorKind getVisitorKind() {
+        return VisitorKind.AGGREGATING;
     }
 
     @Override
@@ -23,6 +23,7 @@ import javax.annotation.processing.SupportedOptions;
 
 import io.micronaut.core.annotation.AnnotationClassValue;
 import io.micronaut.core.annotation.AnnotationValue;
+import io.micronaut.core.annotation.NonNull;
 import io.micronaut.core.order.Ordered;
 import io.micronaut.core.util.CollectionUtils;
 import io.micronaut.inject.ast.ClassElement;
@@ -54,11 +55,6 @@ import static io.micronaut.openapi.visitor.OpenApiModelProp.PROP_VALUE;
 @SupportedOptions(MICRONAUT_OPENAPI_ENABLED)
 public class OpenApiJacksonVisitor implements TypeElementVisitor<Object, Object> {
 
-    @Override
-    public void start(VisitorContext context) {
-        Utils.init(context);
-    }
-
     @Override
     public Set<String> getSupportedAnnotationNames() {
         return CollectionUtils.setOf(
@@ -72,6 +68,12 @@ public class OpenApiJacksonVisitor implements TypeElementVisitor<Object, Object>
         return Ordered.LOWEST_PRECEDENCE;
     }
 
+    @NonNull
+    @Override
+    public VisitorKind getVisitorKind() {
+        return VisitorKind.AGGREGATING;
+    }
+
     @Override
     public void visitClass(ClassElement element, VisitorContext context) {
         if (!isOpenApiEnabled(context) || !isSpecGenerationEnabled(context)) {
@@ -90,4 +90,12 @@ public interface OpenApiModelProp {
     String PROP_FLOWS = "flows";
     String PROP_OPEN_ID_CONNECT_URL = "openIdConnectUrl";
     String PROP_BEARER_FORMAT = "bearerFormat";
+    String PROP_SUMMARY = "summary";
+    String PROP_OPERATION_ID = "operationId";
+    String PROP_RESPONSES = "responses";
+    String PROP_URL = "url";
+    String PROP_PATTERN = "pattern";
+    String PROP_EXAMPLE_SET_FLAG = "exampleSetFlag";
+    String PROP_IGNORE_JSON_VIEW = "ignoreJsonView";
+    String PROP_USE_RETURN_TYPE_SCHEMA = "useReturnTypeSchema";
 }
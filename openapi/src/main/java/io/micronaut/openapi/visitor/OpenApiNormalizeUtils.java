@@ -93,7 +93,7 @@ public final class OpenApiNormalizeUtils {
         sortComponent(components, Components::getSecuritySchemes, Components::setSecuritySchemes);
         sortComponent(components, Components::getLinks, Components::setLinks);
         sortComponent(components, Components::getCallbacks, Components::setCallbacks);
-        if (Utils.isOpenapi31()) {
+        if (Utils.isOpenapi31(context)) {
             sortComponent(components, Components::getPathItems, Components::setPathItems);
             if (CollectionUtils.isNotEmpty(openAPI.getWebhooks())) {
                 openAPI.setWebhooks(new TreeMap<>(openAPI.getWebhooks()));
@@ -208,7 +208,7 @@ public final class OpenApiNormalizeUtils {
                 String type = schema.getType();
                 String serializedDefaultValue;
                 try {
-                    serializedDefaultValue = defaultValue != null ? Utils.getJsonMapper().writeValueAsString(defaultValue) : null;
+                    serializedDefaultValue = defaultValue != null ? Utils.getJsonMapper(context).writeValueAsString(defaultValue) : null;
                 } catch (JsonProcessingException e) {
                     return null;
                 }
@@ -219,7 +219,7 @@ public final class OpenApiNormalizeUtils {
                 Object allOfDefaultValue = allOfSchema.getDefault();
                 String serializedAllOfDefaultValue;
                 try {
-                    serializedAllOfDefaultValue = allOfDefaultValue != null ? Utils.getJsonMapper().writeValueAsString(allOfDefaultValue) : null;
+                    serializedAllOfDefaultValue = allOfDefaultValue != null ? Utils.getJsonMapper(context).writeValueAsString(allOfDefaultValue) : null;
                 } catch (JsonProcessingException e) {
                     return null;
                 }
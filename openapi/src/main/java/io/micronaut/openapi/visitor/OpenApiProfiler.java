@@ -0,0 +1,273 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.openapi.visitor;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.inject.visitor.VisitorContext;
+import io.micronaut.openapi.OpenApiUtils;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Profiler of OpenAPI annotation processing, enabled by {@link OpenApiConfigProperty#MICRONAUT_OPENAPI_PROFILE}.
+ * Records wall time, invocation counts and allocated bytes per processing phase and per controller class.
+ * <p>
+ * Measurements are inclusive: time of nested phases is also counted in the outer phase. Reentrant calls
+ * of the same phase on the same thread (like recursive schema resolution) are counted, but measured only once.
+ *
+ * @since 6.13.0
+ */
+@Internal
+public final class OpenApiProfiler {
+
+    /**
+     * Report file name without extension.
+     */
+    public static final String REPORT_FILE_NAME = "openapi-profile";
+
+    private static final Scope NOOP_SCOPE = () -> {
+    };
+    static final OpenApiProfiler DISABLED = new OpenApiProfiler(false);
+
+    private final boolean enabled;
+    private final Map<String, Stats> phases = new ConcurrentHashMap<>();
+    private final Map<String, Stats> classes = new ConcurrentHashMap<>();
+    private final ThreadLocal<Set<String>> activeScopes = ThreadLocal.withInitial(HashSet::new);
+    @Nullable
+    private final com.sun.management.ThreadMXBean threadMxBean;
+
+    /**
+     * Constructor.
+     *
+     * @param enabled is profiling enabled
+     */
+    public OpenApiProfiler(boolean enabled) {
+        this.enabled = enabled;
+        com.sun.management.ThreadMXBean mxBean = null;
+        if (enabled && ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean sunMxBean
+            && sunMxBean.isThreadAllocatedMemorySupported() && sunMxBean.isThreadAllocatedMemoryEnabled()) {
+            mxBean = sunMxBean;
+        }
+        threadMxBean = mxBean;
+    }
+
+    /**
+     * Get profiler of the current compilation.
+     *
+     * @param context visitor context
+     *
+     * @return profiler, disabled profiler if profiling is not enabled
+     */
+    public static OpenApiProfiler get(@Nullable VisitorContext context) {
+        return context != null ? OpenApiVisitorState.get(context).getProfiler() : DISABLED;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Start measuring of the phase.
+     *
+     * @param phase phase name
+     *
+     * @return scope, which must be closed at the end of the phase
+     */
+    public Scope phase(String phase) {
+        return start(phase, null);
+    }
+
+    /**
+     * Start measuring of the phase for the class. Measurement is added to the phase and to the class.
+     *
+     * @param phase phase name
+     * @param className class name
+     *
+     * @return scope, which must be closed at the end of the phase
+     */
+    public Scope phase(String phase, String className) {
+        return start(phase, className);
+    }
+
+    private Scope start(String phase, @Nullable String className) {
+        if (!enabled) {
+            return NOOP_SCOPE;
+        }
+        var active = activeScopes.get();
+        if (!active.add(phase)) {
+            // reentrant call
+            phases.computeIfAbsent(phase, k -> new Stats()).count.increment();
+            return NOOP_SCOPE;
+        }
+        @SuppressWarnings("deprecation") // Thread.threadId() requires Java 19
+        long threadId = Thread.currentThread().getId();
+        long startAllocatedBytes = allocatedBytes(threadId);
+        long startTime = System.nanoTime();
+        return () -> {
+            long time = System.nanoTime() - startTime;
+            long allocated = startAllocatedBytes >= 0 ? allocatedBytes(threadId) - startAllocatedBytes : 0;
+            active.remove(phase);
+            if (active.isEmpty()) {
+                // don't keep the set in threads, which don't measure anything more, like threads of the parallel processing pool
+                activeScopes.remove();
+            }
+            phases.computeIfAbsent(phase, k -> new Stats()).add(time, allocated);
+            if (className != null) {
+                classes.computeIfAbsent(className, k -> new Stats()).add(time, allocated);
+            }
+        };
+    }
+
+    private long allocatedBytes(long threadId) {
+        return threadMxBean != null ? threadMxBean.getThreadAllocatedBytes(threadId) : -1;
+    }
+
+    /**
+     * Build report object.
+     *
+     * @param schemaRefCache schema references cache, which statistics are added to the report
+     *
+     * @return report object
+     */
+    public Map<String, Object> report(@Nullable SchemaRefCache schemaRefCache) {
+        var report = new LinkedHashMap<String, Object>();
+        report.put("allocatedBytesSupported", threadMxBean != null);
+        report.put("phases", statsList(phases));
+        report.put("classes", statsList(classes));
+        if (schemaRefCache != null) {
+            var cacheStats = new LinkedHashMap<String, Object>();
+            cacheStats.put("hits", schemaRefCache.getHits());
+            cacheStats.put("misses", schemaRefCache.getMisses());
+            cacheStats.put("size", schemaRefCache.size());
+            report.put("schemaRefCache", cacheStats);
+        }
+        return report;
+    }
+
+    private static List<Map<String, Object>> statsList(Map<String, Stats> statsMap) {
+        var entries = new ArrayList<>(statsMap.entrySet());
+        entries.sort(Comparator.<Map.Entry<String, Stats>>comparingLong(e -> e.getValue().wallTimeNanos.sum()).reversed()
+            .thenComparing(Map.Entry::getKey));
+        var result = new ArrayList<Map<String, Object>>(entries.size());
+        for (var entry : entries) {
+            var item = new LinkedHashMap<String, Object>();
+            item.put("name", entry.getKey());
+            item.put("count", entry.getValue().count.sum());
+            item.put("wallTimeMillis", entry.getValue().wallTimeNanos.sum() / 1_000_000.0);
+            item.put("allocatedBytes", entry.getValue().allocatedBytes.sum());
+            result.add(item);
+        }
+        return result;
+    }
+
+    /**
+     * Build human-readable report.
+     *
+     * @param report report object
+     *
+     * @return report text
+     */
+    @SuppressWarnings("unchecked")
+    public static String toText(Map<String, Object> report) {
+        var sb = new StringBuilder();
+        sb.append("OpenAPI annotation processing profile\n");
+        for (var section : List.of("phases", "classes")) {
+            sb.append('\n').append(section).append(":\n");
+            sb.append(String.format(Locale.US, "%12s %10s %16s  %s%n", "time, ms", "count", "allocated, KB", "name"));
+            for (var item : (List<Map<String, Object>>) report.get(section)) {
+                sb.append(String.format(Locale.US, "%12.1f %10d %16d  %s%n",
+                    (Double) item.get("wallTimeMillis"),
+                    (Long) item.get("count"),
+                    (Long) item.get("allocatedBytes") / 1024,
+                    item.get("name")));
+            }
+        }
+        var cacheStats = (Map<String, Object>) report.get("schemaRefCache");
+        if (cacheStats != null) {
+            sb.append("\nschema references cache: hits ").append(cacheStats.get("hits"))
+                .append(", misses ").append(cacheStats.get("misses"))
+                .append(", size ").append(cacheStats.get("size")).append('\n');
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Write JSON and text reports.
+     *
+     * @param dir output directory
+     * @param schemaRefCache schema references cache, which statistics are added to the report
+     *
+     * @return written files
+     *
+     * @throws IOException if files can't be written
+     */
+    public List<Path> writeReport(Path dir, @Nullable SchemaRefCache schemaRefCache) throws IOException {
+        var report = report(schemaRefCache);
+        String json;
+        try {
+            json = OpenApiUtils.getJsonMapper().writerWithDefaultPrettyPrinter().writeValueAsString(report);
+        } catch (JsonProcessingException e) {
+            throw new IOException(e);
+        }
+        Files.createDirectories(dir);
+        Path jsonFile = dir.resolve(REPORT_FILE_NAME + FileUtils.EXT_JSON);
+        Path textFile = dir.resolve(REPORT_FILE_NAME + ".txt");
+        Files.writeString(jsonFile, json, StandardCharsets.UTF_8);
+        Files.writeString(textFile, toText(report), StandardCharsets.UTF_8);
+        // the report is written at the end of the compilation, so scopes of this thread aren't needed anymore
+        activeScopes.remove();
+        return List.of(jsonFile, textFile);
+    }
+
+    /**
+     * Measurement scope.
+     */
+    @FunctionalInterface
+    public interface Scope extends AutoCloseable {
+
+        @Override
+        void close();
+    }
+
+    private static final class Stats {
+
+        private final LongAdder count = new LongAdder();
+        private final LongAdder wallTimeNanos = new LongAdder();
+        private final LongAdder allocatedBytes = new LongAdder();
+
+        private void add(long time, long allocated) {
+            count.increment();
+            wallTimeNanos.add(time);
+            allocatedBytes.add(allocated);
+        }
+    }
+}
@@ -0,0 +1,253 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.openapi.visitor;
+
+import io.micronaut.core.annotation.AnnotationValue;
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.inject.ast.MethodElement;
+import io.micronaut.inject.visitor.VisitorContext;
+import io.micronaut.openapi.annotation.OpenAPIGroup;
+import io.micronaut.openapi.javadoc.JavadocParser;
+import io.micronaut.openapi.visitor.group.EndpointInfo;
+import io.micronaut.openapi.visitor.group.PackageGroupsIndex;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.media.Schema;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import static io.micronaut.openapi.visitor.ConfigUtils.getBooleanProperty;
+import static io.micronaut.openapi.visitor.ContextProperty.MICRONAUT_INTERNAL_VISITOR_STATE;
+import static io.micronaut.openapi.visitor.OpenApiConfigProperty.MICRONAUT_OPENAPI_31_ENABLED;
+import static io.micronaut.openapi.visitor.OpenApiConfigProperty.MICRONAUT_OPENAPI_PROFILE;
+
+/**
+ * Mutable state, which is collected by openapi visitors during one compilation.
+ * <p>
+ * The state is stored in the visitor context: it's created on first access, is shared by all rounds
+ * of the compilation and is dropped together with the context at the end of the compilation.
+ * So parallel compilations in one JVM don't share state, and nothing is kept between compilations.
+ *
+ * @since 6.13.0
+ */
+@Internal
+public final class OpenApiVisitorState {
+
+    private final Set<String> allKnownVersions = new HashSet<>();
+    private final Set<String> allKnownGroups = new HashSet<>();
+    private final Map<String, List<EndpointInfo>> endpointInfos = new HashMap<>();
+    /**
+     * Groups openAPI objects, described by OpenAPIDefinition annotations.
+     */
+    private final Map<String, OpenAPI> openApis = new HashMap<>();
+    /**
+     * Group names by included controller or endpoint class names with OpenAPIInclude annotation.
+     */
+    private final Map<String, List<String>> includedClassesGroups = new HashMap<>();
+    /**
+     * Excluded group names by included controller or endpoint class names with OpenAPIInclude annotation.
+     */
+    private final Map<String, List<String>> includedClassesGroupsExcluded = new HashMap<>();
+    /**
+     * Index of groups from configuration by package names, built on first access.
+     */
+    @Nullable
+    private PackageGroupsIndex packageGroupsIndex;
+    /**
+     * OpenAPIGroup annotations of packages by package names.
+     */
+    private final Map<String, List<AnnotationValue<OpenAPIGroup>>> packageGroupAnnotations = new HashMap<>();
+
+    /**
+     * Names of the schemas, which are being built now.
+     */
+    private final List<String> inProgressSchemas = new ArrayList<>(10);
+    /**
+     * Relations between schema names and class names.
+     */
+    private final Map<String, String> schemaNameToClassNameMap = new HashMap<>();
+    /**
+     * Inverse of {@link #schemaNameToClassNameMap}: first schema name of every class name.
+     */
+    private final Map<String, String> classNameToSchemaNameMap = new HashMap<>();
+    /**
+     * Class name counters for schema suffix, when found classes with same name in different packages.
+     */
+    private final Map<String, Integer> schemaNameSuffixCounterMap = new HashMap<>();
+    /**
+     * Creator constructors by class names, value is null, if class has no creator constructor.
+     */
+    private final Map<String, MethodElement> creatorConstructors = new HashMap<>();
+    /**
+     * Already resolved schema references by type identity.
+     */
+    private final SchemaRefCache schemaRefCache;
+    /**
+     * Javadoc parser with the cache of javadocs, parsed during this compilation.
+     */
+    private final JavadocParser javadocParser = new JavadocParser();
+    /**
+     * Profiler, it's resolved once, when the state is created.
+     */
+    private final OpenApiProfiler profiler;
+    /**
+     * OpenAPI 3.1 flag, it's read once, when the state is created.
+     */
+    private final boolean openapi31;
+
+    private final Map<String, Schema> extraSchemas = new LinkedHashMap<>();
+    private final Map<String, String> extraSchemaClassnamesToNames = new LinkedHashMap<>();
+    private final Set<String> excludedExtraSchemaClassNames = new LinkedHashSet<>();
+    private final Set<String> excludedExtraSchemas = new LinkedHashSet<>();
+    private final Set<String> excludedExtraSchemaPackages = new LinkedHashSet<>();
+    /**
+     * Package names of the classes, which were checked for extra schema exclusion. Value is null,
+     * if there is no class element with this name.
+     */
+    private final Map<String, String> extraSchemaClassPackageNames = new HashMap<>();
+
+    private OpenApiVisitorState(VisitorContext context) {
+        profiler = getBooleanProperty(MICRONAUT_OPENAPI_PROFILE, false, context)
+            ? new OpenApiProfiler(true) : OpenApiProfiler.DISABLED;
+        openapi31 = getBooleanProperty(MICRONAUT_OPENAPI_31_ENABLED, false, context);
+        schemaRefCache = new SchemaRefCache(openapi31);
+    }
+
+    /**
+     * Get state of the current compilation, state is created, if it doesn't exist yet.
+     *
+     * @param context visitor context
+     *
+     * @return visitor state
+     */
+    public static OpenApiVisitorState get(@NonNull VisitorContext context) {
+        Objects.requireNonNull(context, "Visitor context is required to get the state of the compilation");
+        synchronized (context) {
+            var state = ContextUtils.get(MICRONAUT_INTERNAL_VISITOR_STATE, OpenApiVisitorState.class, context);
+            if (state == null) {
+                state = new OpenApiVisitorState(context);
+                ContextUtils.put(MICRONAUT_INTERNAL_VISITOR_STATE, state, context);
+            }
+            return state;
+        }
+    }
+
+    public Set<String> getAllKnownVersions() {
+        return allKnownVersions;
+    }
+
+    public Set<String> getAllKnownGroups() {
+        return allKnownGroups;
+    }
+
+    public Map<String, List<EndpointInfo>> getEndpointInfos() {
+        return endpointInfos;
+    }
+
+    public Map<String, OpenAPI> getOpenApis() {
+        return openApis;
+    }
+
+    public Map<String, List<String>> getIncludedClassesGroups() {
+        return includedClassesGroups;
+    }
+
+    public Map<String, List<String>> getIncludedClassesGroupsExcluded() {
+        return includedClassesGroupsExcluded;
+    }
+
+    @Nullable
+    public PackageGroupsIndex getPackageGroupsIndex() {
+        return packageGroupsIndex;
+    }
+
+    public void setPackageGroupsIndex(PackageGroupsIndex packageGroupsIndex) {
+        this.packageGroupsIndex = packageGroupsIndex;
+    }
+
+    public Map<String, List<AnnotationValue<OpenAPIGroup>>> getPackageGroupAnnotations() {
+        return packageGroupAnnotations;
+    }
+
+    public List<String> getInProgressSchemas() {
+        return inProgressSchemas;
+    }
+
+    public Map<String, String> getSchemaNameToClassNameMap() {
+        return schemaNameToClassNameMap;
+    }
+
+    public Map<String, String> getClassNameToSchemaNameMap() {
+        return classNameToSchemaNameMap;
+    }
+
+    public Map<String, Integer> getSchemaNameSuffixCounterMap() {
+        return schemaNameSuffixCounterMap;
+    }
+
+    public Map<String, MethodElement> getCreatorConstructors() {
+        return creatorConstructors;
+    }
+
+    public SchemaRefCache getSchemaRefCache() {
+        return schemaRefCache;
+    }
+
+    public JavadocParser getJavadocParser() {
+        return javadocParser;
+    }
+
+    public OpenApiProfiler getProfiler() {
+        return profiler;
+    }
+
+    public boolean isOpenapi31() {
+        return openapi31;
+    }
+
+    public Map<String, Schema> getExtraSchemas() {
+        return extraSchemas;
+    }
+
+    public Map<String, String> getExtraSchemaClassnamesToNames() {
+        return extraSchemaClassnamesToNames;
+    }
+
+    public Set<String> getExcludedExtraSchemaClassNames() {
+        return excludedExtraSchemaClassNames;
+    }
+
+    public Set<String> getExcludedExtraSchemas() {
+        return excludedExtraSchemas;
+    }
+
+    public Set<String> getExcludedExtraSchemaPackages() {
+        return excludedExtraSchemaPackages;
+    }
+
+    public Map<String, String> getExtraSchemaClassPackageNames() {
+        return extraSchemaClassPackageNames;
+    }
+}
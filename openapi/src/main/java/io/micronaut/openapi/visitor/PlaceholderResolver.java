@@ -0,0 +1,168 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.openapi.visitor;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.node.TextNode;
+import io.micronaut.context.env.Environment;
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.util.StringUtils;
+
+import java.util.Map;
+import java.util.function.UnaryOperator;
+
+import static io.micronaut.openapi.visitor.StringUtil.PLACEHOLDER_POSTFIX;
+import static io.micronaut.openapi.visitor.StringUtil.PLACEHOLDER_PREFIX;
+
+/**
+ * Placeholder resolver, which is built once per visitor context. Each string is scanned once for
+ * {@code ${...}} tokens and every token is looked up in the merged property maps.
+ *
+ * @since 6.13.0
+ */
+@Internal
+public final class PlaceholderResolver {
+
+    private final Map<String, String> expandableProperties;
+    private final Map<String, String> properties;
+    @Nullable
+    private final Environment environment;
+
+    /**
+     * Constructor.
+     *
+     * @param expandableProperties expandable properties (without {@code micronaut.openapi.expand.} prefix)
+     * @param properties system properties merged with properties from openapi config file, system properties have priority
+     * @param environment micronaut environment
+     */
+    public PlaceholderResolver(Map<String, String> expandableProperties, Map<String, String> properties, @Nullable Environment environment) {
+        this.expandableProperties = expandableProperties;
+        this.properties = properties;
+        this.environment = environment;
+    }
+
+    /**
+     * Expand expandable properties and then replace other placeholders.
+     *
+     * @param value string value
+     *
+     * @return string with expanded properties
+     */
+    public String expand(String value) {
+        if (StringUtils.isEmpty(value) || !value.contains(PLACEHOLDER_PREFIX)) {
+            return value;
+        }
+        return resolve(replace(value, expandableProperties));
+    }
+
+    /**
+     * Expand placeholders in all field names and string values of JSON tree.
+     *
+     * @param node JSON node
+     *
+     * @return node with expanded placeholders. Object nodes are rebuilt, arrays are updated in place
+     */
+    public JsonNode expandTree(JsonNode node) {
+        return expandTree(node, this::expand);
+    }
+
+    /**
+     * Expand placeholders in all field names and string values of JSON tree by the expander.
+     *
+     * @param node JSON node
+     * @param expander function, which expands placeholders in a string
+     *
+     * @return node with expanded placeholders. Object nodes are rebuilt, arrays are updated in place
+     */
+    public static JsonNode expandTree(JsonNode node, UnaryOperator<String> expander) {
+        if (node.isTextual()) {
+            String text = node.textValue();
+            if (text == null || text.isBlank()) {
+                return node;
+            }
+            String newText = expander.apply(text);
+            return text.equals(newText) ? node : TextNode.valueOf(newText);
+        } else if (node.isArray()) {
+            var arrayNode = (ArrayNode) node;
+            for (int i = 0; i < arrayNode.size(); i++) {
+                arrayNode.set(i, expandTree(arrayNode.get(i), expander));
+            }
+            return arrayNode;
+        } else if (node.isObject() && !node.isEmpty()) {
+            var objectNode = (ObjectNode) node;
+            ObjectNode newNode = objectNode.objectNode();
+            var fields = objectNode.fields();
+            while (fields.hasNext()) {
+                var entry = fields.next();
+                newNode.set(expander.apply(entry.getKey()), expandTree(entry.getValue(), expander));
+            }
+            return newNode;
+        }
+        return node;
+    }
+
+    /**
+     * Replace placeholders by system properties, properties from openapi config file and environment properties.
+     *
+     * @param value string value
+     *
+     * @return string with replaced placeholders
+     */
+    public String resolve(String value) {
+        if (StringUtils.isEmpty(value) || !value.contains(PLACEHOLDER_PREFIX)) {
+            return value;
+        }
+        value = replace(value, properties);
+        if (environment != null && value.contains(PLACEHOLDER_PREFIX)) {
+            value = environment.getPlaceholderResolver().resolvePlaceholders(value).orElse(value);
+        }
+        return value;
+    }
+
+    private static String replace(String value, Map<String, String> props) {
+        if (props.isEmpty()) {
+            return value;
+        }
+        int start = value.indexOf(PLACEHOLDER_PREFIX);
+        StringBuilder sb = null;
+        int pos = 0;
+        while (start >= 0) {
+            int end = value.indexOf(PLACEHOLDER_POSTFIX, start + PLACEHOLDER_PREFIX.length());
+            if (end < 0) {
+                break;
+            }
+            String replacement = props.get(value.substring(start + PLACEHOLDER_PREFIX.length(), end));
+            if (replacement == null) {
+                // unknown placeholder, it can contain nested placeholders, like ${prop:${default}}
+                start = value.indexOf(PLACEHOLDER_PREFIX, start + PLACEHOLDER_PREFIX.length());
+                continue;
+            }
+            if (sb == null) {
+                sb = new StringBuilder(value.length() + replacement.length());
+            }
+            sb.append(value, pos, start).append(replacement);
+            pos = end + PLACEHOLDER_POSTFIX.length();
+            start = value.indexOf(PLACEHOLDER_PREFIX, pos);
+        }
+        if (sb == null) {
+            return value;
+        }
+        return sb.append(value, pos, value.length()).toString();
+    }
+}
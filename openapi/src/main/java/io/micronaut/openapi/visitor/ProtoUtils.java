@@ -18,6 +18,7 @@ package io.micronaut.openapi.visitor;
 import io.micronaut.core.annotation.Internal;
 import io.micronaut.inject.ast.ClassElement;
 import io.micronaut.inject.ast.PropertyElement;
+import io.micronaut.inject.visitor.VisitorContext;
 import io.micronaut.openapi.swagger.core.util.PrimitiveType;
 import io.swagger.v3.oas.models.media.Schema;
 
@@ -104,7 +105,7 @@ public final class ProtoUtils {
     }
 
     @SuppressWarnings("MissingSwitchDefault")
-    public static Schema protobufTypeSchema(ClassElement type) {
+    public static Schema protobufTypeSchema(ClassElement type, VisitorContext context) {
 
         if (!isProtobufType(type)) {
             return null;
@@ -113,31 +114,31 @@ public final class ProtoUtils {
         var typeName = type.getName();
         switch (typeName) {
             case "com.google.protobuf.ByteString" -> {
-                return setSpecVersion(PrimitiveType.BYTE.createProperty());
+                return setSpecVersion(PrimitiveType.BYTE.createProperty(), context);
             }
             // wrapper types
             case "com.google.protobuf.BytesValueOrBuilder" -> {
-                return setNullable(setSpecVersion(PrimitiveType.BYTE.createProperty()));
+                return setNullable(setSpecVersion(PrimitiveType.BYTE.createProperty(), context), context);
             }
             case "com.google.protobuf.DoubleValueOrBuilder" -> {
-                return setNullable(setSpecVersion(PrimitiveType.DOUBLE.createProperty()));
+                return setNullable(setSpecVersion(PrimitiveType.DOUBLE.createProperty(), context), context);
             }
             case "com.google.protobuf.FloatValueOrBuilder" -> {
-                return setNullable(setSpecVersion(PrimitiveType.FLOAT.createProperty()));
+                return setNullable(setSpecVersion(PrimitiveType.FLOAT.createProperty(), context), context);
             }
             case "com.google.protobuf.BoolValueOrBuilder" -> {
-                return setNullable(setSpecVersion(PrimitiveType.BOOLEAN.createProperty()));
+                return setNullable(setSpecVersion(PrimitiveType.BOOLEAN.createProperty(), context), context);
             }
             case "com.google.protobuf.StringValueOrBuilder" -> {
-                return setNullable(setSpecVersion(PrimitiveType.STRING.createProperty()));
+                return setNullable(setSpecVersion(PrimitiveType.STRING.createProperty(), context), context);
             }
             case "com.google.protobuf.Int32ValueOrBuilder",
                  "com.google.protobuf.UInt32ValueOrBuilder" -> {
-                return setNullable(setSpecVersion(PrimitiveType.INT.createProperty()));
+                return setNullable(setSpecVersion(PrimitiveType.INT.createProperty(), context), context);
             }
             case "com.google.protobuf.Int64ValueOrBuilder",
                  "com.google.protobuf.UInt64ValueOrBuilder" -> {
-                return setSpecVersion(PrimitiveType.LONG.createProperty());
+                return setSpecVersion(PrimitiveType.LONG.createProperty(), context);
             }
             case "com.google.protobuf.AnyOrBuilder",
                  "com.google.protobuf.ApiOrBuilder",
@@ -115,15 +115,16 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiConsumer;
 import java.util.function.Function;
 
 import static io.micronaut.core.util.StringUtils.EMPTY_STRING;
 import static io.micronaut.openapi.visitor.ConfigUtils.getConfigProperty;
 import static io.micronaut.openapi.visitor.ConfigUtils.getCustomSchema;
-import static io.micronaut.openapi.visitor.ConfigUtils.getExpandableProperties;
 import static io.micronaut.openapi.visitor.ConfigUtils.getGenericSeparator;
 import static io.micronaut.openapi.visitor.ConfigUtils.getInnerClassSeparator;
+import static io.micronaut.openapi.visitor.ConfigUtils.getPlaceholderResolver;
 import static io.micronaut.openapi.visitor.ConfigUtils.getSchemaDecoration;
 import static io.micronaut.openapi.visitor.ConfigUtils.getSchemaDuplicateResolution;
 import static io.micronaut.openapi.visitor.ConfigUtils.isJsonViewDefaultInclusion;
@@ -139,9 +140,7 @@ import static io.micronaut.openapi.visitor.ElementUtils.isFileUpload;
 import static io.micronaut.openapi.visitor.ElementUtils.isNotNullable;
 import static io.micronaut.openapi.visitor.ElementUtils.isNullable;
 import static io.micronaut.openapi.visitor.ElementUtils.stringValue;
-import static io.micronaut.openapi.visitor.OpenApiApplicationVisitor.expandProperties;
 import static io.micronaut.openapi.visitor.OpenApiApplicationVisitor.replacePlaceholders;
-import static io.micronaut.openapi.visitor.OpenApiApplicationVisitor.resolvePlaceholders;
 import static io.micronaut.openapi.visitor.OpenApiConfigProperty.MICRONAUT_OPENAPI_FIELD_VISIBILITY_LEVEL;
 import static io.micronaut.openapi.visitor.OpenApiModelProp.DISCRIMINATOR;
 import static io.micronaut.openapi.visitor.OpenApiModelProp.PROP_ACCESS_MODE;
@@ -214,36 +213,14 @@ import static java.util.stream.Collectors.toMap;
 @Internal
 public final class SchemaDefinitionUtils {
 
-    /**
-     * Stores the current in progress type.
-     */
-    private static List<String> inProgressSchemas = new ArrayList<>(10);
-    /**
-     * Stores relations between schema names and class names.
-     */
-    private static Map<String, String> schemaNameToClassNameMap = new HashMap<>();
-    /**
-     * Stores class name counters for schema suffix, when found classes with same name in different packages.
-     */
-    private static Map<String, Integer> shemaNameSuffixCounterMap = new HashMap<>();
     /**
      * {@link PropertyNamingStrategy} instances cache.
      */
-    private static Map<String, PropertyNamingStrategy> propertyNamingStrategyInstances = new HashMap<>();
+    private static final Map<String, PropertyNamingStrategy> PROPERTY_NAMING_STRATEGY_INSTANCES = new ConcurrentHashMap<>();
 
     private SchemaDefinitionUtils() {
     }
 
-    /**
-     * Cleanup context.
-     */
-    public static void clean() {
-        inProgressSchemas = new ArrayList<>(10);
-        schemaNameToClassNameMap = new HashMap<>();
-        shemaNameSuffixCounterMap = new HashMap<>();
-        propertyNamingStrategyInstances = new HashMap<>();
-    }
-
     /**
      * Reads schema.
      *
@@ -262,10 +239,10 @@ public final class SchemaDefinitionUtils {
                                        @Nullable Element definingElement, List<MediaType> mediaTypes,
                                        @Nullable ClassElement jsonViewClass) {
 
-        var schema = setSpecVersion(new Schema<>());
+        var schema = setSpecVersion(new Schema<>(), context);
         processSchemaAnn(schema, context, definingElement, (ClassElement) type, schemaValue);
 
-        String elType = SchemaUtils.getType(schema);
+        String elType = SchemaUtils.getType(schema, context);
         String elFormat = schema.getFormat();
         if (elType == null && type instanceof TypedElement typedEl) {
             Pair<String, String> typeAndFormat;
@@ -287,9 +264,9 @@ public final class SchemaDefinitionUtils {
                 schema.setEnum(getEnumValues(enumEl, schema.getType(), schema.getFormat(), context));
             }
         } else {
-            JavadocDescription javadoc = type != null ? Utils.getJavadocParser().parse(type.getDescription()) : null;
+            JavadocDescription javadoc = type != null ? OpenApiVisitorState.get(context).getJavadocParser().parse(type.getDescription()) : null;
             populateSchemaProperties(openAPI, context, type, typeArgs, schema, mediaTypes, javadoc, jsonViewClass);
-            checkAllOf(schema);
+            checkAllOf(schema, context);
         }
         return schema;
     }
@@ -303,6 +280,32 @@ public final class SchemaDefinitionUtils {
                                                 List<MediaType> mediaTypes,
                                                 @Nullable ClassElement jsonViewClass
     ) {
+        var state = OpenApiVisitorState.get(context);
+        try (var ignored = state.getProfiler().phase("schemaDefinition")) {
+            return doGetSchemaDefinition(openAPI, context, state, type, typeArgs, definingElement, mediaTypes, jsonViewClass);
+        }
+    }
+
+    @Nullable
+    private static Schema<?> doGetSchemaDefinition(OpenAPI openAPI,
+                                                   VisitorContext context,
+                                                   OpenApiVisitorState state,
+                                                   ClassElement type,
+                                                   Map<String, ClassElement> typeArgs,
+                                                   @Nullable Element definingElement,
+                                                   List<MediaType> mediaTypes,
+                                                   @Nullable ClassElement jsonViewClass
+    ) {
+
+        Map<String, Schema> schemas = SchemaUtils.resolveSchemas(openAPI);
+        SchemaRefCache schemaRefCache = state.getSchemaRefCache();
+        String schemaRefCacheKey = schemaRefCacheKey(type, typeArgs, definingElement, mediaTypes, jsonViewClass);
+        if (schemaRefCacheKey != null) {
+            var cachedSchemaRef = schemaRefCache.get(schemaRefCacheKey, schemas);
+            if (cachedSchemaRef != null) {
+                return cachedSchemaRef;
+            }
+        }
 
         // Here we need to skip Schema annotation on field level, because with micronaut 3.x method getDeclaredAnnotation
         // returned always null and found Schema annotation only on getters and setters
@@ -334,7 +337,6 @@ public final class SchemaDefinitionUtils {
         var isExtraSchema = type.getAnnotation(OpenAPIExtraSchema.class) != null;
 
         Schema schema;
-        Map<String, Schema> schemas = SchemaUtils.resolveSchemas(openAPI);
         if (schemaValue == null) {
             final boolean isBasicType = ClassUtils.isJavaBasicType(type.getName());
             final PrimitiveType primitiveType;
@@ -348,11 +350,11 @@ public final class SchemaDefinitionUtils {
             if (primitiveType == null) {
                 String schemaName = computeDefaultSchemaName(null, definingElement, type, typeArgs, context, jsonViewClass);
                 schema = schemas.get(schemaName);
-                JavadocDescription javadoc = Utils.getJavadocParser().parse(type.getDocumentation().orElse(null));
+                JavadocDescription javadoc = state.getJavadocParser().parse(type.getDocumentation().orElse(null));
                 if (schema == null) {
 
                     if (type instanceof EnumElement enumEl) {
-                        schema = setSpecVersion(new Schema<>());
+                        schema = setSpecVersion(new Schema<>(), context);
                         schema.setName(schemaName);
                         if (javadoc != null && StringUtils.hasText(javadoc.getMethodDescription())) {
                             schema.setDescription(javadoc.getMethodDescription());
@@ -375,11 +377,11 @@ public final class SchemaDefinitionUtils {
                         }
 
                         populateSchemaProperties(openAPI, context, type, typeArgs, schema, mediaTypes, javadoc, jsonViewClass);
-                        checkAllOf(schema);
+                        checkAllOf(schema, context);
                     }
                 }
             } else {
-                return setSpecVersion(primitiveType.createProperty());
+                return setSpecVersion(primitiveType.createProperty(), context);
             }
         } else {
             // Schema annotation property `name` on field level means, that this property must be with this name.
@@ -388,9 +390,10 @@ public final class SchemaDefinitionUtils {
                 definingElement, type, typeArgs, context, jsonViewClass);
             schema = schemas.get(schemaName);
             if (schema == null) {
+                List<String> inProgressSchemas = state.getInProgressSchemas();
                 if (inProgressSchemas.contains(schemaName)) {
                     // Break recursion
-                    return setSpecVersion(new Schema<>().$ref(SchemaUtils.schemaRef(schemaName)));
+                    return setSpecVersion(new Schema<>().$ref(SchemaUtils.schemaRef(schemaName)), context);
                 }
                 inProgressSchemas.add(schemaName);
                 try {
@@ -403,11 +406,11 @@ public final class SchemaDefinitionUtils {
                                 schema.setDescription(originalTypeSchema.getDescription());
                             }
                             if ((originalTypeSchema.getNullable() != null && originalTypeSchema.getNullable())
-                                    || (isOpenapi31()
+                                    || (isOpenapi31(context)
                                     && CollectionUtils.isNotEmpty(originalTypeSchema.getTypes())
                                     && originalTypeSchema.getTypes().contains(SchemaUtils.TYPE_NULL))
                             ) {
-                                SchemaUtils.setNullable(schema);
+                                SchemaUtils.setNullable(schema, context);
                             }
                             schema.setRequired(originalTypeSchema.getRequired());
                         }
@@ -430,17 +433,46 @@ public final class SchemaDefinitionUtils {
             if (externalDocs != null) {
                 schema.setExternalDocs(externalDocs);
             }
-            setSchemaDocumentation(type, schema);
-            var schemaRef = setSpecVersion(new Schema<>());
+            setSchemaDocumentation(type, schema, state);
+            var schemaRef = setSpecVersion(new Schema<>(), context);
             schemaRef.set$ref(SchemaUtils.schemaRef(schema.getName()));
-            if (definingElement instanceof ClassElement classEl && classEl.isIterable()) {
+            boolean isIterableDefiningElement = definingElement instanceof ClassElement classEl && classEl.isIterable();
+            if (isIterableDefiningElement) {
                 schemaRef.setDescription(schema.getDescription());
             }
+            if (schemaRefCacheKey != null && schema.getName() != null) {
+                schemaRefCache.put(schemaRefCacheKey, schema.getName(), isIterableDefiningElement);
+            }
             return schemaRef;
         }
         return null;
     }
 
+    /**
+     * Build key for schema references cache. Only references, which depend on the type identity, are cached:
+     * if defining element has own schema annotation, result depends on the element and key is null.
+     */
+    @Nullable
+    private static String schemaRefCacheKey(ClassElement type, Map<String, ClassElement> typeArgs, @Nullable Element definingElement,
+                                            List<MediaType> mediaTypes, @Nullable ClassElement jsonViewClass) {
+        if (ClassUtils.isJavaBasicType(type.getName())) {
+            return null;
+        }
+        var isIterableDefiningElement = false;
+        if (definingElement != null) {
+            if (definingElement.hasStereotype(io.swagger.v3.oas.annotations.media.Schema.class)) {
+                return null;
+            }
+            if (definingElement instanceof PropertyElement propertyEl
+                && (propertyEl.getReadMethod().map(m -> m.hasStereotype(io.swagger.v3.oas.annotations.media.Schema.class)).orElse(false)
+                || propertyEl.getWriteMethod().map(m -> m.hasStereotype(io.swagger.v3.oas.annotations.media.Schema.class)).orElse(false))) {
+                return null;
+            }
+            isIterableDefiningElement = definingElement instanceof ClassElement classEl && classEl.isIterable();
+        }
+        return SchemaRefCache.key(type, typeArgs, jsonViewClass, mediaTypes, isIterableDefiningElement);
+    }
+
     public static String computeDefaultSchemaName(String defaultSchemaName, Element definingElement, Element type, Map<String, ClassElement> typeArgs, VisitorContext context,
                                                   @Nullable ClassElement jsonViewClass) {
 
@@ -476,6 +508,8 @@ public final class SchemaDefinitionUtils {
             }
         }
 
+        var state = OpenApiVisitorState.get(context);
+        Map<String, String> schemaNameToClassNameMap = state.getSchemaNameToClassNameMap();
         String storedClassName = schemaNameToClassNameMap.get(resultSchemaName);
         // Check if the class exists in other packages. If so, you need to add a suffix,
         // because there are two classes in different packages, but with the same class name.
@@ -483,12 +517,11 @@ public final class SchemaDefinitionUtils {
             if (getSchemaDuplicateResolution(context) == ConfigUtils.DuplicateResolution.ERROR) {
                 throw new ConfigurationException("Found 2 schemas with same name \"" + resultSchemaName + "\" for classes " + storedClassName + " and " + fullClassNameWithGenerics);
             }
-            int index = shemaNameSuffixCounterMap.getOrDefault(resultSchemaName, 0);
-            index++;
-            shemaNameSuffixCounterMap.put(resultSchemaName, index);
+            int index = state.getSchemaNameSuffixCounterMap().merge(resultSchemaName, 1, Integer::sum);
             resultSchemaName += genericSeparator + index;
         }
         schemaNameToClassNameMap.put(resultSchemaName, fullClassNameWithGenerics);
+        state.getClassNameToSchemaNameMap().putIfAbsent(fullClassNameWithGenerics, resultSchemaName);
 
         return resultSchemaName;
     }
@@ -550,15 +583,15 @@ public final class SchemaDefinitionUtils {
                 continue;
             }
 
-            var schemaAnn = getAnnotation(element, io.swagger.v3.oas.annotations.media.Schema.class);
+            var schemaAnn = getAnnotation(element, io.swagger.v3.oas.annotations.media.Schema.class, context);
             boolean isHidden = schemaAnn != null && schemaAnn.booleanValue(PROP_HIDDEN).orElse(false);
 
             if (isHidden
-                    || isAnnotationPresent(element, Hidden.class)
-                    || isAnnotationPresent(element, JsonIgnore.class)) {
+                    || isAnnotationPresent(element, Hidden.class, context)
+                    || isAnnotationPresent(element, JsonIgnore.class, context)) {
                 continue;
             }
-            var jsonPropertyAnn = getAnnotation(element, JsonProperty.class);
+            var jsonPropertyAnn = getAnnotation(element, JsonProperty.class, context);
             String jacksonValue = jsonPropertyAnn != null ? jsonPropertyAnn.stringValue(PROP_VALUE).orElse(null) : null;
             if (StringUtils.hasText(jacksonValue)) {
                 try {
@@ -609,10 +642,10 @@ public final class SchemaDefinitionUtils {
 
         AnnotationValue<io.swagger.v3.oas.annotations.media.Schema> schemaAnnotationValue = null;
         if (definingElement != null) {
-            schemaAnnotationValue = getAnnotation(definingElement, io.swagger.v3.oas.annotations.media.Schema.class);
+            schemaAnnotationValue = getAnnotation(definingElement, io.swagger.v3.oas.annotations.media.Schema.class, context);
         }
         if (type != null && schemaAnnotationValue == null) {
-            schemaAnnotationValue = getAnnotation(type, io.swagger.v3.oas.annotations.media.Schema.class);
+            schemaAnnotationValue = getAnnotation(type, io.swagger.v3.oas.annotations.media.Schema.class, context);
         }
         boolean isSubstitutedType = false;
         if (schemaAnnotationValue != null) {
@@ -626,7 +659,7 @@ public final class SchemaDefinitionUtils {
             } else {
                 String typeFromAnn = schemaAnnotationValue.stringValue(PROP_TYPE).orElse(null);
                 List<String> schemaTypes;
-                if (isOpenapi31() && StringUtils.isEmpty(typeFromAnn)) {
+                if (isOpenapi31(context) && StringUtils.isEmpty(typeFromAnn)) {
                     schemaTypes = Arrays.asList(schemaAnnotationValue.stringValues(PROP_ONE_TYPES));
                 } else {
                     schemaTypes = Collections.singletonList(typeFromAnn);
@@ -675,7 +708,7 @@ public final class SchemaDefinitionUtils {
         if (type instanceof EnumElement enumEl) {
             schema = getSchemaDefinition(openApi, context, enumEl, typeArgs, definingElement, mediaTypes, jsonViewClass);
             if (isArray != null && isArray) {
-                schema = SchemaUtils.arraySchema(schema);
+                schema = SchemaUtils.arraySchema(schema, context);
             }
         } else if (type != null) {
 
@@ -745,63 +778,63 @@ public final class SchemaDefinitionUtils {
                     typeName = PrimitiveType.BINARY.name();
                 }
                 PrimitiveType primitiveType = PrimitiveType.fromName(typeName);
-                schema = protobufTypeSchema(type);
+                schema = protobufTypeSchema(type, context);
                 if (schema != null) {
                     return schema;
                 }
                 if (!isArray && ClassUtils.isJavaLangType(typeName)) {
-                    schema = getPrimitiveType(type, typeName);
+                    schema = getPrimitiveType(type, typeName, context);
                 } else if (!isArray && primitiveType != null) {
-                    schema = setSpecVersion(primitiveType.createProperty());
+                    schema = setSpecVersion(primitiveType.createProperty(), context);
                 } else if (type.isAssignable(Map.class)) {
                     schema = processMapSchema(type, typeArgs, mediaTypes, openApi, jsonViewClass, classJavadoc, context);
                 } else if (isIterable) {
                     if (isArray) {
                         schema = resolveSchema(openApi, type, type.fromArray(), context, mediaTypes, jsonViewClass, null, classJavadoc);
                         if (schema != null) {
-                            schema = SchemaUtils.arraySchema(schema);
+                            schema = SchemaUtils.arraySchema(schema, context);
                         }
                     } else {
                         if (componentType != null) {
                             schema = resolveSchema(openApi, type, componentType, context, mediaTypes, jsonViewClass, null, classJavadoc);
                         } else {
-                            schema = getPrimitiveType(null, Object.class.getName());
+                            schema = getPrimitiveType(null, Object.class.getName(), context);
                         }
                         List<FieldElement> fields = type.getPackageName().startsWith("java.util") ? Collections.emptyList() : type.getFields();
                         if (schema != null && fields.isEmpty()) {
-                            schema = processGenericAnnotations(schema, componentType);
-                            schema = SchemaUtils.arraySchema(schema);
+                            schema = processGenericAnnotations(schema, componentType, context);
+                            schema = SchemaUtils.arraySchema(schema, context);
                         } else {
                             schema = getSchemaDefinition(openApi, context, type, typeArgs, definingElement, mediaTypes, jsonViewClass);
                         }
                     }
                 } else if (ElementUtils.isReturnTypeFile(type)) {
-                    schema = setSpecVersion(PrimitiveType.FILE.createProperty());
+                    schema = setSpecVersion(PrimitiveType.FILE.createProperty(), context);
                 } else if (type.isAssignable(Boolean.class) || type.isAssignable(boolean.class)) {
-                    schema = setSpecVersion(PrimitiveType.BOOLEAN.createProperty());
+                    schema = setSpecVersion(PrimitiveType.BOOLEAN.createProperty(), context);
                 } else if (type.isAssignable(Byte.class) || type.isAssignable(byte.class)) {
-                    schema = setSpecVersion(PrimitiveType.BYTE.createProperty());
+                    schema = setSpecVersion(PrimitiveType.BYTE.createProperty(), context);
                 } else if (type.isAssignable(UUID.class)) {
-                    schema = setSpecVersion(PrimitiveType.UUID.createProperty());
+                    schema = setSpecVersion(PrimitiveType.UUID.createProperty(), context);
                 } else if (type.isAssignable(URL.class)) {
-                    schema = setSpecVersion(PrimitiveType.URL.createProperty());
+                    schema = setSpecVersion(PrimitiveType.URL.createProperty(), context);
                 } else if (type.isAssignable(URI.class)) {
-                    schema = setSpecVersion(PrimitiveType.URI.createProperty());
+                    schema = setSpecVersion(PrimitiveType.URI.createProperty(), context);
                 } else if (type.isAssignable(Character.class) || type.isAssignable(char.class)) {
-                    schema = setSpecVersion(PrimitiveType.STRING.createProperty());
+                    schema = setSpecVersion(PrimitiveType.STRING.createProperty(), context);
                 } else if (type.isAssignable(Integer.class) || type.isAssignable(int.class)
                         || type.isAssignable(Short.class) || type.isAssignable(short.class)) {
-                    schema = setSpecVersion(PrimitiveType.INT.createProperty());
+                    schema = setSpecVersion(PrimitiveType.INT.createProperty(), context);
                 } else if (type.isAssignable(Long.class) || type.isAssignable(long.class)) {
-                    schema = setSpecVersion(PrimitiveType.LONG.createProperty());
+                    schema = setSpecVersion(PrimitiveType.LONG.createProperty(), context);
                 } else if (type.isAssignable(Float.class) || type.isAssignable(float.class)) {
-                    schema = setSpecVersion(PrimitiveType.FLOAT.createProperty());
+                    schema = setSpecVersion(PrimitiveType.FLOAT.createProperty(), context);
                 } else if (type.isAssignable(Double.class) || type.isAssignable(double.class)) {
-                    schema = setSpecVersion(PrimitiveType.DOUBLE.createProperty());
+                    schema = setSpecVersion(PrimitiveType.DOUBLE.createProperty(), context);
                 } else if (type.isAssignable(BigInteger.class)) {
-                    schema = setSpecVersion(PrimitiveType.INTEGER.createProperty());
+                    schema = setSpecVersion(PrimitiveType.INTEGER.createProperty(), context);
                 } else if (type.isAssignable(BigDecimal.class)) {
-                    schema = setSpecVersion(PrimitiveType.DECIMAL.createProperty());
+                    schema = setSpecVersion(PrimitiveType.DECIMAL.createProperty(), context);
                 } else if (type.isAssignable(Date.class)
                         || type.isAssignable(Calendar.class)
                         || type.isAssignable(LocalDateTime.class)
@@ -809,18 +842,18 @@ public final class SchemaDefinitionUtils {
                         || type.isAssignable(OffsetDateTime.class)
                         || type.isAssignable(Instant.class)
                         || type.isAssignable(XMLGregorianCalendar.class)) {
-                    schema = setSpecVersion(new StringSchema().format("date-time"));
+                    schema = setSpecVersion(new StringSchema().format("date-time"), context);
                 } else if (type.isAssignable(LocalDate.class)) {
-                    schema = setSpecVersion(new StringSchema().format("date"));
+                    schema = setSpecVersion(new StringSchema().format("date"), context);
                 } else if (type.isAssignable(LocalTime.class)) {
-                    schema = setSpecVersion(new StringSchema().format("partial-time"));
+                    schema = setSpecVersion(new StringSchema().format("partial-time"), context);
                 } else if (type.isAssignable(Number.class)) {
-                    schema = setSpecVersion(PrimitiveType.NUMBER.createProperty());
+                    schema = setSpecVersion(PrimitiveType.NUMBER.createProperty(), context);
                 } else if (type.getName().equals(Object.class.getName())) {
-                    schema = setSpecVersion(PrimitiveType.OBJECT.createProperty());
+                    schema = setSpecVersion(PrimitiveType.OBJECT.createProperty(), context);
                 } else {
                     schema = getSchemaDefinition(openApi, context, type, typeArgs, definingElement, mediaTypes, jsonViewClass);
-                    schema = processGenericAnnotations(schema, componentType);
+                    schema = processGenericAnnotations(schema, componentType, context);
                 }
             }
 
@@ -854,9 +887,9 @@ public final class SchemaDefinitionUtils {
                 }
 
                 if (!isStream && (isPublisher || isObservable)) {
-                    schema = SchemaUtils.arraySchema(schema);
+                    schema = SchemaUtils.arraySchema(schema, context);
                 } else if (isNullable) {
-                    SchemaUtils.setNullable(schema);
+                    SchemaUtils.setNullable(schema, context);
                 }
             }
         }
@@ -875,7 +908,7 @@ public final class SchemaDefinitionUtils {
      */
     public static Schema<?> bindSchemaForElement(VisitorContext context, TypedElement element, ClassElement elementType, Schema<?> schemaToBind,
                                                  @Nullable ClassElement jsonViewClass) {
-        var schemaAnn = getAnnotation(element, io.swagger.v3.oas.annotations.media.Schema.class);
+        var schemaAnn = getAnnotation(element, io.swagger.v3.oas.annotations.media.Schema.class, context);
         Schema<?> originalSchema = schemaToBind;
 
         if (originalSchema.get$ref() != null) {
@@ -901,30 +934,30 @@ public final class SchemaDefinitionUtils {
                 }
             }
         }
-        var arraySchemaAnn = getAnnotation(element, io.swagger.v3.oas.annotations.media.ArraySchema.class);
+        var arraySchemaAnn = getAnnotation(element, io.swagger.v3.oas.annotations.media.ArraySchema.class, context);
         if (arraySchemaAnn != null) {
             schemaToBind = bindArraySchemaAnnotationValue(context, element, schemaToBind, arraySchemaAnn, jsonViewClass);
             arraySchemaAnn.stringValue(PROP_NAME).ifPresent(schemaToBind::setName);
         }
 
-        processJakartaValidationAnnotations(element, elementType, schemaToBind);
+        processJakartaValidationAnnotations(element, elementType, schemaToBind, context);
 
         final ComposedSchema composedSchema;
         final Schema<?> topLevelSchema;
         if (originalSchema.get$ref() != null) {
-            composedSchema = setSpecVersion(new ComposedSchema());
+            composedSchema = setSpecVersion(new ComposedSchema(), context);
             topLevelSchema = composedSchema;
         } else {
-            composedSchema = setSpecVersion(new ComposedSchema());
+            composedSchema = setSpecVersion(new ComposedSchema(), context);
             topLevelSchema = schemaToBind;
         }
 
         boolean notOnlyRef = false;
-        setSchemaDocumentation(element, topLevelSchema);
+        setSchemaDocumentation(element, topLevelSchema, OpenApiVisitorState.get(context));
         if (StringUtils.isNotEmpty(topLevelSchema.getDescription())) {
             notOnlyRef = true;
         }
-        if (isAnnotationPresent(element, Deprecated.class)
+        if (isAnnotationPresent(element, Deprecated.class, context)
                 && !(element instanceof PropertyElement propertyEl
                 && isProtobufGenerated(propertyEl.getOwningType())
                 && elementType.getName().equals(Map.class.getName())
@@ -932,7 +965,7 @@ public final class SchemaDefinitionUtils {
             topLevelSchema.setDeprecated(true);
             notOnlyRef = true;
         }
-        final String defaultValue = stringValue(element, Bindable.class, PROP_DEFAULT_VALUE).orElse(null);
+        final String defaultValue = stringValue(element, Bindable.class, PROP_DEFAULT_VALUE, context).orElse(null);
         if (defaultValue != null && schemaToBind.getDefault() == null) {
             setDefaultValueObject(schemaToBind, defaultValue, elementType, schemaToBind.getType(), schemaToBind.getFormat(), true, context);
             notOnlyRef = true;
@@ -941,10 +974,10 @@ public final class SchemaDefinitionUtils {
         Boolean isSchemaNullable = element.booleanValue(io.swagger.v3.oas.annotations.media.Schema.class, PROP_NULLABLE).orElse(null);
         boolean isNullable = (isSchemaNullable == null && isNullable(element) && !isNotNullable(element)) || Boolean.TRUE.equals(isSchemaNullable);
         if (isNullable) {
-            SchemaUtils.setNullable(topLevelSchema);
+            SchemaUtils.setNullable(topLevelSchema, context);
             notOnlyRef = true;
         }
-        final String defaultJacksonValue = stringValue(element, JsonProperty.class, PROP_DEFAULT_VALUE).orElse(null);
+        final String defaultJacksonValue = stringValue(element, JsonProperty.class, PROP_DEFAULT_VALUE, context).orElse(null);
         if (defaultJacksonValue != null && schemaToBind.getDefault() == null) {
             setDefaultValueObject(topLevelSchema, defaultJacksonValue, elementType, schemaToBind.getType(), schemaToBind.getFormat(), false, context);
             notOnlyRef = true;
@@ -1015,7 +1048,7 @@ public final class SchemaDefinitionUtils {
             JsonNode items = objNode.remove(PROP_SCHEMA);
             if (items != null && schemaToBind != null && (schemaToBind.getType() != null && schemaToBind.getType().equals(TYPE_ARRAY))) {
                 try {
-                    schemaToBind.items(Utils.getJsonMapper().readerForUpdating(schemaToBind.getItems()).readValue(items));
+                    schemaToBind.items(Utils.getJsonMapper(context).readerForUpdating(schemaToBind.getItems()).readValue(items));
                 } catch (IOException e) {
                     warn("Error reading Swagger Schema for element [" + element + "]: " + e.getMessage(), context, element);
                 }
@@ -1122,7 +1155,7 @@ public final class SchemaDefinitionUtils {
                                                     type = (String) headerSchema.get(PROP_TYPE);
                                                     format = (String) headerSchema.get(PROP_ONE_FORMAT);
                                                     if (type == null) {
-                                                        type = SchemaUtils.getType(type, (Collection<String>) headerSchema.get(PROP_ONE_TYPES));
+                                                        type = SchemaUtils.getType(type, (Collection<String>) headerSchema.get(PROP_ONE_TYPES), context);
                                                     }
                                                 }
                                                 var headerExampleStr = OpenApiUtils.getConvertJsonMapper().writeValueAsString(headerExample);
@@ -1244,7 +1277,7 @@ public final class SchemaDefinitionUtils {
                                     newValues.put(key, list);
                                 }
                             }
-                        } else if (key.equals(PROP_ONE_TYPES) && isOpenapi31()) {
+                        } else if (key.equals(PROP_ONE_TYPES) && isOpenapi31(context)) {
                             newValues.put(PROP_TYPE, value);
                         } else {
                             newValues.put(key, value);
@@ -1258,7 +1291,7 @@ public final class SchemaDefinitionUtils {
                         // TODO
 //                    } else if (AdditionalPropertiesValue.USE_ADDITIONAL_PROPERTIES_ANNOTATION.toString().equals(value.toString())) {
                     }
-                } else if (key.equals(PROP_ONE_TYPES) && isOpenapi31()) {
+                } else if (key.equals(PROP_ONE_TYPES) && isOpenapi31(context)) {
                     newValues.put(PROP_TYPE, value);
                 } else if (key.equals(PROP_DISCRIMINATOR_PROPERTY)) {
                     final Map<String, Object> discriminatorMap = getDiscriminatorMap(newValues);
@@ -1351,13 +1384,13 @@ public final class SchemaDefinitionUtils {
             }
             if (classEl != null) {
                 if (primitiveType == null) {
-                    final ArraySchema schema = SchemaUtils.arraySchema(resolveSchema(null, classEl, context, Collections.emptyList(), jsonViewClass));
+                    final ArraySchema schema = SchemaUtils.arraySchema(resolveSchema(null, classEl, context, Collections.emptyList(), jsonViewClass), context);
                     schemaToValueMap(arraySchemaMap, schema);
                 } else {
                     // For primitive type, just copy description field is present.
-                    final Schema<?> items = setSpecVersion(primitiveType.createProperty());
+                    final Schema<?> items = setSpecVersion(primitiveType.createProperty(), context);
                     items.setDescription((String) annotationValue.stringValue(PROP_DESCRIPTION).orElse(null));
-                    final ArraySchema schema = SchemaUtils.arraySchema(items);
+                    final ArraySchema schema = SchemaUtils.arraySchema(items, context);
                     schemaToValueMap(arraySchemaMap, schema);
                 }
             } else {
@@ -1401,7 +1434,7 @@ public final class SchemaDefinitionUtils {
     }
 
     /**
-     * Convert the given Map to a JSON node and then to the specified type.
+     * Convert the given Map to the specified type.
      *
      * @param <T>           The output class type
      * @param values        The values
@@ -1411,11 +1444,11 @@ public final class SchemaDefinitionUtils {
      * @return The converted instance
      */
     public static <T> Optional<T> toValue(Map<CharSequence, Object> values, VisitorContext context, Class<T> type, @Nullable ClassElement jsonViewClass) {
-        JsonNode node = toJson(values, context, jsonViewClass);
+        Map<CharSequence, Object> newValues = toValueMap(values, context, jsonViewClass);
         try {
-            return Optional.ofNullable(ConvertUtils.treeToValue(node, type, context));
+            return Optional.ofNullable(ConvertUtils.bindValue(newValues, Utils.getJsonMapper(context), type, context));
         } catch (JsonProcessingException e) {
-            warn("Error converting  [" + node + "]: to " + type + ":\n" + Utils.printStackTrace(e), context);
+            warn("Error converting  [" + Utils.getJsonMapper(context).valueToTree(newValues) + "]: to " + type + ":\n" + Utils.printStackTrace(e), context);
         }
         return Optional.empty();
     }
@@ -1430,7 +1463,7 @@ public final class SchemaDefinitionUtils {
      */
     public static JsonNode toJson(Map<CharSequence, Object> values, VisitorContext context, @Nullable ClassElement jsonViewClass) {
         Map<CharSequence, Object> newValues = toValueMap(values, context, jsonViewClass);
-        return Utils.getJsonMapper().valueToTree(newValues);
+        return Utils.getJsonMapper(context).valueToTree(newValues);
     }
 
     /**
@@ -1448,12 +1481,12 @@ public final class SchemaDefinitionUtils {
         if (propertySchema == null) {
             return;
         }
-        var jsonUnwrappedAnn = getAnnotation(element, JsonUnwrapped.class);
+        var jsonUnwrappedAnn = getAnnotation(element, JsonUnwrapped.class, context);
         if (jsonUnwrappedAnn != null && jsonUnwrappedAnn.booleanValue("enabled").orElse(Boolean.TRUE)) {
             handleUnwrapped(context, element, elementType, parentSchema, jsonUnwrappedAnn);
         } else {
             // check schema required flag
-            var schemaAnn = getAnnotation(element, io.swagger.v3.oas.annotations.media.Schema.class);
+            var schemaAnn = getAnnotation(element, io.swagger.v3.oas.annotations.media.Schema.class, context);
             Boolean elementSchemaRequired = null;
             boolean isAutoRequiredMode = true;
             boolean isRequiredDefaultValueSet = false;
@@ -1482,7 +1515,7 @@ public final class SchemaDefinitionUtils {
             }
 
             propertySchema = bindSchemaForElement(context, element, elementType, propertySchema, null);
-            String propertyName = resolvePropertyName(element, classElement, propertySchema);
+            String propertyName = resolvePropertyName(element, classElement, propertySchema, context);
             propertyName = normalizePropertyName(propertyName, classElement, elementType);
             propertySchema.setRequired(null);
             Schema<?> propertySchemaFinal = propertySchema;
@@ -1533,7 +1566,7 @@ public final class SchemaDefinitionUtils {
                     .filter(p ->
                         !"groovy.lang.MetaClass".equals(p.getType().getName())
                             && !"java.lang.Class".equals(p.getType().getName())
-                            && !getAnnotationMetadata(p).booleanValue(io.swagger.v3.oas.annotations.media.Schema.class, PROP_HIDDEN).orElse(false)
+                            && !getAnnotationMetadata(p, context).booleanValue(io.swagger.v3.oas.annotations.media.Schema.class, PROP_HIDDEN).orElse(false)
                     )
                     .toList();
             } catch (Exception e) {
@@ -1634,7 +1667,7 @@ public final class SchemaDefinitionUtils {
             }
 
             if (schema == null) {
-                schema = setSpecVersion(new ComposedSchema());
+                schema = setSpecVersion(new ComposedSchema(), context);
                 schema.setType(TYPE_OBJECT);
             }
             for (ClassElement sType : superTypes) {
@@ -1647,7 +1680,7 @@ public final class SchemaDefinitionUtils {
             }
         } else {
             if (schema == null) {
-                schema = setSpecVersion(new Schema<>());
+                schema = setSpecVersion(new Schema<>(), context);
                 schema.setType(TYPE_OBJECT);
             }
         }
@@ -1667,7 +1700,7 @@ public final class SchemaDefinitionUtils {
 
         if (schemas.get(parentSchemaName) != null
                 || getSchemaDefinition(openAPI, context, superType, superTypeArgs, null, mediaTypes, jsonViewClass) != null) {
-            var parentSchema = setSpecVersion(new Schema<>());
+            var parentSchema = setSpecVersion(new Schema<>(), context);
             parentSchema.set$ref(SchemaUtils.schemaRef(parentSchemaName));
             if (schema.getAllOf() == null || !schema.getAllOf().contains(parentSchema)) {
                 schema.addAllOfItem(parentSchema);
@@ -1699,7 +1732,7 @@ public final class SchemaDefinitionUtils {
         }
     }
 
-    private static void checkAllOf(Schema<Object> composedSchema) {
+    private static void checkAllOf(Schema<Object> composedSchema, VisitorContext context) {
         if (composedSchema == null || CollectionUtils.isEmpty(composedSchema.getAllOf()) || CollectionUtils.isEmpty(composedSchema.getProperties())) {
             return;
         }
@@ -1707,7 +1740,7 @@ public final class SchemaDefinitionUtils {
             composedSchema.setType(TYPE_OBJECT);
         }
         // put all properties as siblings of allOf
-        var propSchema = setSpecVersion(new Schema<>());
+        var propSchema = setSpecVersion(new Schema<>(), context);
         propSchema.properties(composedSchema.getProperties());
         propSchema.setDescription(composedSchema.getDescription());
         propSchema.setRequired(composedSchema.getRequired());
@@ -1718,7 +1751,7 @@ public final class SchemaDefinitionUtils {
         composedSchema.addAllOfItem(propSchema);
     }
 
-    private static void setSchemaDocumentation(Element element, Schema<?> schemaToBind) {
+    private static void setSchemaDocumentation(Element element, Schema<?> schemaToBind, OpenApiVisitorState state) {
         if (StringUtils.isEmpty(schemaToBind.getDescription())) {
             // First, find getter method javadoc
             String doc = element.getDocumentation().orElse(null);
@@ -1737,7 +1770,7 @@ public final class SchemaDefinitionUtils {
                 }
             }
             if (doc != null) {
-                JavadocDescription desc = Utils.getJavadocParser().parse(doc);
+                JavadocDescription desc = state.getJavadocParser().parse(doc);
                 if (StringUtils.hasText(desc.getMethodDescription())) {
                     schemaToBind.setDescription(desc.getMethodDescription());
                 }
@@ -1767,7 +1800,7 @@ public final class SchemaDefinitionUtils {
         if (NumberUtils.isCreatable(schemaMaximum)) {
             schemaToBind.setMaximum(new BigDecimal(schemaMaximum));
         }
-        if (!isOpenapi31()) {
+        if (!isOpenapi31(context)) {
             var schemaExclusiveMaximum = (Boolean) annValues.get("exclusiveMaximum");
             if (schemaExclusiveMaximum != null && schemaExclusiveMaximum) {
                 schemaToBind.setExclusiveMaximum(true);
@@ -1777,7 +1810,7 @@ public final class SchemaDefinitionUtils {
         if (NumberUtils.isCreatable(schemaMinimum)) {
             schemaToBind.setMinimum(new BigDecimal(schemaMinimum));
         }
-        if (!isOpenapi31()) {
+        if (!isOpenapi31(context)) {
             var schemaExclusiveMinimum = (Boolean) annValues.get("exclusiveMinimum");
             if (schemaExclusiveMinimum != null && schemaExclusiveMinimum) {
                 schemaToBind.setExclusiveMinimum(true);
@@ -1812,7 +1845,7 @@ public final class SchemaDefinitionUtils {
         }
         if (annValues.containsKey(PROP_NULLABLE)) {
             if (!(element instanceof MemberElement)) {
-                SchemaUtils.setNullable(schemaToBind);
+                SchemaUtils.setNullable(schemaToBind, context);
             }
         }
         var accessModeStr = (String) annValues.get(PROP_ACCESS_MODE);
@@ -1865,7 +1898,7 @@ public final class SchemaDefinitionUtils {
         var allowableValues = schemaAnn.stringValues(PROP_ALLOWABLE_VALUES);
         setAllowableValues(schemaToBind, allowableValues, element, elType, elFormat, context);
 
-        if (isOpenapi31()) {
+        if (isOpenapi31(context)) {
             var schemaExamples = (String[]) annValues.get(PROP_EXAMPLES);
             if (ArrayUtils.isNotEmpty(schemaExamples)) {
                 for (var schemaExample : schemaExamples) {
@@ -1933,7 +1966,7 @@ public final class SchemaDefinitionUtils {
             }
         }
 
-        if (isOpenapi31()) {
+        if (isOpenapi31(context)) {
 
             if (annValues.containsKey("contains")) {
                 if (annValues.containsKey("minContains")) {
@@ -2072,7 +2105,7 @@ public final class SchemaDefinitionUtils {
         return mediaTypes;
     }
 
-    private static Schema<?> getPrimitiveType(ClassElement type, String typeName) {
+    private static Schema<?> getPrimitiveType(ClassElement type, String typeName, VisitorContext context) {
         Schema<?> schema = null;
         Class<?> aClass = ClassUtils.getPrimitiveType(typeName).orElse(null);
         if (aClass == null) {
@@ -2084,27 +2117,27 @@ public final class SchemaDefinitionUtils {
 
             var primitiveType = PrimitiveType.fromType(wrapperType);
             if (primitiveType != null) {
-                schema = setSpecVersion(primitiveType.createProperty());
+                schema = setSpecVersion(primitiveType.createProperty(), context);
             }
         }
 
-        processArgTypeAnnotations(type, schema);
+        processArgTypeAnnotations(type, schema, context);
 
         return schema;
     }
 
-    private static Schema<?> processGenericAnnotations(Schema<?> schema, ClassElement componentType) {
+    private static Schema<?> processGenericAnnotations(Schema<?> schema, ClassElement componentType, VisitorContext context) {
         if (componentType == null) {
             return schema;
         }
-        var primitiveComponentType = getPrimitiveType(componentType, componentType.getName());
+        var primitiveComponentType = getPrimitiveType(componentType, componentType.getName(), context);
         if (primitiveComponentType == null) {
-            var schemaFromTypeArgAnnotations = setSpecVersion(new Schema<>());
-            processArgTypeAnnotations(componentType, schemaFromTypeArgAnnotations);
+            var schemaFromTypeArgAnnotations = setSpecVersion(new Schema<>(), context);
+            processArgTypeAnnotations(componentType, schemaFromTypeArgAnnotations, context);
             if (schemaFromTypeArgAnnotations.equals(EMPTY_SCHEMA)) {
                 return schema;
             }
-            var composedSchema = setSpecVersion(new ComposedSchema());
+            var composedSchema = setSpecVersion(new ComposedSchema(), context);
             composedSchema.addAllOfItem(schema);
             composedSchema.addAllOfItem(schemaFromTypeArgAnnotations);
             return composedSchema;
@@ -2113,61 +2146,61 @@ public final class SchemaDefinitionUtils {
         return schema;
     }
 
-    private static void processArgTypeAnnotations(ClassElement type, @Nullable Schema<?> schema) {
+    private static void processArgTypeAnnotations(ClassElement type, @Nullable Schema<?> schema, VisitorContext context) {
         if (schema == null || type == null || type.getAnnotationNames().isEmpty()) {
             return;
         }
         if (isNullable(type) && !isNotNullable(type)) {
-            SchemaUtils.setNullable(schema);
+            SchemaUtils.setNullable(schema, context);
         }
-        processJakartaValidationAnnotations(type, type, schema);
+        processJakartaValidationAnnotations(type, type, schema, context);
     }
 
-    private static void processJakartaValidationAnnotations(Element element, ClassElement elementType, Schema<?> schemaToBind) {
+    private static void processJakartaValidationAnnotations(Element element, ClassElement elementType, Schema<?> schemaToBind, VisitorContext context) {
 
         final boolean isIterableOrMap = elementType.isIterable() || elementType.isAssignable(Map.class);
 
         if (isIterableOrMap) {
-            if (isAnnotationPresent(element, "javax.validation.constraints.NotEmpty$List")
-                    || isAnnotationPresent(element, "jakarta.validation.constraints.NotEmpty$List")) {
+            if (isAnnotationPresent(element, "javax.validation.constraints.NotEmpty$List", context)
+                    || isAnnotationPresent(element, "jakarta.validation.constraints.NotEmpty$List", context)) {
                 schemaToBind.setMinItems(1);
             }
 
-            findAnnotation(element, "javax.validation.constraints.Size$List")
+            findAnnotation(element, "javax.validation.constraints.Size$List", context)
                     .ifPresent(listAnn -> listAnn.getValue(AnnotationValue.class)
                             .ifPresent(ann -> ann.intValue("min")
                                     .ifPresent(schemaToBind::setMinItems)));
-            findAnnotation(element, "jakarta.validation.constraints.Size$List")
+            findAnnotation(element, "jakarta.validation.constraints.Size$List", context)
                     .ifPresent(listAnn -> listAnn.getValue(AnnotationValue.class)
                             .ifPresent(ann -> ann.intValue("min")
                                     .ifPresent(schemaToBind::setMinItems)));
 
-            findAnnotation(element, "javax.validation.constraints.Size$List")
+            findAnnotation(element, "javax.validation.constraints.Size$List", context)
                     .ifPresent(listAnn -> listAnn.getValue(AnnotationValue.class)
                             .ifPresent(ann -> ann.intValue("max")
                                     .ifPresent(schemaToBind::setMaxItems)));
-            findAnnotation(element, "jakarta.validation.constraints.Size$List")
+            findAnnotation(element, "jakarta.validation.constraints.Size$List", context)
                     .ifPresent(listAnn -> listAnn.getValue(AnnotationValue.class)
                             .ifPresent(ann -> ann.intValue("max")
                                     .ifPresent(schemaToBind::setMaxItems)));
 
         } else {
             if (PrimitiveType.STRING.getCommonName().equals(schemaToBind.getType())) {
-                if (isAnnotationPresent(element, "javax.validation.constraints.NotEmpty$List")
-                        || isAnnotationPresent(element, "jakarta.validation.constraints.NotEmpty$List")
-                        || isAnnotationPresent(element, "javax.validation.constraints.NotBlank$List")
-                        || isAnnotationPresent(element, "jakarta.validation.constraints.NotBlank$List")) {
+                if (isAnnotationPresent(element, "javax.validation.constraints.NotEmpty$List", context)
+                        || isAnnotationPresent(element, "jakarta.validation.constraints.NotEmpty$List", context)
+                        || isAnnotationPresent(element, "javax.validation.constraints.NotBlank$List", context)
+                        || isAnnotationPresent(element, "jakarta.validation.constraints.NotBlank$List", context)) {
                     schemaToBind.setMinLength(1);
                 }
 
-                findAnnotation(element, "javax.validation.constraints.Size$List")
+                findAnnotation(element, "javax.validation.constraints.Size$List", context)
                         .ifPresent(listAnn -> {
                             for (AnnotationValue<?> ann : listAnn.getAnnotations(PROP_VALUE)) {
                                 ann.intValue("min").ifPresent(schemaToBind::setMinLength);
                                 ann.intValue("max").ifPresent(schemaToBind::setMaxLength);
                             }
                         });
-                findAnnotation(element, "jakarta.validation.constraints.Size$List")
+                findAnnotation(element, "jakarta.validation.constraints.Size$List", context)
                         .ifPresent(listAnn -> {
                             for (AnnotationValue<?> ann : listAnn.getAnnotations(PROP_VALUE)) {
                                 ann.intValue("min").ifPresent(schemaToBind::setMinLength);
@@ -2176,33 +2209,33 @@ public final class SchemaDefinitionUtils {
                         });
             }
 
-            if (isAnnotationPresent(element, "javax.validation.constraints.Negative$List")
-                    || isAnnotationPresent(element, "jakarta.validation.constraints.Negative$List")) {
+            if (isAnnotationPresent(element, "javax.validation.constraints.Negative$List", context)
+                    || isAnnotationPresent(element, "jakarta.validation.constraints.Negative$List", context)) {
                 schemaToBind.setMaximum(BigDecimal.ZERO);
                 schemaToBind.exclusiveMaximum(true);
             }
-            if (isAnnotationPresent(element, "javax.validation.constraints.NegativeOrZero$List")
-                    || isAnnotationPresent(element, "jakarta.validation.constraints.NegativeOrZero$List")) {
+            if (isAnnotationPresent(element, "javax.validation.constraints.NegativeOrZero$List", context)
+                    || isAnnotationPresent(element, "jakarta.validation.constraints.NegativeOrZero$List", context)) {
                 schemaToBind.setMaximum(BigDecimal.ZERO);
             }
-            if (isAnnotationPresent(element, "javax.validation.constraints.Positive$List")
-                    || isAnnotationPresent(element, "jakarta.validation.constraints.Positive$List")) {
+            if (isAnnotationPresent(element, "javax.validation.constraints.Positive$List", context)
+                    || isAnnotationPresent(element, "jakarta.validation.constraints.Positive$List", context)) {
                 schemaToBind.setMinimum(BigDecimal.ZERO);
                 schemaToBind.exclusiveMinimum(true);
             }
-            if (isAnnotationPresent(element, "javax.validation.constraints.PositiveOrZero$List")
-                    || isAnnotationPresent(element, "jakarta.validation.constraints.PositiveOrZero$List")) {
+            if (isAnnotationPresent(element, "javax.validation.constraints.PositiveOrZero$List", context)
+                    || isAnnotationPresent(element, "jakarta.validation.constraints.PositiveOrZero$List", context)) {
                 schemaToBind.setMinimum(BigDecimal.ZERO);
             }
 
-            findAnnotation(element, "javax.validation.constraints.Min$List")
+            findAnnotation(element, "javax.validation.constraints.Min$List", context)
                     .ifPresent(listAnn -> {
                         for (AnnotationValue<?> ann : listAnn.getAnnotations(PROP_VALUE)) {
                             ann.getValue(BigDecimal.class)
                                     .ifPresent(schemaToBind::setMinimum);
                         }
                     });
-            findAnnotation(element, "jakarta.validation.constraints.Min$List")
+            findAnnotation(element, "jakarta.validation.constraints.Min$List", context)
                     .ifPresent(listAnn -> {
                         for (AnnotationValue<?> ann : listAnn.getAnnotations(PROP_VALUE)) {
                             ann.getValue(BigDecimal.class)
@@ -2210,14 +2243,14 @@ public final class SchemaDefinitionUtils {
                         }
                     });
 
-            findAnnotation(element, "javax.validation.constraints.Max$List")
+            findAnnotation(element, "javax.validation.constraints.Max$List", context)
                     .ifPresent(listAnn -> {
                         for (AnnotationValue<?> ann : listAnn.getAnnotations(PROP_VALUE)) {
                             ann.getValue(BigDecimal.class)
                                     .ifPresent(schemaToBind::setMaximum);
                         }
                     });
-            findAnnotation(element, "jakarta.validation.constraints.Max$List")
+            findAnnotation(element, "jakarta.validation.constraints.Max$List", context)
                     .ifPresent(listAnn -> {
                         for (AnnotationValue<?> ann : listAnn.getAnnotations(PROP_VALUE)) {
                             ann.getValue(BigDecimal.class)
@@ -2225,14 +2258,14 @@ public final class SchemaDefinitionUtils {
                         }
                     });
 
-            findAnnotation(element, "javax.validation.constraints.DecimalMin$List")
+            findAnnotation(element, "javax.validation.constraints.DecimalMin$List", context)
                     .ifPresent(listAnn -> {
                         for (AnnotationValue<?> ann : listAnn.getAnnotations(PROP_VALUE)) {
                             ann.getValue(BigDecimal.class)
                                     .ifPresent(schemaToBind::setMinimum);
                         }
                     });
-            findAnnotation(element, "jakarta.validation.constraints.DecimalMin$List")
+            findAnnotation(element, "jakarta.validation.constraints.DecimalMin$List", context)
                     .ifPresent(listAnn -> {
                         for (AnnotationValue<?> ann : listAnn.getAnnotations(PROP_VALUE)) {
                             ann.getValue(BigDecimal.class)
@@ -2240,14 +2273,14 @@ public final class SchemaDefinitionUtils {
                         }
                     });
 
-            findAnnotation(element, "javax.validation.constraints.DecimalMax$List")
+            findAnnotation(element, "javax.validation.constraints.DecimalMax$List", context)
                     .ifPresent(listAnn -> {
                         for (AnnotationValue<?> ann : listAnn.getAnnotations(PROP_VALUE)) {
                             ann.getValue(BigDecimal.class)
                                     .ifPresent(schemaToBind::setMaximum);
                         }
                     });
-            findAnnotation(element, "jakarta.validation.constraints.DecimalMax$List")
+            findAnnotation(element, "jakarta.validation.constraints.DecimalMax$List", context)
                     .ifPresent(listAnn -> {
                         for (AnnotationValue<?> ann : listAnn.getAnnotations(PROP_VALUE)) {
                             ann.getValue(BigDecimal.class)
@@ -2255,7 +2288,7 @@ public final class SchemaDefinitionUtils {
                         }
                     });
 
-            findAnnotation(element, "javax.validation.constraints.Email$List")
+            findAnnotation(element, "javax.validation.constraints.Email$List", context)
                     .ifPresent(listAnn -> {
                         schemaToBind.setFormat(PrimitiveType.EMAIL.getCommonName());
                         for (AnnotationValue<?> ann : listAnn.getAnnotations(PROP_VALUE)) {
@@ -2263,7 +2296,7 @@ public final class SchemaDefinitionUtils {
                                     .ifPresent(schemaToBind::setPattern);
                         }
                     });
-            findAnnotation(element, "jakarta.validation.constraints.Email$List")
+            findAnnotation(element, "jakarta.validation.constraints.Email$List", context)
                     .ifPresent(listAnn -> {
                         schemaToBind.setFormat(PrimitiveType.EMAIL.getCommonName());
                         for (AnnotationValue<?> ann : listAnn.getAnnotations(PROP_VALUE)) {
@@ -2272,14 +2305,14 @@ public final class SchemaDefinitionUtils {
                         }
                     });
 
-            findAnnotation(element, "javax.validation.constraints.Pattern$List")
+            findAnnotation(element, "javax.validation.constraints.Pattern$List", context)
                     .ifPresent(listAnn -> {
                         for (AnnotationValue<?> ann : listAnn.getAnnotations(PROP_VALUE)) {
                             ann.stringValue("regexp")
                                     .ifPresent(schemaToBind::setPattern);
                         }
                     });
-            findAnnotation(element, "jakarta.validation.constraints.Pattern$List")
+            findAnnotation(element, "jakarta.validation.constraints.Pattern$List", context)
                     .ifPresent(listAnn -> {
                         for (AnnotationValue<?> ann : listAnn.getAnnotations(PROP_VALUE)) {
                             ann.stringValue("regexp")
@@ -2297,7 +2330,7 @@ public final class SchemaDefinitionUtils {
                                               OpenAPI openApi, ClassElement jsonViewClass,
                                               JavadocDescription classJavadoc,
                                               VisitorContext context) {
-        var schema = setSpecVersion(new Schema<>());
+        var schema = setSpecVersion(new Schema<>(), context);
         if (CollectionUtils.isEmpty(typeArgs)) {
             schema.setAdditionalProperties(true);
             return schema;
@@ -2344,9 +2377,10 @@ public final class SchemaDefinitionUtils {
         if (withJsonView && classElement != null) {
             classLvlJsonViewClasses = classElement.getAnnotationMetadata().stringValues(JsonView.class);
         }
+        var javadocParser = OpenApiVisitorState.get(context).getJavadocParser();
 
         for (TypedElement publicField : publicFields) {
-            if (isHiddenElement(publicField)) {
+            if (isHiddenElement(publicField, context)) {
                 continue;
             }
 
@@ -2355,7 +2389,7 @@ public final class SchemaDefinitionUtils {
             if (classElement != null) {
                 for (FieldElement field : classElement.getFields()) {
                     if (field.getName().equals(publicField.getName())) {
-                        fieldJavadoc = Utils.getJavadocParser().parse(publicField.getDocumentation().orElse(field.getDocumentation().orElse(null)));
+                        fieldJavadoc = javadocParser.parse(publicField.getDocumentation().orElse(field.getDocumentation().orElse(null)));
                         break;
                     }
                 }
@@ -2396,20 +2430,20 @@ public final class SchemaDefinitionUtils {
         }
     }
 
-    private static boolean isHiddenElement(TypedElement elementType) {
-        boolean isHidden = getAnnotationMetadata(elementType)
+    private static boolean isHiddenElement(TypedElement elementType, VisitorContext context) {
+        boolean isHidden = getAnnotationMetadata(elementType, context)
             .booleanValue(io.swagger.v3.oas.annotations.media.Schema.class, PROP_HIDDEN).orElse(false);
-        var jsonAnySetterAnn = getAnnotation(elementType, JsonAnySetter.class);
+        var jsonAnySetterAnn = getAnnotation(elementType, JsonAnySetter.class, context);
         return elementType.getType().isAssignable(Class.class)
-            || isAnnotationPresent(elementType, JsonIgnore.class)
-            || isAnnotationPresent(elementType, JsonBackReference.class)
-            || isAnnotationPresent(elementType, Hidden.class)
+            || isAnnotationPresent(elementType, JsonIgnore.class, context)
+            || isAnnotationPresent(elementType, JsonBackReference.class, context)
+            || isAnnotationPresent(elementType, Hidden.class, context)
             || (jsonAnySetterAnn != null && jsonAnySetterAnn.booleanValue("enabled").orElse(true))
             || isHidden;
     }
 
     private static boolean allowedByJsonView(TypedElement publicField, String[] classLvlJsonViewClasses, ClassElement jsonViewClassEl, VisitorContext context) {
-        String[] fieldJsonViewClasses = getAnnotationMetadata(publicField).stringValues(JsonView.class);
+        String[] fieldJsonViewClasses = getAnnotationMetadata(publicField, context).stringValues(JsonView.class);
         if (ArrayUtils.isEmpty(fieldJsonViewClasses)) {
             fieldJsonViewClasses = classLvlJsonViewClasses;
         }
@@ -2432,7 +2466,7 @@ public final class SchemaDefinitionUtils {
             return null;
         }
 
-        var schemaToBind = setSpecVersion(new Schema<>());
+        var schemaToBind = setSpecVersion(new Schema<>(), context);
         processSchemaAnn(schemaToBind, context, element, type, schemaAnn);
 
         return schemaToBind;
@@ -2444,9 +2478,9 @@ public final class SchemaDefinitionUtils {
                                                          @Nullable ClassElement jsonViewClass) {
 
         // need to set placeholders to set correct values and types to example field
-        schemaJson = resolvePlaceholders(schemaJson, s -> expandProperties(s, getExpandableProperties(context), context));
+        schemaJson = getPlaceholderResolver(context).expandTree(schemaJson);
         try {
-            schemaToBind = Utils.getJsonMapper().readerForUpdating(schemaToBind).readValue(schemaJson);
+            schemaToBind = Utils.getJsonMapper(context).readerForUpdating(schemaToBind).readValue(schemaJson);
         } catch (IOException e) {
             warn("Error reading Swagger Schema for element [" + element + "]: " + e.getMessage(), context, element);
         }
@@ -2662,17 +2696,17 @@ public final class SchemaDefinitionUtils {
         return resultTypeName;
     }
 
-    private static String resolvePropertyName(Element element, Element classElement, Schema<?> propertySchema) {
+    private static String resolvePropertyName(Element element, Element classElement, Schema<?> propertySchema, VisitorContext context) {
         String name = propertySchema.getName() != null ? propertySchema.getName() : element.getName();
 
-        if (isAnnotationPresent(element, io.swagger.v3.oas.annotations.media.Schema.class)) {
-            Optional<String> nameFromSchema = stringValue(element, io.swagger.v3.oas.annotations.media.Schema.class, PROP_NAME);
+        if (isAnnotationPresent(element, io.swagger.v3.oas.annotations.media.Schema.class, context)) {
+            Optional<String> nameFromSchema = stringValue(element, io.swagger.v3.oas.annotations.media.Schema.class, PROP_NAME, context);
             if (nameFromSchema.isPresent()) {
                 return nameFromSchema.get();
             }
         }
-        if (isAnnotationPresent(element, JsonProperty.class)) {
-            return stringValue(element, JsonProperty.class, PROP_VALUE).orElse(name);
+        if (isAnnotationPresent(element, JsonProperty.class, context)) {
+            return stringValue(element, JsonProperty.class, PROP_VALUE, context).orElse(name);
         }
         if (classElement != null && classElement.hasAnnotation(JsonNaming.class)) {
             // INVESTIGATE: "classValue" doesn't work in this case
@@ -2680,7 +2714,7 @@ public final class SchemaDefinitionUtils {
             if (propertyNamingStrategyClass.isEmpty()) {
                 return name;
             }
-            PropertyNamingStrategy strategy = propertyNamingStrategyInstances.computeIfAbsent(propertyNamingStrategyClass.get(), clazz -> {
+            PropertyNamingStrategy strategy = PROPERTY_NAMING_STRATEGY_INSTANCES.computeIfAbsent(propertyNamingStrategyClass.get(), clazz -> {
                 try {
                     return (PropertyNamingStrategy) Class.forName(propertyNamingStrategyClass.get()).getConstructor().newInstance();
                 } catch (Exception e) {
@@ -2698,7 +2732,7 @@ public final class SchemaDefinitionUtils {
         Map<String, Schema> schemas = SchemaUtils.resolveSchemas(Utils.resolveOpenApi(context));
         ClassElement customElementType = getCustomSchema(elementType.getName(), elementType.getTypeArguments(), context);
         var elType = customElementType != null ? customElementType : elementType;
-        String schemaName = computeDefaultSchemaName(stringValue(element, io.swagger.v3.oas.annotations.media.Schema.class, PROP_NAME).orElse(null),
+        String schemaName = computeDefaultSchemaName(stringValue(element, io.swagger.v3.oas.annotations.media.Schema.class, PROP_NAME, context).orElse(null),
             null, elType, elementType.getTypeArguments(), context, null);
         Schema<?> wrappedPropertySchema = schemas.get(schemaName);
         if (wrappedPropertySchema == null) {
@@ -2718,7 +2752,7 @@ public final class SchemaDefinitionUtils {
                 boolean isRequired = wrappedPropertySchema.getRequired() != null && wrappedPropertySchema.getRequired().contains(propertyName);
                 if (StringUtils.isNotEmpty(suffix) || StringUtils.isNotEmpty(prefix)) {
                     propertyName = prefix + propertyName + suffix;
-                    propertySchema = Utils.getJsonMapper().readValue(Utils.getJsonMapper().writeValueAsString(prop.getValue()), Schema.class);
+                    propertySchema = Utils.getJsonMapper(context).readValue(Utils.getJsonMapper(context).writeValueAsString(prop.getValue()), Schema.class);
                     propertySchema.setName(propertyName);
                 }
                 addProperty(parentSchema, propertyName, propertySchema, isRequired);
@@ -2781,8 +2815,4 @@ public final class SchemaDefinitionUtils {
         }
         return valueMap;
     }
-
-    public static Map<String, String> getSchemaNameToClassNameMap() {
-        return schemaNameToClassNameMap;
-    }
 }
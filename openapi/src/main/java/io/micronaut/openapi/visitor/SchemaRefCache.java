@@ -0,0 +1,184 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.openapi.visitor;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.http.MediaType;
+import io.micronaut.inject.ast.ClassElement;
+import io.swagger.v3.oas.models.media.Schema;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static io.micronaut.openapi.visitor.SchemaUtils.setSpecVersion;
+
+/**
+ * Cache of schema references, which are already resolved by {@link SchemaDefinitionUtils#getSchemaDefinition}.
+ * The key is the type identity: type name with resolved type arguments and their type use annotations,
+ * JsonView class and media types.
+ * A hit returns new {@code $ref} schema without the type analysis, so a type referenced from
+ * many endpoints is analyzed only once.
+ *
+ * @since 6.13.0
+ */
+@Internal
+public final class SchemaRefCache {
+
+    /**
+     * Max depth of type arguments in the key. Types with deeper generics are not cached.
+     */
+    private static final int MAX_TYPE_ARGS_DEPTH = 8;
+
+    /**
+     * OpenAPI 3.1 flag of the compilation, it's the spec version of the returned references.
+     */
+    private final boolean openapi31;
+    private final Map<String, CachedRef> refs = new HashMap<>();
+    private long hits;
+    private long misses;
+
+    public SchemaRefCache(boolean openapi31) {
+        this.openapi31 = openapi31;
+    }
+
+    /**
+     * Build cache key.
+     *
+     * @param type type element
+     * @param typeArgs resolved type arguments
+     * @param jsonViewClass class from JsonView annotation
+     * @param mediaTypes media types of schema
+     * @param iterableDefiningElement is defining element iterable class, in this case reference has description
+     *
+     * @return cache key or null, if type can't be cached
+     */
+    @Nullable
+    public static String key(ClassElement type, Map<String, ClassElement> typeArgs, @Nullable ClassElement jsonViewClass,
+                             @Nullable List<MediaType> mediaTypes, boolean iterableDefiningElement) {
+        var sb = new StringBuilder(64);
+        if (!appendType(sb, type, typeArgs, 0)) {
+            return null;
+        }
+        sb.append('|');
+        if (jsonViewClass != null) {
+            sb.append(jsonViewClass.getName());
+        }
+        sb.append('|');
+        if (mediaTypes != null) {
+            for (var mediaType : mediaTypes) {
+                sb.append(mediaType).append(',');
+            }
+        }
+        if (iterableDefiningElement) {
+            sb.append("|iterable");
+        }
+        return sb.toString();
+    }
+
+    private static boolean appendType(StringBuilder sb, ClassElement type, @Nullable Map<String, ClassElement> typeArgs, int depth) {
+        if (depth > MAX_TYPE_ARGS_DEPTH) {
+            return false;
+        }
+        // type use annotations are part of schema names, like GenObject_Size_max_20_String_
+        for (var annName : type.getAnnotationNames()) {
+            var ann = type.getAnnotation(annName);
+            sb.append('@').append(annName).append(ann != null ? ann.getValues() : "").append(' ');
+        }
+        sb.append(type.getName());
+        for (int i = 0; i < type.getArrayDimensions(); i++) {
+            sb.append("[]");
+        }
+        if (typeArgs == null || typeArgs.isEmpty()) {
+            return true;
+        }
+        sb.append('<');
+        for (var entry : typeArgs.entrySet()) {
+            sb.append(entry.getKey()).append('=');
+            var typeArg = entry.getValue();
+            if (typeArg != null && !appendType(sb, typeArg, typeArg.getTypeArguments(), depth + 1)) {
+                return false;
+            }
+            sb.append(',');
+        }
+        sb.append('>');
+        return true;
+    }
+
+    /**
+     * Returns new reference to cached schema, if schema is still registered in components.
+     *
+     * @param key cache key
+     * @param schemas registered component schemas
+     *
+     * @return new schema reference or null
+     */
+    @Nullable
+    public Schema<?> get(String key, Map<String, Schema> schemas) {
+        CachedRef cachedRef = refs.get(key);
+        Schema<?> schema = cachedRef != null ? schemas.get(cachedRef.schemaName) : null;
+        if (schema == null) {
+            misses++;
+            return null;
+        }
+        hits++;
+        var schemaRef = setSpecVersion(new Schema<>(), openapi31);
+        schemaRef.set$ref(SchemaUtils.schemaRef(cachedRef.schemaName));
+        if (cachedRef.withDescription) {
+            schemaRef.setDescription(schema.getDescription());
+        }
+        return schemaRef;
+    }
+
+    /**
+     * Store resolved schema reference.
+     *
+     * @param key cache key
+     * @param schemaName schema name in components
+     * @param withDescription reference has description of the schema
+     */
+    public void put(String key, String schemaName, boolean withDescription) {
+        refs.put(key, new CachedRef(schemaName, withDescription));
+    }
+
+    /**
+     * @return number of references returned from cache
+     */
+    public long getHits() {
+        return hits;
+    }
+
+    /**
+     * @return number of lookups, which were not found in cache
+     */
+    public long getMisses() {
+        return misses;
+    }
+
+    /**
+     * @return number of cached references
+     */
+    public int size() {
+        return refs.size();
+    }
+
+    private record CachedRef(
+        String schemaName,
+        boolean withDescription
+    ) {
+    }
+}
@@ -0,0 +1,500 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.openapi.visitor;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.util.CollectionUtils;
+import io.swagger.v3.oas.models.Components;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.callbacks.Callback;
+import io.swagger.v3.oas.models.examples.Example;
+import io.swagger.v3.oas.models.headers.Header;
+import io.swagger.v3.oas.models.links.Link;
+import io.swagger.v3.oas.models.media.Content;
+import io.swagger.v3.oas.models.media.Encoding;
+import io.swagger.v3.oas.models.media.MediaType;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.parameters.Parameter;
+import io.swagger.v3.oas.models.parameters.RequestBody;
+import io.swagger.v3.oas.models.responses.ApiResponse;
+import io.swagger.v3.oas.models.security.SecurityScheme;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+
+import static io.swagger.v3.oas.models.Components.COMPONENTS_SCHEMAS_REF;
+
+/**
+ * Walks the swagger model and collects names of all referenced component schemas.
+ * Every model object is visited once, so the cost is linear in the size of the document.
+ *
+ * <p>Only the parts of the model that are written to the final document are visited: OpenAPI 3.1 keywords
+ * (webhooks, path item components, {@code prefixItems}, {@code if}/{@code then}/{@code else}, etc.)
+ * are skipped when OpenAPI 3.1 is disabled.</p>
+ *
+ * @since 6.13.0
+ */
+@Internal
+public final class SchemaRefCollector {
+
+    private final boolean openapi31;
+    private final Set<String> schemaNames = new HashSet<>();
+    /**
+     * Schema names, which weren't expanded yet by {@link #collectReachableSchemaRefs(OpenAPI, Collection, boolean)}.
+     */
+    private final Queue<String> newSchemaNames = new ArrayDeque<>();
+    private final Set<Object> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    private SchemaRefCollector(boolean openapi31) {
+        this.openapi31 = openapi31;
+    }
+
+    /**
+     * Collect names of all component schemas referenced from any part of the document,
+     * including references from other component schemas.
+     *
+     * @param openApi openAPI object
+     * @param openapi31 whether OpenAPI 3.1 is enabled
+     *
+     * @return names of referenced schemas
+     */
+    public static Set<String> collectSchemaRefs(OpenAPI openApi, boolean openapi31) {
+        var collector = new SchemaRefCollector(openapi31);
+        collector.visitOpenApi(openApi, true);
+        return collector.schemaNames;
+    }
+
+    /**
+     * Collect names of component schemas reachable from the document and from the root schemas. Unlike
+     * {@link #collectSchemaRefs(OpenAPI, boolean)}, component schemas are visited only if they are referenced,
+     * so references from unreachable component schemas aren't collected.
+     *
+     * @param openApi openAPI object
+     * @param rootSchemas names of component schemas, which are reachable in any case
+     * @param openapi31 whether OpenAPI 3.1 is enabled
+     *
+     * @return names of reachable schemas
+     */
+    public static Set<String> collectReachableSchemaRefs(OpenAPI openApi, Collection<String> rootSchemas, boolean openapi31) {
+        var collector = new SchemaRefCollector(openapi31);
+        collector.visitOpenApi(openApi, false);
+        for (String schemaName : rootSchemas) {
+            collector.addSchemaName(schemaName);
+        }
+        Map<String, Schema> schemas = openApi.getComponents() != null ? openApi.getComponents().getSchemas() : null;
+        if (schemas != null) {
+            // every schema name is queued once, when it's found first time
+            String schemaName;
+            while ((schemaName = collector.newSchemaNames.poll()) != null) {
+                collector.visitSchema(schemas.get(schemaName));
+            }
+        }
+        return collector.schemaNames;
+    }
+
+    /**
+     * Collect names of all component schemas referenced from the given schemas.
+     *
+     * @param schemas schemas
+     * @param openapi31 whether OpenAPI 3.1 is enabled
+     *
+     * @return names of referenced schemas
+     */
+    public static Set<String> collectSchemaRefs(Collection<Schema> schemas, boolean openapi31) {
+        var collector = new SchemaRefCollector(openapi31);
+        collector.visitSchemas(schemas);
+        return collector.schemaNames;
+    }
+
+    private void visitOpenApi(OpenAPI openApi, boolean visitComponentSchemas) {
+        if (openApi == null) {
+            return;
+        }
+        if (openApi.getInfo() != null) {
+            visitExtensions(openApi.getInfo().getExtensions());
+        }
+        if (openApi.getExternalDocs() != null) {
+            visitExtensions(openApi.getExternalDocs().getExtensions());
+        }
+        if (openApi.getTags() != null) {
+            for (var tag : openApi.getTags()) {
+                visitExtensions(tag.getExtensions());
+            }
+        }
+        if (openApi.getPaths() != null) {
+            visitPathItems(openApi.getPaths());
+            visitExtensions(openApi.getPaths().getExtensions());
+        }
+        if (openapi31) {
+            visitPathItems(openApi.getWebhooks());
+        }
+        visitComponents(openApi.getComponents(), visitComponentSchemas);
+        visitExtensions(openApi.getExtensions());
+    }
+
+    private void visitComponents(Components components, boolean visitSchemas) {
+        if (components == null) {
+            return;
+        }
+        if (visitSchemas) {
+            visitSchemas(components.getSchemas());
+        }
+        if (components.getResponses() != null) {
+            for (var response : components.getResponses().values()) {
+                visitApiResponse(response);
+            }
+        }
+        if (components.getParameters() != null) {
+            for (var parameter : components.getParameters().values()) {
+                visitParameter(parameter);
+            }
+        }
+        visitExamples(components.getExamples());
+        if (components.getRequestBodies() != null) {
+            for (var requestBody : components.getRequestBodies().values()) {
+                visitRequestBody(requestBody);
+            }
+        }
+        visitHeaders(components.getHeaders());
+        if (components.getSecuritySchemes() != null) {
+            for (var securityScheme : components.getSecuritySchemes().values()) {
+                visitSecurityScheme(securityScheme);
+            }
+        }
+        visitLinks(components.getLinks());
+        visitCallbacks(components.getCallbacks());
+        if (openapi31) {
+            visitPathItems(components.getPathItems());
+        }
+        visitExtensions(components.getExtensions());
+    }
+
+    private void visitPathItems(Map<String, PathItem> pathItems) {
+        if (pathItems == null) {
+            return;
+        }
+        for (var pathItem : pathItems.values()) {
+            visitPathItem(pathItem);
+        }
+    }
+
+    private void visitPathItem(PathItem pathItem) {
+        if (pathItem == null || !visited.add(pathItem)) {
+            return;
+        }
+        addRef(pathItem.get$ref());
+        visitOperation(pathItem.getGet());
+        visitOperation(pathItem.getPut());
+        visitOperation(pathItem.getPost());
+        visitOperation(pathItem.getDelete());
+        visitOperation(pathItem.getOptions());
+        visitOperation(pathItem.getHead());
+        visitOperation(pathItem.getPatch());
+        visitOperation(pathItem.getTrace());
+        visitParameters(pathItem.getParameters());
+        visitExtensions(pathItem.getExtensions());
+    }
+
+    private void visitOperation(Operation operation) {
+        if (operation == null || !visited.add(operation)) {
+            return;
+        }
+        visitParameters(operation.getParameters());
+        visitRequestBody(operation.getRequestBody());
+        if (operation.getResponses() != null) {
+            for (var response : operation.getResponses().values()) {
+                visitApiResponse(response);
+            }
+            visitExtensions(operation.getResponses().getExtensions());
+        }
+        visitCallbacks(operation.getCallbacks());
+        visitExtensions(operation.getExtensions());
+    }
+
+    private void visitCallbacks(Map<String, Callback> callbacks) {
+        if (callbacks == null) {
+            return;
+        }
+        for (var callback : callbacks.values()) {
+            if (callback == null || !visited.add(callback)) {
+                continue;
+            }
+            addRef(callback.get$ref());
+            visitPathItems(callback);
+            visitExtensions(callback.getExtensions());
+        }
+    }
+
+    private void visitParameters(List<Parameter> parameters) {
+        if (parameters == null) {
+            return;
+        }
+        for (var parameter : parameters) {
+            visitParameter(parameter);
+        }
+    }
+
+    private void visitParameter(Parameter parameter) {
+        if (parameter == null || !visited.add(parameter)) {
+            return;
+        }
+        addRef(parameter.get$ref());
+        visitSchema(parameter.getSchema());
+        visitContent(parameter.getContent());
+        visitExamples(parameter.getExamples());
+        visitValue(parameter.getExample());
+        visitExtensions(parameter.getExtensions());
+    }
+
+    private void visitRequestBody(RequestBody requestBody) {
+        if (requestBody == null || !visited.add(requestBody)) {
+            return;
+        }
+        addRef(requestBody.get$ref());
+        visitContent(requestBody.getContent());
+        visitExtensions(requestBody.getExtensions());
+    }
+
+    private void visitApiResponse(ApiResponse response) {
+        if (response == null || !visited.add(response)) {
+            return;
+        }
+        addRef(response.get$ref());
+        visitHeaders(response.getHeaders());
+        visitContent(response.getContent());
+        visitLinks(response.getLinks());
+        visitExtensions(response.getExtensions());
+    }
+
+    private void visitHeaders(Map<String, Header> headers) {
+        if (headers == null) {
+            return;
+        }
+        for (var header : headers.values()) {
+            if (header == null || !visited.add(header)) {
+                continue;
+            }
+            addRef(header.get$ref());
+            visitSchema(header.getSchema());
+            visitContent(header.getContent());
+            visitExamples(header.getExamples());
+            visitValue(header.getExample());
+            visitExtensions(header.getExtensions());
+        }
+    }
+
+    private void visitLinks(Map<String, Link> links) {
+        if (links == null) {
+            return;
+        }
+        for (var link : links.values()) {
+            if (link == null || !visited.add(link)) {
+                continue;
+            }
+            addRef(link.get$ref());
+            visitValue(link.getRequestBody());
+            visitValue(link.getParameters());
+            visitHeaders(link.getHeaders());
+            visitExtensions(link.getExtensions());
+        }
+    }
+
+    private void visitSecurityScheme(SecurityScheme securityScheme) {
+        if (securityScheme == null) {
+            return;
+        }
+        addRef(securityScheme.get$ref());
+        visitExtensions(securityScheme.getExtensions());
+    }
+
+    private void visitContent(Content content) {
+        if (content == null) {
+            return;
+        }
+        for (MediaType mediaType : content.values()) {
+            if (mediaType == null || !visited.add(mediaType)) {
+                continue;
+            }
+            visitSchema(mediaType.getSchema());
+            visitExamples(mediaType.getExamples());
+            visitValue(mediaType.getExample());
+            if (mediaType.getEncoding() != null) {
+                for (Encoding encoding : mediaType.getEncoding().values()) {
+                    if (encoding == null) {
+                        continue;
+                    }
+                    visitHeaders(encoding.getHeaders());
+                    visitExtensions(encoding.getExtensions());
+                }
+            }
+            visitExtensions(mediaType.getExtensions());
+        }
+    }
+
+    private void visitExamples(Map<String, Example> examples) {
+        if (examples == null) {
+            return;
+        }
+        for (var example : examples.values()) {
+            if (example == null) {
+                continue;
+            }
+            addRef(example.get$ref());
+            visitValue(example.getValue());
+            visitExtensions(example.getExtensions());
+        }
+    }
+
+    private void visitSchemas(Map<String, Schema> schemas) {
+        if (schemas == null) {
+            return;
+        }
+        for (Schema<?> schema : schemas.values()) {
+            visitSchema(schema);
+        }
+    }
+
+    private void visitSchemas(Collection<Schema> schemas) {
+        if (schemas == null) {
+            return;
+        }
+        for (Schema<?> schema : schemas) {
+            visitSchema(schema);
+        }
+    }
+
+    private void visitSchema(Schema<?> schema) {
+        if (schema == null || !visited.add(schema)) {
+            return;
+        }
+        addRef(schema.get$ref());
+        // OpenAPI 3.0 serializer writes only $ref for reference schemas, skipping all other props
+        if (!openapi31 && schema.get$ref() != null && !schema.get$ref().isBlank()) {
+            return;
+        }
+        visitSchemas(schema.getProperties());
+        visitSchema(schema.getItems());
+        visitSchemas(schema.getAllOf());
+        visitSchemas(schema.getAnyOf());
+        visitSchemas(schema.getOneOf());
+        visitSchema(schema.getNot());
+        if (schema.getAdditionalProperties() instanceof Schema<?> additionalProperties) {
+            visitSchema(additionalProperties);
+        }
+        if (schema.getDiscriminator() != null && schema.getDiscriminator().getMapping() != null) {
+            for (var mappingRef : schema.getDiscriminator().getMapping().values()) {
+                addRef(mappingRef);
+            }
+        }
+        visitValue(schema.getExample());
+        visitValue(schema.getDefault());
+        visitValue(schema.getEnum());
+        if (openapi31) {
+            visitSchemas(schema.getPrefixItems());
+            visitSchema(schema.getContains());
+            visitSchemas(schema.getPatternProperties());
+            visitSchema(schema.getIf());
+            visitSchema(schema.getThen());
+            visitSchema(schema.getElse());
+            visitSchemas(schema.getDependentSchemas());
+            visitSchema(schema.getPropertyNames());
+            visitSchema(schema.getAdditionalItems());
+            visitSchema(schema.getUnevaluatedItems());
+            if (schema.getUnevaluatedProperties() instanceof Schema<?> unevaluatedProperties) {
+                visitSchema(unevaluatedProperties);
+            }
+            visitSchema(schema.getContentSchema());
+            visitValue(schema.getExamples());
+            visitValue(schema.getConst());
+        }
+        visitExtensions(schema.getExtensions());
+    }
+
+    private void visitExtensions(Map<String, Object> extensions) {
+        if (CollectionUtils.isNotEmpty(extensions)) {
+            visitValue(extensions);
+        }
+    }
+
+    /**
+     * Visit free-form values (examples, defaults, extensions), they can contain references as plain strings.
+     *
+     * @param value free-form value
+     */
+    private void visitValue(Object value) {
+        if (value == null) {
+            return;
+        }
+        if (value instanceof CharSequence str) {
+            addRef(str.toString());
+        } else if (value instanceof Map<?, ?> map) {
+            if (!visited.add(map)) {
+                return;
+            }
+            for (var entry : map.entrySet()) {
+                visitValue(entry.getKey());
+                visitValue(entry.getValue());
+            }
+        } else if (value instanceof Collection<?> collection) {
+            if (!visited.add(collection)) {
+                return;
+            }
+            for (var item : collection) {
+                visitValue(item);
+            }
+        } else if (value instanceof JsonNode node) {
+            visitJsonNode(node);
+        } else if (value instanceof Schema<?> schema) {
+            visitSchema(schema);
+        }
+    }
+
+    private void visitJsonNode(JsonNode node) {
+        if (node.isTextual()) {
+            addRef(node.textValue());
+        } else if (node.isContainerNode()) {
+            var fieldNames = node.fieldNames();
+            while (fieldNames.hasNext()) {
+                addRef(fieldNames.next());
+            }
+            for (var child : node) {
+                visitJsonNode(child);
+            }
+        }
+    }
+
+    private void addRef(String ref) {
+        if (ref != null && ref.startsWith(COMPONENTS_SCHEMAS_REF)) {
+            addSchemaName(ref.substring(COMPONENTS_SCHEMAS_REF.length()));
+        }
+    }
+
+    private void addSchemaName(String schemaName) {
+        if (schemaNames.add(schemaName)) {
+            newSchemaNames.add(schemaName);
+        }
+    }
+}
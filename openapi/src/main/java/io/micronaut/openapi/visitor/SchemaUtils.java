@@ -18,6 +18,7 @@ package io.micronaut.openapi.visitor;
 import com.fasterxml.jackson.databind.JsonNode;
 import io.micronaut.core.annotation.AnnotationValue;
 import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.Nullable;
 import io.micronaut.core.util.ArrayUtils;
 import io.micronaut.core.util.CollectionUtils;
 import io.micronaut.core.util.StringUtils;
@@ -25,6 +26,7 @@ import io.micronaut.http.HttpHeaders;
 import io.micronaut.http.HttpMethod;
 import io.micronaut.inject.ast.Element;
 import io.micronaut.inject.visitor.VisitorContext;
+import io.micronaut.openapi.OpenApiUtils;
 import io.micronaut.openapi.SimpleSchema;
 import io.swagger.v3.oas.annotations.extensions.Extension;
 import io.swagger.v3.oas.annotations.extensions.ExtensionProperty;
@@ -160,7 +162,7 @@ public final class SchemaUtils {
                     decoratedName = prependIfMissing(propertyName, PREFIX_X);
                     if (propertyAsJson) {
                         try {
-                            processedValue = Utils.getJsonMapper().readTree(propertyValue);
+                            processedValue = OpenApiUtils.getJsonMapper().readTree(propertyValue);
                             map.put(decoratedName, processedValue);
                         } catch (Exception e) {
                             map.put(decoratedName, propertyValue);
@@ -178,7 +180,7 @@ public final class SchemaUtils {
                     var mapValue = (Map<String, Object>) value;
                     if (propertyAsJson) {
                         try {
-                            processedValue = Utils.getJsonMapper().readTree(propertyValue);
+                            processedValue = OpenApiUtils.getJsonMapper().readTree(propertyValue);
                             mapValue.put(propertyName, processedValue);
                         } catch (Exception e) {
                             mapValue.put(propertyName, propertyValue);
@@ -208,17 +210,21 @@ public final class SchemaUtils {
         return schemas;
     }
 
-    public static <T extends Schema> T setSpecVersion(T schema) {
-        schema.specVersion(Utils.isOpenapi31() ? SpecVersion.V31 : SpecVersion.V30);
+    public static <T extends Schema> T setSpecVersion(T schema, @Nullable VisitorContext context) {
+        return setSpecVersion(schema, Utils.isOpenapi31(context));
+    }
+
+    public static <T extends Schema> T setSpecVersion(T schema, boolean openapi31) {
+        schema.specVersion(openapi31 ? SpecVersion.V31 : SpecVersion.V30);
         return schema;
     }
 
-    public static ArraySchema arraySchema(Schema<?> schema) {
+    public static ArraySchema arraySchema(Schema<?> schema, VisitorContext context) {
         if (schema == null) {
             return null;
         }
         var arraySchema = new ArraySchema();
-        setSpecVersion(arraySchema);
+        setSpecVersion(arraySchema, context);
         arraySchema.items(schema);
         return arraySchema;
     }
@@ -659,7 +665,8 @@ public final class SchemaUtils {
             s1.addOneOfItem(s2);
             return s1;
         }
-        Schema<?> finalSchema = setSpecVersion(new ComposedSchema());
+        // merged schemas are from the same document, so they have the same spec version
+        Schema<?> finalSchema = new ComposedSchema().specVersion(s1.getSpecVersion());
         finalSchema.addOneOfItem(s1);
         finalSchema.addOneOfItem(s2);
         return finalSchema;
@@ -788,8 +795,8 @@ public final class SchemaUtils {
             || HttpHeaders.ACCEPT.equalsIgnoreCase(headerName);
     }
 
-    public static Schema setNullable(Schema<?> schema) {
-        if (Utils.isOpenapi31()) {
+    public static Schema setNullable(Schema<?> schema, VisitorContext context) {
+        if (Utils.isOpenapi31(context)) {
             schema.addType(TYPE_NULL);
             schema.addType(schema.getType() != null ? schema.getType() : TYPE_OBJECT);
         } else {
@@ -798,15 +805,15 @@ public final class SchemaUtils {
         return schema;
     }
 
-    public static String getType(Schema<?> schema) {
-        return getType(schema.getType(), schema.getTypes());
+    public static String getType(Schema<?> schema, VisitorContext context) {
+        return getType(schema.getType(), schema.getTypes(), context);
     }
 
-    public static String getType(String type, Collection<String> types) {
+    public static String getType(String type, Collection<String> types, VisitorContext context) {
         if (type != null) {
             return type;
         }
-        if (Utils.isOpenapi31() && CollectionUtils.isNotEmpty(types)) {
+        if (Utils.isOpenapi31(context) && CollectionUtils.isNotEmpty(types)) {
             for (var t : types) {
                 if (!t.equals(TYPE_NULL)) {
                     return t;
@@ -17,13 +17,11 @@ package io.micronaut.openapi.visitor;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.Nullable;
 import io.micronaut.core.util.CollectionUtils;
 import io.micronaut.http.MediaType;
-import io.micronaut.inject.ast.MethodElement;
 import io.micronaut.inject.visitor.VisitorContext;
 import io.micronaut.openapi.OpenApiUtils;
-import io.micronaut.openapi.javadoc.JavadocParser;
-import io.micronaut.openapi.visitor.group.EndpointInfo;
 import io.micronaut.openapi.visitor.group.OpenApiInfo;
 import io.swagger.v3.oas.models.Components;
 import io.swagger.v3.oas.models.OpenAPI;
@@ -35,15 +33,10 @@ import java.io.StringWriter;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
 import java.util.function.BiPredicate;
 
-import static io.micronaut.openapi.visitor.OpenApiConfigProperty.MICRONAUT_OPENAPI_31_ENABLED;
-import static io.swagger.v3.oas.models.media.Schema.BIND_TYPE_AND_TYPES;
-
 /**
  * Some util methods.
  *
@@ -58,48 +51,15 @@ public final class Utils {
 
     public static final List<MediaType> DEFAULT_MEDIA_TYPES = Collections.singletonList(MediaType.APPLICATION_JSON_TYPE);
 
-    private static Map<String, MethodElement> creatorConstructorsCache = new HashMap<>();
-
-    private static boolean openapi31;
-    private static boolean inited;
-    private static Set<String> allKnownVersions;
-    private static Set<String> allKnownGroups;
-    private static Map<String, List<EndpointInfo>> endpointInfos;
-    /**
-     * Groups openAPI objects, described by OpenAPIDefinition annotations.
-     */
-    private static Map<String, OpenAPI> openApis;
     /**
-     * Group names by included controller or endpoint class names with OpenAPIInclude annotation.
+     * References for tests, they are set in test mode only. They are kept per thread, because tests
+     * compile and check the results in the same thread, so parallel compilations don't overwrite them.
      */
-    private static Map<String, List<String>> includedClassesGroups;
-    /**
-     * Excluded group names by included controller or endpoint class names with OpenAPIInclude annotation.
-     */
-    private static Map<String, List<String>> includedClassesGroupsExcluded;
-
-    private static OpenAPI testReference;
-    /**
-     * OpenAPI objects by key - {@code Pair.of(group, version)}.
-     */
-    private static Map<Pair<String, String>, OpenApiInfo> testReferences;
-    private static String testFileName;
-    private static String testYamlReference;
-    private static String testJsonReference;
-
-    private static JavadocParser javadocParser = new JavadocParser();
+    private static final ThreadLocal<TestReferences> TEST_REFERENCES = ThreadLocal.withInitial(TestReferences::new);
 
     private Utils() {
     }
 
-    public static void init(VisitorContext context) {
-        if (inited) {
-            return;
-        }
-        openapi31 = ConfigUtils.getBooleanProperty(MICRONAUT_OPENAPI_31_ENABLED, false, context);
-        inited = true;
-    }
-
     /**
      * Get or create MediaType object by name.
      *
@@ -212,7 +172,7 @@ public final class Utils {
         var openApi = ContextUtils.get(ATTR_OPENAPI, OpenAPI.class, context);
         if (openApi == null) {
             openApi = new OpenAPI();
-            if (Utils.isOpenapi31()) {
+            if (isOpenapi31(context)) {
                 openApi.openapi(OpenApiUtils.OPENAPI_31_VERSION)
                     .jsonSchemaDialect(ConfigUtils.getJsonSchemaDialect(context))
                     .specVersion(SpecVersion.V31);
@@ -242,147 +202,103 @@ public final class Utils {
     }
 
     public static OpenAPI getTestReference() {
-        return testReference;
+        return TEST_REFERENCES.get().openApi;
     }
 
     public static void setTestReference(OpenAPI testReference) {
-        Utils.testReference = testReference;
+        TEST_REFERENCES.get().openApi = testReference;
     }
 
     public static Map<Pair<String, String>, OpenApiInfo> getTestReferences() {
-        return testReferences;
+        return TEST_REFERENCES.get().openApiInfos;
     }
 
     public static void setTestReferences(Map<Pair<String, String>, OpenApiInfo> testReferences) {
-        Utils.testReferences = testReferences;
+        TEST_REFERENCES.get().openApiInfos = testReferences;
     }
 
     public static String getTestYamlReference() {
-        return testYamlReference;
+        return TEST_REFERENCES.get().yaml;
     }
 
     public static void setTestYamlReference(String testYamlReference) {
-        Utils.testYamlReference = testYamlReference;
+        TEST_REFERENCES.get().yaml = testYamlReference;
     }
 
     public static String getTestJsonReference() {
-        return testJsonReference;
+        return TEST_REFERENCES.get().json;
     }
 
     public static String getTestFileName() {
-        return testFileName;
+        return TEST_REFERENCES.get().fileName;
     }
 
     public static void setTestFileName(String testFileName) {
-        Utils.testFileName = testFileName;
+        TEST_REFERENCES.get().fileName = testFileName;
     }
 
     public static void setTestJsonReference(String testJsonReference) {
-        Utils.testJsonReference = testJsonReference;
-    }
-
-    public static JavadocParser getJavadocParser() {
-        return javadocParser;
+        TEST_REFERENCES.get().json = testJsonReference;
     }
 
-    public static void setJavadocParser(JavadocParser javadocParser) {
-        Utils.javadocParser = javadocParser;
-    }
-
-    public static Set<String> getAllKnownVersions() {
-        if (allKnownVersions == null) {
-            allKnownVersions = new HashSet<>();
-        }
-        return allKnownVersions;
-    }
-
-    public static void setAllKnownVersions(Set<String> allKnownVersions) {
-        Utils.allKnownVersions = allKnownVersions;
-    }
-
-    public static Set<String> getAllKnownGroups() {
-        if (allKnownGroups == null) {
-            allKnownGroups = new HashSet<>();
-        }
-        return allKnownGroups;
-    }
-
-    public static void setAllKnownGroups(Set<String> allKnownGroups) {
-        Utils.allKnownGroups = allKnownGroups;
-    }
-
-    public static Map<String, List<EndpointInfo>> getEndpointInfos() {
-        return endpointInfos;
-    }
-
-    public static void setEndpointInfos(Map<String, List<EndpointInfo>> endpointInfos) {
-        Utils.endpointInfos = endpointInfos;
-    }
-
-    public static Map<String, OpenAPI> getOpenApis() {
-        return openApis;
-    }
-
-    public static void setOpenApis(Map<String, OpenAPI> openApis) {
-        Utils.openApis = openApis;
-    }
-
-    public static Map<String, List<String>> getIncludedClassesGroups() {
-        return includedClassesGroups;
-    }
-
-    public static void setIncludedClassesGroups(Map<String, List<String>> includedClassesGroups) {
-        Utils.includedClassesGroups = includedClassesGroups;
-    }
-
-    public static Map<String, List<String>> getIncludedClassesGroupsExcluded() {
-        return includedClassesGroupsExcluded;
-    }
-
-    public static void setIncludedClassesGroupsExcluded(Map<String, List<String>> includedClassesGroupsExcluded) {
-        Utils.includedClassesGroupsExcluded = includedClassesGroupsExcluded;
+    /**
+     * Get JSON mapper for the OpenAPI version of the current compilation.
+     *
+     * @param context visitor context
+     *
+     * @return JSON mapper
+     */
+    public static ObjectMapper getJsonMapper(@Nullable VisitorContext context) {
+        return getJsonMapper(isOpenapi31(context));
     }
 
-    public static Map<String, MethodElement> getCreatorConstructorsCache() {
-        return creatorConstructorsCache;
+    public static ObjectMapper getJsonMapper(boolean openapi31) {
+        return openapi31 ? OpenApiUtils.getJsonMapper31() : OpenApiUtils.getJsonMapper();
     }
 
-    public static ObjectMapper getJsonMapper() {
-        return openapi31 ? OpenApiUtils.getJsonMapper31() : OpenApiUtils.getJsonMapper();
+    /**
+     * Get YAML mapper for the OpenAPI version of the current compilation.
+     *
+     * @param context visitor context
+     *
+     * @return YAML mapper
+     */
+    public static ObjectMapper getYamlMapper(@Nullable VisitorContext context) {
+        return getYamlMapper(isOpenapi31(context));
     }
 
-    public static ObjectMapper getYamlMapper() {
+    public static ObjectMapper getYamlMapper(boolean openapi31) {
         return openapi31 ? OpenApiUtils.getYamlMapper31() : OpenApiUtils.getYamlMapper();
     }
 
-    public static boolean isOpenapi31() {
-        return openapi31;
+    /**
+     * Whether OpenAPI 3.1 is enabled for the current compilation. The flag is kept in the visitor state,
+     * so it's false without visitor context.
+     *
+     * @param context visitor context
+     *
+     * @return true, if OpenAPI 3.1 is enabled
+     */
+    public static boolean isOpenapi31(@Nullable VisitorContext context) {
+        return context != null && OpenApiVisitorState.get(context).isOpenapi31();
     }
 
-    public static void setOpenapi31(boolean openapi31) {
-        System.setProperty(BIND_TYPE_AND_TYPES, "true");
-        Utils.openapi31 = openapi31;
+    public static void clean() {
+        TEST_REFERENCES.remove();
     }
 
-    public static void clean() {
-        openapi31 = false;
-        inited = false;
-        openApis = null;
-        endpointInfos = null;
-        includedClassesGroups = null;
-        includedClassesGroupsExcluded = null;
-
-        allKnownGroups = null;
-        allKnownVersions = null;
-
-        testReference = null;
-        testReferences = null;
-        testFileName = null;
-        testYamlReference = null;
-        testJsonReference = null;
-        creatorConstructorsCache = new HashMap<>();
-        System.clearProperty(BIND_TYPE_AND_TYPES);
-        SchemaDefinitionUtils.clean();
-        OpenApiExtraSchemaVisitor.clean();
+    /**
+     * Results of the last compilation in test mode.
+     */
+    private static final class TestReferences {
+
+        private OpenAPI openApi;
+        /**
+         * OpenAPI objects by key - {@code Pair.of(group, version)}.
+         */
+        private Map<Pair<String, String>, OpenApiInfo> openApiInfos;
+        private String fileName;
+        private String yaml;
+        private String json;
     }
 }
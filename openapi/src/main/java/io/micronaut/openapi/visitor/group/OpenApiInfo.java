@@ -15,6 +15,8 @@
  */
 package io.micronaut.openapi.visitor.group;
 
+import java.util.Set;
+
 import io.micronaut.core.annotation.Internal;
 import io.swagger.v3.oas.models.OpenAPI;
 
@@ -34,6 +36,8 @@ public final class OpenApiInfo {
     private String adocFilename;
     private OpenAPI openApi;
     private String specFilePath;
+    private String hashedFilename;
+    private Set<String> droppedSchemasRefs;
 
     public OpenApiInfo(OpenAPI openApi) {
         this.openApi = openApi;
@@ -113,4 +117,37 @@ public final class OpenApiInfo {
     public void setSpecFilePath(String specFilePath) {
         this.specFilePath = specFilePath;
     }
+
+    /**
+     * Name of the specification file copy with content hash in the name. Can contain parent directories
+     * in the same way as {@link #getFilename()}.
+     *
+     * @return hashed file name or null, if hashed copy wasn't written
+     *
+     * @since 6.13.0
+     */
+    public String getHashedFilename() {
+        return hashedFilename;
+    }
+
+    public void setHashedFilename(String hashedFilename) {
+        this.hashedFilename = hashedFilename;
+    }
+
+    /**
+     * Names of the component schemas, which are referenced from the unused schemas. Unused schemas are
+     * not copied from the base document to the group document, so their references are kept here,
+     * and the schemas referenced only from unused schemas are still counted as used, as in the whole document.
+     *
+     * @return names of schemas referenced from unused schemas or null, if they weren't calculated
+     *
+     * @since 6.13.0
+     */
+    public Set<String> getDroppedSchemasRefs() {
+        return droppedSchemasRefs;
+    }
+
+    public void setDroppedSchemasRefs(Set<String> droppedSchemasRefs) {
+        this.droppedSchemasRefs = droppedSchemasRefs;
+    }
 }
@@ -0,0 +1,147 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.openapi.visitor.group;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.util.CollectionUtils;
+import io.micronaut.openapi.visitor.group.GroupProperties.PackageProperties;
+
+/**
+ * Index of groups by packages from the group properties ({@code packages} and {@code packages-exclude}).
+ * <p>
+ * Package names of the properties are stored in a prefix tree, so groups of a package are found in one pass
+ * over the package name. Results are memoized by package name. Matching is the same as before: a package
+ * with subpackages matches every package name, which starts with it.
+ *
+ * @since 6.13.0
+ */
+@Internal
+public final class PackageGroupsIndex {
+
+    private final Node root = new Node();
+    private final Map<String, PackageGroups> packageGroups = new HashMap<>();
+
+    /**
+     * Build index.
+     *
+     * @param groupProperties properties of all groups
+     */
+    public PackageGroupsIndex(Collection<GroupProperties> groupProperties) {
+        int order = 0;
+        for (GroupProperties group : groupProperties) {
+            if (CollectionUtils.isNotEmpty(group.getPackages())) {
+                for (PackageProperties packageProperties : group.getPackages()) {
+                    add(packageProperties, new Entry(order++, group.getName(), false));
+                }
+            }
+            if (CollectionUtils.isNotEmpty(group.getPackagesExclude())) {
+                for (PackageProperties packageProperties : group.getPackagesExclude()) {
+                    add(packageProperties, new Entry(order++, group.getName(), true));
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns groups, which include and exclude the package.
+     *
+     * @param packageName package name
+     *
+     * @return included and excluded groups in the order of group properties
+     */
+    public PackageGroups get(String packageName) {
+        return packageGroups.computeIfAbsent(packageName, this::find);
+    }
+
+    private void add(PackageProperties packageProperties, Entry entry) {
+        Node node = root;
+        String name = packageProperties.getName();
+        for (int i = 0; i < name.length(); i++) {
+            node = node.children.computeIfAbsent(name.charAt(i), c -> new Node());
+        }
+        if (packageProperties.isIncludeSubpackages()) {
+            node.prefixEntries.add(entry);
+        } else {
+            node.exactEntries.add(entry);
+        }
+    }
+
+    private PackageGroups find(String packageName) {
+        var entries = new ArrayList<Entry>();
+        Node node = root;
+        entries.addAll(node.prefixEntries);
+        for (int i = 0; i < packageName.length() && node != null; i++) {
+            node = node.children.get(packageName.charAt(i));
+            if (node != null) {
+                entries.addAll(node.prefixEntries);
+            }
+        }
+        if (node != null) {
+            entries.addAll(node.exactEntries);
+        }
+        if (entries.isEmpty()) {
+            return PackageGroups.EMPTY;
+        }
+        entries.sort(Comparator.comparingInt(Entry::order));
+
+        var includedGroups = new ArrayList<String>();
+        var excludedGroups = new ArrayList<String>();
+        for (Entry entry : entries) {
+            if (entry.exclude) {
+                excludedGroups.add(entry.group);
+            } else {
+                includedGroups.add(entry.group);
+            }
+        }
+        return new PackageGroups(Collections.unmodifiableList(includedGroups), Collections.unmodifiableList(excludedGroups));
+    }
+
+    /**
+     * Groups of a package.
+     *
+     * @param includedGroups groups, which include the package
+     * @param excludedGroups groups, which exclude the package
+     */
+    public record PackageGroups(
+        List<String> includedGroups,
+        List<String> excludedGroups
+    ) {
+
+        static final PackageGroups EMPTY = new PackageGroups(Collections.emptyList(), Collections.emptyList());
+    }
+
+    private record Entry(
+        int order,
+        String group,
+        boolean exclude
+    ) {
+    }
+
+    private static final class Node {
+
+        private final Map<Character, Node> children = new HashMap<>();
+        private final List<Entry> prefixEntries = new ArrayList<>(1);
+        private final List<Entry> exactEntries = new ArrayList<>(1);
+    }
+}
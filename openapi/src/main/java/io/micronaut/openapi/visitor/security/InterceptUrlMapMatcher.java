@@ -0,0 +1,163 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.openapi.visitor.security;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.util.PathMatcher;
+import io.micronaut.core.util.StringUtils;
+import io.micronaut.http.HttpMethod;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Precompiled matcher of intercept URL map patterns.
+ * <p>
+ * Patterns are stored in a trie by their literal leading segments. Only patterns with wildcards,
+ * which are reachable by the segments of the path, are checked with {@link PathMatcher#ANT},
+ * fully literal patterns are matched by the trie itself. Matching rules are returned in
+ * the configuration order, the same as with a linear scan of all patterns.
+ *
+ * @since 6.13.0
+ */
+@Internal
+public final class InterceptUrlMapMatcher {
+
+    private static final String PATH_SEPARATOR = "/";
+
+    private final Node root = new Node();
+
+    /**
+     * Compile the matcher.
+     *
+     * @param patterns intercept URL map patterns
+     */
+    public InterceptUrlMapMatcher(List<InterceptUrlMapPattern> patterns) {
+        for (int i = 0; i < patterns.size(); i++) {
+            InterceptUrlMapPattern pattern = patterns.get(i);
+            if (pattern.getPattern() == null) {
+                continue;
+            }
+            String[] segments = tokenize(pattern.getPattern());
+            Node node = root;
+            int literalSegments = 0;
+            while (literalSegments < segments.length && !hasWildcard(segments[literalSegments])) {
+                node = node.children.computeIfAbsent(segments[literalSegments], key -> new Node());
+                literalSegments++;
+            }
+            var rule = new Rule(i, pattern);
+            if (literalSegments == segments.length) {
+                node.literalRules.add(rule);
+            } else {
+                node.wildcardRules.add(rule);
+            }
+        }
+    }
+
+    /**
+     * Find all rules, which match the path and HTTP method.
+     *
+     * @param path endpoint path
+     * @param httpMethod HTTP method of the endpoint, if {@code null}, rules for all methods match
+     *
+     * @return matching rules in the configuration order
+     */
+    public List<InterceptUrlMapPattern> match(String path, @Nullable HttpMethod httpMethod) {
+        if (path == null) {
+            return Collections.emptyList();
+        }
+        String[] segments = tokenize(path);
+        List<Rule> matches = null;
+        Node node = root;
+        int depth = 0;
+        while (node != null) {
+            for (Rule rule : node.wildcardRules) {
+                if (rule.matchesMethod(httpMethod) && PathMatcher.ANT.matches(rule.pattern.getPattern(), path)) {
+                    matches = add(matches, rule);
+                }
+            }
+            if (depth == segments.length) {
+                for (Rule rule : node.literalRules) {
+                    if (rule.matchesMethod(httpMethod) && rule.matchesSeparators(path)) {
+                        matches = add(matches, rule);
+                    }
+                }
+                break;
+            }
+            node = node.children.get(segments[depth++]);
+        }
+        if (matches == null) {
+            return Collections.emptyList();
+        }
+        if (matches.size() > 1) {
+            matches.sort(Comparator.comparingInt(Rule::index));
+        }
+        var result = new ArrayList<InterceptUrlMapPattern>(matches.size());
+        for (Rule rule : matches) {
+            result.add(rule.pattern);
+        }
+        return result;
+    }
+
+    private static List<Rule> add(List<Rule> matches, Rule rule) {
+        if (matches == null) {
+            matches = new ArrayList<>();
+        }
+        matches.add(rule);
+        return matches;
+    }
+
+    private static String[] tokenize(String path) {
+        // the same segments as AntPathMatcher uses
+        return StringUtils.tokenizeToStringArray(path, PATH_SEPARATOR);
+    }
+
+    private static boolean hasWildcard(String segment) {
+        return segment.indexOf('*') >= 0 || segment.indexOf('?') >= 0 || segment.indexOf('{') >= 0;
+    }
+
+    private static final class Node {
+
+        private final Map<String, Node> children = new HashMap<>();
+        private final List<Rule> literalRules = new ArrayList<>(1);
+        private final List<Rule> wildcardRules = new ArrayList<>(1);
+    }
+
+    private record Rule(
+        int index,
+        InterceptUrlMapPattern pattern
+    ) {
+
+        boolean matchesMethod(@Nullable HttpMethod httpMethod) {
+            return httpMethod == null || pattern.getHttpMethod() == null || httpMethod == pattern.getHttpMethod();
+        }
+
+        /**
+         * Literal pattern with the same segments matches the path, if both start and end with separator
+         * the same way, like in AntPathMatcher.
+         */
+        boolean matchesSeparators(String path) {
+            String patternString = pattern.getPattern();
+            return patternString.startsWith(PATH_SEPARATOR) == path.startsWith(PATH_SEPARATOR)
+                && patternString.endsWith(PATH_SEPARATOR) == path.endsWith(PATH_SEPARATOR);
+        }
+    }
+}
@@ -31,6 +31,7 @@ public final class SecurityProperties {
     private final boolean micronautSecurityEnabled;
     private final String defaultSchemaName;
     private final List<InterceptUrlMapPattern> interceptUrlMapPatterns;
+    private final InterceptUrlMapMatcher interceptUrlMapMatcher;
     private final boolean tokenEnabled;
     private final boolean jwtEnabled;
     private final boolean jwtBearerEnabled;
@@ -45,6 +46,7 @@ public final class SecurityProperties {
         this.micronautSecurityEnabled = micronautSecurityEnabled;
         this.defaultSchemaName = defaultSchemaName;
         this.interceptUrlMapPatterns = interceptUrlMapPatterns;
+        interceptUrlMapMatcher = new InterceptUrlMapMatcher(interceptUrlMapPatterns);
         this.tokenEnabled = tokenEnabled;
         this.jwtEnabled = jwtEnabled;
         this.jwtBearerEnabled = jwtBearerEnabled;
@@ -69,6 +71,17 @@ public final class SecurityProperties {
         return interceptUrlMapPatterns;
     }
 
+    /**
+     * Returns the matcher of intercept URL map patterns, compiled once with these properties.
+     *
+     * @return intercept URL map matcher
+     *
+     * @since 6.13.0
+     */
+    public InterceptUrlMapMatcher getInterceptUrlMapMatcher() {
+        return interceptUrlMapMatcher;
+    }
+
     public boolean isTokenEnabled() {
         return tokenEnabled;
     }
@@ -199,4 +199,51 @@ Note that ambiguity may arise when the values contain commas themselves after be
 
 Note that ambiguity may arise when the values contain commas themselves after being converted to String.'''
     }
+
+    void 'test parsed javadoc is cached'() {
+
+        given:
+        JavadocParser parser = new JavadocParser(1)
+        String doc = 'The summary.\n@param foo The foo param'
+
+        when:
+        JavadocDescription first = parser.parse(doc)
+        first.parameters.put('bar', 'changed')
+        JavadocDescription second = parser.parse(doc)
+
+        then:
+        parser.cacheMisses == 1
+        parser.cacheHits == 1
+        !first.is(second)
+        second.methodSummary == 'The summary.'
+        second.parameters == [foo: 'The foo param']
+
+        when:
+        parser.parse('Other summary.')
+        parser.parse(doc)
+
+        then: 'cache is bounded, so the full cache is dropped'
+        parser.cacheMisses == 3
+        parser.cacheHits == 1
+    }
+
+    void 'test javadoc is parsed concurrently'() {
+
+        given:
+        JavadocParser parser = new JavadocParser(0)
+        def docs = (1..32).collect { "Summary ${it}.\n@param foo The foo ${it}\n@return The result ${it}".toString() }
+
+        when:
+        def results = docs.parallelStream()
+                .map { parser.parse(it) }
+                .toList()
+
+        then:
+        parser.cacheMisses == docs.size()
+        results.eachWithIndex { JavadocDescription description, int i ->
+            assert description.methodSummary == "Summary ${i + 1}."
+            assert description.parameters == [foo: "The foo ${i + 1}".toString()]
+            assert description.returnDescription == "The result ${i + 1}"
+        }
+    }
 }
@@ -1,5 +1,6 @@
 package io.micronaut.openapi.view
 
+import io.micronaut.openapi.visitor.FileUtils
 import io.micronaut.openapi.visitor.OpenApiConfigProperty
 import io.micronaut.openapi.visitor.Pair
 import io.micronaut.openapi.visitor.group.OpenApiInfo
@@ -11,6 +12,8 @@ import java.nio.charset.StandardCharsets
 import java.nio.file.Files
 import java.nio.file.Path
 import java.nio.file.Paths
+import java.nio.file.attribute.FileTime
+import java.util.zip.GZIPInputStream
 
 class OpenApiOperationViewRenderSpec extends Specification {
     def cleanup() {
@@ -439,4 +442,76 @@ class OpenApiOperationViewRenderSpec extends Specification {
         indexText.contains(cfg.getSpecURL(cfg.swaggerUIConfig, null))
         indexText.contains("urls: [{url: contextPath + '/swagger/swagger.yml', name: '1'}],")
     }
+
+    void "test render hashed and gzipped resources"() {
+        given:
+        System.setProperty(OpenApiConfigProperty.MICRONAUT_OPENAPI_RESOURCES_HASH_ENABLED, "true")
+        System.setProperty(OpenApiConfigProperty.MICRONAUT_OPENAPI_RESOURCES_GZIP_ENABLED, "true")
+        String spec = "swagger-ui.enabled=true"
+        def openApiInfo = new OpenApiInfo("1", "1", "title", "swagger.yml", false, null, new OpenAPI())
+        openApiInfo.hashedFilename = "swagger.0123456789abcdef.yml"
+        OpenApiViewConfig cfg = OpenApiViewConfig.fromSpecification(spec, Maps.of(Pair.of("1", "1"), openApiInfo), new Properties(), null)
+        Path outputDir = Paths.get("output")
+        Path resDir = outputDir.resolve("swagger-ui").resolve("res")
+        cfg.title = "OpenAPI documentation"
+        cfg.specFile = "swagger.0123456789abcdef.yml"
+        cfg.render(outputDir, null)
+
+        def cssHash = FileUtils.contentHash(Files.readAllBytes(resDir.resolve("swagger-ui.css")))
+        def jsHash = FileUtils.contentHash(Files.readAllBytes(resDir.resolve("swagger-ui-bundle.js")))
+        def indexText = outputDir.resolve("swagger-ui").resolve("index.html").toFile().getText(StandardCharsets.UTF_8.name())
+
+        expect:
+        Files.exists(resDir.resolve("swagger-ui." + cssHash + ".css"))
+        Files.exists(resDir.resolve("swagger-ui-bundle." + jsHash + ".js"))
+        Files.exists(resDir.resolve("swagger-ui." + cssHash + ".css.gz"))
+        Files.exists(resDir.resolve("swagger-ui-bundle.js.gz"))
+        !Files.exists(resDir.resolve("favicon-16x16.png.gz"))
+        Files.exists(outputDir.resolve("swagger-ui").resolve("index.html.gz"))
+        indexText.contains("res/swagger-ui." + cssHash + ".css\"")
+        indexText.contains("res/swagger-ui-bundle." + jsHash + ".js\"")
+        !indexText.contains("res/swagger-ui.css\"")
+        indexText.contains("urls: [{url: contextPath + '/swagger/swagger.0123456789abcdef.yml', name: '1'}],")
+        new GZIPInputStream(Files.newInputStream(outputDir.resolve("swagger-ui").resolve("index.html.gz"))).text == indexText
+
+        cleanup:
+        System.clearProperty(OpenApiConfigProperty.MICRONAUT_OPENAPI_RESOURCES_HASH_ENABLED)
+        System.clearProperty(OpenApiConfigProperty.MICRONAUT_OPENAPI_RESOURCES_GZIP_ENABLED)
+    }
+
+    void "test render writes only changed files and removes stale files"() {
+        given:
+        Path outputDir = Paths.get("output")
+        def swaggerIndex = outputDir.resolve("swagger-ui").resolve("index.html")
+        def swaggerBundle = outputDir.resolve("swagger-ui").resolve("res").resolve("swagger-ui-bundle.js")
+        def redocIndex = outputDir.resolve("redoc").resolve("index.html")
+        def oldTime = FileTime.fromMillis(1_000_000)
+        OpenApiViewConfig cfg = OpenApiViewConfig.fromSpecification("swagger-ui.enabled=true,redoc.enabled=true", null, new Properties(), null)
+        cfg.title = "OpenAPI documentation"
+        cfg.specFile = "swagger.yml"
+        cfg.render(outputDir, null)
+        Files.setLastModifiedTime(swaggerIndex, oldTime)
+        Files.setLastModifiedTime(swaggerBundle, oldTime)
+
+        when: "render the same views again"
+        cfg.render(outputDir, null)
+
+        then: "files are not rewritten"
+        Files.exists(outputDir.resolve("views-manifest.txt"))
+        Files.getLastModifiedTime(swaggerIndex) == oldTime
+        Files.getLastModifiedTime(swaggerBundle) == oldTime
+
+        when: "title changed and redoc disabled"
+        cfg = OpenApiViewConfig.fromSpecification("swagger-ui.enabled=true", null, new Properties(), null)
+        cfg.title = "New title"
+        cfg.specFile = "swagger.yml"
+        cfg.render(outputDir, null)
+
+        then: "only changed view is rewritten and redoc files are removed"
+        Files.getLastModifiedTime(swaggerIndex) != oldTime
+        swaggerIndex.toFile().getText(StandardCharsets.UTF_8.name()).contains("New title")
+        Files.getLastModifiedTime(swaggerBundle) == oldTime
+        !Files.exists(redocIndex)
+        !Files.exists(outputDir.resolve("redoc").resolve("res").resolve("redoc.standalone.js"))
+    }
 }
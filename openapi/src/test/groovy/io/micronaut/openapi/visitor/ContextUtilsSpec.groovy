@@ -0,0 +1,32 @@
+package io.micronaut.openapi.visitor
+
+import io.micronaut.inject.visitor.VisitorContext
+import spock.lang.Specification
+
+class ContextUtilsSpec extends Specification {
+
+    void "test deferred messages are reported when the action fails"() {
+        given:
+        def context = Mock(VisitorContext)
+        def error = new IllegalStateException("Broken document")
+
+        when:
+        ContextUtils.runWithDeferredMessages {
+            ContextUtils.warn("Schema is ignored", context)
+            ContextUtils.info("Document generated", context)
+            throw error
+        }
+
+        then:
+        def failure = thrown(ContextUtils.DeferredFailure)
+        0 * context._
+
+        when:
+        def cause = failure.report(context)
+
+        then:
+        cause.is(error)
+        1 * context.warn("Schema is ignored", null)
+        1 * context.info("Document generated", null)
+    }
+}
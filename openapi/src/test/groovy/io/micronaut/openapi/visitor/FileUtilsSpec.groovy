@@ -0,0 +1,38 @@
+package io.micronaut.openapi.visitor
+
+import spock.lang.Specification
+import spock.lang.TempDir
+
+import java.nio.file.Files
+import java.nio.file.Path
+
+class FileUtilsSpec extends Specification {
+
+    @TempDir
+    Path dir
+
+    void "test delete stale hashed copies"() {
+        given:
+        def specFile = dir.resolve("swagger.yml")
+        def currentCopy = dir.resolve("swagger.0123456789abcdef.yml")
+        def currentGzCopy = dir.resolve("swagger.0123456789abcdef.yml.gz")
+        def staleCopy = dir.resolve("swagger.fedcba9876543210.yml")
+        def staleGzCopy = dir.resolve("swagger.fedcba9876543210.yml.gz")
+        def otherSpecCopy = dir.resolve("swagger-v2.fedcba9876543210.yml")
+        def otherFile = dir.resolve("swagger.backup.yml")
+        [specFile, currentCopy, currentGzCopy, staleCopy, staleGzCopy, otherSpecCopy, otherFile].each { Files.writeString(it, "openapi: 3.0.1") }
+
+        when:
+        def deletedFiles = FileUtils.deleteStaleHashedCopies(specFile, [specFile, currentCopy, currentGzCopy])
+
+        then:
+        deletedFiles*.fileName*.toString() as Set == ["swagger.fedcba9876543210.yml", "swagger.fedcba9876543210.yml.gz"] as Set
+        Files.exists(specFile)
+        Files.exists(currentCopy)
+        Files.exists(currentGzCopy)
+        !Files.exists(staleCopy)
+        !Files.exists(staleGzCopy)
+        Files.exists(otherSpecCopy)
+        Files.exists(otherFile)
+    }
+}
@@ -0,0 +1,58 @@
+package io.micronaut.openapi.visitor
+
+import io.micronaut.core.util.PathMatcher
+import io.micronaut.http.HttpMethod
+import io.micronaut.openapi.visitor.security.InterceptUrlMapMatcher
+import io.micronaut.openapi.visitor.security.InterceptUrlMapPattern
+import spock.lang.Specification
+
+class InterceptUrlMapMatcherSpec extends Specification {
+
+    static final List<InterceptUrlMapPattern> PATTERNS = [
+            new InterceptUrlMapPattern('/**', ['isAuthenticated()'], null),
+            new InterceptUrlMapPattern('/swagger/*', ['isAnonymous()'], HttpMethod.GET),
+            new InterceptUrlMapPattern('/pets', ['role1'], null),
+            new InterceptUrlMapPattern('/pets/', ['role2'], null),
+            new InterceptUrlMapPattern('/pets/{id}', ['role3'], HttpMethod.PUT),
+            new InterceptUrlMapPattern('/pets/*/owners', ['role4'], null),
+            new InterceptUrlMapPattern('/pets/**', ['role5'], HttpMethod.DELETE),
+            new InterceptUrlMapPattern('/store/order?', ['role6'], null),
+            new InterceptUrlMapPattern('/store/orders', ['role7'], HttpMethod.POST),
+            new InterceptUrlMapPattern('store/orders', ['role8'], null),
+            new InterceptUrlMapPattern('/', ['role9'], null),
+            new InterceptUrlMapPattern('/pets', ['role10'], HttpMethod.GET),
+    ]
+
+    void "test matcher returns the same rules as linear scan"() {
+        given:
+        def matcher = new InterceptUrlMapMatcher(PATTERNS)
+
+        expect:
+        matcher.match(path, httpMethod) == linearScan(path, httpMethod)
+
+        where:
+        [path, httpMethod] << [
+                ['/', '/pets', '/pets/', '/pets/{id}', '/pets/1/owners', '/pets/1/owners/2', '/swagger/api.yml',
+                 '/swagger', '/store/order1', '/store/orders', 'store/orders', '/unknown/path', ''],
+                [null, HttpMethod.GET, HttpMethod.PUT, HttpMethod.POST, HttpMethod.DELETE]
+        ].combinations()
+    }
+
+    void "test matching rules are in configuration order"() {
+        given:
+        def matcher = new InterceptUrlMapMatcher(PATTERNS)
+
+        when:
+        def rules = matcher.match('/pets', HttpMethod.GET)
+
+        then:
+        rules*.access == [['isAuthenticated()'], ['role1'], ['role10']]
+    }
+
+    private static List<InterceptUrlMapPattern> linearScan(String path, HttpMethod httpMethod) {
+        PATTERNS.findAll {
+            PathMatcher.ANT.matches(it.pattern, path)
+                    && (httpMethod == null || it.httpMethod == null || httpMethod == it.httpMethod)
+        }
+    }
+}
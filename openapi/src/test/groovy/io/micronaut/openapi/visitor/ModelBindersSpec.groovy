@@ -0,0 +1,154 @@
+package io.micronaut.openapi.visitor
+
+import io.micronaut.inject.visitor.VisitorContext
+import io.swagger.v3.oas.models.Operation
+import io.swagger.v3.oas.models.media.Schema
+import io.swagger.v3.oas.models.parameters.Parameter
+import io.swagger.v3.oas.models.responses.ApiResponse
+import io.swagger.v3.oas.models.security.SecurityRequirement
+import io.swagger.v3.oas.models.security.SecurityScheme
+import spock.lang.Specification
+import spock.lang.Unroll
+
+import static io.micronaut.openapi.OpenApiUtils.JSON_MAPPER
+
+class ModelBindersSpec extends Specification {
+
+    VisitorContext context = Stub(VisitorContext) {
+        getLanguage() >> VisitorContext.Language.JAVA
+    }
+
+    @Unroll
+    void "test #type.simpleName is bound directly the same as through JSON tree"() {
+        when:
+        def direct = ModelBinders.bind(values, type)
+        def bound = ConvertUtils.bindValue(values, JSON_MAPPER, type, context)
+        def tree = ConvertUtils.treeToValue(JSON_MAPPER.valueToTree(values), type, context)
+
+        then:
+        direct != null
+        bound == tree
+        direct == tree
+
+        where:
+        type           | values
+        Operation      | operationValues()
+        Parameter      | parameterValues()
+        Schema         | schemaValues()
+        ApiResponse    | apiResponseValues()
+        SecurityScheme | securitySchemeValues()
+    }
+
+    @Unroll
+    void "test #type.simpleName with unsupported values is bound by mapper"() {
+        when:
+        def bound = ConvertUtils.bindValue(values, JSON_MAPPER, type, context)
+        def tree = ConvertUtils.treeToValue(JSON_MAPPER.valueToTree(values), type, context)
+
+        then:
+        ModelBinders.bind(values, type) == null
+        bound == tree
+
+        where:
+        type           | values
+        Operation      | operationValues() + [requestBody: [description: 'Pet', required: true]]
+        Operation      | operationValues() + [tags: ['pets', 1] as Object[]]
+        Parameter      | parameterValues() + [style: 'form', explode: true]
+        Schema         | schemaValues() + [maxLength: 10]
+        ApiResponse    | apiResponseValues() + [headers: ['X-Rate-Limit': [description: 'Limit']]]
+        SecurityScheme | securitySchemeValues() + [flows: [implicit: [authorizationUrl: 'https://example.com/auth']]]
+    }
+
+    void "test common values are the same as through JSON tree"() {
+        given:
+        Map<CharSequence, Object> values = [
+                type        : 'string',
+                defaultValue: Status.ACTIVE,
+        ]
+
+        when:
+        def bound = ConvertUtils.bindValue(values, JSON_MAPPER, Schema, context)
+        def tree = ConvertUtils.treeToValue(JSON_MAPPER.valueToTree(values), Schema, context)
+
+        then:
+        bound.default == 'ACTIVE'
+        bound == tree
+    }
+
+    private static Map<CharSequence, Object> operationValues() {
+        def security = new SecurityRequirement()
+        security.addList('petstore_auth', Arrays.asList('read:pets', 'write:pets'))
+        [
+                operationId   : 'listPets',
+                summary       : 'List all pets',
+                description   : 'Returns all pets from the system that the user has access to',
+                tags          : ['pets', 'store'] as String[],
+                deprecated    : false,
+                method        : 'GET',
+                hidden        : false,
+                externalDocs  : [description: 'Pets', url: 'https://example.com/pets'],
+                parameters    : parameterValues(),
+                responses     : ['200': apiResponseValues(), 'default': [description: 'OK response']],
+                security      : [security],
+                extensions    : ['x-rate-limit': [limit: 100, period: '1m']],
+                ignoreJsonView: true,
+        ] as Map<CharSequence, Object>
+    }
+
+    private static Map<CharSequence, Object> parameterValues() {
+        [
+                name           : 'limit',
+                'in'           : 'query',
+                description    : 'How many items to return',
+                required       : false,
+                deprecated     : true,
+                allowEmptyValue: true,
+                example        : '10',
+                schema         : schemaValues(),
+                extensions     : ['x-order': 1],
+        ] as Map<CharSequence, Object>
+    }
+
+    private static Map<CharSequence, Object> schemaValues() {
+        [
+                type          : 'string',
+                format        : 'uuid',
+                title         : 'Id',
+                description   : 'Pet identifier',
+                pattern       : '^[a-f0-9-]+$',
+                'default'     : '0',
+                example       : '5e1c3a7a-0a6b-4c2e-8f9d-3f1b2c4d5e6f',
+                nullable      : true,
+                readOnly      : true,
+                implementation: String,
+        ] as Map<CharSequence, Object>
+    }
+
+    private static Map<CharSequence, Object> apiResponseValues() {
+        [
+                responseCode: '200',
+                description : 'Pets',
+                content     : [
+                        'application/json': [mediaType: 'application/json', schema: ['$ref': 'Pet']],
+                        'text/plain'      : [schema: [type: 'string'], example: 'pet'],
+                ],
+                extensions  : ['x-cache': true],
+        ] as Map<CharSequence, Object>
+    }
+
+    private static Map<CharSequence, Object> securitySchemeValues() {
+        [
+                type       : 'apiKey',
+                name       : 'api_key',
+                'in'       : 'header',
+                description: 'API key',
+                extensions : ['x-provider': 'petstore'],
+        ] as Map<CharSequence, Object>
+    }
+
+    enum Status {
+
+        ACTIVE,
+        INACTIVE,
+    }
+}
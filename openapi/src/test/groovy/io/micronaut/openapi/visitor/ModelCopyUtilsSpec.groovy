@@ -0,0 +1,72 @@
+package io.micronaut.openapi.visitor
+
+import io.micronaut.openapi.OpenApiUtils
+import io.swagger.v3.oas.models.Operation
+import io.swagger.v3.oas.models.SpecVersion
+import io.swagger.v3.oas.models.media.Content
+import io.swagger.v3.oas.models.media.IntegerSchema
+import io.swagger.v3.oas.models.media.MediaType
+import io.swagger.v3.oas.models.media.Schema
+import io.swagger.v3.oas.models.parameters.QueryParameter
+import io.swagger.v3.oas.models.responses.ApiResponse
+import io.swagger.v3.oas.models.responses.ApiResponses
+import spock.lang.Specification
+
+class ModelCopyUtilsSpec extends Specification {
+
+    void "test deep copy of operation"() {
+        given:
+        def schema = new Schema().type('object').addProperty('name', new Schema().type('string'))
+        def operation = new Operation()
+                .operationId('listPets')
+                .addTagsItem('pets')
+                .addParametersItem(new QueryParameter().name('limit').schema(new Schema().type('integer')))
+                .responses(new ApiResponses()
+                        .addApiResponse('200', new ApiResponse().description('OK').content(new Content().addMediaType('application/json', new MediaType().schema(schema))))
+                        .addApiResponse('201', new ApiResponse().description('Created').content(new Content().addMediaType('application/json', new MediaType().schema(schema)))))
+        operation.responses.addExtension('x-responses', 'value')
+
+        when:
+        def copy = ModelCopyUtils.deepCopy(operation)
+
+        then:
+        copy == operation
+        !copy.is(operation)
+        copy.parameters[0] instanceof QueryParameter
+        !copy.parameters.is(operation.parameters)
+        !copy.responses.is(operation.responses)
+        copy.responses.extensions == ['x-responses': 'value']
+        def copySchema = copy.responses['200'].content['application/json'].schema
+        !copySchema.is(schema)
+        !copySchema.properties.name.is(schema.properties.name)
+        copySchema.is(copy.responses['201'].content['application/json'].schema)
+        OpenApiUtils.getJsonMapper().writeValueAsString(copy) == OpenApiUtils.getJsonMapper().writeValueAsString(operation)
+
+        when:
+        copySchema.properties.name.description('Pet name')
+
+        then:
+        schema.properties.name.description == null
+    }
+
+    void "test deep copy keeps example flags and spec version"() {
+        given:
+        def withoutExample = new IntegerSchema()
+        def nullExample = new IntegerSchema()
+        nullExample.example(null)
+        def schema = new Schema().type('object').specVersion(SpecVersion.V31)
+                .addProperty('count', withoutExample)
+                .addProperty('limit', nullExample)
+
+        when:
+        def copy = ModelCopyUtils.deepCopy(schema)
+
+        then:
+        copy.specVersion == SpecVersion.V31
+        copy.properties.count instanceof IntegerSchema
+        !copy.properties.count.exampleSetFlag
+        copy.properties.limit.exampleSetFlag
+        copy.properties.limit.example == null
+        OpenApiUtils.getJsonMapper().writeValueAsString(copy) == OpenApiUtils.getJsonMapper().writeValueAsString(schema)
+    }
+}
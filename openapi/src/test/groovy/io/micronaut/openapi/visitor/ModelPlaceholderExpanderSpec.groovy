@@ -0,0 +1,83 @@
+package io.micronaut.openapi.visitor
+
+import io.swagger.v3.oas.models.Components
+import io.swagger.v3.oas.models.OpenAPI
+import io.swagger.v3.oas.models.Operation
+import io.swagger.v3.oas.models.PathItem
+import io.swagger.v3.oas.models.Paths
+import io.swagger.v3.oas.models.info.Info
+import io.swagger.v3.oas.models.media.Content
+import io.swagger.v3.oas.models.media.MediaType
+import io.swagger.v3.oas.models.media.Schema
+import io.swagger.v3.oas.models.responses.ApiResponse
+import io.swagger.v3.oas.models.responses.ApiResponses
+import spock.lang.Specification
+
+class ModelPlaceholderExpanderSpec extends Specification {
+
+    PlaceholderResolver resolver = new PlaceholderResolver(
+            ['api.description': 'Pets description'],
+            ['api.title': 'Pets API', 'api.prefix': 'v1', 'api.suffix': 'Pets', 'media.type': 'application/json', 'prop.name': 'name'],
+            null)
+
+    void "test expand placeholders in values, map keys and extensions"() {
+        given:
+        def schema = new Schema().type('object').addProperty('${prop.name}', new Schema().type('string').example('${api.suffix}'))
+        schema.required(['${prop.name}'])
+        def operation = new Operation()
+                .operationId('list${api.suffix}')
+                .description('  ')
+                .tags(['${api.suffix}', 'store'])
+                .responses(new ApiResponses().addApiResponse('200', new ApiResponse()
+                        .description('${api.description}')
+                        .content(new Content().addMediaType('${media.type}', new MediaType().schema(new Schema().$ref('Pet'))))))
+        operation.addExtension('x-title', [name: '${api.title}', values: ['${api.prefix}']])
+        def openApi = new OpenAPI()
+                .info(new Info().title('${api.title}').version('1.0'))
+                .paths(new Paths().addPathItem('/${api.prefix}/pets', new PathItem().get(operation)))
+                .components(new Components().addSchemas('Pet', schema))
+
+        when:
+        def result = OpenApiApplicationVisitor.resolvePropertyPlaceHolders(openApi, resolver)
+
+        then:
+        result.is(openApi)
+        result.info.title == 'Pets API'
+        result.info.version == '1.0'
+        result.paths.keySet() == ['/v1/pets'] as Set
+        result.paths['/v1/pets'].get.is(operation)
+        operation.operationId == 'listPets'
+        operation.description == '  '
+        operation.tags == ['Pets', 'store']
+        operation.responses['200'].description == 'Pets description'
+        operation.responses['200'].content.keySet() == ['application/json'] as Set
+        operation.extensions['x-title'] == [name: 'Pets API', values: ['v1']]
+        schema.properties.keySet() == ['name'] as Set
+        schema.properties.name.example == 'Pets'
+        schema.required == ['name']
+    }
+
+    void "test document without placeholders is not changed"() {
+        given:
+        def tags = ['pets']
+        def extensions = ['x-order': 1] as Map<String, Object>
+        def noExample = new Schema().type('string')
+        def operation = new Operation().operationId('listPets').tags(tags).extensions(extensions)
+        def paths = new Paths().addPathItem('/v1/pets', new PathItem().get(operation))
+        def openApi = new OpenAPI()
+                .info(new Info().title('Pets API').version('1.0'))
+                .paths(paths)
+                .components(new Components().addSchemas('Name', noExample))
+
+        when:
+        def result = OpenApiApplicationVisitor.resolvePropertyPlaceHolders(openApi, resolver)
+
+        then:
+        result.is(openApi)
+        result.paths.is(paths)
+        result.paths['/v1/pets'].get.is(operation)
+        operation.tags.is(tags)
+        operation.extensions.is(extensions)
+        !noExample.exampleSetFlag
+    }
+}
@@ -275,4 +275,49 @@ class MyBean {}
         then:
         !openApi.components
     }
+
+    void "test extra schemas are not shared between compilations"() {
+        when:
+        buildBeanDefinition('test.MyBean', '''
+package test;
+
+import io.micronaut.openapi.annotation.OpenAPIExtraSchema;
+import jakarta.inject.Singleton;
+
+@OpenAPIExtraSchema
+class FirstCompilationModel {
+
+    public String field1;
+}
+
+@Singleton
+class MyBean {}
+''')
+        then:
+        Utils.testReference.components.schemas.FirstCompilationModel
+
+        when:
+        Utils.testReference = null
+        buildBeanDefinition('test.MyBean', '''
+package test;
+
+import io.micronaut.openapi.annotation.OpenAPIExtraSchema;
+import jakarta.inject.Singleton;
+
+@OpenAPIExtraSchema
+class SecondCompilationModel {
+
+    public String field1;
+}
+
+@Singleton
+class MyBean {}
+''')
+        def openApi = Utils.testReference
+
+        then:
+        openApi.components.schemas.size() == 1
+        openApi.components.schemas.SecondCompilationModel
+        !openApi.components.schemas.FirstCompilationModel
+    }
 }
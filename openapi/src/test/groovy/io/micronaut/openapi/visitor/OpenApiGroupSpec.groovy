@@ -436,4 +436,121 @@ public class MyBean {}
         apiV1.paths.'/demo'.get.responses.'200'.content.'application/json'.schema.$ref == '#/components/schemas/HelloResponseV1'
         apiV2.paths.'/demo'.get.responses.'200'.content.'application/json'.schema.$ref == '#/components/schemas/HelloResponseV2'
     }
+
+    @RestoreSystemProperties
+    void "test parallel group post-processing produces same documents"() {
+
+        given:
+        def source = '''
+package test;
+
+import io.micronaut.http.annotation.Controller;
+import io.micronaut.http.annotation.Get;
+import io.micronaut.openapi.annotation.OpenAPIGroup;
+
+@Controller
+class MyController {
+
+    @OpenAPIGroup("g1")
+    @Get("/g1/{id}")
+    Pet g1(String id) {
+        return null;
+    }
+
+    @OpenAPIGroup("g2")
+    @Get("/g2/{id}")
+    Owner g2(String id) {
+        return null;
+    }
+
+    @OpenAPIGroup({"g1", "g2", "g3"})
+    @Get("/all")
+    Pet getAll() {
+        return null;
+    }
+}
+
+class Pet {
+    public String name;
+    public Owner owner;
+}
+
+class Owner {
+    public String name;
+}
+
+@jakarta.inject.Singleton
+public class MyBean {}
+'''
+
+        when:
+        buildBeanDefinition("test.MyBean", source)
+        def serialDocs = Utils.testReferences.collectEntries { key, info -> [key, Utils.yamlMapper.writeValueAsString(info.openApi)] }
+        Utils.clean()
+        System.setProperty(OpenApiConfigProperty.MICRONAUT_OPENAPI_PARALLELISM, "4")
+        buildBeanDefinition("test.MyBean", source)
+        def parallelDocs = Utils.testReferences.collectEntries { key, info -> [key, Utils.yamlMapper.writeValueAsString(info.openApi)] }
+
+        then:
+        serialDocs.size() == 3
+        parallelDocs == serialDocs
+    }
+
+    void "test group schemas referenced from unused schemas"() {
+
+        when:
+        buildBeanDefinition("test.MyBean", '''
+package test;
+
+import io.micronaut.http.annotation.Controller;
+import io.micronaut.http.annotation.Get;
+import io.micronaut.openapi.annotation.OpenAPIGroup;
+
+@Controller
+class MyController {
+
+    @OpenAPIGroup("used")
+    @Get("/pet")
+    Pet getPet() {
+        return null;
+    }
+
+    @OpenAPIGroup("unused")
+    @Get("/other")
+    Other getOther() {
+        return null;
+    }
+}
+
+class Pet {
+    public String name;
+    public Owner owner;
+}
+
+class Owner {
+    public String name;
+}
+
+class Other {
+    public String name;
+}
+
+@jakarta.inject.Singleton
+public class MyBean {}
+''')
+
+        then:
+        def openApis = Utils.testReferences
+        openApis
+        openApis.size() == 2
+
+        def apiUsed = openApis.get(Pair.of("used", null)).getOpenApi()
+        def apiUnused = openApis.get(Pair.of("unused", null)).getOpenApi()
+
+        apiUsed.components.schemas.keySet() == ['Owner', 'Pet'] as Set
+        apiUsed.components.schemas.Pet.properties.owner.$ref == '#/components/schemas/Owner'
+
+        // Pet is unused in the group, and Owner is referenced only from Pet, so both are dropped
+        apiUnused.components.schemas.keySet() == ['Other'] as Set
+    }
 }
@@ -0,0 +1,62 @@
+package io.micronaut.openapi.visitor
+
+import spock.lang.Specification
+import spock.lang.TempDir
+
+import java.nio.file.Files
+import java.nio.file.Path
+
+class OpenApiProfilerSpec extends Specification {
+
+    @TempDir
+    Path tempDir
+
+    void "test profiler records phases and classes"() {
+        given:
+        def profiler = new OpenApiProfiler(true)
+
+        when:
+        try (def outer = profiler.phase("visitClass", "test.PetController")) {
+            try (def inner = profiler.phase("schemaDefinition")) {
+                // reentrant call is counted, but not measured twice
+                profiler.phase("schemaDefinition").close()
+            }
+        }
+        profiler.phase("visitMethod", "test.PetController").close()
+        def report = profiler.report(new SchemaRefCache(false))
+        def phases = report.phases.collectEntries { [(it.name): it] }
+
+        then:
+        profiler.enabled
+        phases.keySet() == ['visitClass', 'schemaDefinition', 'visitMethod'] as Set
+        phases.schemaDefinition.count == 2
+        phases.visitClass.count == 1
+        report.classes.size() == 1
+        report.classes[0].name == 'test.PetController'
+        report.classes[0].count == 2
+        report.schemaRefCache.hits == 0
+
+        when:
+        def reportDir = tempDir.resolve('build').resolve('reports').resolve('openapi')
+        def files = profiler.writeReport(reportDir, null)
+
+        then:
+        files == [reportDir.resolve('openapi-profile.json'), reportDir.resolve('openapi-profile.txt')]
+        Files.readString(files[0]).contains('"name" : "test.PetController"')
+        Files.readString(files[1]).contains('test.PetController')
+    }
+
+    void "test disabled profiler records nothing"() {
+        given:
+        def profiler = OpenApiProfiler.get(null)
+
+        when:
+        profiler.phase("visitClass", "test.PetController").close()
+        def report = profiler.report(null)
+
+        then:
+        !profiler.enabled
+        report.phases.isEmpty()
+        report.classes.isEmpty()
+    }
+}
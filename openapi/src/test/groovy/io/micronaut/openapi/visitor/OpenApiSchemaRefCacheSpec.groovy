@@ -0,0 +1,93 @@
+package io.micronaut.openapi.visitor
+
+import io.micronaut.openapi.AbstractOpenApiTypeElementSpec
+import io.swagger.v3.oas.models.OpenAPI
+import io.swagger.v3.oas.models.media.Schema
+
+class OpenApiSchemaRefCacheSpec extends AbstractOpenApiTypeElementSpec {
+
+    void "test type referenced many times resolves to the same schema"() {
+        given:
+        buildBeanDefinition('test.MyBean', '''
+package test;
+
+import io.micronaut.http.annotation.Body;
+import io.micronaut.http.annotation.Controller;
+import io.micronaut.http.annotation.Get;
+import io.micronaut.http.annotation.Post;
+import io.micronaut.http.annotation.Put;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+@Controller
+class MyController {
+
+    @Get("/pet")
+    public Pet getPet() {
+        return null;
+    }
+
+    @Post("/pet")
+    public Pet createPet(@Body Pet pet) {
+        return pet;
+    }
+
+    @Put("/pet")
+    public List<Pet> updatePets(@Body List<Pet> pets) {
+        return pets;
+    }
+
+    @Get("/owner")
+    public Owner getOwner() {
+        return null;
+    }
+}
+
+class Pet {
+
+    public String name;
+}
+
+class Owner {
+
+    public Pet pet;
+    @Schema(description = "Favourite pet")
+    public Pet favouritePet;
+    public GenObject<String> plainGen;
+    public GenObject<String> plainGen2;
+    public GenObject<@Size(max = 20) String> sizedGen;
+}
+
+class GenObject<T> {
+
+    public T field;
+}
+
+@jakarta.inject.Singleton
+class MyBean {}
+''')
+
+        OpenAPI openAPI = Utils.testReference
+        Map<String, Schema> schemas = openAPI.components.schemas
+        Schema ownerSchema = schemas.Owner
+
+        expect:
+        schemas.Pet
+        openAPI.paths."/pet".get.responses."200".content."application/json".schema.$ref == '#/components/schemas/Pet'
+        openAPI.paths."/pet".post.requestBody.content."application/json".schema.$ref == '#/components/schemas/Pet'
+        openAPI.paths."/pet".post.responses."200".content."application/json".schema.$ref == '#/components/schemas/Pet'
+        openAPI.paths."/pet".put.requestBody.content."application/json".schema.items.$ref == '#/components/schemas/Pet'
+
+        ownerSchema.properties.pet.$ref == '#/components/schemas/Pet'
+        (ownerSchema.properties.favouritePet.$ref ?: ownerSchema.properties.favouritePet.allOf[0].$ref) == '#/components/schemas/Pet'
+        !schemas.Pet.description
+
+        ownerSchema.properties.plainGen.$ref == '#/components/schemas/GenObject_String_'
+        ownerSchema.properties.plainGen2.$ref == '#/components/schemas/GenObject_String_'
+        ownerSchema.properties.sizedGen.$ref == '#/components/schemas/GenObject_Size_max_20_String_'
+        schemas.GenObject_String_.properties.field.maxLength == null
+        schemas.GenObject_Size_max_20_String_.properties.field.maxLength == 20
+    }
+}
@@ -0,0 +1,15 @@
+package io.micronaut.openapi.visitor
+
+import spock.lang.Specification
+
+class OpenApiVisitorStateSpec extends Specification {
+
+    void "test state requires visitor context"() {
+        when:
+        OpenApiVisitorState.get(null)
+
+        then:
+        def e = thrown(NullPointerException)
+        e.message.contains('Visitor context is required')
+    }
+}
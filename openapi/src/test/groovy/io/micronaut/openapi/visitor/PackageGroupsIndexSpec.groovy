@@ -0,0 +1,59 @@
+package io.micronaut.openapi.visitor
+
+import io.micronaut.openapi.visitor.group.GroupProperties
+import io.micronaut.openapi.visitor.group.GroupProperties.PackageProperties
+import io.micronaut.openapi.visitor.group.PackageGroupsIndex
+import spock.lang.Specification
+
+class PackageGroupsIndexSpec extends Specification {
+
+    static final List<GroupProperties> GROUPS = [
+            group('all', [new PackageProperties('', true)], null),
+            group('v1', [new PackageProperties('com.api.v1', true)], [new PackageProperties('com.api.v1.internal', false)]),
+            group('v2', [new PackageProperties('com.api.v2', false), new PackageProperties('com.api.v', true)], null),
+            group('admin', [new PackageProperties('com.api.v1.admin', true)], [new PackageProperties('com.api', true)]),
+            group('empty', null, null),
+    ]
+
+    void "test index returns the same groups as linear scan"() {
+        given:
+        def index = new PackageGroupsIndex(GROUPS)
+
+        expect:
+        def packageGroups = index.get(packageName)
+        packageGroups.includedGroups() == linearScan(packageName, false)
+        packageGroups.excludedGroups() == linearScan(packageName, true)
+
+        where:
+        packageName << ['', 'com', 'com.api', 'com.api.v1', 'com.api.v10', 'com.api.v1.internal', 'com.api.v1.admin',
+                        'com.api.v1.admin.users', 'com.api.v2', 'com.api.v2.sub', 'org.other']
+    }
+
+    void "test index result is memoized"() {
+        given:
+        def index = new PackageGroupsIndex(GROUPS)
+
+        expect:
+        index.get('com.api.v1').is(index.get('com.api.v1'))
+    }
+
+    private static GroupProperties group(String name, List<PackageProperties> packages, List<PackageProperties> packagesExclude) {
+        def groupProperties = new GroupProperties(name)
+        groupProperties.packages = packages
+        groupProperties.packagesExclude = packagesExclude
+        groupProperties
+    }
+
+    private static List<String> linearScan(String packageName, boolean exclude) {
+        def result = []
+        for (def groupProperties : GROUPS) {
+            def packages = exclude ? groupProperties.packagesExclude : groupProperties.packages
+            for (def packageProperties : packages ?: []) {
+                if (packageProperties.includeSubpackages ? packageName.startsWith(packageProperties.name) : packageName == packageProperties.name) {
+                    result << groupProperties.name
+                }
+            }
+        }
+        result
+    }
+}
@@ -0,0 +1,49 @@
+package io.micronaut.openapi.visitor
+
+import io.micronaut.openapi.OpenApiUtils
+import spock.lang.Specification
+
+class PlaceholderResolverSpec extends Specification {
+
+    void "test expand and resolve placeholders"() {
+        given:
+        def resolver = new PlaceholderResolver(
+                ['api.version': 'v2', 'api.name': 'pets'],
+                ['host': 'localhost', 'port': '8080'],
+                null)
+
+        expect:
+        resolver.expand(value) == expected
+
+        where:
+        value                                      | expected
+        null                                       | null
+        ''                                         | ''
+        'no placeholders'                          | 'no placeholders'
+        '/${api.version}/${api.name}'              | '/v2/pets'
+        'http://${host}:${port}/${api.version}'    | 'http://localhost:8080/v2'
+        '${unknown} and ${host}'                   | '${unknown} and localhost'
+        '${unknown:${host}}'                       | '${unknown:localhost}'
+        'unclosed ${host'                          | 'unclosed ${host'
+    }
+
+    void "test resolve doesn't use expandable properties"() {
+        given:
+        def resolver = new PlaceholderResolver(['api.version': 'v2'], ['host': 'localhost'], null)
+
+        expect:
+        resolver.resolve('${api.version}@${host}') == '${api.version}@localhost'
+    }
+
+    void "test expand placeholders in JSON tree"() {
+        given:
+        def resolver = new PlaceholderResolver(['api.name': 'pets'], ['host': 'localhost'], null)
+        def node = OpenApiUtils.getJsonMapper().readTree('{"${api.name}": {"url": "http://${host}", "tags": ["${api.name}", 1]}, "size": 2}')
+
+        when:
+        def result = resolver.expandTree(node)
+
+        then:
+        OpenApiUtils.getJsonMapper().writeValueAsString(result) == '{"pets":{"url":"http://localhost","tags":["pets",1]},"size":2}'
+    }
+}
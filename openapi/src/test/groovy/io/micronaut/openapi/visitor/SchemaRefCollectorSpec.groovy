@@ -0,0 +1,92 @@
+package io.micronaut.openapi.visitor
+
+import io.swagger.v3.oas.models.Components
+import io.swagger.v3.oas.models.OpenAPI
+import io.swagger.v3.oas.models.Operation
+import io.swagger.v3.oas.models.PathItem
+import io.swagger.v3.oas.models.Paths
+import io.swagger.v3.oas.models.media.ArraySchema
+import io.swagger.v3.oas.models.media.Content
+import io.swagger.v3.oas.models.media.Discriminator
+import io.swagger.v3.oas.models.media.MediaType
+import io.swagger.v3.oas.models.media.ObjectSchema
+import io.swagger.v3.oas.models.media.Schema
+import io.swagger.v3.oas.models.responses.ApiResponse
+import io.swagger.v3.oas.models.responses.ApiResponses
+import spock.lang.Specification
+
+class SchemaRefCollectorSpec extends Specification {
+
+    void "test collect schema references"() {
+        given:
+        def response = new ApiResponse()
+                .content(new Content().addMediaType("application/json", new MediaType()
+                        .schema(new ArraySchema().items(new Schema().$ref("Pet")))))
+        def unused = new ObjectSchema().addProperty("address", new Schema().$ref("Address"))
+        unused.addExtension("x-ref", "#/components/schemas/ExtRef")
+        def openApi = new OpenAPI()
+                .paths(new Paths().addPathItem("/pets", new PathItem()
+                        .get(new Operation().responses(new ApiResponses().addApiResponse("200", response)))))
+                .components(new Components()
+                        .addSchemas("Pet", new ObjectSchema()
+                                .addProperty("owner", new Schema().$ref("Owner"))
+                                .discriminator(new Discriminator().propertyName("type").mapping("cat", "#/components/schemas/Cat")))
+                        .addSchemas("Owner", new ObjectSchema())
+                        .addSchemas("Cat", new ObjectSchema())
+                        .addSchemas("Unused", unused)
+                        .addSchemas("Address", new ObjectSchema())
+                        .addSchemas("ExtRef", new ObjectSchema())
+                        .addSchemas("Orphan", new ObjectSchema()))
+
+        when:
+        def refs = SchemaRefCollector.collectSchemaRefs(openApi, false)
+
+        then:
+        refs == ['Pet', 'Owner', 'Cat', 'Address', 'ExtRef'] as Set
+    }
+
+    void "test collect reachable schema references"() {
+        given:
+        def response = new ApiResponse()
+                .content(new Content().addMediaType("application/json", new MediaType()
+                        .schema(new Schema().$ref("Pet"))))
+        def openApi = new OpenAPI()
+                .paths(new Paths().addPathItem("/pets", new PathItem()
+                        .get(new Operation().responses(new ApiResponses().addApiResponse("200", response)))))
+                .components(new Components()
+                        .addSchemas("Pet", new ObjectSchema().addProperty("owner", new Schema().$ref("Owner")))
+                        .addSchemas("Owner", new ObjectSchema().addProperty("address", new Schema().$ref("Address")))
+                        .addSchemas("Address", new ObjectSchema())
+                        .addSchemas("Extra", new ObjectSchema().addProperty("tag", new Schema().$ref("Tag")))
+                        .addSchemas("Tag", new ObjectSchema())
+                        .addSchemas("Unused", new ObjectSchema().addProperty("other", new Schema().$ref("Other")))
+                        .addSchemas("Other", new ObjectSchema()))
+
+        when:
+        def refs = SchemaRefCollector.collectReachableSchemaRefs(openApi, ["Extra"], false)
+
+        then:
+        refs == ['Pet', 'Owner', 'Address', 'Extra', 'Tag'] as Set
+    }
+
+    void "test skip props of reference schema for OpenAPI 3.0"() {
+        given:
+        def refSchema = new Schema().$ref("Pet")
+        refSchema.addProperty("owner", new Schema().$ref("Owner"))
+        def openApi = new OpenAPI()
+                .components(new Components()
+                        .addSchemas("Wrapper", new ObjectSchema().addProperty("pet", refSchema)))
+
+        when:
+        def refs = SchemaRefCollector.collectSchemaRefs(openApi, false)
+
+        then:
+        refs == ['Pet'] as Set
+
+        when:
+        refs = SchemaRefCollector.collectSchemaRefs(openApi, true)
+
+        then:
+        refs == ['Pet', 'Owner'] as Set
+    }
+}
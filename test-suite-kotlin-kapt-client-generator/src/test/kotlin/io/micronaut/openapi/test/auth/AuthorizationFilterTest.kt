@@ -0,0 +1,49 @@
+package io.micronaut.openapi.test.auth
+
+import io.micronaut.context.ApplicationContext
+import io.micronaut.context.BeanContext
+import io.micronaut.security.oauth2.endpoint.token.response.TokenResponse
+import org.junit.jupiter.api.Assertions.assertEquals
+import org.junit.jupiter.api.Assertions.assertNull
+import org.junit.jupiter.api.Test
+import java.time.Duration
+import java.util.stream.Stream
+
+class AuthorizationFilterTest {
+
+    @Test
+    fun testMissingBeans() {
+        ApplicationContext.run().use { context ->
+            val filter = TestAuthorizationFilter(context)
+
+            assertNull(filter.findTokenPropagator("unknown"))
+            assertNull(filter.findClientCredentialsClient("unknown"))
+            // absent values are not cached
+            assertNull(filter.findClientCredentialsClient("unknown"))
+        }
+    }
+
+    @Test
+    fun testTokenTimeToLive() {
+        ApplicationContext.run().use { context ->
+            val filter = TestAuthorizationFilter(context)
+            val tokenResponse = TokenResponse("token", "bearer")
+
+            assertEquals(Duration.ZERO, filter.findTokenTimeToLive(tokenResponse))
+            tokenResponse.expiresIn = 90
+            assertEquals(Duration.ofSeconds(60), filter.findTokenTimeToLive(tokenResponse))
+            tokenResponse.expiresIn = 10
+            assertEquals(Duration.ZERO, filter.findTokenTimeToLive(tokenResponse))
+        }
+    }
+
+    private class TestAuthorizationFilter(beanContext: BeanContext) :
+        AuthorizationFilter(null, Stream.empty(), Stream.empty(), beanContext) {
+
+        fun findTokenPropagator(name: String) = getTokenPropagator(name)
+
+        fun findClientCredentialsClient(name: String) = getClientCredentialsClient(name)
+
+        fun findTokenTimeToLive(tokenResponse: TokenResponse) = getTokenTimeToLive(tokenResponse)
+    }
+}